@@ -29,8 +29,13 @@ public final class MetricNames {
     public static final String SOURCE_RECEIVED_BYTES = "SourceReceivedBytes";
     public static final String SOURCE_RECEIVED_QPS = "SourceReceivedQPS";
     public static final String SOURCE_RECEIVED_BYTES_PER_SECONDS = "SourceReceivedBytesPerSeconds";
+    public static final String SOURCE_SPLIT_GENERATION_TIME = "SourceSplitGenerationTime";
+    public static final String SOURCE_GENERATED_SPLITS = "SourceGeneratedSplits";
     public static final String SINK_WRITE_COUNT = "SinkWriteCount";
     public static final String SINK_WRITE_BYTES = "SinkWriteBytes";
     public static final String SINK_WRITE_QPS = "SinkWriteQPS";
     public static final String SINK_WRITE_BYTES_PER_SECONDS = "SinkWriteBytesPerSeconds";
+
+    public static final String MULTI_TABLE_SINK_QUEUE_DEPTH = "MultiTableSinkQueueDepth";
+    public static final String MULTI_TABLE_SINK_BLOCKED_TIME = "MultiTableSinkBlockedTime";
 }
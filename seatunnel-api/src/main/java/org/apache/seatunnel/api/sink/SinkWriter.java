@@ -46,6 +46,20 @@ public interface SinkWriter<T, CommitInfoT, StateT> {
      */
     void write(T element) throws IOException;
 
+    /**
+     * write a batch of data to third party data receiver. It is equivalent to calling {@link
+     * #write(Object)} for each element in order, override it when the writer can handle a batch
+     * cheaper than one element at a time.
+     *
+     * @param elements the data need be written.
+     * @throws IOException throw IOException when write data failed.
+     */
+    default void writeBatch(List<T> elements) throws IOException {
+        for (T element : elements) {
+            write(element);
+        }
+    }
+
     /** @deprecated instead by {@link SupportSchemaEvolutionSinkWriter} TODO: remove this method */
     @Deprecated
     default void applySchemaChange(SchemaChangeEvent event) throws IOException {}
@@ -29,4 +29,13 @@ public interface SupportMultiTableSinkWriter<T> extends SupportResourceShare<T>
     default Optional<Integer> primaryKey() {
         return Optional.empty();
     }
+
+    /**
+     * The indexes of all primary key columns of the table in SeaTunnelRow. Rows are routed on all
+     * of them, which spreads a skewed leading key column over the sink writers. Defaults to {@link
+     * #primaryKey()}.
+     */
+    default Optional<int[]> primaryKeys() {
+        return primaryKey().map(index -> new int[] {index});
+    }
 }
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.sink.multitablesink;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Hashes the primary key columns of a row onto a ring of virtual nodes, so the same key always goes
+ * to the same sub writer while the keys spread evenly over the sub writers.
+ */
+public class ConsistentHashRouter implements MultiTableSinkRouter {
+
+    static final int VIRTUAL_NODES_PER_QUEUE = 64;
+
+    private final int[] keyIndexes;
+
+    /** The sorted hashes of the virtual nodes. */
+    private final int[] ring;
+
+    /** The queue index of each virtual node, in the order of {@link #ring}. */
+    private final int[] owners;
+
+    public ConsistentHashRouter(int[] keyIndexes, int queueCount) {
+        this.keyIndexes = keyIndexes;
+        int nodes = queueCount * VIRTUAL_NODES_PER_QUEUE;
+        long[] points = new long[nodes];
+        for (int queue = 0; queue < queueCount; queue++) {
+            for (int node = 0; node < VIRTUAL_NODES_PER_QUEUE; node++) {
+                int hash = mix(queue * VIRTUAL_NODES_PER_QUEUE + node + 0x5bd1e995);
+                // the upper half sorts by hash, the lower half carries the owner
+                points[queue * VIRTUAL_NODES_PER_QUEUE + node] =
+                        ((long) hash << 32) | (queue & 0xFFFFFFFFL);
+            }
+        }
+        Arrays.sort(points);
+        this.ring = new int[nodes];
+        this.owners = new int[nodes];
+        for (int i = 0; i < nodes; i++) {
+            ring[i] = (int) (points[i] >> 32);
+            owners[i] = (int) points[i];
+        }
+    }
+
+    @Override
+    public int route(SeaTunnelRow row, List<SubWriterQueue> queues) {
+        return routeHash(keyHash(row));
+    }
+
+    int routeHash(int hash) {
+        int index = Arrays.binarySearch(ring, hash);
+        if (index < 0) {
+            index = -index - 1;
+            if (index == ring.length) {
+                index = 0;
+            }
+        }
+        return owners[index];
+    }
+
+    private int keyHash(SeaTunnelRow row) {
+        int hash = 1;
+        for (int keyIndex : keyIndexes) {
+            Object value = row.getField(keyIndex);
+            int valueHash;
+            if (value == null) {
+                valueHash = 0;
+            } else if (value instanceof byte[]) {
+                valueHash = Arrays.hashCode((byte[]) value);
+            } else {
+                valueHash = value.hashCode();
+            }
+            hash = 31 * hash + valueHash;
+        }
+        return mix(hash);
+    }
+
+    /** The finalization step of MurmurHash3, spreads similar hash codes over the whole ring. */
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
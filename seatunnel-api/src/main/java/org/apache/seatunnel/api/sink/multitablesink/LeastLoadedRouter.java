@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.sink.multitablesink;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+
+import java.util.List;
+
+/**
+ * Routes the rows of tables without a primary key to the sub writer with the fewest pending rows.
+ */
+public class LeastLoadedRouter implements MultiTableSinkRouter {
+
+    /** Rotates the start of the scan so equally loaded queues are used in turn. */
+    private int next;
+
+    @Override
+    public int route(SeaTunnelRow row, List<SubWriterQueue> queues) {
+        int size = queues.size();
+        int start = next;
+        next = start + 1 == size ? 0 : start + 1;
+        int best = start;
+        long bestLoad = queues.get(start).size();
+        for (int i = 1; i < size && bestLoad > 0; i++) {
+            int index = start + i < size ? start + i : start + i - size;
+            long load = queues.get(index).size();
+            if (load < bestLoad) {
+                best = index;
+                bestLoad = load;
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public boolean isKeyAffine() {
+        return false;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.sink.multitablesink;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+
+import java.util.List;
+
+/** Chooses the sub writer queue of {@link MultiTableSinkWriter} that a row is handed over to. */
+public interface MultiTableSinkRouter {
+
+    /**
+     * @param row the row to route
+     * @param queues the queues of the sub writers, their {@link SubWriterQueue#size()} is the
+     *     current load
+     * @return the index of the chosen queue
+     */
+    int route(SeaTunnelRow row, List<SubWriterQueue> queues);
+
+    /**
+     * Whether rows with the same content must always go to the same queue. Rows of routers that are
+     * not key affine can be handed over together with the rest of a batch.
+     */
+    default boolean isKeyAffine() {
+        return true;
+    }
+
+    /** Routes the rows with the same primary key to the same queue by consistent hashing. */
+    static MultiTableSinkRouter consistentHash(int[] keyIndexes, int queueCount) {
+        return new ConsistentHashRouter(keyIndexes, queueCount);
+    }
+
+    /** Routes every row to the queue with the fewest pending rows. */
+    static MultiTableSinkRouter leastLoaded() {
+        return new LeastLoadedRouter();
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.seatunnel.api.sink.multitablesink;
 
+import org.apache.seatunnel.api.common.metrics.MetricsContext;
 import org.apache.seatunnel.api.sink.MultiTableResourceManager;
 import org.apache.seatunnel.api.sink.SinkWriter;
 import org.apache.seatunnel.api.sink.SupportMultiTableSinkWriter;
@@ -29,34 +30,39 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.Random;
-import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.apache.seatunnel.api.common.metrics.MetricNames.MULTI_TABLE_SINK_BLOCKED_TIME;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.MULTI_TABLE_SINK_QUEUE_DEPTH;
+
 @Slf4j
 public class MultiTableSinkWriter
         implements SinkWriter<SeaTunnelRow, MultiTableCommitInfo, MultiTableState>,
                 SupportSchemaEvolutionSinkWriter {
 
+    /** The rows that may be pending in the queue of one sub writer. */
+    private static final int QUEUE_CAPACITY = 1024;
+
     private final Map<SinkIdentifier, SinkWriter<SeaTunnelRow, ?, ?>> sinkWriters;
     private final Map<SinkIdentifier, SinkWriter.Context> sinkWritersContext;
-    private final Map<String, Optional<Integer>> sinkPrimaryKeys = new HashMap<>();
+    private final Map<String, MultiTableSinkRouter> sinkRouters = new HashMap<>();
+    private final MultiTableSinkRouter keylessRouter = MultiTableSinkRouter.leastLoaded();
     private final List<ConcurrentMap<SinkIdentifier, SinkWriter<SeaTunnelRow, ?, ?>>>
             sinkWritersWithIndex;
     private final List<MultiTableWriterRunnable> runnable = new ArrayList<>();
-    private final Random random = new Random();
-    private final List<BlockingQueue<SeaTunnelRow>> blockingQueues = new ArrayList<>();
+    private final List<SubWriterQueue> subWriterQueues = new ArrayList<>();
     private final ExecutorService executorService;
     private MultiTableResourceManager resourceManager;
     private volatile boolean submitted = false;
@@ -85,8 +91,14 @@ public class MultiTableSinkWriter
                                     return thread;
                                 }));
         sinkWritersWithIndex = new ArrayList<>();
+        MetricsContext metricsContext =
+                sinkWritersContext.values().stream()
+                        .map(SinkWriter.Context::getMetricsContext)
+                        .filter(Objects::nonNull)
+                        .findFirst()
+                        .orElse(null);
         for (int i = 0; i < queueSize; i++) {
-            BlockingQueue<SeaTunnelRow> queue = new LinkedBlockingQueue<>(1024);
+            SubWriterQueue queue = createQueue(metricsContext, i);
             Map<String, SinkWriter<SeaTunnelRow, ?, ?>> tableIdWriterMap = new HashMap<>();
             ConcurrentMap<SinkIdentifier, SinkWriter<SeaTunnelRow, ?, ?>> sinkIdentifierMap =
                     new ConcurrentHashMap<>();
@@ -101,7 +113,7 @@ public class MultiTableSinkWriter
                             });
 
             sinkWritersWithIndex.add(sinkIdentifierMap);
-            blockingQueues.add(queue);
+            subWriterQueues.add(queue);
             MultiTableWriterRunnable r = new MultiTableWriterRunnable(tableIdWriterMap, queue);
             runnable.add(r);
         }
@@ -109,6 +121,16 @@ public class MultiTableSinkWriter
         initResourceManager(queueSize);
     }
 
+    private static SubWriterQueue createQueue(MetricsContext metricsContext, int queueIndex) {
+        if (metricsContext == null) {
+            return new SubWriterQueue(QUEUE_CAPACITY);
+        }
+        return new SubWriterQueue(
+                QUEUE_CAPACITY,
+                metricsContext.counter(MULTI_TABLE_SINK_QUEUE_DEPTH + "_" + queueIndex),
+                metricsContext.counter(MULTI_TABLE_SINK_BLOCKED_TIME + "_" + queueIndex));
+    }
+
     private void initResourceManager(int queueSize) {
         for (SinkIdentifier tableIdentifier : sinkWriters.keySet()) {
             SinkWriter<SeaTunnelRow, ?, ?> sink = sinkWriters.get(tableIdentifier);
@@ -126,7 +148,14 @@ public class MultiTableSinkWriter
                 SupportMultiTableSinkWriter<?> sink =
                         ((SupportMultiTableSinkWriter<?>) entry.getValue());
                 sink.setMultiTableResourceManager(resourceManager, i);
-                sinkPrimaryKeys.put(entry.getKey().getTableIdentifier(), sink.primaryKey());
+                sinkRouters.put(
+                        entry.getKey().getTableIdentifier(),
+                        sink.primaryKeys()
+                                .map(
+                                        keyIndexes ->
+                                                MultiTableSinkRouter.consistentHash(
+                                                        keyIndexes, queueSize))
+                                .orElse(keylessRouter));
             }
         }
     }
@@ -177,33 +206,84 @@ public class MultiTableSinkWriter
 
     @Override
     public void write(SeaTunnelRow element) throws IOException {
+        submitRunnable();
+        subSinkErrorCheck();
+        int index = getRouter(element).route(element, subWriterQueues);
+        handOver(index, Collections.singletonList(element));
+    }
+
+    /**
+     * Hands the rows over to the sub writers with one queue operation per sub writer instead of one
+     * per row. The rows of tables without a primary key go together to the least loaded sub writer.
+     */
+    @Override
+    public void writeBatch(List<SeaTunnelRow> elements) throws IOException {
+        if (elements.size() == 1) {
+            write(elements.get(0));
+            return;
+        }
+        submitRunnable();
+        subSinkErrorCheck();
+        List<List<SeaTunnelRow>> batches = new ArrayList<>(subWriterQueues.size());
+        for (int i = 0; i < subWriterQueues.size(); i++) {
+            batches.add(null);
+        }
+        List<SeaTunnelRow> keylessRows = null;
+        for (SeaTunnelRow element : elements) {
+            MultiTableSinkRouter router = getRouter(element);
+            if (!router.isKeyAffine()) {
+                if (keylessRows == null) {
+                    keylessRows = new ArrayList<>();
+                }
+                keylessRows.add(element);
+                continue;
+            }
+            int index = router.route(element, subWriterQueues);
+            List<SeaTunnelRow> batch = batches.get(index);
+            if (batch == null) {
+                batch = new ArrayList<>();
+                batches.set(index, batch);
+            }
+            batch.add(element);
+        }
+        if (keylessRows != null) {
+            int index = keylessRouter.route(keylessRows.get(0), subWriterQueues);
+            if (batches.get(index) == null) {
+                batches.set(index, keylessRows);
+            } else {
+                batches.get(index).addAll(keylessRows);
+            }
+        }
+        for (int i = 0; i < batches.size(); i++) {
+            if (batches.get(i) != null) {
+                handOver(i, batches.get(i));
+            }
+        }
+    }
+
+    private void submitRunnable() {
         if (!submitted) {
             submitted = true;
             runnable.forEach(executorService::submit);
         }
-        subSinkErrorCheck();
-        Optional<Integer> primaryKey = sinkPrimaryKeys.get(element.getTableId());
+    }
+
+    private MultiTableSinkRouter getRouter(SeaTunnelRow element) {
+        MultiTableSinkRouter router = sinkRouters.get(element.getTableId());
+        if (router != null) {
+            return router;
+        }
+        if (sinkRouters.size() == 1) {
+            return keylessRouter;
+        }
+        throw new RuntimeException("multi table sink can not write table: " + element.getTableId());
+    }
+
+    private void handOver(int index, List<SeaTunnelRow> rows) throws IOException {
+        SubWriterQueue queue = subWriterQueues.get(index);
         try {
-            if ((primaryKey == null && sinkPrimaryKeys.size() == 1)
-                    || (primaryKey != null && !primaryKey.isPresent())) {
-                int index = random.nextInt(blockingQueues.size());
-                BlockingQueue<SeaTunnelRow> queue = blockingQueues.get(index);
-                while (!queue.offer(element, 500, TimeUnit.MILLISECONDS)) {
-                    subSinkErrorCheck();
-                }
-            } else if (primaryKey == null) {
-                throw new RuntimeException(
-                        "multi table sink can not write table: " + element.getTableId());
-            } else {
-                Object object = element.getField(primaryKey.get());
-                int index = 0;
-                if (object != null) {
-                    index = Math.abs(object.hashCode()) % blockingQueues.size();
-                }
-                BlockingQueue<SeaTunnelRow> queue = blockingQueues.get(index);
-                while (!queue.offer(element, 500, TimeUnit.MILLISECONDS)) {
-                    subSinkErrorCheck();
-                }
+            while (!queue.offer(rows, 500, TimeUnit.MILLISECONDS)) {
+                subSinkErrorCheck();
             }
         } catch (InterruptedException e) {
             throw new IOException(e);
@@ -352,8 +432,8 @@ public class MultiTableSinkWriter
 
     private void checkQueueRemain() {
         try {
-            for (BlockingQueue<SeaTunnelRow> blockingQueue : blockingQueues) {
-                while (!blockingQueue.isEmpty()) {
+            for (SubWriterQueue subWriterQueue : subWriterQueues) {
+                while (!subWriterQueue.isEmpty()) {
                     Thread.sleep(100);
                     subSinkErrorCheck();
                 }
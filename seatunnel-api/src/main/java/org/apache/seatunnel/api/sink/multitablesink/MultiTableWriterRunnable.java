@@ -22,21 +22,21 @@ import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.BlockingQueue;
+import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j
 public class MultiTableWriterRunnable implements Runnable {
 
     private final Map<String, SinkWriter<SeaTunnelRow, ?, ?>> tableIdWriterMap;
-    private final BlockingQueue<SeaTunnelRow> queue;
+    private final SubWriterQueue queue;
     private volatile Throwable throwable;
     private volatile String currentTableId;
 
     public MultiTableWriterRunnable(
-            Map<String, SinkWriter<SeaTunnelRow, ?, ?>> tableIdWriterMap,
-            BlockingQueue<SeaTunnelRow> queue) {
+            Map<String, SinkWriter<SeaTunnelRow, ?, ?>> tableIdWriterMap, SubWriterQueue queue) {
         this.tableIdWriterMap = tableIdWriterMap;
         this.queue = queue;
     }
@@ -44,28 +44,32 @@ public class MultiTableWriterRunnable implements Runnable {
     @Override
     public void run() {
         while (true) {
-            SeaTunnelRow row = null;
+            List<SeaTunnelRow> rows = null;
             try {
-                row = queue.poll(100, TimeUnit.MILLISECONDS);
-                if (row == null) {
+                rows = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (rows == null) {
                     continue;
                 }
-                SinkWriter<SeaTunnelRow, ?, ?> writer = tableIdWriterMap.get(row.getTableId());
-                if (writer == null) {
-                    if (tableIdWriterMap.size() == 1) {
-                        writer = tableIdWriterMap.values().stream().findFirst().get();
-                        currentTableId = tableIdWriterMap.keySet().stream().findFirst().get();
-                    } else {
-                        throw new RuntimeException(
-                                "MultiTableWriterRunnable can't find writer for tableId: "
-                                        + row.getTableId());
-                    }
-                } else {
-                    currentTableId = row.getTableId();
-                }
                 synchronized (this) {
-                    writer.write(row);
+                    // write each run of rows of the same table as one batch
+                    int start = 0;
+                    while (start < rows.size()) {
+                        String tableId = rows.get(start).getTableId();
+                        int end = start + 1;
+                        while (end < rows.size()
+                                && Objects.equals(tableId, rows.get(end).getTableId())) {
+                            end++;
+                        }
+                        SinkWriter<SeaTunnelRow, ?, ?> writer = getWriter(tableId);
+                        if (end - start == 1) {
+                            writer.write(rows.get(start));
+                        } else {
+                            writer.writeBatch(rows.subList(start, end));
+                        }
+                        start = end;
+                    }
                 }
+                queue.release(rows.size());
             } catch (InterruptedException e) {
                 // When the job finished, the thread will be interrupted, so we ignore this
                 // exception.
@@ -73,13 +77,32 @@ public class MultiTableWriterRunnable implements Runnable {
                 break;
             } catch (Throwable e) {
                 log.error(
-                        String.format("MultiTableWriterRunnable error when write row %s", row), e);
+                        String.format(
+                                "MultiTableWriterRunnable error when write rows of table %s",
+                                currentTableId),
+                        e);
                 throwable = e;
                 break;
             }
         }
     }
 
+    private SinkWriter<SeaTunnelRow, ?, ?> getWriter(String tableId) {
+        SinkWriter<SeaTunnelRow, ?, ?> writer = tableIdWriterMap.get(tableId);
+        if (writer == null) {
+            if (tableIdWriterMap.size() == 1) {
+                writer = tableIdWriterMap.values().stream().findFirst().get();
+                currentTableId = tableIdWriterMap.keySet().stream().findFirst().get();
+            } else {
+                throw new RuntimeException(
+                        "MultiTableWriterRunnable can't find writer for tableId: " + tableId);
+            }
+        } else {
+            currentTableId = tableId;
+        }
+        return writer;
+    }
+
     public Throwable getThrowable() {
         return throwable;
     }
@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.sink.multitablesink;
+
+import org.apache.seatunnel.api.common.metrics.Counter;
+import org.apache.seatunnel.api.common.metrics.ThreadSafeCounter;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The queue between {@link MultiTableSinkWriter} and one {@link MultiTableWriterRunnable}. Rows are
+ * handed over in batches, but the capacity is counted in rows. A row stays pending until the sub
+ * writer has written it, so an empty queue means every handed over row has reached the sub writer.
+ */
+public class SubWriterQueue {
+
+    private final int capacity;
+
+    private final ArrayDeque<List<SeaTunnelRow>> batches = new ArrayDeque<>();
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition notEmpty = lock.newCondition();
+
+    private final Condition notFull = lock.newCondition();
+
+    /** The rows queued or being written by the sub writer. */
+    private final Counter pendingRows = new ThreadSafeCounter("pendingRows");
+
+    /** The metric mirroring {@link #pendingRows}, it may be shared with other queues. */
+    private final Counter queueDepth;
+
+    /** The time in milliseconds {@link #offer} waited for free capacity. */
+    private final Counter blockedTime;
+
+    public SubWriterQueue(int capacity) {
+        this(capacity, new ThreadSafeCounter("queueDepth"), new ThreadSafeCounter("blockedTime"));
+    }
+
+    public SubWriterQueue(int capacity, Counter queueDepth, Counter blockedTime) {
+        this.capacity = capacity;
+        this.queueDepth = queueDepth;
+        this.blockedTime = blockedTime;
+    }
+
+    /**
+     * Hands a batch of rows over to the sub writer, waiting up to the timeout for free capacity. A
+     * batch larger than the capacity is accepted once nothing else is pending.
+     */
+    public boolean offer(List<SeaTunnelRow> batch, long timeout, TimeUnit unit)
+            throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        long blockedSince = 0;
+        lock.lockInterruptibly();
+        try {
+            while (pendingRows.getCount() > 0 && pendingRows.getCount() + batch.size() > capacity) {
+                if (blockedSince == 0) {
+                    blockedSince = System.nanoTime();
+                }
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            batches.addLast(batch);
+            pendingRows.inc(batch.size());
+            queueDepth.inc(batch.size());
+            notEmpty.signal();
+            return true;
+        } finally {
+            lock.unlock();
+            if (blockedSince != 0) {
+                blockedTime.inc(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - blockedSince));
+            }
+        }
+    }
+
+    /** Takes the next batch, the caller must {@link #release} its rows once they are written. */
+    public List<SeaTunnelRow> poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (batches.isEmpty()) {
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return batches.pollFirst();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void release(int rows) {
+        lock.lock();
+        try {
+            pendingRows.dec(rows);
+            queueDepth.dec(rows);
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** The rows queued or being written by the sub writer. */
+    public long size() {
+        return pendingRows.getCount();
+    }
+
+    public boolean isEmpty() {
+        return pendingRows.getCount() == 0;
+    }
+
+    /**
+     * The time in milliseconds the writer waited for this queue, maybe shared with other queues.
+     */
+    public long getBlockedTime() {
+        return blockedTime.getCount();
+    }
+}
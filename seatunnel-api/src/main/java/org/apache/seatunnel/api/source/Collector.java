@@ -19,6 +19,8 @@ package org.apache.seatunnel.api.source;
 
 import org.apache.seatunnel.api.table.schema.event.SchemaChangeEvent;
 
+import java.util.List;
+
 /**
  * A {@link Collector} is used to collect data from {@link SourceReader}.
  *
@@ -28,6 +30,19 @@ public interface Collector<T> {
 
     void collect(T record);
 
+    /**
+     * Collect a batch of records, e.g. the rows of one fetch. It is equivalent to calling {@link
+     * #collect(Object)} for each record in order, but lets the engine hand the whole batch to the
+     * downstream in one call.
+     *
+     * @param records the records to collect, must not be modified by the caller afterwards.
+     */
+    default void collectBatch(List<T> records) {
+        for (T record : records) {
+            collect(record);
+        }
+    }
+
     default void markSchemaChangeBeforeCheckpoint() {}
 
     default void collect(SchemaChangeEvent event) {}
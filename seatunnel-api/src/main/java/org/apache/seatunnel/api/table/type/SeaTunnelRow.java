@@ -124,8 +124,19 @@ public final class SeaTunnelRow implements Serializable {
         return size;
     }
 
+    /**
+     * Same as {@link #getBytesSize(SeaTunnelRowType)}, but with the per column type dispatch
+     * resolved once by the given {@link SeaTunnelRowSizeEstimator}.
+     */
+    public int getBytesSize(SeaTunnelRowSizeEstimator estimator) {
+        if (size == 0) {
+            size = estimator.estimate(fields);
+        }
+        return size;
+    }
+
     /** faster version of {@link #getBytesSize(SeaTunnelRowType)}. */
-    private int getBytesForValue(Object v, SeaTunnelDataType<?> dataType) {
+    static int getBytesForValue(Object v, SeaTunnelDataType<?> dataType) {
         if (v == null) {
             return 0;
         }
@@ -209,7 +220,7 @@ public final class SeaTunnelRow implements Serializable {
         }
     }
 
-    private int getBytesForArray(Object v, SeaTunnelDataType<?> dataType) {
+    private static int getBytesForArray(Object v, SeaTunnelDataType<?> dataType) {
         switch (dataType.getSqlType()) {
             case STRING:
                 int s = 0;
@@ -239,7 +250,7 @@ public final class SeaTunnelRow implements Serializable {
         }
     }
 
-    private int getArrayNotNullSize(Object[] values) {
+    private static int getArrayNotNullSize(Object[] values) {
         int c = 0;
         for (Object value : values) {
             if (value != null) {
@@ -249,7 +260,7 @@ public final class SeaTunnelRow implements Serializable {
         return c;
     }
 
-    private int getArrayMapNotNullSize(Object v) {
+    private static int getArrayMapNotNullSize(Object v) {
         int size = 0;
         if (Objects.nonNull(v)) {
             for (Map o : (Map[]) v) {
@@ -273,7 +284,7 @@ public final class SeaTunnelRow implements Serializable {
         return size;
     }
 
-    private int getBytesForValue(Object v) {
+    static int getBytesForValue(Object v) {
         if (v == null) {
             return 0;
         }
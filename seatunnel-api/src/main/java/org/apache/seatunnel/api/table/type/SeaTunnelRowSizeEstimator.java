@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.table.type;
+
+import java.io.Serializable;
+
+/**
+ * Computes the same value as {@link SeaTunnelRow#getBytesSize(SeaTunnelRowType)} without switching
+ * on the type of every field of every row. The widths of the fixed-width columns are resolved once
+ * per row type, only the variable-length columns are inspected per row.
+ */
+public final class SeaTunnelRowSizeEstimator implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int arity;
+
+    /** The sum of the widths of all fixed-width columns, as if none of them were null. */
+    private final int fixedWidthSum;
+
+    private final int[] fixedIndexes;
+
+    private final int[] fixedWidths;
+
+    private final int[] variableIndexes;
+
+    private final SeaTunnelDataType<?>[] variableTypes;
+
+    private SeaTunnelRowSizeEstimator(SeaTunnelRowType rowType) {
+        SeaTunnelDataType<?>[] fieldTypes = rowType.getFieldTypes();
+        this.arity = fieldTypes.length;
+        int fixedCount = 0;
+        int variableCount = 0;
+        for (SeaTunnelDataType<?> fieldType : fieldTypes) {
+            int width = fixedWidth(fieldType.getSqlType());
+            if (width > 0) {
+                fixedCount++;
+            } else if (width < 0) {
+                variableCount++;
+            }
+        }
+        this.fixedIndexes = new int[fixedCount];
+        this.fixedWidths = new int[fixedCount];
+        this.variableIndexes = new int[variableCount];
+        this.variableTypes = new SeaTunnelDataType<?>[variableCount];
+        int sum = 0;
+        fixedCount = 0;
+        variableCount = 0;
+        for (int i = 0; i < fieldTypes.length; i++) {
+            int width = fixedWidth(fieldTypes[i].getSqlType());
+            if (width > 0) {
+                fixedIndexes[fixedCount] = i;
+                fixedWidths[fixedCount++] = width;
+                sum += width;
+            } else if (width < 0) {
+                variableIndexes[variableCount] = i;
+                variableTypes[variableCount++] = fieldTypes[i];
+            }
+        }
+        this.fixedWidthSum = sum;
+    }
+
+    public static SeaTunnelRowSizeEstimator of(SeaTunnelRowType rowType) {
+        return new SeaTunnelRowSizeEstimator(rowType);
+    }
+
+    public int estimate(SeaTunnelRow row) {
+        return estimate(row.getFields());
+    }
+
+    int estimate(Object[] fields) {
+        if (fields.length != arity) {
+            // the row does not match the row type, measure it by the classes of its values
+            int s = 0;
+            for (Object field : fields) {
+                s += SeaTunnelRow.getBytesForValue(field);
+            }
+            return s;
+        }
+        int s = fixedWidthSum;
+        for (int i = 0; i < fixedIndexes.length; i++) {
+            if (fields[fixedIndexes[i]] == null) {
+                s -= fixedWidths[i];
+            }
+        }
+        for (int i = 0; i < variableIndexes.length; i++) {
+            s += SeaTunnelRow.getBytesForValue(fields[variableIndexes[i]], variableTypes[i]);
+        }
+        return s;
+    }
+
+    /**
+     * The width used by {@link SeaTunnelRow#getBytesSize(SeaTunnelRowType)} for a non-null value, 0
+     * for columns that are always 0 bytes and -1 for variable-length columns.
+     */
+    private static int fixedWidth(SqlType sqlType) {
+        switch (sqlType) {
+            case BOOLEAN:
+            case TINYINT:
+                return 1;
+            case SMALLINT:
+                return 2;
+            case INT:
+            case FLOAT:
+                return 4;
+            case BIGINT:
+            case DOUBLE:
+                return 8;
+            case DECIMAL:
+                return 36;
+            case DATE:
+                return 24;
+            case TIME:
+                return 12;
+            case TIMESTAMP:
+            case TIMESTAMP_TZ:
+                return 48;
+            case NULL:
+                return 0;
+            default:
+                return -1;
+        }
+    }
+}
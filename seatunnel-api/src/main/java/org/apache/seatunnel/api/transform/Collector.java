@@ -17,6 +17,8 @@
 
 package org.apache.seatunnel.api.transform;
 
+import java.util.List;
+
 public interface Collector<T> {
 
     /**
@@ -26,6 +28,18 @@ public interface Collector<T> {
      */
     void collect(T record);
 
+    /**
+     * Emits a batch of records, it is equivalent to calling {@link #collect(Object)} for each
+     * record in order.
+     *
+     * @param records The records to collect.
+     */
+    default void collectBatch(List<T> records) {
+        for (T record : records) {
+            collect(record);
+        }
+    }
+
     /** Closes the collector. If any data was buffered, that data will be flushed. */
     void close();
 }
@@ -16,6 +16,7 @@
  */
 package org.apache.seatunnel.api.transform;
 
+import java.util.ArrayList;
 import java.util.List;
 
 public interface SeaTunnelFlatMapTransform<T> extends SeaTunnelTransform<T> {
@@ -28,4 +29,22 @@ public interface SeaTunnelFlatMapTransform<T> extends SeaTunnelTransform<T> {
      * @return transformed data.
      */
     List<T> flatMap(T row);
+
+    /**
+     * Transform a batch of rows. Override it when the transform can process many rows cheaper than
+     * one by one.
+     *
+     * @param rows the data need be transformed.
+     * @return transformed data, in input order.
+     */
+    default List<T> flatMapBatch(List<T> rows) {
+        List<T> outputs = new ArrayList<>(rows.size());
+        for (T row : rows) {
+            List<T> output = flatMap(row);
+            if (output != null) {
+                outputs.addAll(output);
+            }
+        }
+        return outputs;
+    }
 }
@@ -17,6 +17,9 @@
 
 package org.apache.seatunnel.api.transform;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public interface SeaTunnelMapTransform<T> extends SeaTunnelTransform<T> {
 
     /**
@@ -27,4 +30,22 @@ public interface SeaTunnelMapTransform<T> extends SeaTunnelTransform<T> {
      * @return transformed data.
      */
     T map(T row);
+
+    /**
+     * Transform a batch of rows, the rows filtered by {@link #map(Object)} are not part of the
+     * result. Override it when the transform can process many rows cheaper than one by one.
+     *
+     * @param rows the data need be transformed.
+     * @return transformed data, in input order.
+     */
+    default List<T> mapBatch(List<T> rows) {
+        List<T> outputs = new ArrayList<>(rows.size());
+        for (T row : rows) {
+            T output = map(row);
+            if (output != null) {
+                outputs.add(output);
+            }
+        }
+        return outputs;
+    }
 }
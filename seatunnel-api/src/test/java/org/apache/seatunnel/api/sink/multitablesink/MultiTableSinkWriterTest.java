@@ -18,14 +18,17 @@
 package org.apache.seatunnel.api.sink.multitablesink;
 
 import org.apache.seatunnel.api.common.metrics.MetricsContext;
+import org.apache.seatunnel.api.common.metrics.ThreadSafeCounter;
 import org.apache.seatunnel.api.event.DefaultEventProcessor;
 import org.apache.seatunnel.api.event.EventListener;
 import org.apache.seatunnel.api.serialization.DefaultSerializer;
+import org.apache.seatunnel.api.sink.MultiTableResourceManager;
 import org.apache.seatunnel.api.sink.SinkWriter;
 import org.apache.seatunnel.api.sink.SupportMultiTableSinkWriter;
 import org.apache.seatunnel.api.table.catalog.TablePath;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import lombok.AllArgsConstructor;
@@ -33,10 +36,15 @@ import lombok.Data;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 
 public class MultiTableSinkWriterTest {
 
@@ -62,6 +70,143 @@ public class MultiTableSinkWriterTest {
         }
     }
 
+    @Test
+    public void testKeyAffinityRouting() throws Exception {
+        int threads = 4;
+        Map<SinkIdentifier, SinkWriter<SeaTunnelRow, ?, ?>> sinkWriters = new HashMap<>();
+        Map<SinkIdentifier, SinkWriter.Context> sinkWritersContext = new HashMap<>();
+        List<KeyedSinkWriter> keyedWriters = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            KeyedSinkWriter keyedWriter = new KeyedSinkWriter();
+            keyedWriters.add(keyedWriter);
+            sinkWriters.put(SinkIdentifier.of("db.keyed", i), keyedWriter);
+            sinkWriters.put(SinkIdentifier.of("db.keyless", i), new TestSinkWriter());
+            sinkWritersContext.put(SinkIdentifier.of("db.keyed", i), new TestSinkWriterContext());
+            sinkWritersContext.put(SinkIdentifier.of("db.keyless", i), new TestSinkWriterContext());
+        }
+        MultiTableSinkWriter multiTableSinkWriter =
+                new MultiTableSinkWriter(sinkWriters, threads, sinkWritersContext);
+
+        List<SeaTunnelRow> batch = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            // the leading key column is heavily skewed
+            batch.add(row("db.keyed", "tenant", i % 100, i));
+            batch.add(row("db.keyless", "tenant", i, i));
+            if (batch.size() == 100) {
+                multiTableSinkWriter.writeBatch(batch);
+                batch = new ArrayList<>();
+            }
+        }
+        multiTableSinkWriter.write(row("db.keyed", "tenant", 0, 2000));
+        multiTableSinkWriter.prepareCommit(1);
+
+        Map<Integer, Integer> writerOfKey = new HashMap<>();
+        int rows = 0;
+        for (int i = 0; i < threads; i++) {
+            KeyedSinkWriter keyedWriter = keyedWriters.get(i);
+            Assertions.assertFalse(keyedWriter.rows.isEmpty());
+            Map<Integer, Integer> lastSeqOfKey = new HashMap<>();
+            for (SeaTunnelRow row : keyedWriter.rows) {
+                int key = (int) row.getField(1);
+                int seq = (int) row.getField(2);
+                // every key is written by a single sub writer, in order
+                Assertions.assertEquals(
+                        keyedWriter.id, writerOfKey.computeIfAbsent(key, k -> keyedWriter.id));
+                Assertions.assertTrue(seq > lastSeqOfKey.getOrDefault(key, -1));
+                lastSeqOfKey.put(key, seq);
+            }
+            rows += keyedWriter.rows.size();
+        }
+        Assertions.assertEquals(2001, rows);
+        Assertions.assertEquals(100, writerOfKey.size());
+        multiTableSinkWriter.close();
+    }
+
+    @Test
+    public void testLeastLoadedRouter() throws InterruptedException {
+        List<SubWriterQueue> queues = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            queues.add(new SubWriterQueue(10));
+        }
+        SeaTunnelRow row = row("db.keyless", "tenant", 0, 0);
+        queues.get(0).offer(Arrays.asList(row, row, row), 1, TimeUnit.MILLISECONDS);
+        queues.get(1).offer(Collections.singletonList(row), 1, TimeUnit.MILLISECONDS);
+        queues.get(2).offer(Arrays.asList(row, row), 1, TimeUnit.MILLISECONDS);
+
+        MultiTableSinkRouter router = MultiTableSinkRouter.leastLoaded();
+        Assertions.assertFalse(router.isKeyAffine());
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertEquals(1, router.route(row, queues));
+        }
+    }
+
+    @Test
+    public void testConsistentHashRouterSpreadsKeys() {
+        int queueCount = 8;
+        ConsistentHashRouter router = new ConsistentHashRouter(new int[] {0, 1}, queueCount);
+        int[] hits = new int[queueCount];
+        for (int i = 0; i < 80000; i++) {
+            int index = router.route(row("db.keyed", "tenant", i, 0), null);
+            Assertions.assertEquals(index, router.route(row("db.keyed", "tenant", i, 1), null));
+            hits[index]++;
+        }
+        for (int hit : hits) {
+            Assertions.assertTrue(hit > 5000 && hit < 15000, Arrays.toString(hits));
+        }
+    }
+
+    @Test
+    public void testSubWriterQueueBlocking() throws Exception {
+        ThreadSafeCounter depth = new ThreadSafeCounter("depth");
+        ThreadSafeCounter blocked = new ThreadSafeCounter("blocked");
+        SubWriterQueue queue = new SubWriterQueue(4, depth, blocked);
+        SeaTunnelRow row = row("db.keyless", "tenant", 0, 0);
+
+        // a batch larger than the capacity still fits into an empty queue
+        Assertions.assertTrue(
+                queue.offer(Arrays.asList(row, row, row, row, row), 1, TimeUnit.MILLISECONDS));
+        Assertions.assertEquals(5, depth.getCount());
+        Assertions.assertFalse(
+                queue.offer(Collections.singletonList(row), 20, TimeUnit.MILLISECONDS));
+        Assertions.assertTrue(blocked.getCount() >= 10);
+
+        List<SeaTunnelRow> polled = queue.poll(1, TimeUnit.MILLISECONDS);
+        Assertions.assertEquals(5, polled.size());
+        // polled rows stay pending until they are written
+        Assertions.assertFalse(queue.isEmpty());
+        queue.release(polled.size());
+        Assertions.assertTrue(queue.isEmpty());
+        Assertions.assertEquals(0, depth.getCount());
+        Assertions.assertNull(queue.poll(1, TimeUnit.MILLISECONDS));
+    }
+
+    private static SeaTunnelRow row(String tableId, String tenant, int key, int seq) {
+        SeaTunnelRow row = new SeaTunnelRow(new Object[] {tenant, key, seq});
+        row.setTableId(tableId);
+        return row;
+    }
+
+    static class KeyedSinkWriter extends TestSinkWriter {
+        private final List<SeaTunnelRow> rows = new CopyOnWriteArrayList<>();
+        private int id = -1;
+
+        @Override
+        public void write(SeaTunnelRow seaTunnelRow) {
+            rows.add(seaTunnelRow);
+        }
+
+        @Override
+        public void setMultiTableResourceManager(
+                MultiTableResourceManager multiTableResourceManager, int queueIndex) {
+            id = queueIndex;
+        }
+
+        @Override
+        public Optional<int[]> primaryKeys() {
+            return Optional.of(new int[] {0, 1});
+        }
+    }
+
     static class TestSinkWriter
             implements SinkWriter<SeaTunnelRow, TestSinkState, Object>,
                     SupportMultiTableSinkWriter {
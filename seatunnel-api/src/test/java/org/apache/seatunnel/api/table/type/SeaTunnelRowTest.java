@@ -23,6 +23,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
@@ -125,6 +126,41 @@ public class SeaTunnelRowTest {
 
         Assertions.assertEquals(259, row2.getBytesSize(rowType));
         Assertions.assertEquals(259, row2.getBytesSize());
+
+        SeaTunnelRowSizeEstimator estimator = SeaTunnelRowSizeEstimator.of(rowType);
+        Assertions.assertEquals(259, estimator.estimate(row.copy()));
+        Assertions.assertEquals(259, row2.copy().getBytesSize(estimator));
+    }
+
+    @Test
+    void testSizeEstimatorWithNulls() {
+        SeaTunnelRowType rowType =
+                new SeaTunnelRowType(
+                        new String[] {"f0", "f1", "f2", "f3", "f4", "f5"},
+                        new SeaTunnelDataType<?>[] {
+                            BasicType.INT_TYPE,
+                            BasicType.STRING_TYPE,
+                            BasicType.VOID_TYPE,
+                            LocalTimeType.LOCAL_DATE_TIME_TYPE,
+                            PrimitiveByteArrayType.INSTANCE,
+                            BasicType.DOUBLE_TYPE
+                        });
+        SeaTunnelRowSizeEstimator estimator = SeaTunnelRowSizeEstimator.of(rowType);
+        Object[][] rows = {
+            {1, "abc", null, LocalDateTime.of(2024, 1, 1, 0, 0), new byte[] {1, 2}, 1D},
+            {null, "abc", null, null, new byte[] {1, 2}, 1D},
+            {1, null, null, LocalDateTime.of(2024, 1, 1, 0, 0), null, null},
+            {null, null, null, null, null, null}
+        };
+        for (Object[] fields : rows) {
+            Assertions.assertEquals(
+                    new SeaTunnelRow(fields.clone()).getBytesSize(rowType),
+                    estimator.estimate(new SeaTunnelRow(fields.clone())));
+        }
+
+        // rows that do not match the row type are measured by the classes of their values
+        SeaTunnelRow narrowRow = new SeaTunnelRow(new Object[] {1, "abc"});
+        Assertions.assertEquals(7, narrowRow.getBytesSize(estimator));
     }
 
     @Test
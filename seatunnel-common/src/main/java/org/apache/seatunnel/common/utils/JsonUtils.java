@@ -39,6 +39,7 @@ import org.apache.seatunnel.shade.com.fasterxml.jackson.datatype.jsr310.JavaTime
 import org.apache.commons.lang3.StringUtils;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
@@ -259,6 +260,19 @@ public class JsonUtils {
         }
     }
 
+    /**
+     * Write the object as json straight into the output stream, the stream is left open.
+     *
+     * @param out output stream
+     * @param object object
+     */
+    public static void writeValue(OutputStream out, Object object) throws IOException {
+        OBJECT_MAPPER
+                .writer()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .writeValue(out, object);
+    }
+
     public static ObjectNode parseObject(String text) {
         return parseObject(text.getBytes());
     }
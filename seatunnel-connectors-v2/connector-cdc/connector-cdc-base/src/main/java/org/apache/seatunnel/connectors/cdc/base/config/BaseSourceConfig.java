@@ -42,6 +42,7 @@ public abstract class BaseSourceConfig implements SourceConfig {
     @Getter protected final int sampleShardingThreshold;
     @Getter protected final int inverseSamplingRate;
     @Getter protected final boolean exactlyOnce;
+    @Getter protected final long snapshotBufferMaxBytes;
 
     // --------------------------------------------------------------------------------------------
     // Debezium Configurations
@@ -58,6 +59,7 @@ public abstract class BaseSourceConfig implements SourceConfig {
             int sampleShardingThreshold,
             int inverseSamplingRate,
             boolean exactlyOnce,
+            long snapshotBufferMaxBytes,
             Properties dbzProperties) {
         this.startupConfig = startupConfig;
         this.stopConfig = stopConfig;
@@ -68,6 +70,7 @@ public abstract class BaseSourceConfig implements SourceConfig {
         this.sampleShardingThreshold = sampleShardingThreshold;
         this.inverseSamplingRate = inverseSamplingRate;
         this.exactlyOnce = exactlyOnce;
+        this.snapshotBufferMaxBytes = snapshotBufferMaxBytes;
         this.dbzProperties = dbzProperties;
     }
 
@@ -67,7 +67,8 @@ public abstract class JdbcSourceConfig extends BaseSourceConfig {
             long connectTimeoutMillis,
             int connectMaxRetries,
             int connectionPoolSize,
-            boolean exactlyOnce) {
+            boolean exactlyOnce,
+            long snapshotBufferMaxBytes) {
         super(
                 startupConfig,
                 stopConfig,
@@ -78,6 +79,7 @@ public abstract class JdbcSourceConfig extends BaseSourceConfig {
                 sampleShardingThreshold,
                 inverseSamplingRate,
                 exactlyOnce,
+                snapshotBufferMaxBytes,
                 dbzProperties);
         this.driverClassName = driverClassName;
         this.hostname = hostname;
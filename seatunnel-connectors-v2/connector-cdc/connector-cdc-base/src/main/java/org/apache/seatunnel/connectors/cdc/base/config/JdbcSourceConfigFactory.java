@@ -62,6 +62,10 @@ public abstract class JdbcSourceConfigFactory implements SourceConfig.Factory<Jd
     protected int connectionPoolSize = JdbcSourceOptions.CONNECTION_POOL_SIZE.defaultValue();
     @Setter protected boolean exactlyOnce = JdbcSourceOptions.EXACTLY_ONCE.defaultValue();
 
+    @Setter
+    protected long snapshotBufferMaxBytes =
+            JdbcSourceOptions.SNAPSHOT_BUFFER_MAX_BYTES.defaultValue();
+
     @Setter
     protected boolean schemaChangeEnabled = JdbcSourceOptions.SCHEMA_CHANGES_ENABLED.defaultValue();
 
@@ -271,6 +275,7 @@ public abstract class JdbcSourceConfigFactory implements SourceConfig.Factory<Jd
         this.connectMaxRetries = config.get(JdbcSourceOptions.CONNECT_MAX_RETRIES);
         this.connectionPoolSize = config.get(JdbcSourceOptions.CONNECTION_POOL_SIZE);
         this.exactlyOnce = config.get(JdbcSourceOptions.EXACTLY_ONCE);
+        this.snapshotBufferMaxBytes = config.get(JdbcSourceOptions.SNAPSHOT_BUFFER_MAX_BYTES);
         this.schemaChangeEnabled = config.get(JdbcSourceOptions.SCHEMA_CHANGES_ENABLED);
         this.dbzProperties = new Properties();
         config.getOptional(SourceOptions.DEBEZIUM_PROPERTIES)
@@ -68,6 +68,13 @@ public class SourceOptions {
                     .defaultValue(1)
                     .withDescription("The number of parallel readers in the incremental phase.");
 
+    public static final Option<Integer> SNAPSHOT_FETCH_PARALLELISM =
+            Options.key("snapshot.fetch.parallelism")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The number of snapshot splits read concurrently by a reader, each with its own database connection.");
+
     public static final Option<Long> STOP_TIMESTAMP =
             Options.key("stop.timestamp")
                     .longType()
@@ -107,6 +114,14 @@ public class SourceOptions {
                     .defaultValue(false)
                     .withDescription("Enable exactly once semantic.");
 
+    public static final Option<Long> SNAPSHOT_BUFFER_MAX_BYTES =
+            Options.key("snapshot.buffer.max-bytes")
+                    .longType()
+                    .defaultValue(64 * 1024 * 1024L)
+                    .withDescription(
+                            "The memory in bytes that buffers the records of a snapshot chunk in exactly once mode, "
+                                    + "the records beyond it are spilled to sorted files on local disk.");
+
     public static final Option<Boolean> SCHEMA_CHANGES_ENABLED =
             Options.key("schema-changes.enabled")
                     .booleanType()
@@ -118,7 +133,7 @@ public class SourceOptions {
         return OptionRule.builder()
                 .optional(FORMAT)
                 .optional(SNAPSHOT_SPLIT_SIZE, SNAPSHOT_FETCH_SIZE)
-                .optional(INCREMENTAL_PARALLELISM)
+                .optional(INCREMENTAL_PARALLELISM, SNAPSHOT_FETCH_PARALLELISM)
                 .optional(DEBEZIUM_PROPERTIES);
     }
 }
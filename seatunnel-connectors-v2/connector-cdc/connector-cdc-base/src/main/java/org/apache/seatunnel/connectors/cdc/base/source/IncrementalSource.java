@@ -87,6 +87,7 @@ public abstract class IncrementalSource<T, C extends SourceConfig>
     protected StartupConfig startupConfig;
 
     protected int incrementalParallelism;
+    protected int snapshotFetchParallelism;
     protected StopConfig stopConfig;
     protected List<CatalogTable> catalogTables;
 
@@ -100,6 +101,8 @@ public abstract class IncrementalSource<T, C extends SourceConfig>
         this.stopConfig = getStopConfig(readonlyConfig);
         this.stopMode = stopConfig.getStopMode();
         this.incrementalParallelism = readonlyConfig.get(SourceOptions.INCREMENTAL_PARALLELISM);
+        this.snapshotFetchParallelism =
+                readonlyConfig.get(SourceOptions.SNAPSHOT_FETCH_PARALLELISM);
         this.configFactory = createSourceConfigFactory(readonlyConfig);
         this.dataSourceDialect = createDataSourceDialect(readonlyConfig);
         this.deserializationSchema = createDebeziumDeserializationSchema(readonlyConfig);
@@ -168,7 +171,8 @@ public abstract class IncrementalSource<T, C extends SourceConfig>
                                 readerContext.getIndexOfSubtask(),
                                 dataSourceDialect,
                                 sourceConfig,
-                                schemaChangeResolver);
+                                schemaChangeResolver,
+                                snapshotFetchParallelism);
         return new IncrementalSourceReader<>(
                 dataSourceDialect,
                 elementsQueue,
@@ -177,7 +181,8 @@ public abstract class IncrementalSource<T, C extends SourceConfig>
                 new SourceReaderOptions(readonlyConfig),
                 readerContext,
                 sourceConfig,
-                deserializationSchema);
+                deserializationSchema,
+                snapshotFetchParallelism);
     }
 
     protected RecordEmitter<SourceRecords, T, SourceSplitStateBase> createRecordEmitter(
@@ -31,8 +31,9 @@ import org.slf4j.LoggerFactory;
 
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.TreeSet;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 /**
@@ -46,8 +47,12 @@ public class IncrementalSourceEnumerator
     private final SourceSplitEnumerator.Context<SourceSplitBase> context;
     private final SplitAssigner splitAssigner;
 
-    /** using TreeSet to prefer assigning incremental split to task-0 for easier debug */
-    private final TreeSet<Integer> readersAwaitingSplit;
+    /**
+     * The number of splits requested by each reader, a reader reading several snapshot splits
+     * concurrently has several pending requests. Using TreeMap to prefer assigning incremental
+     * split to task-0 for easier debug
+     */
+    private final TreeMap<Integer, Integer> readersAwaitingSplit;
 
     private volatile boolean running;
 
@@ -55,7 +60,7 @@ public class IncrementalSourceEnumerator
             SourceSplitEnumerator.Context<SourceSplitBase> context, SplitAssigner splitAssigner) {
         this.context = context;
         this.splitAssigner = splitAssigner;
-        this.readersAwaitingSplit = new TreeSet<>();
+        this.readersAwaitingSplit = new TreeMap<>();
         this.running = false;
     }
 
@@ -77,7 +82,7 @@ public class IncrementalSourceEnumerator
             return;
         }
 
-        readersAwaitingSplit.add(subtaskId);
+        readersAwaitingSplit.merge(subtaskId, 1, Integer::sum);
         if (running) {
             assignSplits();
         }
@@ -156,36 +161,50 @@ public class IncrementalSourceEnumerator
     // ------------------------------------------------------------------------------------------
 
     private void assignSplits() {
-        final Iterator<Integer> awaitingReader = readersAwaitingSplit.iterator();
-
-        while (awaitingReader.hasNext()) {
-            int nextAwaiting = awaitingReader.next();
-            // if the reader that requested another split has failed in the meantime, remove
-            // it from the list of waiting readers
-            if (!context.registeredReaders().contains(nextAwaiting)) {
-                awaitingReader.remove();
-                continue;
-            }
+        // assign a split to every awaiting reader in turns, so the splits are spread over the
+        // readers before a reader gets a split for each of its requests
+        boolean assigned = true;
+        while (assigned && !readersAwaitingSplit.isEmpty()) {
+            assigned = false;
+            final Iterator<Map.Entry<Integer, Integer>> awaitingReader =
+                    readersAwaitingSplit.entrySet().iterator();
+
+            while (awaitingReader.hasNext()) {
+                Map.Entry<Integer, Integer> awaitingRequests = awaitingReader.next();
+                int nextAwaiting = awaitingRequests.getKey();
+                // if the reader that requested another split has failed in the meantime, remove
+                // it from the list of waiting readers
+                if (!context.registeredReaders().contains(nextAwaiting)) {
+                    awaitingReader.remove();
+                    continue;
+                }
 
-            Optional<SourceSplitBase> split;
-            synchronized (context) {
-                split = splitAssigner.getNext();
-            }
-            if (split.isPresent()) {
-                final SourceSplitBase sourceSplit = split.get();
-                context.assignSplit(nextAwaiting, sourceSplit);
-                awaitingReader.remove();
-                LOG.debug("Assign split {} to subtask {}", sourceSplit, nextAwaiting);
-            } else {
-                if (splitAssigner.waitingForCompletedSplits()) {
-                    // there is no available splits by now, skip assigning
-                    break;
+                Optional<SourceSplitBase> split;
+                synchronized (context) {
+                    split = splitAssigner.getNext();
+                }
+                if (split.isPresent()) {
+                    final SourceSplitBase sourceSplit = split.get();
+                    context.assignSplit(nextAwaiting, sourceSplit);
+                    if (sourceSplit.isSnapshotSplit() && awaitingRequests.getValue() > 1) {
+                        awaitingRequests.setValue(awaitingRequests.getValue() - 1);
+                    } else {
+                        // a reader reads a single incremental split, drop its other requests
+                        awaitingReader.remove();
+                    }
+                    assigned = true;
+                    LOG.debug("Assign split {} to subtask {}", sourceSplit, nextAwaiting);
                 } else {
-                    LOG.info(
-                            "No more splits available, signal no more splits to subtask {}",
-                            nextAwaiting);
-                    context.signalNoMoreSplits(nextAwaiting);
-                    awaitingReader.remove();
+                    if (splitAssigner.waitingForCompletedSplits()) {
+                        // there is no available splits by now, skip assigning
+                        return;
+                    } else {
+                        LOG.info(
+                                "No more splits available, signal no more splits to subtask {}",
+                                nextAwaiting);
+                        context.signalNoMoreSplits(nextAwaiting);
+                        awaitingReader.remove();
+                    }
                 }
             }
         }
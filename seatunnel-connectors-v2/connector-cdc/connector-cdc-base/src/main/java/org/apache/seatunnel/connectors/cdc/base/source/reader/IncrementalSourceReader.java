@@ -48,7 +48,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -67,6 +67,7 @@ public class IncrementalSourceReader<T, C extends SourceConfig>
 
     private volatile boolean running = false;
     private final int subtaskId;
+    private final int snapshotFetchParallelism;
 
     private final C sourceConfig;
     private final DebeziumDeserializationSchema<T> debeziumDeserializationSchema;
@@ -75,7 +76,8 @@ public class IncrementalSourceReader<T, C extends SourceConfig>
 
     private transient volatile Offset snapshotChangeLogOffset;
 
-    private final AtomicBoolean needSendSplitRequest = new AtomicBoolean(false);
+    // one request for every restored split that was already read, to replace it
+    private final AtomicInteger pendingSplitRequests = new AtomicInteger();
 
     public IncrementalSourceReader(
             DataSourceDialect<C> dataSourceDialect,
@@ -85,7 +87,8 @@ public class IncrementalSourceReader<T, C extends SourceConfig>
             SourceReaderOptions options,
             SourceReader.Context context,
             C sourceConfig,
-            DebeziumDeserializationSchema<T> debeziumDeserializationSchema) {
+            DebeziumDeserializationSchema<T> debeziumDeserializationSchema,
+            int snapshotFetchParallelism) {
         super(
                 elementsQueue,
                 new SingleThreadFetcherManager<>(elementsQueue, splitReaderSupplier::get),
@@ -97,19 +100,26 @@ public class IncrementalSourceReader<T, C extends SourceConfig>
         this.finishedUnackedSplits = new HashMap<>();
         this.subtaskId = context.getIndexOfSubtask();
         this.debeziumDeserializationSchema = debeziumDeserializationSchema;
+        this.snapshotFetchParallelism = Math.max(1, snapshotFetchParallelism);
     }
 
     @Override
     public void pollNext(Collector<T> output) throws Exception {
         if (!running) {
-            if (getNumberOfCurrentlyAssignedSplits() == 0) {
+            // request a split for every snapshot split that can be read concurrently, a finished
+            // split requests the next one. The free slots already cover the restored splits that
+            // were read before the restore.
+            int splitRequests =
+                    Math.max(
+                            snapshotFetchParallelism - getNumberOfCurrentlyAssignedSplits(),
+                            pendingSplitRequests.getAndSet(0));
+            for (int i = 0; i < splitRequests; i++) {
                 context.sendSplitRequest();
             }
             running = true;
         }
-        if (needSendSplitRequest.get()) {
+        for (int i = pendingSplitRequests.getAndSet(0); i > 0; i--) {
             context.sendSplitRequest();
-            needSendSplitRequest.compareAndSet(true, false);
         }
 
         if (isNoMoreSplitsAssignment() && isNoMoreElement()) {
@@ -138,6 +148,10 @@ public class IncrementalSourceReader<T, C extends SourceConfig>
                 SnapshotSplit snapshotSplit = split.asSnapshotSplit();
                 if (snapshotSplit.isSnapshotReadFinished()) {
                     finishedUnackedSplits.put(snapshotSplit.splitId(), snapshotSplit);
+                    // the split will not be read, so it needs a replacement. We cannot directly
+                    // execute context.sendSplitRequest() here, as it is a synchronous call and
+                    // can lead to a deadlock.
+                    pendingSplitRequests.incrementAndGet();
                     log.info(
                             "subtask {} add finished split: {}",
                             subtaskId,
@@ -154,12 +168,6 @@ public class IncrementalSourceReader<T, C extends SourceConfig>
         // add all un-finished splits (including incremental split) to SourceReaderBase
         if (!unfinishedSplits.isEmpty()) {
             super.addSplits(unfinishedSplits);
-        } else {
-            // If the split received is 'isSnapshotReadFinished', we will not run this split, hence
-            // we need to send the split request.
-            // We cannot directly execute context.sendSplitRequest() here, as it is a synchronous
-            // call and can lead to a deadlock.
-            needSendSplitRequest.set(true);
         }
     }
 
@@ -25,6 +25,7 @@ import org.apache.seatunnel.connectors.cdc.base.source.reader.external.FetchTask
 import org.apache.seatunnel.connectors.cdc.base.source.reader.external.Fetcher;
 import org.apache.seatunnel.connectors.cdc.base.source.reader.external.IncrementalSourceScanFetcher;
 import org.apache.seatunnel.connectors.cdc.base.source.reader.external.IncrementalSourceStreamFetcher;
+import org.apache.seatunnel.connectors.cdc.base.source.reader.external.SnapshotBufferBudget;
 import org.apache.seatunnel.connectors.cdc.base.source.split.ChangeEventRecords;
 import org.apache.seatunnel.connectors.cdc.base.source.split.SourceRecords;
 import org.apache.seatunnel.connectors.cdc.base.source.split.SourceSplitBase;
@@ -37,49 +38,99 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Queue;
 
+/**
+ * Reads the splits assigned to a reader. Up to {@code snapshotFetchParallelism} snapshot splits are
+ * read concurrently, each by its own {@link IncrementalSourceScanFetcher} with its own fetch task
+ * context and database connection, and their records are polled in turns. The records of a split
+ * keep their order, so the watermarks of every split are emitted around its own records. The
+ * incremental split is read once all the snapshot splits have been read.
+ */
 @Slf4j
 public class IncrementalSourceSplitReader<C extends SourceConfig>
         implements SplitReader<SourceRecords, SourceSplitBase> {
+    private static final long MIN_IDLE_BACKOFF_MILLIS = 1;
+    private static final long MAX_IDLE_BACKOFF_MILLIS = 100;
+
     private final Queue<SourceSplitBase> splits;
     private final int subtaskId;
+    private final int snapshotFetchParallelism;
+
+    private final List<IncrementalSourceScanFetcher> scanFetchers;
+    // the snapshot split read by each busy scan fetcher, in the order they are polled
+    private final Map<IncrementalSourceScanFetcher, String> readingSplits;
+    private SnapshotBufferBudget snapshotBufferBudget;
 
-    private Fetcher<SourceRecords, SourceSplitBase> currentFetcher;
+    private IncrementalSourceStreamFetcher streamFetcher;
+    private String streamSplitId;
 
-    private String currentSplitId;
     private final DataSourceDialect<C> dataSourceDialect;
     private final C sourceConfig;
     private final SchemaChangeResolver schemaChangeResolver;
 
+    private volatile boolean wakenUp;
+
     public IncrementalSourceSplitReader(
             int subtaskId,
             DataSourceDialect<C> dataSourceDialect,
             C sourceConfig,
             SchemaChangeResolver schemaChangeResolver) {
+        this(subtaskId, dataSourceDialect, sourceConfig, schemaChangeResolver, 1);
+    }
+
+    public IncrementalSourceSplitReader(
+            int subtaskId,
+            DataSourceDialect<C> dataSourceDialect,
+            C sourceConfig,
+            SchemaChangeResolver schemaChangeResolver,
+            int snapshotFetchParallelism) {
         this.subtaskId = subtaskId;
         this.splits = new ArrayDeque<>();
         this.dataSourceDialect = dataSourceDialect;
         this.sourceConfig = sourceConfig;
         this.schemaChangeResolver = schemaChangeResolver;
+        this.snapshotFetchParallelism = Math.max(1, snapshotFetchParallelism);
+        this.scanFetchers = new ArrayList<>(this.snapshotFetchParallelism);
+        this.readingSplits = new LinkedHashMap<>();
     }
 
     @Override
     public RecordsWithSplitIds<SourceRecords> fetch() throws IOException {
 
         checkSplitOrStartNext();
+        waitForIdleScanFetcher();
         checkNeedStopBinlogReader();
-        Iterator<SourceRecords> dataIt = null;
-        try {
-            dataIt = currentFetcher.pollSplitRecords();
-        } catch (InterruptedException | SeaTunnelException e) {
-            log.warn("fetch data failed.", e);
-            throw new IOException(e);
+        if (streamFetcher != null) {
+            Iterator<SourceRecords> dataIt = pollSplitRecords(streamFetcher);
+            return dataIt == null
+                    ? ChangeEventRecords.forFinishedSplit(streamSplitId)
+                    : ChangeEventRecords.forRecords(streamSplitId, dataIt);
+        }
+        if (readingSplits.isEmpty()) {
+            // woken up before a scan fetcher became idle
+            return ChangeEventRecords.forRecords(null, Collections.emptyIterator());
         }
-        return dataIt == null
-                ? finishedSnapshotSplit()
-                : ChangeEventRecords.forRecords(currentSplitId, dataIt);
+
+        // poll the splits in turns, so the queue of every scan fetcher keeps being drained
+        Iterator<Map.Entry<IncrementalSourceScanFetcher, String>> readingSplit =
+                readingSplits.entrySet().iterator();
+        Map.Entry<IncrementalSourceScanFetcher, String> nextSplit = readingSplit.next();
+        IncrementalSourceScanFetcher scanFetcher = nextSplit.getKey();
+        String splitId = nextSplit.getValue();
+        readingSplit.remove();
+        Iterator<SourceRecords> dataIt = pollSplitRecords(scanFetcher);
+        if (dataIt == null) {
+            return ChangeEventRecords.forFinishedSplit(splitId);
+        }
+        readingSplits.put(scanFetcher, splitId);
+        return ChangeEventRecords.forRecords(splitId, dataIt);
     }
 
     @Override
@@ -96,14 +147,17 @@ public class IncrementalSourceSplitReader<C extends SourceConfig>
     }
 
     @Override
-    public void wakeUp() {}
+    public void wakeUp() {
+        wakenUp = true;
+    }
 
     @Override
     public void close() throws Exception {
-        if (currentFetcher != null) {
-            log.info("Close current fetcher {}", currentFetcher.getClass().getCanonicalName());
-            currentFetcher.close();
-            currentSplitId = null;
+        closeScanFetchers();
+        if (streamFetcher != null) {
+            log.info("Close current fetcher {}", streamFetcher.getClass().getCanonicalName());
+            streamFetcher.close();
+            streamSplitId = null;
         }
     }
 
@@ -113,49 +167,105 @@ public class IncrementalSourceSplitReader<C extends SourceConfig>
 
     protected void checkSplitOrStartNext() throws IOException {
         // the stream fetcher should keep alive
-        if (currentFetcher instanceof IncrementalSourceStreamFetcher) {
+        if (streamFetcher != null) {
             return;
         }
 
-        if (canAssignNextSplit()) {
-            final SourceSplitBase nextSplit = splits.poll();
-            if (nextSplit == null) {
-                throw new IOException("Cannot fetch from another split - no split remaining.");
-            }
-            currentSplitId = nextSplit.splitId();
-
+        while (readingSplits.size() < snapshotFetchParallelism && !splits.isEmpty()) {
+            final SourceSplitBase nextSplit = splits.peek();
             if (nextSplit.isSnapshotSplit()) {
-                if (currentFetcher == null) {
-                    final FetchTask.Context taskContext =
-                            dataSourceDialect.createFetchTaskContext(nextSplit, sourceConfig);
-                    currentFetcher = new IncrementalSourceScanFetcher(taskContext, subtaskId);
+                IncrementalSourceScanFetcher scanFetcher = getIdleScanFetcher(nextSplit);
+                if (scanFetcher == null) {
+                    return;
                 }
+                splits.poll();
+                scanFetcher.submitTask(dataSourceDialect.createFetchTask(nextSplit));
+                readingSplits.put(scanFetcher, nextSplit.splitId());
             } else {
-                // point from snapshot split to incremental split
-                if (currentFetcher != null) {
-                    log.info(
-                            "It's turn to read incremental split, close current snapshot fetcher.");
-                    currentFetcher.close();
+                if (!readingSplits.isEmpty()) {
+                    // wait for the snapshot splits being read
+                    return;
                 }
+                // point from snapshot split to incremental split
+                log.info("It's turn to read incremental split, close current snapshot fetchers.");
+                closeScanFetchers();
+                splits.poll();
                 final FetchTask.Context taskContext =
                         dataSourceDialect.createFetchTaskContext(nextSplit, sourceConfig);
-                currentFetcher =
+                streamFetcher =
                         new IncrementalSourceStreamFetcher(
                                 taskContext, subtaskId, schemaChangeResolver);
+                streamSplitId = nextSplit.splitId();
                 log.info("Stream fetcher is created.");
+                streamFetcher.submitTask(dataSourceDialect.createFetchTask(nextSplit));
+                return;
             }
-            currentFetcher.submitTask(dataSourceDialect.createFetchTask(nextSplit));
+        }
+        if (readingSplits.isEmpty() && splits.isEmpty()) {
+            throw new IOException("Cannot fetch from another split - no split remaining.");
         }
     }
 
-    public boolean canAssignNextSplit() {
-        return currentFetcher == null || currentFetcher.isFinished();
+    /**
+     * Waits with an exponential back-off while the next splits are pending but every scan fetcher
+     * is still finishing its previous split, instead of returning empty batches in a busy loop.
+     */
+    private void waitForIdleScanFetcher() throws IOException {
+        long backoffMillis = MIN_IDLE_BACKOFF_MILLIS;
+        while (streamFetcher == null && readingSplits.isEmpty() && !wakenUp) {
+            try {
+                Thread.sleep(backoffMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            backoffMillis = Math.min(backoffMillis * 2, MAX_IDLE_BACKOFF_MILLIS);
+            checkSplitOrStartNext();
+        }
+        wakenUp = false;
     }
 
-    private ChangeEventRecords finishedSnapshotSplit() {
-        final ChangeEventRecords finishedRecords =
-                ChangeEventRecords.forFinishedSplit(currentSplitId);
-        currentSplitId = null;
-        return finishedRecords;
+    private IncrementalSourceScanFetcher getIdleScanFetcher(SourceSplitBase split) {
+        for (IncrementalSourceScanFetcher scanFetcher : scanFetchers) {
+            if (!readingSplits.containsKey(scanFetcher) && scanFetcher.isFinished()) {
+                return scanFetcher;
+            }
+        }
+        if (scanFetchers.size() >= snapshotFetchParallelism) {
+            return null;
+        }
+        // every scan fetcher owns a fetch task context, and so a connection to the database
+        final FetchTask.Context taskContext =
+                dataSourceDialect.createFetchTaskContext(split, sourceConfig);
+        if (snapshotBufferBudget == null) {
+            snapshotBufferBudget =
+                    new SnapshotBufferBudget(taskContext.getSnapshotBufferMaxBytes());
+        }
+        int fetcherIndex = scanFetchers.size();
+        IncrementalSourceScanFetcher scanFetcher =
+                new IncrementalSourceScanFetcher(
+                        taskContext, subtaskId, fetcherIndex, snapshotBufferBudget);
+        scanFetchers.add(scanFetcher);
+        log.info("Scan fetcher {} of subtask {} is created.", fetcherIndex, subtaskId);
+        return scanFetcher;
+    }
+
+    private Iterator<SourceRecords> pollSplitRecords(
+            Fetcher<SourceRecords, SourceSplitBase> fetcher) throws IOException {
+        try {
+            return fetcher.pollSplitRecords();
+        } catch (InterruptedException | SeaTunnelException e) {
+            log.warn("fetch data failed.", e);
+            throw new IOException(e);
+        }
+    }
+
+    private void closeScanFetchers() {
+        for (IncrementalSourceScanFetcher scanFetcher : scanFetchers) {
+            log.info("Close current fetcher {}", scanFetcher.getClass().getCanonicalName());
+            scanFetcher.close();
+        }
+        scanFetchers.clear();
+        readingSplits.clear();
     }
 }
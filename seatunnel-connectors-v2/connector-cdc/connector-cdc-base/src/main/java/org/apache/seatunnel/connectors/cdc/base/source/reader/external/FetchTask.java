@@ -17,6 +17,7 @@
 
 package org.apache.seatunnel.connectors.cdc.base.source.reader.external;
 
+import org.apache.seatunnel.connectors.cdc.base.option.SourceOptions;
 import org.apache.seatunnel.connectors.cdc.base.source.offset.Offset;
 import org.apache.seatunnel.connectors.cdc.base.source.split.SourceSplitBase;
 
@@ -59,6 +60,11 @@ public interface FetchTask<Split> {
 
         boolean isExactlyOnce();
 
+        /** The memory that buffers a snapshot chunk in exactly once mode before spilling. */
+        default long getSnapshotBufferMaxBytes() {
+            return SourceOptions.SNAPSHOT_BUFFER_MAX_BYTES.defaultValue();
+        }
+
         Offset getStreamOffset(SourceRecord record);
 
         boolean isDataChangeRecord(SourceRecord record);
@@ -17,6 +17,7 @@
 
 package org.apache.seatunnel.connectors.cdc.base.source.reader.external;
 
+import org.apache.seatunnel.shade.com.google.common.collect.Iterators;
 import org.apache.seatunnel.shade.com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import org.apache.seatunnel.common.utils.SeaTunnelException;
@@ -24,18 +25,17 @@ import org.apache.seatunnel.connectors.cdc.base.source.split.SnapshotSplit;
 import org.apache.seatunnel.connectors.cdc.base.source.split.SourceRecords;
 import org.apache.seatunnel.connectors.cdc.base.source.split.SourceSplitBase;
 
-import org.apache.kafka.connect.data.Struct;
 import org.apache.kafka.connect.source.SourceRecord;
 
 import io.debezium.connector.base.ChangeEventQueue;
 import io.debezium.pipeline.DataChangeEvent;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
@@ -57,6 +57,7 @@ public class IncrementalSourceScanFetcher implements Fetcher<SourceRecords, Sour
     public AtomicBoolean reachEnd;
 
     private final FetchTask.Context taskContext;
+    private final SnapshotBufferBudget snapshotBufferBudget;
     private final ExecutorService executorService;
     private volatile ChangeEventQueue<DataChangeEvent> queue;
     private volatile Throwable readException;
@@ -65,13 +66,35 @@ public class IncrementalSourceScanFetcher implements Fetcher<SourceRecords, Sour
     private FetchTask<SourceSplitBase> snapshotSplitReadTask;
     private SnapshotSplit currentSnapshotSplit;
 
+    // the chunk buffered so far in exactly once mode, it is completed by the end watermark
+    private SnapshotSplitBuffer outputBuffer;
+    private SourceRecord lowWatermark;
+    private SourceRecord highWatermark;
+    // the chunks whose records may still be read back, closed with the fetcher if not read out
+    private final List<SnapshotSplitBuffer> emittedBuffers = new ArrayList<>();
+
     private static final long READER_CLOSE_TIMEOUT_SECONDS = 30L;
 
+    private static final int FORMAT_BATCH_SIZE = 1024;
+
     public IncrementalSourceScanFetcher(FetchTask.Context taskContext, int subtaskId) {
+        this(
+                taskContext,
+                subtaskId,
+                0,
+                new SnapshotBufferBudget(taskContext.getSnapshotBufferMaxBytes()));
+    }
+
+    public IncrementalSourceScanFetcher(
+            FetchTask.Context taskContext,
+            int subtaskId,
+            int fetcherIndex,
+            SnapshotBufferBudget snapshotBufferBudget) {
         this.taskContext = taskContext;
+        this.snapshotBufferBudget = snapshotBufferBudget;
         ThreadFactory threadFactory =
                 new ThreadFactoryBuilder()
-                        .setNameFormat("debezium-snapshot-reader-" + subtaskId)
+                        .setNameFormat("debezium-snapshot-reader-" + subtaskId + "-" + fetcherIndex)
                         .build();
         this.executorService = Executors.newSingleThreadExecutor(threadFactory);
         this.hasNextElement = new AtomicBoolean(false);
@@ -84,6 +107,9 @@ public class IncrementalSourceScanFetcher implements Fetcher<SourceRecords, Sour
         this.currentSnapshotSplit = fetchTask.getSplit().asSnapshotSplit();
         taskContext.configure(currentSnapshotSplit);
         this.queue = taskContext.getQueue();
+        closeOutputBuffer();
+        this.lowWatermark = null;
+        this.highWatermark = null;
         this.hasNextElement.set(true);
         this.reachEnd.set(false);
         executorService.submit(
@@ -145,18 +171,22 @@ public class IncrementalSourceScanFetcher implements Fetcher<SourceRecords, Sour
         return sourceRecordsSet.iterator();
     }
 
+    /**
+     * Reads a batch of the queue into the chunk buffer and returns no records until the end
+     * watermark has been read, so a reader with several scan fetchers keeps polling the others
+     * while the chunk is being buffered.
+     */
     public Iterator<SourceRecords> pollSplitRecordsIfExactlyOnce() throws InterruptedException {
         // eg:
         // data input: [low watermark event][snapshot events][high watermark event][change
         // events][end watermark event]
         // data output: [low watermark event][normalized events][high watermark event]
-        boolean reachChangeLogStart = false;
+        if (outputBuffer == null) {
+            // spills to local disk beyond the memory budget, so the chunk size is not bound by heap
+            outputBuffer = new SnapshotSplitBuffer(snapshotBufferBudget);
+        }
         boolean reachChangeLogEnd = false;
-        SourceRecord lowWatermark = null;
-        SourceRecord highWatermark = null;
-        Map<Struct, SourceRecord> outputBuffer = new LinkedHashMap<>();
-        while (!reachChangeLogEnd) {
-            checkReadException();
+        try {
             List<DataChangeEvent> batch = queue.poll();
             for (DataChangeEvent event : batch) {
                 SourceRecord record = event.getRecord();
@@ -167,41 +197,84 @@ public class IncrementalSourceScanFetcher implements Fetcher<SourceRecords, Sour
                 }
 
                 if (highWatermark == null && isHighWatermarkEvent(record)) {
-                    highWatermark = record;
                     // begin to capture binlog events
-                    reachChangeLogStart = true;
+                    highWatermark = record;
                     continue;
                 }
 
-                if (reachChangeLogStart && isEndWatermarkEvent(record)) {
+                if (highWatermark != null && isEndWatermarkEvent(record)) {
                     // capture to end watermark events, stop the loop
                     reachChangeLogEnd = true;
                     break;
                 }
 
-                if (!reachChangeLogStart) {
-                    outputBuffer.put((Struct) record.key(), record);
+                if (highWatermark == null) {
+                    outputBuffer.add(record);
                 } else {
                     if (isChangeRecordInChunkRange(record)) {
                         // rewrite overlapping snapshot records through the record key
-                        taskContext.rewriteOutputBuffer(outputBuffer, record);
+                        taskContext.rewriteOutputBuffer(outputBuffer.changes(), record);
                     }
                 }
             }
+        } catch (IOException e) {
+            closeOutputBuffer();
+            throw new SeaTunnelException(
+                    String.format("Buffer snapshot split %s error.", currentSnapshotSplit), e);
+        } catch (InterruptedException | RuntimeException e) {
+            closeOutputBuffer();
+            throw e;
         }
+        if (!reachChangeLogEnd) {
+            return Collections.emptyIterator();
+        }
+
         // snapshot split return its data once
         hasNextElement.set(false);
+        if (outputBuffer.isSpilled()) {
+            log.info("Snapshot split {} has been spilled to local disk", currentSnapshotSplit);
+        }
 
-        final List<SourceRecord> normalizedRecords = new ArrayList<>();
-        normalizedRecords.add(lowWatermark);
-        normalizedRecords.addAll(taskContext.formatMessageTimestamp(outputBuffer.values()));
-        normalizedRecords.add(highWatermark);
+        // the records are read back while they are emitted, the buffer is closed after that
+        Iterator<SourceRecord> snapshotRecords;
+        try {
+            snapshotRecords = outputBuffer.iterator();
+        } catch (IOException e) {
+            closeOutputBuffer();
+            throw new SeaTunnelException(
+                    String.format("Read snapshot split %s error.", currentSnapshotSplit), e);
+        }
+        emittedBuffers.removeIf(SnapshotSplitBuffer::isClosed);
+        emittedBuffers.add(outputBuffer);
+        outputBuffer = null;
+        final SourceRecord normalizedLowWatermark = lowWatermark;
+        final SourceRecord normalizedHighWatermark = highWatermark;
+        Iterable<SourceRecord> normalizedRecords =
+                () ->
+                        Iterators.concat(
+                                Iterators.singletonIterator(normalizedLowWatermark),
+                                Iterators.concat(
+                                        Iterators.transform(
+                                                Iterators.partition(
+                                                        snapshotRecords, FORMAT_BATCH_SIZE),
+                                                batch ->
+                                                        taskContext
+                                                                .formatMessageTimestamp(batch)
+                                                                .iterator())),
+                                Iterators.singletonIterator(normalizedHighWatermark));
 
         final List<SourceRecords> sourceRecordsSet = new ArrayList<>();
         sourceRecordsSet.add(new SourceRecords(normalizedRecords));
         return sourceRecordsSet.iterator();
     }
 
+    private void closeOutputBuffer() {
+        if (outputBuffer != null) {
+            outputBuffer.close();
+            outputBuffer = null;
+        }
+    }
+
     private void assertLowWatermark(SourceRecord lowWatermark) {
         checkState(
                 isLowWatermarkEvent(lowWatermark),
@@ -245,6 +318,10 @@ public class IncrementalSourceScanFetcher implements Fetcher<SourceRecords, Sour
         } catch (Exception e) {
             log.error("Close scan fetcher error", e);
         } finally {
+            // release the memory and spill files of the chunks that have not been read out
+            closeOutputBuffer();
+            emittedBuffers.forEach(SnapshotSplitBuffer::close);
+            emittedBuffers.clear();
             // 3. close the task context
             if (taskContext != null) {
                 taskContext.close();
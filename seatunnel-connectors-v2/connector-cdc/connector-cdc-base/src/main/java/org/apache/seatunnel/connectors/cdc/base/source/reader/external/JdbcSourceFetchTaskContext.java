@@ -164,6 +164,11 @@ public abstract class JdbcSourceFetchTaskContext implements FetchTask.Context {
         return sourceConfig.isExactlyOnce();
     }
 
+    @Override
+    public long getSnapshotBufferMaxBytes() {
+        return sourceConfig.getSnapshotBufferMaxBytes();
+    }
+
     public JdbcDataSourceDialect getDataSourceDialect() {
         return dataSourceDialect;
     }
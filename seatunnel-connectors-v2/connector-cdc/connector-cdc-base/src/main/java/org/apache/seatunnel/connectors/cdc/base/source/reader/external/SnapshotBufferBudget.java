@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.cdc.base.source.reader.external;
+
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The memory shared by the {@link SnapshotSplitBuffer}s of a reader, a buffer spills its records to
+ * local disk once the records buffered by all of them exceed it.
+ */
+public class SnapshotBufferBudget {
+
+    @Getter private final long maxBytes;
+    private final AtomicLong usedBytes = new AtomicLong();
+
+    public SnapshotBufferBudget(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /** Reserves the bytes of buffered records, returns false if the budget is exceeded. */
+    boolean reserve(long bytes) {
+        return usedBytes.addAndGet(bytes) <= maxBytes;
+    }
+
+    void release(long bytes) {
+        usedBytes.addAndGet(-bytes);
+    }
+
+    public long getUsedBytes() {
+        return usedBytes.get();
+    }
+}
@@ -0,0 +1,398 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.cdc.base.source.reader.external;
+
+import org.apache.seatunnel.shade.com.google.common.collect.AbstractIterator;
+
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Buffers the snapshot records of a chunk in exactly once mode until the end watermark arrives. The
+ * records are keyed by the binary encoding of their primary key and kept in memory up to a byte
+ * budget; beyond it they are written to local disk as runs sorted by key and merged back when the
+ * chunk is read. The budget may be shared by the buffers of a reader. The backfill changes between
+ * the high and the end watermark are kept as an overlay that replaces or removes snapshot records
+ * while they are read.
+ */
+@Slf4j
+public class SnapshotSplitBuffer implements AutoCloseable {
+
+    // rough heap cost of a buffered entry besides its key and value bytes
+    private static final int ENTRY_OVERHEAD = 64;
+
+    // avoids writing tiny runs while the other buffers of the reader hold the budget
+    private static final long MIN_SPILL_BYTES = 1024 * 1024L;
+
+    private static final Comparator<byte[]> KEY_ORDER = SnapshotSplitBuffer::compareKeys;
+
+    private final SnapshotBufferBudget budget;
+    private final SourceRecordSerializer serializer = new SourceRecordSerializer();
+    private final Map<BinaryKey, byte[]> records = new LinkedHashMap<>();
+    private final ChangeOverlay changes = new ChangeOverlay();
+    private final List<File> runs = new ArrayList<>();
+    private long bufferedBytes;
+    private File spillDirectory;
+    private RunMerger runMerger;
+    private volatile boolean closed;
+
+    public SnapshotSplitBuffer(long maxBytes) {
+        this(new SnapshotBufferBudget(maxBytes));
+    }
+
+    public SnapshotSplitBuffer(SnapshotBufferBudget budget) {
+        this.budget = budget;
+    }
+
+    /** Adds a snapshot record, replacing a record with the same key. */
+    public void add(SourceRecord record) throws IOException {
+        byte[] key = serializer.serializeKey(record.keySchema(), record.key());
+        byte[] value = serializer.serialize(record);
+        byte[] previous = records.put(new BinaryKey(key), value);
+        long bytes =
+                previous == null
+                        ? key.length + value.length + ENTRY_OVERHEAD
+                        : value.length - previous.length;
+        bufferedBytes += bytes;
+        if (!budget.reserve(bytes)
+                && bufferedBytes >= Math.min(budget.getMaxBytes(), MIN_SPILL_BYTES)) {
+            spill();
+        }
+    }
+
+    /**
+     * The backfill changes of the chunk, to be rewritten by {@link
+     * FetchTask.Context#rewriteOutputBuffer(Map, SourceRecord)}.
+     */
+    public Map<Struct, SourceRecord> changes() {
+        return changes;
+    }
+
+    public boolean isSpilled() {
+        return !runs.isEmpty();
+    }
+
+    /**
+     * Reads the normalized records of the chunk, the buffer is closed once they are all read. The
+     * records keep their snapshot order unless the buffer has been spilled, in which case they are
+     * ordered by key; the records that only exist as backfill changes come last.
+     */
+    public Iterator<SourceRecord> iterator() throws IOException {
+        Map<BinaryKey, SourceRecord> overlay = new LinkedHashMap<>();
+        for (Map.Entry<Struct, SourceRecord> change : changes.changes.entrySet()) {
+            Struct key = change.getKey();
+            byte[] binaryKey = serializer.serializeKey(key == null ? null : key.schema(), key);
+            overlay.put(new BinaryKey(binaryKey), change.getValue());
+        }
+        Iterator<Map.Entry<BinaryKey, byte[]>> snapshotRecords;
+        if (runs.isEmpty()) {
+            snapshotRecords = records.entrySet().iterator();
+        } else {
+            spill();
+            runMerger = new RunMerger(runs);
+            snapshotRecords = runMerger;
+        }
+        return new AbstractIterator<SourceRecord>() {
+            private Iterator<SourceRecord> insertedRecords;
+
+            @Override
+            protected SourceRecord computeNext() {
+                try {
+                    while (snapshotRecords.hasNext()) {
+                        Map.Entry<BinaryKey, byte[]> record = snapshotRecords.next();
+                        if (!overlay.containsKey(record.getKey())) {
+                            return serializer.deserialize(record.getValue());
+                        }
+                        SourceRecord change = overlay.remove(record.getKey());
+                        if (change != null) {
+                            return change;
+                        }
+                    }
+                    if (insertedRecords == null) {
+                        insertedRecords =
+                                overlay.values().stream()
+                                        .filter(Objects::nonNull)
+                                        .collect(Collectors.toList())
+                                        .iterator();
+                    }
+                    if (insertedRecords.hasNext()) {
+                        return insertedRecords.next();
+                    }
+                    close();
+                    return endOfData();
+                } catch (IOException e) {
+                    close();
+                    throw new UncheckedIOException(e);
+                } catch (RuntimeException e) {
+                    close();
+                    throw e;
+                }
+            }
+        };
+    }
+
+    private void spill() throws IOException {
+        if (records.isEmpty()) {
+            return;
+        }
+        if (spillDirectory == null) {
+            spillDirectory = Files.createTempDirectory("seatunnel-cdc-snapshot-").toFile();
+        }
+        File run = new File(spillDirectory, "run-" + runs.size());
+        List<Map.Entry<BinaryKey, byte[]>> sorted = new ArrayList<>(records.entrySet());
+        sorted.sort((r1, r2) -> KEY_ORDER.compare(r1.getKey().bytes, r2.getKey().bytes));
+        try (DataOutputStream out =
+                new DataOutputStream(new BufferedOutputStream(new FileOutputStream(run)))) {
+            for (Map.Entry<BinaryKey, byte[]> record : sorted) {
+                out.writeInt(record.getKey().bytes.length);
+                out.write(record.getKey().bytes);
+                out.writeInt(record.getValue().length);
+                out.write(record.getValue());
+            }
+        }
+        log.debug(
+                "Spilled {} snapshot records ({} bytes) to {}", sorted.size(), bufferedBytes, run);
+        runs.add(run);
+        records.clear();
+        budget.release(bufferedBytes);
+        bufferedBytes = 0;
+    }
+
+    /** Whether the buffer has been closed, either by reading all its records or explicitly. */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Releases the buffered records and deletes the spill files, the run files that are still being
+     * read are closed first. A buffer whose records are being read may be closed while they are
+     * read, e.g. when the reader is cancelled.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (runMerger != null) {
+            runMerger.close();
+            runMerger = null;
+        }
+        records.clear();
+        changes.changes.clear();
+        budget.release(bufferedBytes);
+        bufferedBytes = 0;
+        if (spillDirectory != null) {
+            for (File run : runs) {
+                if (!run.delete() && run.exists()) {
+                    log.warn("Failed to delete snapshot spill file {}", run);
+                }
+            }
+            if (!spillDirectory.delete()) {
+                log.warn("Failed to delete snapshot spill directory {}", spillDirectory);
+            }
+            spillDirectory = null;
+        }
+        runs.clear();
+    }
+
+    private static int compareKeys(byte[] key1, byte[] key2) {
+        int length = Math.min(key1.length, key2.length);
+        for (int i = 0; i < length; i++) {
+            int cmp = Integer.compare(key1[i] & 0xff, key2[i] & 0xff);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return Integer.compare(key1.length, key2.length);
+    }
+
+    private static class BinaryKey {
+        private final byte[] bytes;
+        private final int hashCode;
+
+        private BinaryKey(byte[] bytes) {
+            this.bytes = bytes;
+            this.hashCode = Arrays.hashCode(bytes);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof BinaryKey && Arrays.equals(bytes, ((BinaryKey) o).bytes);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    /**
+     * The backfill changes by key, a removed key maps to null so that it also removes a snapshot
+     * record that has been spilled.
+     */
+    private static class ChangeOverlay extends AbstractMap<Struct, SourceRecord> {
+        private final Map<Struct, SourceRecord> changes = new LinkedHashMap<>();
+
+        @Override
+        public SourceRecord put(Struct key, SourceRecord value) {
+            return changes.put(key, value);
+        }
+
+        @Override
+        public SourceRecord remove(Object key) {
+            return changes.put((Struct) key, null);
+        }
+
+        @Override
+        public SourceRecord get(Object key) {
+            return changes.get(key);
+        }
+
+        @Override
+        public Set<Entry<Struct, SourceRecord>> entrySet() {
+            return changes.entrySet().stream()
+                    .filter(change -> change.getValue() != null)
+                    .collect(Collectors.toSet());
+        }
+    }
+
+    /** Merges the sorted runs, a key of a later run replaces the same key of earlier runs. */
+    private static class RunMerger extends AbstractIterator<Map.Entry<BinaryKey, byte[]>>
+            implements AutoCloseable {
+        private final PriorityQueue<RunReader> readers;
+        // every reader that has been opened, a reader that failed to advance is not queued
+        private final List<RunReader> openedReaders = new ArrayList<>();
+
+        private RunMerger(List<File> runs) throws IOException {
+            this.readers =
+                    new PriorityQueue<>(
+                            Comparator.<RunReader, byte[]>comparing(reader -> reader.key, KEY_ORDER)
+                                    .thenComparing(
+                                            reader -> reader.run, Comparator.reverseOrder()));
+            try {
+                for (int i = 0; i < runs.size(); i++) {
+                    RunReader reader = new RunReader(runs.get(i), i);
+                    openedReaders.add(reader);
+                    next(reader);
+                }
+            } catch (IOException e) {
+                close();
+                throw e;
+            }
+        }
+
+        @Override
+        protected Map.Entry<BinaryKey, byte[]> computeNext() {
+            RunReader latest = readers.poll();
+            if (latest == null) {
+                return endOfData();
+            }
+            Map.Entry<BinaryKey, byte[]> record =
+                    new SimpleImmutableEntry<>(new BinaryKey(latest.key), latest.value);
+            try {
+                next(latest);
+                while (!readers.isEmpty()
+                        && Arrays.equals(readers.peek().key, record.getKey().bytes)) {
+                    next(readers.poll());
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return record;
+        }
+
+        private void next(RunReader reader) throws IOException {
+            if (reader.advance()) {
+                readers.add(reader);
+            } else {
+                reader.close();
+            }
+        }
+
+        @Override
+        public void close() {
+            for (RunReader reader : openedReaders) {
+                try {
+                    reader.close();
+                } catch (IOException e) {
+                    log.warn("Failed to close snapshot spill run {}", reader.run, e);
+                }
+            }
+            openedReaders.clear();
+            readers.clear();
+        }
+    }
+
+    private static class RunReader implements AutoCloseable {
+        private final DataInputStream in;
+        private final int run;
+        private byte[] key;
+        private byte[] value;
+
+        private RunReader(File file, int run) throws IOException {
+            this.in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+            this.run = run;
+        }
+
+        private boolean advance() throws IOException {
+            int keyLength;
+            try {
+                keyLength = in.readInt();
+            } catch (EOFException e) {
+                return false;
+            }
+            key = new byte[keyLength];
+            in.readFully(key);
+            value = new byte[in.readInt()];
+            in.readFully(value);
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+}
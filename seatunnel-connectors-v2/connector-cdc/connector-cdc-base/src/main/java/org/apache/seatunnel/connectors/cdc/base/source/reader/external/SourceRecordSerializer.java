@@ -0,0 +1,387 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.cdc.base.source.reader.external;
+
+import org.apache.kafka.connect.data.Date;
+import org.apache.kafka.connect.data.Decimal;
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.data.Time;
+import org.apache.kafka.connect.data.Timestamp;
+import org.apache.kafka.connect.source.SourceRecord;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary encoding of the snapshot {@link SourceRecord}s of a chunk. The schemas, topics and
+ * source partitions are shared by all records of a chunk, so they stay in memory and are referenced
+ * by index; only the offset, key and value are written per record.
+ */
+class SourceRecordSerializer {
+
+    private static final byte NULL = 0;
+    private static final byte PRESENT = 1;
+    private static final byte BYTE_BUFFER = 2;
+
+    // tags of the untyped values in source partitions and offsets
+    private static final byte STRING = 1;
+    private static final byte INT = 2;
+    private static final byte LONG = 3;
+    private static final byte BOOLEAN = 4;
+    private static final byte DOUBLE = 5;
+    private static final byte MAP = 6;
+    private static final byte LIST = 7;
+    private static final byte SERIALIZED = 8;
+
+    private final List<Object> references = new ArrayList<>();
+    private final Map<Schema, Integer> schemaIndexes = new IdentityHashMap<>();
+    private final Map<Object, Integer> valueIndexes = new HashMap<>();
+
+    byte[] serializeKey(Schema keySchema, Object key) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        DataOutputStream out = new DataOutputStream(bytes);
+        writeValue(out, keySchema, key);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    byte[] serialize(SourceRecord record) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(reference(valueIndexes, record.topic()));
+        out.writeInt(reference(valueIndexes, record.sourcePartition()));
+        out.writeInt(record.kafkaPartition() == null ? -1 : record.kafkaPartition());
+        out.writeInt(reference(schemaIndexes, record.keySchema()));
+        out.writeInt(reference(schemaIndexes, record.valueSchema()));
+        writeUntyped(out, record.sourceOffset());
+        writeValue(out, record.keySchema(), record.key());
+        writeValue(out, record.valueSchema(), record.value());
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    SourceRecord deserialize(byte[] bytes) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        String topic = (String) dereference(in.readInt());
+        Map<String, ?> sourcePartition = (Map<String, ?>) dereference(in.readInt());
+        int kafkaPartition = in.readInt();
+        Schema keySchema = (Schema) dereference(in.readInt());
+        Schema valueSchema = (Schema) dereference(in.readInt());
+        Map<String, ?> sourceOffset = (Map<String, ?>) readUntyped(in);
+        Object key = readValue(in, keySchema);
+        Object value = readValue(in, valueSchema);
+        return new SourceRecord(
+                sourcePartition,
+                sourceOffset,
+                topic,
+                kafkaPartition < 0 ? null : kafkaPartition,
+                keySchema,
+                key,
+                valueSchema,
+                value);
+    }
+
+    private <T> int reference(Map<T, Integer> indexes, T value) {
+        if (value == null) {
+            return -1;
+        }
+        Integer index = indexes.get(value);
+        if (index == null) {
+            index = references.size();
+            references.add(value);
+            indexes.put(value, index);
+        }
+        return index;
+    }
+
+    private Object dereference(int index) {
+        return index < 0 ? null : references.get(index);
+    }
+
+    private static void writeValue(DataOutputStream out, Schema schema, Object value)
+            throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+            return;
+        }
+        if (value instanceof ByteBuffer) {
+            out.writeByte(BYTE_BUFFER);
+            ByteBuffer buffer = ((ByteBuffer) value).duplicate();
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            writeBytes(out, bytes);
+            return;
+        }
+        out.writeByte(PRESENT);
+        String logicalName = schema.name();
+        if (Decimal.LOGICAL_NAME.equals(logicalName)) {
+            writeBytes(out, Decimal.fromLogical(schema, (BigDecimal) value));
+            return;
+        } else if (Date.LOGICAL_NAME.equals(logicalName)) {
+            value = Date.fromLogical(schema, (java.util.Date) value);
+        } else if (Time.LOGICAL_NAME.equals(logicalName)) {
+            value = Time.fromLogical(schema, (java.util.Date) value);
+        } else if (Timestamp.LOGICAL_NAME.equals(logicalName)) {
+            value = Timestamp.fromLogical(schema, (java.util.Date) value);
+        }
+        switch (schema.type()) {
+            case INT8:
+                out.writeByte((Byte) value);
+                break;
+            case INT16:
+                out.writeShort((Short) value);
+                break;
+            case INT32:
+                out.writeInt((Integer) value);
+                break;
+            case INT64:
+                out.writeLong((Long) value);
+                break;
+            case FLOAT32:
+                out.writeFloat((Float) value);
+                break;
+            case FLOAT64:
+                out.writeDouble((Double) value);
+                break;
+            case BOOLEAN:
+                out.writeBoolean((Boolean) value);
+                break;
+            case STRING:
+                writeBytes(out, ((String) value).getBytes(StandardCharsets.UTF_8));
+                break;
+            case BYTES:
+                writeBytes(out, (byte[]) value);
+                break;
+            case ARRAY:
+                List<?> array = (List<?>) value;
+                out.writeInt(array.size());
+                for (Object element : array) {
+                    writeValue(out, schema.valueSchema(), element);
+                }
+                break;
+            case MAP:
+                Map<?, ?> map = (Map<?, ?>) value;
+                out.writeInt(map.size());
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    writeValue(out, schema.keySchema(), entry.getKey());
+                    writeValue(out, schema.valueSchema(), entry.getValue());
+                }
+                break;
+            case STRUCT:
+                Struct struct = (Struct) value;
+                for (Field field : schema.fields()) {
+                    writeValue(out, field.schema(), struct.getWithoutDefault(field.name()));
+                }
+                break;
+            default:
+                throw new IOException("Unsupported schema type " + schema.type());
+        }
+    }
+
+    private static Object readValue(DataInputStream in, Schema schema) throws IOException {
+        byte presence = in.readByte();
+        if (presence == NULL) {
+            return null;
+        }
+        if (presence == BYTE_BUFFER) {
+            return ByteBuffer.wrap(readBytes(in));
+        }
+        String logicalName = schema.name();
+        if (Decimal.LOGICAL_NAME.equals(logicalName)) {
+            return Decimal.toLogical(schema, readBytes(in));
+        }
+        Object value;
+        switch (schema.type()) {
+            case INT8:
+                value = in.readByte();
+                break;
+            case INT16:
+                value = in.readShort();
+                break;
+            case INT32:
+                value = in.readInt();
+                break;
+            case INT64:
+                value = in.readLong();
+                break;
+            case FLOAT32:
+                value = in.readFloat();
+                break;
+            case FLOAT64:
+                value = in.readDouble();
+                break;
+            case BOOLEAN:
+                value = in.readBoolean();
+                break;
+            case STRING:
+                value = new String(readBytes(in), StandardCharsets.UTF_8);
+                break;
+            case BYTES:
+                value = readBytes(in);
+                break;
+            case ARRAY:
+                int size = in.readInt();
+                List<Object> array = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    array.add(readValue(in, schema.valueSchema()));
+                }
+                value = array;
+                break;
+            case MAP:
+                int entries = in.readInt();
+                Map<Object, Object> map = new LinkedHashMap<>();
+                for (int i = 0; i < entries; i++) {
+                    map.put(readValue(in, schema.keySchema()), readValue(in, schema.valueSchema()));
+                }
+                value = map;
+                break;
+            case STRUCT:
+                Struct struct = new Struct(schema);
+                for (Field field : schema.fields()) {
+                    Object fieldValue = readValue(in, field.schema());
+                    if (fieldValue != null) {
+                        struct.put(field, fieldValue);
+                    }
+                }
+                value = struct;
+                break;
+            default:
+                throw new IOException("Unsupported schema type " + schema.type());
+        }
+        if (Date.LOGICAL_NAME.equals(logicalName)) {
+            return Date.toLogical(schema, (Integer) value);
+        } else if (Time.LOGICAL_NAME.equals(logicalName)) {
+            return Time.toLogical(schema, (Integer) value);
+        } else if (Timestamp.LOGICAL_NAME.equals(logicalName)) {
+            return Timestamp.toLogical(schema, (Long) value);
+        }
+        return value;
+    }
+
+    private static void writeUntyped(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+        } else if (value instanceof String) {
+            out.writeByte(STRING);
+            writeBytes(out, ((String) value).getBytes(StandardCharsets.UTF_8));
+        } else if (value instanceof Integer) {
+            out.writeByte(INT);
+            out.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            out.writeByte(LONG);
+            out.writeLong((Long) value);
+        } else if (value instanceof Boolean) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof Double) {
+            out.writeByte(DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (value instanceof Map) {
+            out.writeByte(MAP);
+            Map<?, ?> map = (Map<?, ?>) value;
+            out.writeInt(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writeUntyped(out, entry.getKey());
+                writeUntyped(out, entry.getValue());
+            }
+        } else if (value instanceof List) {
+            out.writeByte(LIST);
+            List<?> list = (List<?>) value;
+            out.writeInt(list.size());
+            for (Object element : list) {
+                writeUntyped(out, element);
+            }
+        } else {
+            out.writeByte(SERIALIZED);
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream objectOut = new ObjectOutputStream(bytes)) {
+                objectOut.writeObject(value);
+            }
+            writeBytes(out, bytes.toByteArray());
+        }
+    }
+
+    private static Object readUntyped(DataInputStream in) throws IOException {
+        byte tag = in.readByte();
+        switch (tag) {
+            case NULL:
+                return null;
+            case STRING:
+                return new String(readBytes(in), StandardCharsets.UTF_8);
+            case INT:
+                return in.readInt();
+            case LONG:
+                return in.readLong();
+            case BOOLEAN:
+                return in.readBoolean();
+            case DOUBLE:
+                return in.readDouble();
+            case MAP:
+                int entries = in.readInt();
+                Map<Object, Object> map = new HashMap<>();
+                for (int i = 0; i < entries; i++) {
+                    map.put(readUntyped(in), readUntyped(in));
+                }
+                return map;
+            case LIST:
+                int size = in.readInt();
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readUntyped(in));
+                }
+                return list;
+            case SERIALIZED:
+                try (ObjectInputStream objectIn =
+                        new ObjectInputStream(new ByteArrayInputStream(readBytes(in)))) {
+                    return objectIn.readObject();
+                } catch (ClassNotFoundException e) {
+                    throw new IOException(e);
+                }
+            default:
+                throw new IOException("Unknown value tag " + tag);
+        }
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return bytes;
+    }
+}
@@ -36,6 +36,7 @@ import org.apache.kafka.connect.source.SourceRecord;
 
 import io.debezium.data.SpecialValueDecimal;
 import io.debezium.data.VariableScaleDecimal;
+import io.debezium.time.Date;
 import io.debezium.time.MicroTime;
 import io.debezium.time.MicroTimestamp;
 import io.debezium.time.NanoTime;
@@ -51,15 +52,42 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.ZoneId;
 import java.util.Arrays;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
-/** Deserialization schema from Debezium object to {@link SeaTunnelRow} */
+/**
+ * Deserialization schema from Debezium object to {@link SeaTunnelRow}. The converters are compiled
+ * for every Debezium schema of the table: the fields are resolved once and the converters are
+ * specialised to the Debezium field types, so converting a struct does not look up fields by name.
+ */
 public class SeaTunnelRowDebeziumDeserializationConverters implements Serializable {
     private static final long serialVersionUID = -897499476343410567L;
+
+    // a table has a Debezium schema per schema version, the stale ones are dropped beyond it
+    private static final int MAX_COMPILED_SCHEMAS = 16;
+
+    private static final DebeziumDeserializationConverter IDENTITY_CONVERTER =
+            new DebeziumDeserializationConverter() {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                public Object convert(Object dbzObj, Schema schema) {
+                    return dbzObj;
+                }
+            };
+
     protected final DebeziumDeserializationConverter[] physicalConverters;
     protected final MetadataConverter[] metadataConverters;
     protected final String[] fieldNames;
+    private final SeaTunnelDataType<?>[] fieldTypes;
+    private final boolean[] userDefinedFields;
+
+    // the Debezium schemas are shared by the records of a schema version, so compare identities
+    private transient Map<Schema, CompiledRowConverter> compiledConverters;
+    private transient Schema lastSchema;
+    private transient CompiledRowConverter lastConverter;
 
     public SeaTunnelRowDebeziumDeserializationConverters(
             SeaTunnelRowType physicalDataType,
@@ -76,27 +104,26 @@ public class SeaTunnelRowDebeziumDeserializationConverters implements Serializab
                                                 type, serverTimeZone, userDefinedConverterFactory))
                         .toArray(DebeziumDeserializationConverter[]::new);
         this.fieldNames = physicalDataType.getFieldNames();
+        this.fieldTypes = physicalDataType.getFieldTypes();
+        this.userDefinedFields = new boolean[fieldTypes.length];
+        for (int i = 0; i < fieldTypes.length; i++) {
+            userDefinedFields[i] =
+                    userDefinedConverterFactory
+                            .createUserDefinedConverter(fieldTypes[i], serverTimeZone)
+                            .isPresent();
+        }
     }
 
     public SeaTunnelRow convert(SourceRecord record, Struct struct, Schema schema)
             throws Exception {
+        CompiledRowConverter compiledConverter = lastConverter;
+        if (schema != lastSchema || compiledConverter == null) {
+            compiledConverter = getCompiledConverter(schema);
+        }
         int arity = physicalConverters.length + metadataConverters.length;
         SeaTunnelRow row = new SeaTunnelRow(arity);
         // physical column
-        for (int i = 0; i < physicalConverters.length; i++) {
-            String fieldName = fieldNames[i];
-            Field field = schema.field(fieldName);
-            if (field == null) {
-                row.setField(i, null);
-            } else {
-                Object fieldValue = struct.getWithoutDefault(fieldName);
-                Schema fieldSchema = field.schema();
-                Object convertedField =
-                        SeaTunnelRowDebeziumDeserializationConverters.convertField(
-                                physicalConverters[i], fieldValue, fieldSchema);
-                row.setField(i, convertedField);
-            }
-        }
+        compiledConverter.convert(struct, row);
         // metadata column
         for (int i = 0; i < metadataConverters.length; i++) {
             row.setField(i + physicalConverters.length, metadataConverters[i].read(record));
@@ -104,6 +131,162 @@ public class SeaTunnelRowDebeziumDeserializationConverters implements Serializab
         return row;
     }
 
+    private CompiledRowConverter getCompiledConverter(Schema schema) {
+        if (compiledConverters == null) {
+            compiledConverters = new IdentityHashMap<>();
+        }
+        CompiledRowConverter compiledConverter = compiledConverters.get(schema);
+        if (compiledConverter == null) {
+            if (compiledConverters.size() >= MAX_COMPILED_SCHEMAS) {
+                compiledConverters.clear();
+            }
+            compiledConverter = compile(schema);
+            compiledConverters.put(schema, compiledConverter);
+        }
+        lastSchema = schema;
+        lastConverter = compiledConverter;
+        return compiledConverter;
+    }
+
+    private CompiledRowConverter compile(Schema schema) {
+        Field[] fields = new Field[fieldNames.length];
+        boolean[] defaultValueFields = new boolean[fieldNames.length];
+        DebeziumDeserializationConverter[] converters =
+                new DebeziumDeserializationConverter[fieldNames.length];
+        for (int i = 0; i < fieldNames.length; i++) {
+            Field field = schema.field(fieldNames[i]);
+            if (field == null) {
+                continue;
+            }
+            fields[i] = field;
+            defaultValueFields[i] = field.schema().defaultValue() != null;
+            converters[i] =
+                    userDefinedFields[i]
+                            ? physicalConverters[i]
+                            : compileConverter(
+                                    fieldTypes[i], field.schema(), physicalConverters[i]);
+        }
+        return new CompiledRowConverter(fields, defaultValueFields, converters);
+    }
+
+    /**
+     * Specialises the converter of a field to its Debezium schema, the checks of the generic
+     * converter on the value class and the schema name are resolved once here.
+     */
+    @SuppressWarnings("MagicNumber")
+    private static DebeziumDeserializationConverter compileConverter(
+            SeaTunnelDataType<?> type,
+            Schema fieldSchema,
+            DebeziumDeserializationConverter genericConverter) {
+        Schema.Type schemaType = fieldSchema.type();
+        String schemaName = fieldSchema.name();
+        switch (type.getSqlType()) {
+            case BOOLEAN:
+                return schemaType == Schema.Type.BOOLEAN ? IDENTITY_CONVERTER : genericConverter;
+            case TINYINT:
+                return schemaType == Schema.Type.INT8 ? IDENTITY_CONVERTER : genericConverter;
+            case SMALLINT:
+                return schemaType == Schema.Type.INT8 || schemaType == Schema.Type.INT16
+                        ? IDENTITY_CONVERTER
+                        : genericConverter;
+            case INT:
+                return schemaType == Schema.Type.INT32 ? IDENTITY_CONVERTER : genericConverter;
+            case BIGINT:
+                return schemaType == Schema.Type.INT32 || schemaType == Schema.Type.INT64
+                        ? IDENTITY_CONVERTER
+                        : genericConverter;
+            case FLOAT:
+                return schemaType == Schema.Type.FLOAT32 ? IDENTITY_CONVERTER : genericConverter;
+            case DOUBLE:
+                return schemaType == Schema.Type.FLOAT32 || schemaType == Schema.Type.FLOAT64
+                        ? IDENTITY_CONVERTER
+                        : genericConverter;
+            case STRING:
+                return schemaType == Schema.Type.STRING ? IDENTITY_CONVERTER : genericConverter;
+            case DECIMAL:
+                if (Decimal.LOGICAL_NAME.equals(schemaName)) {
+                    return (dbzObj, schema) ->
+                            dbzObj instanceof BigDecimal
+                                    ? dbzObj
+                                    : genericConverter.convert(dbzObj, schema);
+                }
+                return genericConverter;
+            case DATE:
+                if (schemaType == Schema.Type.INT32 && Date.SCHEMA_NAME.equals(schemaName)) {
+                    return (dbzObj, schema) -> LocalDate.ofEpochDay((Integer) dbzObj);
+                }
+                return genericConverter;
+            case TIME:
+                if (schemaType == Schema.Type.INT32) {
+                    return (dbzObj, schema) -> LocalTime.ofNanoOfDay((Integer) dbzObj * 1000_000L);
+                } else if (schemaType == Schema.Type.INT64
+                        && MicroTime.SCHEMA_NAME.equals(schemaName)) {
+                    return (dbzObj, schema) -> LocalTime.ofNanoOfDay((Long) dbzObj * 1000L);
+                } else if (schemaType == Schema.Type.INT64
+                        && NanoTime.SCHEMA_NAME.equals(schemaName)) {
+                    return (dbzObj, schema) -> LocalTime.ofNanoOfDay((Long) dbzObj);
+                }
+                return genericConverter;
+            case TIMESTAMP:
+                if (schemaType != Schema.Type.INT64 || schemaName == null) {
+                    return genericConverter;
+                }
+                switch (schemaName) {
+                    case Timestamp.SCHEMA_NAME:
+                        return (dbzObj, schema) -> toLocalDateTime((Long) dbzObj, 0);
+                    case MicroTimestamp.SCHEMA_NAME:
+                        return (dbzObj, schema) -> {
+                            long micro = (Long) dbzObj;
+                            return toLocalDateTime(micro / 1000, (int) (micro % 1000 * 1000));
+                        };
+                    case NanoTimestamp.SCHEMA_NAME:
+                        return (dbzObj, schema) -> {
+                            long nano = (Long) dbzObj;
+                            return toLocalDateTime(nano / 1000_000, (int) (nano % 1000_000));
+                        };
+                    default:
+                        return genericConverter;
+                }
+            default:
+                return genericConverter;
+        }
+    }
+
+    /** Converts the structs of a Debezium schema with the fields resolved by position. */
+    private static final class CompiledRowConverter {
+        // null if the field is missing in the Debezium schema
+        private final Field[] fields;
+        // Struct#get(Field) falls back to the default value of the field, the value is read by
+        // name for those fields, as the default value must not be used
+        private final boolean[] defaultValueFields;
+        private final DebeziumDeserializationConverter[] converters;
+
+        private CompiledRowConverter(
+                Field[] fields,
+                boolean[] defaultValueFields,
+                DebeziumDeserializationConverter[] converters) {
+            this.fields = fields;
+            this.defaultValueFields = defaultValueFields;
+            this.converters = converters;
+        }
+
+        private void convert(Struct struct, SeaTunnelRow row) throws Exception {
+            for (int i = 0; i < fields.length; i++) {
+                Field field = fields[i];
+                if (field == null) {
+                    continue;
+                }
+                Object fieldValue =
+                        defaultValueFields[i]
+                                ? struct.getWithoutDefault(field.name())
+                                : struct.get(field);
+                if (fieldValue != null) {
+                    row.setField(i, converters[i].convert(fieldValue, field.schema()));
+                }
+            }
+        }
+    }
+
     // -------------------------------------------------------------------------------------
     // Runtime Converters
     // -------------------------------------------------------------------------------------
@@ -183,6 +183,16 @@ public final class SeaTunnelRowDebeziumDeserializeSchema
                                 changeBefore.getComment());
             }
             tables.set(i, changeAfter);
+            // the compiled converters of the other tables are kept
+            tableRowConverters.put(
+                    tables.size() > 1
+                            ? changeAfter.getTablePath().toString()
+                            : DEFAULT_TABLE_NAME_KEY,
+                    createTableRowConverter(
+                            changeAfter,
+                            metadataConverters,
+                            serverTimeZone,
+                            userDefinedConverterFactory));
             schemaChangeEvent.setChangeAfter(changeAfter);
             log.debug(
                     "Table[{}] change after: {}",
@@ -195,9 +205,6 @@ public final class SeaTunnelRowDebeziumDeserializeSchema
                     "Not found table {}, skip schema change event {}",
                     schemaChangeEvent.tablePath());
         }
-        tableRowConverters =
-                createTableRowConverters(
-                        tables, metadataConverters, serverTimeZone, userDefinedConverterFactory);
         collector.collect(schemaChangeEvent);
     }
 
@@ -334,8 +341,8 @@ public final class SeaTunnelRowDebeziumDeserializeSchema
         if (tables.size() > 1) {
             for (CatalogTable table : tables) {
                 SeaTunnelRowDebeziumDeserializationConverters itemRowConverter =
-                        new SeaTunnelRowDebeziumDeserializationConverters(
-                                table.getSeaTunnelRowType(),
+                        createTableRowConverter(
+                                table,
                                 metadataConverters,
                                 serverTimeZone,
                                 userDefinedConverterFactory);
@@ -345,8 +352,8 @@ public final class SeaTunnelRowDebeziumDeserializeSchema
         }
 
         SeaTunnelRowDebeziumDeserializationConverters tableRowConverter =
-                new SeaTunnelRowDebeziumDeserializationConverters(
-                        tables.get(0).getSeaTunnelRowType(),
+                createTableRowConverter(
+                        tables.get(0),
                         metadataConverters,
                         serverTimeZone,
                         userDefinedConverterFactory);
@@ -354,6 +361,18 @@ public final class SeaTunnelRowDebeziumDeserializeSchema
         return tableRowConverters;
     }
 
+    private static SeaTunnelRowDebeziumDeserializationConverters createTableRowConverter(
+            CatalogTable table,
+            MetadataConverter[] metadataConverters,
+            ZoneId serverTimeZone,
+            DebeziumDeserializationConverterFactory userDefinedConverterFactory) {
+        return new SeaTunnelRowDebeziumDeserializationConverters(
+                table.getSeaTunnelRowType(),
+                metadataConverters,
+                serverTimeZone,
+                userDefinedConverterFactory);
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.cdc.base.source.enumerator;
+
+import org.apache.seatunnel.api.source.SourceSplitEnumerator;
+import org.apache.seatunnel.connectors.cdc.base.source.split.IncrementalSplit;
+import org.apache.seatunnel.connectors.cdc.base.source.split.SnapshotSplit;
+import org.apache.seatunnel.connectors.cdc.base.source.split.SourceSplitBase;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Optional;
+
+public class IncrementalSourceEnumeratorTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testAssignSplitForEveryRequest() throws Exception {
+        SourceSplitEnumerator.Context<SourceSplitBase> context =
+                Mockito.mock(SourceSplitEnumerator.Context.class);
+        Mockito.when(context.registeredReaders()).thenReturn(new HashSet<>(Arrays.asList(0, 1)));
+        SnapshotSplit split1 = Mockito.mock(SnapshotSplit.class);
+        SnapshotSplit split2 = Mockito.mock(SnapshotSplit.class);
+        SnapshotSplit split3 = Mockito.mock(SnapshotSplit.class);
+        SnapshotSplit split4 = Mockito.mock(SnapshotSplit.class);
+        SplitAssigner splitAssigner = Mockito.mock(SplitAssigner.class);
+        Mockito.when(splitAssigner.getNext())
+                .thenReturn(
+                        Optional.of(split1),
+                        Optional.of(split2),
+                        Optional.of(split3),
+                        Optional.of(split4),
+                        Optional.empty());
+        Mockito.when(splitAssigner.waitingForCompletedSplits()).thenReturn(true);
+
+        IncrementalSourceEnumerator enumerator =
+                new IncrementalSourceEnumerator(context, splitAssigner);
+        // subtask 0 reads three snapshot splits concurrently, subtask 1 reads one
+        for (int i = 0; i < 3; i++) {
+            enumerator.handleSplitRequest(0);
+        }
+        enumerator.handleSplitRequest(1);
+        enumerator.run();
+
+        // the readers get a split in turns
+        InOrder inOrder = Mockito.inOrder(context);
+        inOrder.verify(context).assignSplit(0, split1);
+        inOrder.verify(context).assignSplit(1, split2);
+        inOrder.verify(context).assignSplit(0, split3);
+        inOrder.verify(context).assignSplit(0, split4);
+        Mockito.verify(context, Mockito.never()).signalNoMoreSplits(Mockito.anyInt());
+
+        // the pending request of subtask 0 is served once a split is available
+        SnapshotSplit split5 = Mockito.mock(SnapshotSplit.class);
+        Mockito.when(splitAssigner.getNext()).thenReturn(Optional.of(split5));
+        enumerator.notifyCheckpointComplete(1);
+        Mockito.verify(context).assignSplit(0, split5);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testAssignSingleIncrementalSplitToReader() throws Exception {
+        SourceSplitEnumerator.Context<SourceSplitBase> context =
+                Mockito.mock(SourceSplitEnumerator.Context.class);
+        Mockito.when(context.registeredReaders()).thenReturn(new HashSet<>(Arrays.asList(0, 1)));
+        IncrementalSplit split1 = Mockito.mock(IncrementalSplit.class);
+        IncrementalSplit split2 = Mockito.mock(IncrementalSplit.class);
+        SplitAssigner splitAssigner = Mockito.mock(SplitAssigner.class);
+        Mockito.when(splitAssigner.getNext())
+                .thenReturn(Optional.of(split1), Optional.of(split2), Optional.empty());
+        Mockito.when(splitAssigner.waitingForCompletedSplits()).thenReturn(false);
+
+        IncrementalSourceEnumerator enumerator =
+                new IncrementalSourceEnumerator(context, splitAssigner);
+        enumerator.handleSplitRequest(0);
+        enumerator.handleSplitRequest(0);
+        enumerator.handleSplitRequest(1);
+        enumerator.handleSplitRequest(1);
+        enumerator.run();
+
+        Mockito.verify(context).assignSplit(0, split1);
+        Mockito.verify(context).assignSplit(1, split2);
+        Mockito.verify(context, Mockito.times(2))
+                .assignSplit(Mockito.anyInt(), Mockito.any(SourceSplitBase.class));
+        Mockito.verify(context, Mockito.never()).signalNoMoreSplits(Mockito.anyInt());
+    }
+}
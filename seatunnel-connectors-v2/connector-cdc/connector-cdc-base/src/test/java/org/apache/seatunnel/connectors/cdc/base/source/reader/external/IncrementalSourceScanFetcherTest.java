@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.cdc.base.source.reader.external;
+
+import org.apache.seatunnel.connectors.cdc.base.source.offset.Offset;
+import org.apache.seatunnel.connectors.cdc.base.source.split.SnapshotSplit;
+import org.apache.seatunnel.connectors.cdc.base.source.split.SourceRecords;
+import org.apache.seatunnel.connectors.cdc.base.source.split.SourceSplitBase;
+import org.apache.seatunnel.connectors.cdc.base.source.split.wartermark.WatermarkEvent;
+import org.apache.seatunnel.connectors.cdc.base.source.split.wartermark.WatermarkKind;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.debezium.connector.base.ChangeEventQueue;
+import io.debezium.pipeline.DataChangeEvent;
+import io.debezium.relational.TableId;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class IncrementalSourceScanFetcherTest {
+
+    private static final Schema KEY_SCHEMA =
+            SchemaBuilder.struct().name("key").field("id", Schema.INT32_SCHEMA).build();
+
+    private static final Schema VALUE_SCHEMA =
+            SchemaBuilder.struct()
+                    .name("value")
+                    .field("id", Schema.INT32_SCHEMA)
+                    .field("name", Schema.OPTIONAL_STRING_SCHEMA)
+                    .build();
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testExactlyOnceChunkIsPolledBatchByBatch() throws Exception {
+        SnapshotSplit split =
+                new SnapshotSplit("t:0", new TableId("db", null, "t"), null, null, null);
+        ChangeEventQueue<DataChangeEvent> queue = mock(ChangeEventQueue.class);
+        when(queue.poll())
+                .thenReturn(events(watermark(WatermarkKind.LOW), record(1, "a")))
+                .thenReturn(events(record(2, "b"), watermark(WatermarkKind.HIGH)))
+                .thenReturn(events(watermark(WatermarkKind.END)));
+        FetchTask.Context taskContext = mock(FetchTask.Context.class);
+        when(taskContext.isExactlyOnce()).thenReturn(true);
+        when(taskContext.getQueue()).thenReturn(queue);
+        when(taskContext.formatMessageTimestamp(any()))
+                .thenAnswer(
+                        invocation ->
+                                new ArrayList<>(
+                                        (Collection<SourceRecord>) invocation.getArgument(0)));
+        FetchTask<SourceSplitBase> fetchTask = mock(FetchTask.class);
+        when(fetchTask.getSplit()).thenReturn(split);
+
+        IncrementalSourceScanFetcher fetcher =
+                new IncrementalSourceScanFetcher(
+                        taskContext, 0, 0, new SnapshotBufferBudget(1024 * 1024L));
+        try {
+            fetcher.submitTask(fetchTask);
+            // the chunk is not complete until the end watermark, nothing is returned before it
+            Assertions.assertFalse(fetcher.pollSplitRecords().hasNext());
+            Assertions.assertFalse(fetcher.pollSplitRecords().hasNext());
+
+            Iterator<SourceRecords> records = fetcher.pollSplitRecords();
+            List<SourceRecord> chunk = records.next().getSourceRecordList();
+            Assertions.assertFalse(records.hasNext());
+            Assertions.assertEquals(4, chunk.size());
+            Assertions.assertTrue(WatermarkEvent.isLowWatermarkEvent(chunk.get(0)));
+            Assertions.assertEquals(
+                    Arrays.asList("a", "b"),
+                    chunk.subList(1, 3).stream()
+                            .map(record -> ((Struct) record.value()).getString("name"))
+                            .collect(Collectors.toList()));
+            Assertions.assertTrue(WatermarkEvent.isHighWatermarkEvent(chunk.get(3)));
+            Assertions.assertNull(fetcher.pollSplitRecords());
+        } finally {
+            fetcher.close();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testCloseReleasesBufferedChunk() throws Exception {
+        SnapshotSplit split =
+                new SnapshotSplit("t:0", new TableId("db", null, "t"), null, null, null);
+        ChangeEventQueue<DataChangeEvent> queue = mock(ChangeEventQueue.class);
+        when(queue.poll()).thenReturn(events(watermark(WatermarkKind.LOW), record(1, "a")));
+        FetchTask.Context taskContext = mock(FetchTask.Context.class);
+        when(taskContext.isExactlyOnce()).thenReturn(true);
+        when(taskContext.getQueue()).thenReturn(queue);
+        FetchTask<SourceSplitBase> fetchTask = mock(FetchTask.class);
+        when(fetchTask.getSplit()).thenReturn(split);
+
+        SnapshotBufferBudget budget = new SnapshotBufferBudget(1024 * 1024L);
+        IncrementalSourceScanFetcher fetcher =
+                new IncrementalSourceScanFetcher(taskContext, 0, 0, budget);
+        fetcher.submitTask(fetchTask);
+        Assertions.assertFalse(fetcher.pollSplitRecords().hasNext());
+        Assertions.assertTrue(budget.getUsedBytes() > 0);
+
+        // e.g. the reader is cancelled before the end watermark of the chunk arrives
+        fetcher.close();
+        Assertions.assertEquals(0, budget.getUsedBytes());
+    }
+
+    private static List<DataChangeEvent> events(SourceRecord... records) {
+        return Arrays.stream(records).map(DataChangeEvent::new).collect(Collectors.toList());
+    }
+
+    private static SourceRecord watermark(WatermarkKind kind) {
+        return WatermarkEvent.create(
+                Collections.singletonMap("server", "test"), "test", "t:0", kind, new TestOffset());
+    }
+
+    private static SourceRecord record(int id, String name) {
+        Struct key = new Struct(KEY_SCHEMA).put("id", id);
+        Struct value = new Struct(VALUE_SCHEMA).put("id", id).put("name", name);
+        return new SourceRecord(
+                Collections.singletonMap("server", "test"),
+                Collections.singletonMap("pos", (long) id),
+                "test.db.t",
+                null,
+                KEY_SCHEMA,
+                key,
+                VALUE_SCHEMA,
+                value);
+    }
+
+    private static class TestOffset extends Offset {
+        private TestOffset() {
+            this.offset = Collections.singletonMap("pos", "0");
+        }
+
+        @Override
+        public int compareTo(Offset offset) {
+            return 0;
+        }
+    }
+}
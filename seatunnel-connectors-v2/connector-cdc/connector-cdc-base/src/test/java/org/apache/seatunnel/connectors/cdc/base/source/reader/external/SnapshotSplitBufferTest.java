@@ -0,0 +1,210 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.cdc.base.source.reader.external;
+
+import org.apache.kafka.connect.data.Date;
+import org.apache.kafka.connect.data.Decimal;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.data.Timestamp;
+import org.apache.kafka.connect.source.SourceRecord;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class SnapshotSplitBufferTest {
+
+    private static final Schema KEY_SCHEMA =
+            SchemaBuilder.struct().name("key").field("id", Schema.INT32_SCHEMA).build();
+
+    private static final Schema VALUE_SCHEMA =
+            SchemaBuilder.struct()
+                    .name("value")
+                    .field("id", Schema.INT32_SCHEMA)
+                    .field("name", Schema.OPTIONAL_STRING_SCHEMA)
+                    .field("amount", Decimal.builder(2).optional().build())
+                    .field("day", Date.builder().optional().build())
+                    .field("ts", Timestamp.builder().optional().build())
+                    .field("data", Schema.OPTIONAL_BYTES_SCHEMA)
+                    .field("tags", SchemaBuilder.array(Schema.STRING_SCHEMA).optional().build())
+                    .build();
+
+    @Test
+    public void testSerializeRecord() throws Exception {
+        SourceRecordSerializer serializer = new SourceRecordSerializer();
+        SourceRecord record = record(7, "seven");
+        ((Struct) record.value())
+                .put("amount", new BigDecimal("12.34"))
+                .put("day", new java.util.Date(86_400_000L * 3))
+                .put("ts", new java.util.Date(1_700_000_000_123L))
+                .put("data", ByteBuffer.wrap(new byte[] {1, 2, 3}))
+                .put("tags", Arrays.asList("a", "b"));
+
+        SourceRecord restored = serializer.deserialize(serializer.serialize(record));
+        Assertions.assertEquals(record.topic(), restored.topic());
+        Assertions.assertEquals(record.sourcePartition(), restored.sourcePartition());
+        Assertions.assertEquals(record.sourceOffset(), restored.sourceOffset());
+        Assertions.assertSame(record.valueSchema(), restored.valueSchema());
+        Assertions.assertEquals(record.key(), restored.key());
+        Assertions.assertEquals(record.value(), restored.value());
+        Assertions.assertArrayEquals(
+                serializer.serializeKey(KEY_SCHEMA, record.key()),
+                serializer.serializeKey(KEY_SCHEMA, restored.key()));
+    }
+
+    @Test
+    public void testApplyChangesInMemory() throws Exception {
+        SnapshotSplitBuffer buffer = new SnapshotSplitBuffer(Long.MAX_VALUE);
+        for (int id = 1; id <= 5; id++) {
+            buffer.add(record(id, "snapshot-" + id));
+        }
+        applyChanges(buffer.changes());
+        Assertions.assertFalse(buffer.isSpilled());
+
+        Map<Integer, String> records = read(buffer.iterator());
+        // snapshot order is kept, inserted records come last
+        Assertions.assertEquals(Arrays.asList(1, 2, 4, 5, 9), new ArrayList<>(records.keySet()));
+        Assertions.assertEquals("changed-2", records.get(2));
+        Assertions.assertEquals("inserted-9", records.get(9));
+    }
+
+    @Test
+    public void testSpillAndMergeRuns() throws Exception {
+        File tempDirectory = new File(System.getProperty("java.io.tmpdir"));
+        int spillDirectories = countSpillDirectories(tempDirectory);
+
+        SnapshotSplitBuffer buffer = new SnapshotSplitBuffer(2048);
+        for (int id = 1000; id > 0; id--) {
+            buffer.add(record(id, "snapshot-" + id));
+        }
+        // a key that has been spilled already is replaced by the later record
+        buffer.add(record(500, "snapshot-again-500"));
+        applyChanges(buffer.changes());
+        Assertions.assertTrue(buffer.isSpilled());
+        Assertions.assertEquals(spillDirectories + 1, countSpillDirectories(tempDirectory));
+
+        Map<Integer, String> records = read(buffer.iterator());
+        Assertions.assertEquals(999, records.size());
+        Assertions.assertEquals("snapshot-1", records.get(1));
+        Assertions.assertEquals("changed-2", records.get(2));
+        Assertions.assertFalse(records.containsKey(3));
+        Assertions.assertEquals("snapshot-again-500", records.get(500));
+        Assertions.assertEquals("inserted-9", records.get(9));
+        // the spill files are removed once the chunk has been read
+        Assertions.assertEquals(spillDirectories, countSpillDirectories(tempDirectory));
+    }
+
+    @Test
+    public void testCloseWhileReading() throws Exception {
+        File tempDirectory = new File(System.getProperty("java.io.tmpdir"));
+        int spillDirectories = countSpillDirectories(tempDirectory);
+
+        SnapshotBufferBudget budget = new SnapshotBufferBudget(2048);
+        SnapshotSplitBuffer buffer = new SnapshotSplitBuffer(budget);
+        for (int id = 1; id <= 1000; id++) {
+            buffer.add(record(id, "snapshot-" + id));
+        }
+        Iterator<SourceRecord> records = buffer.iterator();
+        Assertions.assertTrue(records.hasNext());
+        records.next();
+        Assertions.assertFalse(buffer.isClosed());
+
+        // e.g. the reader is cancelled before the chunk has been read out
+        buffer.close();
+        Assertions.assertTrue(buffer.isClosed());
+        Assertions.assertEquals(spillDirectories, countSpillDirectories(tempDirectory));
+        Assertions.assertEquals(0, budget.getUsedBytes());
+    }
+
+    @Test
+    public void testShareBudget() throws Exception {
+        SnapshotBufferBudget budget = new SnapshotBufferBudget(4096);
+        SnapshotSplitBuffer buffer1 = new SnapshotSplitBuffer(budget);
+        SnapshotSplitBuffer buffer2 = new SnapshotSplitBuffer(budget);
+        for (int id = 1; id <= 15; id++) {
+            buffer1.add(record(id, "snapshot-" + id));
+        }
+        Assertions.assertFalse(buffer1.isSpilled());
+        Assertions.assertTrue(budget.getUsedBytes() > 0);
+
+        // the budget held by the first buffer makes the second one spill
+        for (int id = 1; id <= 60; id++) {
+            buffer2.add(record(id, "snapshot-" + id));
+        }
+        Assertions.assertTrue(buffer2.isSpilled());
+        Assertions.assertEquals(60, read(buffer2.iterator()).size());
+        Assertions.assertEquals(15, read(buffer1.iterator()).size());
+        Assertions.assertEquals(0, budget.getUsedBytes());
+    }
+
+    private static void applyChanges(Map<Struct, SourceRecord> changes) {
+        SourceRecord update = record(2, "changed-2");
+        changes.put((Struct) update.key(), update);
+        changes.remove(record(3, null).key());
+        SourceRecord insert = record(9, "inserted-9");
+        changes.remove(insert.key());
+        changes.put((Struct) insert.key(), insert);
+    }
+
+    private static Map<Integer, String> read(Iterator<SourceRecord> records) {
+        Map<Integer, String> result = new LinkedHashMap<>();
+        records.forEachRemaining(
+                record -> {
+                    Struct value = (Struct) record.value();
+                    Assertions.assertNull(
+                            result.put(value.getInt32("id"), value.getString("name")));
+                });
+        return result;
+    }
+
+    private static int countSpillDirectories(File tempDirectory) {
+        File[] directories =
+                tempDirectory.listFiles(
+                        file -> file.getName().startsWith("seatunnel-cdc-snapshot-"));
+        return directories == null ? 0 : directories.length;
+    }
+
+    private static SourceRecord record(int id, String name) {
+        Struct key = new Struct(KEY_SCHEMA).put("id", id);
+        Struct value = new Struct(VALUE_SCHEMA).put("id", id).put("name", name);
+        Map<String, Object> offset = new LinkedHashMap<>();
+        offset.put("file", "binlog.000001");
+        offset.put("pos", 4L + id);
+        offset.put("snapshot", true);
+        return new SourceRecord(
+                Collections.singletonMap("server", "test"),
+                offset,
+                "test.db.t",
+                null,
+                KEY_SCHEMA,
+                key,
+                VALUE_SCHEMA,
+                value);
+    }
+}
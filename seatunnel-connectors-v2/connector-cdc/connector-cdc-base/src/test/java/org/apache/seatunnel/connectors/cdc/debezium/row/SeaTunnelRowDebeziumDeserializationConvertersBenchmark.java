@@ -0,0 +1,250 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.cdc.debezium.row;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.cdc.debezium.DebeziumDeserializationConverterFactory;
+import org.apache.seatunnel.connectors.cdc.debezium.MetadataConverter;
+
+import org.apache.kafka.connect.data.Decimal;
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.debezium.time.Date;
+import io.debezium.time.MicroTimestamp;
+import io.debezium.time.Timestamp;
+
+import java.math.BigDecimal;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the name based conversion of Debezium structs, which looks up every field of the schema
+ * and the struct by name, with the converters compiled per schema of {@link
+ * SeaTunnelRowDebeziumDeserializationConverters}. The rows have the shape of common MySQL tables: a
+ * narrow key/value table and a wide order table.
+ *
+ * <p>Run it from the IDE or with {@code java -cp <test classpath>
+ * org.apache.seatunnel.connectors.cdc.debezium.row.SeaTunnelRowDebeziumDeserializationConvertersBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SeaTunnelRowDebeziumDeserializationConvertersBenchmark {
+
+    @Param({"narrow", "wide"})
+    private String shape;
+
+    private SeaTunnelRowDebeziumDeserializationConverters converters;
+    private Schema schema;
+    private Struct struct;
+
+    @Setup
+    public void setup() {
+        List<String> names = new ArrayList<>();
+        List<SeaTunnelDataType<?>> types = new ArrayList<>();
+        SchemaBuilder schemaBuilder = SchemaBuilder.struct();
+        List<Object> values = new ArrayList<>();
+        // id bigint, name varchar, updated_at datetime(6)
+        addField(
+                names,
+                types,
+                schemaBuilder,
+                values,
+                "id",
+                BasicType.LONG_TYPE,
+                Schema.INT64_SCHEMA,
+                1L);
+        addField(
+                names,
+                types,
+                schemaBuilder,
+                values,
+                "name",
+                BasicType.STRING_TYPE,
+                Schema.OPTIONAL_STRING_SCHEMA,
+                "name-1");
+        addField(
+                names,
+                types,
+                schemaBuilder,
+                values,
+                "updated_at",
+                LocalTimeType.LOCAL_DATE_TIME_TYPE,
+                MicroTimestamp.builder().optional().build(),
+                1_700_000_000_123_456L);
+        if ("wide".equals(shape)) {
+            for (int i = 0; i < 4; i++) {
+                // int, decimal(10,2), tinyint(1), varchar, date, datetime, double columns
+                addField(
+                        names,
+                        types,
+                        schemaBuilder,
+                        values,
+                        "quantity_" + i,
+                        BasicType.INT_TYPE,
+                        Schema.OPTIONAL_INT32_SCHEMA,
+                        i);
+                addField(
+                        names,
+                        types,
+                        schemaBuilder,
+                        values,
+                        "price_" + i,
+                        new DecimalType(10, 2),
+                        Decimal.builder(2).optional().build(),
+                        new BigDecimal("12.34"));
+                addField(
+                        names,
+                        types,
+                        schemaBuilder,
+                        values,
+                        "flag_" + i,
+                        BasicType.BOOLEAN_TYPE,
+                        Schema.OPTIONAL_BOOLEAN_SCHEMA,
+                        true);
+                addField(
+                        names,
+                        types,
+                        schemaBuilder,
+                        values,
+                        "note_" + i,
+                        BasicType.STRING_TYPE,
+                        Schema.OPTIONAL_STRING_SCHEMA,
+                        "note");
+                addField(
+                        names,
+                        types,
+                        schemaBuilder,
+                        values,
+                        "day_" + i,
+                        LocalTimeType.LOCAL_DATE_TYPE,
+                        Date.builder().optional().build(),
+                        19000);
+                addField(
+                        names,
+                        types,
+                        schemaBuilder,
+                        values,
+                        "created_" + i,
+                        LocalTimeType.LOCAL_DATE_TIME_TYPE,
+                        Timestamp.builder().optional().build(),
+                        1_700_000_000_123L);
+                addField(
+                        names,
+                        types,
+                        schemaBuilder,
+                        values,
+                        "score_" + i,
+                        BasicType.DOUBLE_TYPE,
+                        Schema.OPTIONAL_FLOAT64_SCHEMA,
+                        0.5);
+            }
+        }
+        schema = schemaBuilder.build();
+        struct = new Struct(schema);
+        for (int i = 0; i < values.size(); i++) {
+            struct.put(schema.fields().get(i), values.get(i));
+        }
+        converters =
+                new SeaTunnelRowDebeziumDeserializationConverters(
+                        new SeaTunnelRowType(
+                                names.toArray(new String[0]),
+                                types.toArray(new SeaTunnelDataType<?>[0])),
+                        new MetadataConverter[0],
+                        ZoneId.of("UTC"),
+                        DebeziumDeserializationConverterFactory.DEFAULT);
+    }
+
+    @Benchmark
+    public SeaTunnelRow nameBased() throws Exception {
+        SeaTunnelRow row = new SeaTunnelRow(converters.fieldNames.length);
+        for (int i = 0; i < converters.fieldNames.length; i++) {
+            String fieldName = converters.fieldNames[i];
+            Field field = schema.field(fieldName);
+            if (field != null) {
+                Object fieldValue = struct.getWithoutDefault(fieldName);
+                row.setField(
+                        i,
+                        fieldValue == null
+                                ? null
+                                : converters.physicalConverters[i].convert(
+                                        fieldValue, field.schema()));
+            }
+        }
+        return row;
+    }
+
+    @Benchmark
+    public SeaTunnelRow compiled() throws Exception {
+        return converters.convert(null, struct, schema);
+    }
+
+    private static void addField(
+            List<String> names,
+            List<SeaTunnelDataType<?>> types,
+            SchemaBuilder schemaBuilder,
+            List<Object> values,
+            String name,
+            SeaTunnelDataType<?> type,
+            Schema schema,
+            Object value) {
+        names.add(name);
+        types.add(type);
+        schemaBuilder.field(name, schema);
+        values.add(value);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options =
+                new OptionsBuilder()
+                        .include(
+                                SeaTunnelRowDebeziumDeserializationConvertersBenchmark.class
+                                        .getSimpleName())
+                        .build();
+        new Runner(options).run();
+    }
+}
@@ -19,6 +19,8 @@ package org.apache.seatunnel.connectors.cdc.debezium.row;
 
 import org.apache.seatunnel.api.table.type.ArrayType;
 import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
@@ -26,6 +28,7 @@ import org.apache.seatunnel.connectors.cdc.debezium.DebeziumDeserializationConve
 import org.apache.seatunnel.connectors.cdc.debezium.DebeziumDeserializationConverterFactory;
 import org.apache.seatunnel.connectors.cdc.debezium.MetadataConverter;
 
+import org.apache.kafka.connect.data.Decimal;
 import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.data.SchemaBuilder;
 import org.apache.kafka.connect.data.Struct;
@@ -34,6 +37,15 @@ import org.apache.kafka.connect.source.SourceRecord;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import io.debezium.time.Date;
+import io.debezium.time.MicroTime;
+import io.debezium.time.MicroTimestamp;
+import io.debezium.time.Timestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -79,6 +91,86 @@ public class SeaTunnelRowDebeziumDeserializationConvertersTest {
         Assertions.assertNull(row.getField(1));
     }
 
+    @Test
+    void testConvertWithSchemaVersions() throws Exception {
+        SeaTunnelRowDebeziumDeserializationConverters converters =
+                new SeaTunnelRowDebeziumDeserializationConverters(
+                        new SeaTunnelRowType(
+                                new String[] {
+                                    "id", "name", "amount", "day", "time", "created", "updated",
+                                    "flag", "score"
+                                },
+                                new SeaTunnelDataType[] {
+                                    BasicType.LONG_TYPE,
+                                    BasicType.STRING_TYPE,
+                                    new DecimalType(10, 2),
+                                    LocalTimeType.LOCAL_DATE_TYPE,
+                                    LocalTimeType.LOCAL_TIME_TYPE,
+                                    LocalTimeType.LOCAL_DATE_TIME_TYPE,
+                                    LocalTimeType.LOCAL_DATE_TIME_TYPE,
+                                    BasicType.BOOLEAN_TYPE,
+                                    BasicType.DOUBLE_TYPE
+                                }),
+                        new MetadataConverter[] {},
+                        ZoneId.systemDefault(),
+                        DebeziumDeserializationConverterFactory.DEFAULT);
+        Schema schema =
+                SchemaBuilder.struct()
+                        .field("id", Schema.INT64_SCHEMA)
+                        .field("name", Schema.OPTIONAL_STRING_SCHEMA)
+                        .field("amount", Decimal.builder(2).optional().build())
+                        .field("day", Date.builder().optional().build())
+                        .field("time", MicroTime.builder().optional().build())
+                        .field("created", Timestamp.builder().optional().build())
+                        .field("updated", MicroTimestamp.builder().optional().build())
+                        .field("flag", Schema.OPTIONAL_INT16_SCHEMA)
+                        .build();
+        Struct value =
+                new Struct(schema)
+                        .put("id", 1L)
+                        .put("name", "name-1")
+                        .put("amount", new BigDecimal("12.34"))
+                        .put("day", 19000)
+                        .put("time", 3_600_000_001L)
+                        .put("created", 1_700_000_000_123L)
+                        .put("updated", 1_700_000_000_123_456L)
+                        .put("flag", (short) 1);
+
+        for (int i = 0; i < 2; i++) {
+            // the second conversion uses the converter compiled for the schema
+            SeaTunnelRow row = converters.convert(null, value, schema);
+            Assertions.assertEquals(1L, row.getField(0));
+            Assertions.assertEquals("name-1", row.getField(1));
+            Assertions.assertEquals(new BigDecimal("12.34"), row.getField(2));
+            Assertions.assertEquals(LocalDate.ofEpochDay(19000), row.getField(3));
+            Assertions.assertEquals(LocalTime.ofNanoOfDay(3_600_000_001_000L), row.getField(4));
+            Assertions.assertEquals(
+                    LocalDateTime.of(2023, 11, 14, 22, 13, 20, 123_000_000), row.getField(5));
+            Assertions.assertEquals(
+                    LocalDateTime.of(2023, 11, 14, 22, 13, 20, 123_456_000), row.getField(6));
+            Assertions.assertEquals(true, row.getField(7));
+            // missing in the Debezium schema
+            Assertions.assertNull(row.getField(8));
+        }
+
+        // a new version of the schema after a column is added and the other ones reordered
+        Schema newSchema =
+                SchemaBuilder.struct()
+                        .field("score", Schema.OPTIONAL_FLOAT64_SCHEMA)
+                        .field("name", Schema.OPTIONAL_STRING_SCHEMA)
+                        .field("id", Schema.INT64_SCHEMA)
+                        .build();
+        Struct newValue = new Struct(newSchema).put("id", 2L).put("score", 0.5);
+        SeaTunnelRow row = converters.convert(null, newValue, newSchema);
+        Assertions.assertEquals(2L, row.getField(0));
+        Assertions.assertNull(row.getField(1));
+        Assertions.assertNull(row.getField(2));
+        Assertions.assertEquals(0.5, row.getField(8));
+
+        // the records of the former schema version are still converted by position
+        Assertions.assertEquals("name-1", converters.convert(null, value, schema).getField(1));
+    }
+
     @Test
     void testArrayConverter() throws Exception {
         DebeziumDeserializationConverter converter;
@@ -137,6 +137,7 @@ public class MySqlSourceConfigFactory extends JdbcSourceConfigFactory {
                 connectTimeoutMillis,
                 connectMaxRetries,
                 connectionPoolSize,
-                exactlyOnce);
+                exactlyOnce,
+                snapshotBufferMaxBytes);
     }
 }
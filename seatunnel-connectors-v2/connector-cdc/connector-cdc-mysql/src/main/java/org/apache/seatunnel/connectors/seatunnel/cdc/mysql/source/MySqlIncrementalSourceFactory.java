@@ -78,7 +78,8 @@ public class MySqlIncrementalSourceFactory extends BaseChangeStreamTableSourceFa
                 .conditional(
                         MySqlSourceOptions.STARTUP_MODE,
                         StartupMode.INITIAL,
-                        SourceOptions.EXACTLY_ONCE)
+                        SourceOptions.EXACTLY_ONCE,
+                        SourceOptions.SNAPSHOT_BUFFER_MAX_BYTES)
                 .conditional(
                         MySqlSourceOptions.STARTUP_MODE,
                         StartupMode.SPECIFIC,
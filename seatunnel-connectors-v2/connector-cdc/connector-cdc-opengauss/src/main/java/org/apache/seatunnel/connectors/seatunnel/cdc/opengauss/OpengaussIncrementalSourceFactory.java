@@ -76,7 +76,8 @@ public class OpengaussIncrementalSourceFactory implements TableSourceFactory {
                 .conditional(
                         PostgresSourceOptions.STARTUP_MODE,
                         StartupMode.INITIAL,
-                        JdbcSourceOptions.EXACTLY_ONCE)
+                        JdbcSourceOptions.EXACTLY_ONCE,
+                        JdbcSourceOptions.SNAPSHOT_BUFFER_MAX_BYTES)
                 .build();
     }
 
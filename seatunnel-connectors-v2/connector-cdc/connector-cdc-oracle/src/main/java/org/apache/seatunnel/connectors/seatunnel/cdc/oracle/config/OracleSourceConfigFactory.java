@@ -178,7 +178,8 @@ public class OracleSourceConfigFactory extends JdbcSourceConfigFactory {
                 connectTimeoutMillis,
                 connectMaxRetries,
                 connectionPoolSize,
-                exactlyOnce);
+                exactlyOnce,
+                snapshotBufferMaxBytes);
     }
 
     private void validateConfig() throws IllegalArgumentException {
@@ -91,7 +91,8 @@ public class OracleIncrementalSourceFactory extends BaseChangeStreamTableSourceF
                 .conditional(
                         OracleSourceOptions.STARTUP_MODE,
                         StartupMode.INITIAL,
-                        SourceOptions.EXACTLY_ONCE)
+                        SourceOptions.EXACTLY_ONCE,
+                        SourceOptions.SNAPSHOT_BUFFER_MAX_BYTES)
                 .build();
     }
 
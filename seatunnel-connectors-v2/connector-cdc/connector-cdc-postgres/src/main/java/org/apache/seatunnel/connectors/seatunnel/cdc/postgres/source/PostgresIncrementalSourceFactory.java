@@ -72,7 +72,8 @@ public class PostgresIncrementalSourceFactory implements TableSourceFactory {
                 .conditional(
                         PostgresSourceOptions.STARTUP_MODE,
                         StartupMode.INITIAL,
-                        JdbcSourceOptions.EXACTLY_ONCE)
+                        JdbcSourceOptions.EXACTLY_ONCE,
+                        JdbcSourceOptions.SNAPSHOT_BUFFER_MAX_BYTES)
                 .build();
     }
 
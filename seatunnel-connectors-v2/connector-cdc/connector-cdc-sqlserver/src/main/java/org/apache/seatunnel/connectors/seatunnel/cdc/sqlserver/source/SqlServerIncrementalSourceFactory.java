@@ -88,7 +88,8 @@ public class SqlServerIncrementalSourceFactory implements TableSourceFactory {
                 .conditional(
                         SqlServerSourceOptions.STARTUP_MODE,
                         StartupMode.INITIAL,
-                        SourceOptions.EXACTLY_ONCE)
+                        SourceOptions.EXACTLY_ONCE,
+                        SourceOptions.SNAPSHOT_BUFFER_MAX_BYTES)
                 .build();
     }
 
@@ -17,6 +17,7 @@
 
 package org.apache.seatunnel.connectors.seatunnel.common.source.reader;
 
+import java.util.Collections;
 import java.util.Set;
 
 /**
@@ -47,5 +48,15 @@ public interface RecordsWithSplitIds<E> {
      */
     Set<String> finishedSplits();
 
+    /**
+     * Get the splits the fetcher stopped reading to hand them over to another fetcher. The records
+     * fetched from them before are in the earlier fetches of the same fetcher.
+     *
+     * @return
+     */
+    default Set<String> removedSplits() {
+        return Collections.emptySet();
+    }
+
     default void recycle() {}
 }
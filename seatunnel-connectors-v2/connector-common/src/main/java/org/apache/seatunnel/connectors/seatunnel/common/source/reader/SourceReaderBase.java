@@ -109,6 +109,7 @@ public abstract class SourceReaderBase<E, T, SplitT extends SourceSplit, SplitSt
             synchronized (output.getCheckpointLock()) {
                 recordEmitter.emitRecord(record, currentSplitOutput, currentSplitContext.state);
             }
+            currentSplitContext.emittedRecords++;
             log.trace("Emitted record: {}", record);
         } else if (!moveToNextSplit(recordsWithSplitId, output)) {
             pollNext(output);
@@ -118,8 +119,15 @@ public abstract class SourceReaderBase<E, T, SplitT extends SourceSplit, SplitSt
     @Override
     public List<SplitT> snapshotState(long checkpointId) {
         List<SplitT> splits = new ArrayList<>();
-        splitStates.forEach((id, context) -> splits.add(toSplitType(id, context.state)));
+        Map<String, Long> splitRecords = new HashMap<>();
+        splitStates.forEach(
+                (id, context) -> {
+                    splits.add(toSplitType(id, context.state));
+                    splitRecords.put(id, context.emittedRecords);
+                    context.emittedRecords = 0;
+                });
         log.debug("Snapshot state from splits: {}", splits);
+        splitFetcherManager.rebalanceSplits(splitRecords);
         return splits;
     }
 
@@ -212,6 +220,21 @@ public abstract class SourceReaderBase<E, T, SplitT extends SourceSplit, SplitSt
             onSplitFinished(stateOfFinishedSplits);
         }
 
+        Set<String> removedSplits = fetch.removedSplits();
+        if (!removedSplits.isEmpty()) {
+            // the records fetched from these splits before are emitted, they resume from their
+            // state
+            List<SplitT> splitsToReassign = new ArrayList<>();
+            for (String removedSplitId : removedSplits) {
+                SplitContext<T, SplitStateT> splitContext = splitStates.get(removedSplitId);
+                if (splitContext != null) {
+                    splitsToReassign.add(toSplitType(removedSplitId, splitContext.state));
+                }
+            }
+            log.info("Reassigning split(s) {}", removedSplits);
+            splitFetcherManager.reassignSplits(splitsToReassign);
+        }
+
         fetch.recycle();
     }
 
@@ -246,6 +269,8 @@ public abstract class SourceReaderBase<E, T, SplitT extends SourceSplit, SplitSt
         final String splitId;
         @Getter final SplitStateT state;
         Collector<T> splitOutput;
+        /** The records emitted since the last checkpoint. */
+        long emittedRecords;
 
         Collector<T> getOrCreateSplitOutput(Collector<T> output) {
             if (splitOutput == null) {
@@ -40,8 +40,16 @@ public class SourceReaderOptions {
                     .defaultValue(2)
                     .withDescription("The capacity of the element queue in the source reader.");
 
+    public static final Option<Integer> FETCHER_NUM =
+            Options.key("source.reader.fetcher.num")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The number of fetcher threads reading the splits of a source reader.");
+
     public final long sourceReaderCloseTimeout;
     public final int elementQueueCapacity;
+    public final int fetcherNum;
 
     public SourceReaderOptions(Config config) {
         this(ReadonlyConfig.fromConfig(config));
@@ -50,5 +58,6 @@ public class SourceReaderOptions {
     public SourceReaderOptions(ReadonlyConfig config) {
         this.sourceReaderCloseTimeout = config.get(SOURCE_READER_CLOSE_TIMEOUT);
         this.elementQueueCapacity = config.get(ELEMENT_QUEUE_CAPACITY);
+        this.fetcherNum = config.get(FETCHER_NUM);
     }
 }
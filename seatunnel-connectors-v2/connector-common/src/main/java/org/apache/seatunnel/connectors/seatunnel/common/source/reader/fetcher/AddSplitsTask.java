@@ -24,22 +24,21 @@ import org.apache.seatunnel.connectors.seatunnel.common.source.reader.splitreade
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
-import java.util.Collection;
 import java.util.Map;
 
 @RequiredArgsConstructor
-@ToString(of = {"splitsToAdd"})
+@ToString(of = {"splitsAddition"})
 class AddSplitsTask<SplitT extends SourceSplit> implements SplitFetcherTask {
     private final SplitReader<?, SplitT> splitReader;
-    private final Collection<SplitT> splitsToAdd;
+    private final SplitsAddition<SplitT> splitsAddition;
     private final Map<String, SplitT> assignedSplits;
 
     @Override
     public void run() {
-        for (SplitT s : splitsToAdd) {
+        for (SplitT s : splitsAddition.splits()) {
             assignedSplits.put(s.splitId(), s);
         }
-        splitReader.handleSplitsChanges(new SplitsAddition<>(splitsToAdd));
+        splitReader.handleSplitsChanges(splitsAddition);
     }
 
     @Override
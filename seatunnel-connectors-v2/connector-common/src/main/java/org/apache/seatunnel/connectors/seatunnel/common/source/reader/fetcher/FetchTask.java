@@ -28,7 +28,9 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
 import java.util.Collection;
+import java.util.Queue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
@@ -47,12 +49,18 @@ class FetchTask<E, SplitT extends SourceSplit> implements SplitFetcherTask {
 
     private volatile RecordsWithSplitIds<E> lastRecords;
 
+    /** Records handed over by other tasks, enqueued after the records fetched before. */
+    private final Queue<RecordsWithSplitIds<E>> pendingRecords = new ConcurrentLinkedQueue<>();
+
     @Override
     public void run() throws IOException {
         try {
             if (!isWakeup() && lastRecords == null) {
-                lastRecords = splitReader.fetch();
-                log.debug("Fetch records from split fetcher {}", fetcherIndex);
+                lastRecords = pendingRecords.poll();
+                if (lastRecords == null) {
+                    lastRecords = splitReader.fetch();
+                    log.debug("Fetch records from split fetcher {}", fetcherIndex);
+                }
             }
 
             if (!isWakeup()) {
@@ -79,6 +87,15 @@ class FetchTask<E, SplitT extends SourceSplit> implements SplitFetcherTask {
         }
     }
 
+    /** Enqueue records once the records fetched before are enqueued. */
+    void enqueueAfterFetched(RecordsWithSplitIds<E> records) {
+        pendingRecords.add(records);
+    }
+
+    boolean hasPendingRecords() {
+        return lastRecords != null || !pendingRecords.isEmpty();
+    }
+
     @Override
     public void wakeUp() {
         // Set the wakeup flag first.
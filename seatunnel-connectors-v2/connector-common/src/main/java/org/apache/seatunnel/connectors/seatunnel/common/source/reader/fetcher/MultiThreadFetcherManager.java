@@ -0,0 +1,219 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.common.source.reader.fetcher;
+
+import org.apache.seatunnel.api.source.SourceSplit;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.RecordsWithSplitIds;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.splitreader.SplitReader;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static org.apache.seatunnel.shade.com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * A Fetcher Manager with up to {@code fetcherNum} fetching threads, each polling its own {@link
+ * SplitReader}. A new split goes to the fetcher with the least load, which is the number of records
+ * read from its splits since the last checkpoint.
+ *
+ * <p>At a checkpoint, if the split readers support {@link SplitReader#supportsSplitRemoval()
+ * removing splits}, one split may be moved from the most loaded fetcher to the least loaded one.
+ * The split is removed from the hot fetcher first, and only added to the cold fetcher when the
+ * source reader has emitted all the records fetched from it before, so it resumes from its exact
+ * state.
+ *
+ * @param <E>
+ * @param <SplitT>
+ */
+@Slf4j
+public class MultiThreadFetcherManager<E, SplitT extends SourceSplit>
+        extends SplitFetcherManager<E, SplitT> {
+
+    /** A split is moved when the hot fetcher reads this much more than the cold fetcher. */
+    private static final double MIN_IMBALANCE_RATIO = 0.2;
+
+    private final int fetcherNum;
+
+    /** The fetcher reading each split. */
+    private final Map<String, Integer> splitFetchers = new HashMap<>();
+
+    /** The records read by each fetcher since the last checkpoint, plus the splits added since. */
+    private final Map<Integer, Long> fetcherLoads = new HashMap<>();
+
+    /** The splits removed from a hot fetcher and the cold fetcher they move to. */
+    private final Map<String, Integer> movingSplits = new HashMap<>();
+
+    /** The expected records of a new split, the average of the splits read so far. */
+    private long splitLoadEstimate = 1;
+
+    public MultiThreadFetcherManager(
+            BlockingQueue<RecordsWithSplitIds<E>> elementsQueue,
+            Supplier<SplitReader<E, SplitT>> splitReaderSupplier,
+            int fetcherNum) {
+        this(elementsQueue, splitReaderSupplier, ignore -> {}, fetcherNum);
+    }
+
+    public MultiThreadFetcherManager(
+            BlockingQueue<RecordsWithSplitIds<E>> elementsQueue,
+            Supplier<SplitReader<E, SplitT>> splitReaderSupplier,
+            Consumer<Collection<String>> splitFinishedHook,
+            int fetcherNum) {
+        super(elementsQueue, splitReaderSupplier, splitFinishedHook);
+        checkArgument(fetcherNum > 0, "The number of fetchers must be positive");
+        this.fetcherNum = fetcherNum;
+    }
+
+    @Override
+    public synchronized void addSplits(Collection<SplitT> splitsToAdd) {
+        List<SplitFetcher<E, SplitT>> newFetchers = new ArrayList<>();
+        Map<SplitFetcher<E, SplitT>, List<SplitT>> placements = new LinkedHashMap<>();
+        for (SplitT split : splitsToAdd) {
+            SplitFetcher<E, SplitT> fetcher = leastLoadedFetcher(newFetchers);
+            placements.computeIfAbsent(fetcher, ignored -> new ArrayList<>()).add(split);
+            splitFetchers.put(split.splitId(), fetcher.getFetcherId());
+            fetcherLoads.merge(fetcher.getFetcherId(), splitLoadEstimate, Long::sum);
+        }
+        placements.forEach(SplitFetcher::addSplits);
+        newFetchers.forEach(this::startFetcher);
+    }
+
+    @Override
+    public synchronized void reassignSplits(Collection<SplitT> splitsToAdd) {
+        List<SplitFetcher<E, SplitT>> newFetchers = new ArrayList<>();
+        Map<SplitFetcher<E, SplitT>, List<SplitT>> placements = new LinkedHashMap<>();
+        for (SplitT split : splitsToAdd) {
+            Integer targetFetcherId = movingSplits.remove(split.splitId());
+            SplitFetcher<E, SplitT> fetcher =
+                    targetFetcherId == null ? null : fetchers.get(targetFetcherId);
+            if (fetcher == null) {
+                // the target fetcher was shut down in the meantime
+                fetcher = leastLoadedFetcher(newFetchers);
+            }
+            placements.computeIfAbsent(fetcher, ignored -> new ArrayList<>()).add(split);
+            splitFetchers.put(split.splitId(), fetcher.getFetcherId());
+        }
+        placements.forEach(SplitFetcher::reassignSplits);
+        newFetchers.forEach(this::startFetcher);
+    }
+
+    @Override
+    public synchronized void rebalanceSplits(Map<String, Long> splitRecords) {
+        // forget the splits that finished
+        splitFetchers.keySet().retainAll(splitRecords.keySet());
+        movingSplits.keySet().retainAll(splitRecords.keySet());
+
+        fetcherLoads.clear();
+        fetchers.keySet().forEach(fetcherId -> fetcherLoads.put(fetcherId, 0L));
+        long totalRecords = 0;
+        for (Map.Entry<String, Long> entry : splitRecords.entrySet()) {
+            Integer fetcherId = splitFetchers.get(entry.getKey());
+            if (fetcherId != null && fetcherLoads.containsKey(fetcherId)) {
+                fetcherLoads.merge(fetcherId, entry.getValue(), Long::sum);
+            }
+            totalRecords += entry.getValue();
+        }
+        if (!splitRecords.isEmpty()) {
+            splitLoadEstimate = Math.max(1, totalRecords / splitRecords.size());
+        }
+        if (!movingSplits.isEmpty() || fetcherLoads.size() < 2) {
+            return;
+        }
+
+        int hotFetcherId = -1;
+        int coldFetcherId = -1;
+        for (Map.Entry<Integer, Long> entry : fetcherLoads.entrySet()) {
+            if (hotFetcherId < 0 || entry.getValue() > fetcherLoads.get(hotFetcherId)) {
+                hotFetcherId = entry.getKey();
+            }
+            if (coldFetcherId < 0 || entry.getValue() < fetcherLoads.get(coldFetcherId)) {
+                coldFetcherId = entry.getKey();
+            }
+        }
+        long hotLoad = fetcherLoads.get(hotFetcherId);
+        long coldLoad = fetcherLoads.get(coldFetcherId);
+        long difference = hotLoad - coldLoad;
+        SplitFetcher<E, SplitT> hotFetcher = fetchers.get(hotFetcherId);
+        if (difference <= hotLoad * MIN_IMBALANCE_RATIO
+                || hotFetcher == null
+                || !hotFetcher.getSplitReader().supportsSplitRemoval()) {
+            return;
+        }
+
+        // the split that brings both fetchers closest to the same load. Moving a split that read
+        // more than the difference would only swap the hot and the cold fetcher, and a split that
+        // read less than a quarter of it is not worth the move.
+        String splitToMove = null;
+        long remainingDifference = difference / 2;
+        for (Map.Entry<String, Integer> entry : splitFetchers.entrySet()) {
+            long records = splitRecords.getOrDefault(entry.getKey(), 0L);
+            if (entry.getValue() != hotFetcherId || records >= difference) {
+                continue;
+            }
+            if (Math.abs(difference - 2 * records) <= remainingDifference) {
+                splitToMove = entry.getKey();
+                remainingDifference = Math.abs(difference - 2 * records);
+            }
+        }
+        if (splitToMove == null) {
+            return;
+        }
+        log.info(
+                "Moving split {} from split fetcher {} to {}, which read {} and {} records since the last checkpoint.",
+                splitToMove,
+                hotFetcherId,
+                coldFetcherId,
+                hotLoad,
+                coldLoad);
+        long movedRecords = splitRecords.get(splitToMove);
+        fetcherLoads.merge(hotFetcherId, -movedRecords, Long::sum);
+        fetcherLoads.merge(coldFetcherId, movedRecords, Long::sum);
+        movingSplits.put(splitToMove, coldFetcherId);
+        splitFetchers.put(splitToMove, coldFetcherId);
+        hotFetcher.removeSplits(Collections.singletonList(splitToMove));
+    }
+
+    /** The running fetcher with the least load, or a new one while there are less than allowed. */
+    private SplitFetcher<E, SplitT> leastLoadedFetcher(List<SplitFetcher<E, SplitT>> newFetchers) {
+        if (fetchers.size() < fetcherNum) {
+            SplitFetcher<E, SplitT> fetcher = createSplitFetcher();
+            fetcherLoads.put(fetcher.getFetcherId(), 0L);
+            newFetchers.add(fetcher);
+            return fetcher;
+        }
+        SplitFetcher<E, SplitT> leastLoaded = null;
+        long leastLoad = Long.MAX_VALUE;
+        for (SplitFetcher<E, SplitT> fetcher : fetchers.values()) {
+            long load = fetcherLoads.getOrDefault(fetcher.getFetcherId(), 0L);
+            if (leastLoaded == null || load < leastLoad) {
+                leastLoaded = fetcher;
+                leastLoad = load;
+            }
+        }
+        return leastLoaded;
+    }
+}
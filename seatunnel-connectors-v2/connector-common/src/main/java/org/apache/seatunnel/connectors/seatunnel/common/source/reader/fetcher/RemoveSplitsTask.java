@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.common.source.reader.fetcher;
+
+import org.apache.seatunnel.api.source.SourceSplit;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.RecordsWithSplitIds;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.splitreader.SplitReader;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.splitreader.SplitsRemoval;
+
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@RequiredArgsConstructor
+@ToString(of = {"splitIdsToRemove"})
+class RemoveSplitsTask<E, SplitT extends SourceSplit> implements SplitFetcherTask {
+    private final SplitReader<E, SplitT> splitReader;
+    private final Collection<String> splitIdsToRemove;
+    private final Map<String, SplitT> assignedSplits;
+    private final FetchTask<E, SplitT> fetchTask;
+
+    @Override
+    public void run() {
+        List<SplitT> splitsToRemove = new ArrayList<>();
+        for (String splitId : splitIdsToRemove) {
+            // the splits finished in the meantime are not handed over
+            SplitT split = assignedSplits.remove(splitId);
+            if (split != null) {
+                splitsToRemove.add(split);
+            }
+        }
+        if (splitsToRemove.isEmpty()) {
+            return;
+        }
+        splitReader.handleSplitsChanges(new SplitsRemoval<>(splitsToRemove));
+        Set<String> removedSplitIds = new HashSet<>();
+        splitsToRemove.forEach(split -> removedSplitIds.add(split.splitId()));
+        fetchTask.enqueueAfterFetched(new RemovedSplits<>(removedSplitIds));
+    }
+
+    @Override
+    public void wakeUp() {}
+
+    /** A fetch without records that tells the source reader which splits were removed. */
+    @RequiredArgsConstructor
+    private static class RemovedSplits<E> implements RecordsWithSplitIds<E> {
+        private final Set<String> removedSplitIds;
+
+        @Override
+        public String nextSplit() {
+            return null;
+        }
+
+        @Override
+        public E nextRecordFromSplit() {
+            return null;
+        }
+
+        @Override
+        public Set<String> finishedSplits() {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public Set<String> removedSplits() {
+            return removedSplitIds;
+        }
+    }
+}
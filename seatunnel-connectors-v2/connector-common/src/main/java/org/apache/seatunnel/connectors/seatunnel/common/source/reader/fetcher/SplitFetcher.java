@@ -20,6 +20,8 @@ package org.apache.seatunnel.connectors.seatunnel.common.source.reader.fetcher;
 import org.apache.seatunnel.api.source.SourceSplit;
 import org.apache.seatunnel.connectors.seatunnel.common.source.reader.RecordsWithSplitIds;
 import org.apache.seatunnel.connectors.seatunnel.common.source.reader.splitreader.SplitReader;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.splitreader.SplitsAddition;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.splitreader.SplitsReassignment;
 
 import lombok.Getter;
 import lombok.NonNull;
@@ -43,7 +45,7 @@ public class SplitFetcher<E, SplitT extends SourceSplit> implements Runnable {
     @Getter private final SplitReader<E, SplitT> splitReader;
     private final Consumer<Throwable> errorHandler;
     private final Runnable shutdownHook;
-    private final FetchTask fetchTask;
+    private final FetchTask<E, SplitT> fetchTask;
 
     private volatile boolean closed;
     private volatile SplitFetcherTask runningTask = null;
@@ -96,9 +98,35 @@ public class SplitFetcher<E, SplitT extends SourceSplit> implements Runnable {
     }
 
     public void addSplits(@NonNull Collection<SplitT> splitsToAdd) {
+        addSplits(new SplitsAddition<>(splitsToAdd));
+    }
+
+    /** Add splits removed from another fetcher, they resume from the position of their state. */
+    public void reassignSplits(@NonNull Collection<SplitT> splitsToAdd) {
+        addSplits(new SplitsReassignment<>(splitsToAdd));
+    }
+
+    private void addSplits(SplitsAddition<SplitT> splitsAddition) {
+        lock.lock();
+        try {
+            addTaskUnsafe(new AddSplitsTask<>(splitReader, splitsAddition, assignedSplits));
+            wakeUpUnsafe(true);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stop reading splits to hand them over to another fetcher. After the records fetched from them
+     * before, a fetch reporting the splits as {@link RecordsWithSplitIds#removedSplits()} is
+     * enqueued.
+     */
+    public void removeSplits(@NonNull Collection<String> splitIdsToRemove) {
         lock.lock();
         try {
-            addTaskUnsafe(new AddSplitsTask<>(splitReader, splitsToAdd, assignedSplits));
+            addTaskUnsafe(
+                    new RemoveSplitsTask<>(
+                            splitReader, splitIdsToRemove, assignedSplits, fetchTask));
             wakeUpUnsafe(true);
         } finally {
             lock.unlock();
@@ -130,7 +158,10 @@ public class SplitFetcher<E, SplitT extends SourceSplit> implements Runnable {
     public boolean isIdle() {
         lock.lock();
         try {
-            return assignedSplits.isEmpty() && taskQueue.isEmpty() && runningTask == null;
+            return assignedSplits.isEmpty()
+                    && taskQueue.isEmpty()
+                    && runningTask == null
+                    && !fetchTask.hasPendingRecords();
         } finally {
             lock.unlock();
         }
@@ -190,8 +221,8 @@ public class SplitFetcher<E, SplitT extends SourceSplit> implements Runnable {
             if (!taskQueue.isEmpty()) {
                 // execute tasks in taskQueue first
                 return taskQueue.poll();
-            } else if (!assignedSplits.isEmpty()) {
-                // use fallback task = fetch if there is at least one split
+            } else if (!assignedSplits.isEmpty() || fetchTask.hasPendingRecords()) {
+                // use fallback task = fetch if there is at least one split or records to enqueue
                 return fetchTask;
             } else {
                 // nothing to do, wait for signal
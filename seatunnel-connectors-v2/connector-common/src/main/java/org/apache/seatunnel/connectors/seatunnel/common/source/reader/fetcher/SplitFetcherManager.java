@@ -89,6 +89,20 @@ public abstract class SplitFetcherManager<E, SplitT extends SourceSplit> {
 
     public abstract void addSplits(Collection<SplitT> splitsToAdd);
 
+    /**
+     * Add the splits removed from a fetcher of this manager, they resume from the position of their
+     * state. Only managers that remove splits from their fetchers receive them.
+     */
+    public void reassignSplits(Collection<SplitT> splitsToAdd) {
+        addSplits(splitsToAdd);
+    }
+
+    /**
+     * Called by the source reader at every checkpoint with the records emitted from each of its
+     * splits since the last checkpoint. A manager of several fetchers may move splits between them.
+     */
+    public void rebalanceSplits(Map<String, Long> splitRecords) {}
+
     protected void startFetcher(SplitFetcher<E, SplitT> fetcher) {
         executors.submit(fetcher);
     }
@@ -42,6 +42,14 @@ public interface SplitReader<E, SplitT extends SourceSplit> {
      */
     void handleSplitsChanges(SplitsChange<SplitT> splitsChanges);
 
+    /**
+     * Whether the reader handles {@link SplitsRemoval}, which lets a fetcher manager move splits
+     * from one fetcher to another. The splits moved in are added as a {@link SplitsReassignment}.
+     */
+    default boolean supportsSplitRemoval() {
+        return false;
+    }
+
     /** Wake up the split reader in case the fetcher thread is blocking in {@link #fetch()}. */
     void wakeUp();
 
@@ -0,0 +1,270 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.common.source.reader.fetcher;
+
+import org.apache.seatunnel.api.common.metrics.MetricsContext;
+import org.apache.seatunnel.api.configuration.ReadonlyConfig;
+import org.apache.seatunnel.api.event.EventListener;
+import org.apache.seatunnel.api.source.Boundedness;
+import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.source.SourceEvent;
+import org.apache.seatunnel.api.source.SourceReader;
+import org.apache.seatunnel.api.source.SourceSplit;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.RecordsBySplits;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.RecordsWithSplitIds;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.SourceReaderBase;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.SourceReaderOptions;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.splitreader.SplitReader;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.splitreader.SplitsChange;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.splitreader.SplitsReassignment;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.splitreader.SplitsRemoval;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import lombok.AllArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class MultiThreadFetcherManagerTest {
+
+    @Test
+    public void testSplitsAreSpreadAndMovedWithoutLoss() throws Exception {
+        BlockingQueue<RecordsWithSplitIds<TestRecord>> elementsQueue = new ArrayBlockingQueue<>(2);
+        AtomicInteger removedSplits = new AtomicInteger();
+        Set<Thread> fetcherThreads = ConcurrentHashMap.newKeySet();
+        MultiThreadFetcherManager<TestRecord, TestSplit> manager =
+                new MultiThreadFetcherManager<>(
+                        elementsQueue, () -> new TestSplitReader(removedSplits, fetcherThreads), 2);
+        TestSourceReader reader = new TestSourceReader(elementsQueue, manager);
+
+        // the fast splits go to the first fetcher and the slow splits to the second one
+        List<TestSplit> splits =
+                Arrays.asList(
+                        new TestSplit("fast-0", 0, 10_000, 100),
+                        new TestSplit("slow-0", 0, 500, 10),
+                        new TestSplit("fast-1", 0, 10_000, 100),
+                        new TestSplit("slow-1", 0, 500, 10));
+        reader.addSplits(splits);
+
+        TestCollector output = new TestCollector();
+        long expectedRecords = splits.stream().mapToLong(split -> split.end).sum();
+        long checkpointId = 0;
+        long deadline = System.currentTimeMillis() + 60_000;
+        while (output.count < expectedRecords && System.currentTimeMillis() < deadline) {
+            for (int i = 0; i < 1000 && output.count < expectedRecords; i++) {
+                reader.pollNext(output);
+            }
+            reader.snapshotState(checkpointId++);
+        }
+        reader.close();
+
+        Assertions.assertEquals(2, fetcherThreads.size());
+        Assertions.assertTrue(removedSplits.get() > 0, "No split was moved");
+        for (TestSplit split : splits) {
+            List<Long> offsets = output.offsets.get(split.splitId());
+            Assertions.assertEquals(split.end, offsets.size(), split.splitId());
+            for (int i = 0; i < offsets.size(); i++) {
+                Assertions.assertEquals(i, offsets.get(i).longValue(), split.splitId());
+            }
+        }
+    }
+
+    @AllArgsConstructor
+    private static class TestRecord {
+        private final String splitId;
+        private final long offset;
+    }
+
+    @AllArgsConstructor
+    private static class TestSplit implements SourceSplit {
+        private final String splitId;
+        private final long start;
+        private final long end;
+        private final int batchSize;
+
+        @Override
+        public String splitId() {
+            return splitId;
+        }
+    }
+
+    /** Returns {@code batchSize} records of every split per fetch. */
+    @AllArgsConstructor
+    private static class TestSplitReader implements SplitReader<TestRecord, TestSplit> {
+        private final Map<String, TestSplit> splits = new HashMap<>();
+        private final Map<String, Long> positions = new HashMap<>();
+        private final AtomicInteger removedSplits;
+        private final Set<Thread> fetcherThreads;
+
+        @Override
+        public RecordsWithSplitIds<TestRecord> fetch() {
+            fetcherThreads.add(Thread.currentThread());
+            Map<String, Collection<TestRecord>> records = new HashMap<>();
+            Set<String> finishedSplits = new HashSet<>();
+            for (String splitId : new ArrayList<>(positions.keySet())) {
+                TestSplit split = splits.get(splitId);
+                long position = positions.get(splitId);
+                List<TestRecord> splitRecords = new ArrayList<>();
+                for (int i = 0; i < split.batchSize && position < split.end; i++) {
+                    splitRecords.add(new TestRecord(splitId, position++));
+                }
+                records.put(splitId, splitRecords);
+                positions.put(splitId, position);
+                if (position == split.end) {
+                    finishedSplits.add(splitId);
+                    positions.remove(splitId);
+                }
+            }
+            return new RecordsBySplits<>(records, finishedSplits);
+        }
+
+        @Override
+        public void handleSplitsChanges(SplitsChange<TestSplit> splitsChanges) {
+            for (TestSplit split : splitsChanges.splits()) {
+                if (splitsChanges instanceof SplitsRemoval) {
+                    positions.remove(split.splitId());
+                    removedSplits.incrementAndGet();
+                } else {
+                    Assertions.assertEquals(
+                            splitsChanges instanceof SplitsReassignment, split.start > 0);
+                    splits.put(split.splitId(), split);
+                    positions.put(split.splitId(), split.start);
+                }
+            }
+        }
+
+        @Override
+        public boolean supportsSplitRemoval() {
+            return true;
+        }
+
+        @Override
+        public void wakeUp() {}
+
+        @Override
+        public void close() {}
+    }
+
+    private static class SplitState {
+        private final TestSplit split;
+        private long position;
+
+        SplitState(TestSplit split) {
+            this.split = split;
+            this.position = split.start;
+        }
+    }
+
+    private static class TestSourceReader
+            extends SourceReaderBase<TestRecord, TestRecord, TestSplit, SplitState> {
+
+        TestSourceReader(
+                BlockingQueue<RecordsWithSplitIds<TestRecord>> elementsQueue,
+                MultiThreadFetcherManager<TestRecord, TestSplit> manager) {
+            super(
+                    elementsQueue,
+                    manager,
+                    (record, collector, state) -> {
+                        Assertions.assertEquals(state.position, record.offset);
+                        state.position++;
+                        collector.collect(record);
+                    },
+                    new SourceReaderOptions(ReadonlyConfig.fromMap(Collections.emptyMap())),
+                    new TestContext());
+        }
+
+        @Override
+        protected void onSplitFinished(Map<String, SplitState> finishedSplitIds) {}
+
+        @Override
+        protected SplitState initializedState(TestSplit split) {
+            return new SplitState(split);
+        }
+
+        @Override
+        protected TestSplit toSplitType(String splitId, SplitState splitState) {
+            TestSplit split = splitState.split;
+            return new TestSplit(splitId, splitState.position, split.end, split.batchSize);
+        }
+
+        @Override
+        public void notifyCheckpointComplete(long checkpointId) {}
+    }
+
+    private static class TestCollector implements Collector<TestRecord> {
+        private final Map<String, List<Long>> offsets = new HashMap<>();
+        private long count;
+
+        @Override
+        public void collect(TestRecord record) {
+            offsets.computeIfAbsent(record.splitId, ignored -> new ArrayList<>())
+                    .add(record.offset);
+            count++;
+        }
+
+        @Override
+        public Object getCheckpointLock() {
+            return this;
+        }
+    }
+
+    private static class TestContext implements SourceReader.Context {
+
+        @Override
+        public int getIndexOfSubtask() {
+            return 0;
+        }
+
+        @Override
+        public Boundedness getBoundedness() {
+            return Boundedness.UNBOUNDED;
+        }
+
+        @Override
+        public void signalNoMoreElement() {}
+
+        @Override
+        public void sendSplitRequest() {}
+
+        @Override
+        public void sendSourceEventToEnumerator(SourceEvent sourceEvent) {}
+
+        @Override
+        public MetricsContext getMetricsContext() {
+            return null;
+        }
+
+        @Override
+        public EventListener getEventListener() {
+            return null;
+        }
+    }
+}
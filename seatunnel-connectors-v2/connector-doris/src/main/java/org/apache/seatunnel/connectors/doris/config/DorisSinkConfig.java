@@ -39,6 +39,7 @@ import static org.apache.seatunnel.connectors.doris.config.DorisOptions.USERNAME
 import static org.apache.seatunnel.connectors.doris.config.DorisSinkOptions.DORIS_SINK_CONFIG_PREFIX;
 import static org.apache.seatunnel.connectors.doris.config.DorisSinkOptions.NEEDS_UNSUPPORTED_TYPE_CASTING;
 import static org.apache.seatunnel.connectors.doris.config.DorisSinkOptions.SAVE_MODE_CREATE_TEMPLATE;
+import static org.apache.seatunnel.connectors.doris.config.DorisSinkOptions.SINK_ARROW_BATCH_SIZE;
 import static org.apache.seatunnel.connectors.doris.config.DorisSinkOptions.SINK_BUFFER_COUNT;
 import static org.apache.seatunnel.connectors.doris.config.DorisSinkOptions.SINK_BUFFER_SIZE;
 import static org.apache.seatunnel.connectors.doris.config.DorisSinkOptions.SINK_CHECK_INTERVAL;
@@ -69,6 +70,7 @@ public class DorisSinkConfig implements Serializable {
     private Integer maxRetries;
     private Integer bufferSize;
     private Integer bufferCount;
+    private Integer arrowBatchSize;
     private Properties streamLoadProps;
     private boolean needsUnsupportedTypeCasting;
 
@@ -100,6 +102,7 @@ public class DorisSinkConfig implements Serializable {
         dorisSinkConfig.setMaxRetries(config.get(SINK_MAX_RETRIES));
         dorisSinkConfig.setBufferSize(config.get(SINK_BUFFER_SIZE));
         dorisSinkConfig.setBufferCount(config.get(SINK_BUFFER_COUNT));
+        dorisSinkConfig.setArrowBatchSize(config.get(SINK_ARROW_BATCH_SIZE));
         dorisSinkConfig.setEnableDelete(config.get(SINK_ENABLE_DELETE));
         dorisSinkConfig.setNeedsUnsupportedTypeCasting(config.get(NEEDS_UNSUPPORTED_TYPE_CASTING));
 
@@ -42,6 +42,7 @@ public interface DorisSinkOptions {
     int DEFAULT_SINK_MAX_RETRIES = 3;
     int DEFAULT_SINK_BUFFER_SIZE = 256 * 1024;
     int DEFAULT_SINK_BUFFER_COUNT = 3;
+    int DEFAULT_SINK_ARROW_BATCH_SIZE = 4096;
 
     Option<Boolean> SINK_ENABLE_2PC =
             Options.key("sink.enable-2pc")
@@ -69,6 +70,12 @@ public interface DorisSinkOptions {
                     .intType()
                     .defaultValue(DEFAULT_SINK_BUFFER_COUNT)
                     .withDescription("the buffer count to cache data for stream load.");
+    Option<Integer> SINK_ARROW_BATCH_SIZE =
+            Options.key("sink.arrow.batch-size")
+                    .intType()
+                    .defaultValue(DEFAULT_SINK_ARROW_BATCH_SIZE)
+                    .withDescription(
+                            "the number of rows of each arrow record batch when the stream load format is arrow.");
     Option<String> SINK_LABEL_PREFIX =
             Options.key("sink.label-prefix")
                     .stringType()
@@ -166,6 +173,7 @@ public interface DorisSinkOptions {
                             DORIS_BATCH_SIZE,
                             SINK_ENABLE_2PC,
                             SINK_ENABLE_DELETE,
+                            SINK_ARROW_BATCH_SIZE,
                             MULTI_TABLE_SINK_REPLICA,
                             SAVE_MODE_CREATE_TEMPLATE,
                             NEEDS_UNSUPPORTED_TYPE_CASTING)
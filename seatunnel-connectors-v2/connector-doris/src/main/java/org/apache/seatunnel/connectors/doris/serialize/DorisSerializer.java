@@ -28,5 +28,13 @@ public interface DorisSerializer extends Serializable {
 
     byte[] serialize(SeaTunnelRow seaTunnelRow) throws IOException;
 
+    /**
+     * Returns the bytes that close the body of the running stream load, called right before the
+     * load is stopped. Line based formats have nothing buffered and return an empty array.
+     */
+    default byte[] finish() throws IOException {
+        return new byte[0];
+    }
+
     void close() throws IOException;
 }
@@ -0,0 +1,356 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.doris.serialize;
+
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonGenerator;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.seatunnel.shade.org.apache.arrow.memory.BufferAllocator;
+import org.apache.seatunnel.shade.org.apache.arrow.memory.RootAllocator;
+import org.apache.seatunnel.shade.org.apache.arrow.vector.BigIntVector;
+import org.apache.seatunnel.shade.org.apache.arrow.vector.BitVector;
+import org.apache.seatunnel.shade.org.apache.arrow.vector.DateDayVector;
+import org.apache.seatunnel.shade.org.apache.arrow.vector.DecimalVector;
+import org.apache.seatunnel.shade.org.apache.arrow.vector.FieldVector;
+import org.apache.seatunnel.shade.org.apache.arrow.vector.Float4Vector;
+import org.apache.seatunnel.shade.org.apache.arrow.vector.Float8Vector;
+import org.apache.seatunnel.shade.org.apache.arrow.vector.IntVector;
+import org.apache.seatunnel.shade.org.apache.arrow.vector.SmallIntVector;
+import org.apache.seatunnel.shade.org.apache.arrow.vector.TimeStampMicroVector;
+import org.apache.seatunnel.shade.org.apache.arrow.vector.TinyIntVector;
+import org.apache.seatunnel.shade.org.apache.arrow.vector.VarBinaryVector;
+import org.apache.seatunnel.shade.org.apache.arrow.vector.VarCharVector;
+import org.apache.seatunnel.shade.org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.seatunnel.shade.org.apache.arrow.vector.dictionary.DictionaryProvider;
+import org.apache.seatunnel.shade.org.apache.arrow.vector.ipc.ArrowStreamWriter;
+import org.apache.seatunnel.shade.org.apache.arrow.vector.types.DateUnit;
+import org.apache.seatunnel.shade.org.apache.arrow.vector.types.FloatingPointPrecision;
+import org.apache.seatunnel.shade.org.apache.arrow.vector.types.TimeUnit;
+import org.apache.seatunnel.shade.org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.seatunnel.shade.org.apache.arrow.vector.types.pojo.Field;
+import org.apache.seatunnel.shade.org.apache.arrow.vector.types.pojo.Schema;
+
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.common.exception.CommonError;
+import org.apache.seatunnel.connectors.doris.config.DorisOptions;
+import org.apache.seatunnel.connectors.doris.sink.writer.LoadConstants;
+import org.apache.seatunnel.format.json.RowToJsonConverters;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.apache.seatunnel.shade.com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Serializes rows into the Arrow IPC stream format accepted by Doris stream load with {@code
+ * format=arrow}.
+ *
+ * <p>Rows are written column by column into reusable Arrow vectors. Every {@code batchSize} rows
+ * the vectors are encoded as one record batch and handed back from {@link #serialize}, so the
+ * record buffer receives a few large chunks instead of one small chunk per row. The first call
+ * after {@link #finish()} also returns the schema message, and {@link #finish()} returns the last
+ * partial batch plus the end-of-stream marker, so every stream load carries one complete IPC
+ * stream.
+ */
+public class SeaTunnelRowArrowSerializer implements DorisSerializer {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    /** Arrow decimal128 cannot hold more digits, wider decimals are sent as plain strings. */
+    private static final int MAX_ARROW_DECIMAL_PRECISION = 38;
+
+    private final SeaTunnelRowType seaTunnelRowType;
+    private final boolean enableDelete;
+    private final int batchSize;
+
+    private transient BufferAllocator allocator;
+    private transient VectorSchemaRoot root;
+    private transient FieldWriter[] fieldWriters;
+    private transient ByteArrayOutputStream output;
+    private transient ArrowStreamWriter streamWriter;
+    private transient int batchRows;
+
+    public SeaTunnelRowArrowSerializer(
+            SeaTunnelRowType seaTunnelRowType, boolean enableDelete, int batchSize) {
+        checkArgument(batchSize > 0, "arrow batch size must be positive");
+        this.seaTunnelRowType = seaTunnelRowType;
+        this.enableDelete = enableDelete;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void open() throws IOException {
+        if (root != null) {
+            return;
+        }
+        List<Field> fields = new ArrayList<>();
+        List<FieldWriter> writers = new ArrayList<>();
+        for (int i = 0; i < seaTunnelRowType.getTotalFields(); i++) {
+            String fieldName = seaTunnelRowType.getFieldName(i);
+            SeaTunnelDataType<?> fieldType = seaTunnelRowType.getFieldType(i);
+            fields.add(Field.nullable(fieldName, toArrowType(fieldName, fieldType)));
+            writers.add(createFieldWriter(fieldType));
+        }
+        if (enableDelete) {
+            fields.add(Field.nullable(LoadConstants.DORIS_DELETE_SIGN, new ArrowType.Utf8()));
+            writers.add(createFieldWriter(null));
+        }
+        this.allocator = new RootAllocator();
+        this.root = VectorSchemaRoot.create(new Schema(fields), allocator);
+        this.fieldWriters = writers.toArray(new FieldWriter[0]);
+        this.output = new ByteArrayOutputStream();
+        this.batchRows = 0;
+    }
+
+    @Override
+    public byte[] serialize(SeaTunnelRow seaTunnelRow) throws IOException {
+        open();
+        if (streamWriter == null) {
+            streamWriter =
+                    new ArrowStreamWriter(
+                            root,
+                            new DictionaryProvider.MapDictionaryProvider(),
+                            Channels.newChannel(output));
+            streamWriter.start();
+        }
+        List<FieldVector> vectors = root.getFieldVectors();
+        int fieldCount = seaTunnelRowType.getTotalFields();
+        for (int i = 0; i < fieldCount; i++) {
+            Object value = seaTunnelRow.getField(i);
+            if (value == null) {
+                vectors.get(i).setNull(batchRows);
+            } else {
+                fieldWriters[i].write(vectors.get(i), batchRows, value);
+            }
+        }
+        if (enableDelete) {
+            fieldWriters[fieldCount].write(
+                    vectors.get(fieldCount), batchRows, parseDeleteSign(seaTunnelRow.getRowKind()));
+        }
+        if (++batchRows == batchSize) {
+            writeBatch();
+        }
+        return drainOutput();
+    }
+
+    @Override
+    public byte[] finish() throws IOException {
+        if (streamWriter == null) {
+            return EMPTY;
+        }
+        if (batchRows > 0) {
+            writeBatch();
+        }
+        streamWriter.end();
+        streamWriter = null;
+        return drainOutput();
+    }
+
+    @Override
+    public void close() throws IOException {
+        streamWriter = null;
+        batchRows = 0;
+        if (root != null) {
+            root.close();
+            root = null;
+        }
+        if (allocator != null) {
+            allocator.close();
+            allocator = null;
+        }
+    }
+
+    private void writeBatch() throws IOException {
+        root.setRowCount(batchRows);
+        streamWriter.writeBatch();
+        for (FieldVector vector : root.getFieldVectors()) {
+            vector.reset();
+        }
+        batchRows = 0;
+    }
+
+    private byte[] drainOutput() {
+        if (output.size() == 0) {
+            return EMPTY;
+        }
+        byte[] bytes = output.toByteArray();
+        output.reset();
+        return bytes;
+    }
+
+    private String parseDeleteSign(RowKind rowKind) {
+        if (RowKind.INSERT.equals(rowKind) || RowKind.UPDATE_AFTER.equals(rowKind)) {
+            return "0";
+        } else if (RowKind.DELETE.equals(rowKind) || RowKind.UPDATE_BEFORE.equals(rowKind)) {
+            return "1";
+        } else {
+            throw new IllegalArgumentException("Unrecognized row kind:" + rowKind.toString());
+        }
+    }
+
+    private static ArrowType toArrowType(String fieldName, SeaTunnelDataType<?> fieldType) {
+        switch (fieldType.getSqlType()) {
+            case BOOLEAN:
+                return ArrowType.Bool.INSTANCE;
+            case TINYINT:
+                return new ArrowType.Int(8, true);
+            case SMALLINT:
+                return new ArrowType.Int(16, true);
+            case INT:
+                return new ArrowType.Int(32, true);
+            case BIGINT:
+                return new ArrowType.Int(64, true);
+            case FLOAT:
+                return new ArrowType.FloatingPoint(FloatingPointPrecision.SINGLE);
+            case DOUBLE:
+                return new ArrowType.FloatingPoint(FloatingPointPrecision.DOUBLE);
+            case DECIMAL:
+                DecimalType decimalType = (DecimalType) fieldType;
+                if (decimalType.getPrecision() > MAX_ARROW_DECIMAL_PRECISION) {
+                    return new ArrowType.Utf8();
+                }
+                return new ArrowType.Decimal(
+                        decimalType.getPrecision(), decimalType.getScale(), 128);
+            case DATE:
+                return new ArrowType.Date(DateUnit.DAY);
+            case TIMESTAMP:
+                return new ArrowType.Timestamp(TimeUnit.MICROSECOND, null);
+            case BYTES:
+                return ArrowType.Binary.INSTANCE;
+            case STRING:
+            case NULL:
+            case TIME:
+            case ARRAY:
+            case MAP:
+            case ROW:
+                return new ArrowType.Utf8();
+            default:
+                throw CommonError.unsupportedDataType(
+                        DorisOptions.IDENTIFIER, fieldType.getSqlType().toString(), fieldName);
+        }
+    }
+
+    /** Creates the writer of one column, {@code null} stands for the hidden delete sign column. */
+    private static FieldWriter createFieldWriter(SeaTunnelDataType<?> fieldType) {
+        if (fieldType == null) {
+            return (vector, index, value) ->
+                    ((VarCharVector) vector)
+                            .setSafe(index, ((String) value).getBytes(StandardCharsets.UTF_8));
+        }
+        switch (fieldType.getSqlType()) {
+            case BOOLEAN:
+                return (vector, index, value) ->
+                        ((BitVector) vector).setSafe(index, (Boolean) value ? 1 : 0);
+            case TINYINT:
+                return (vector, index, value) ->
+                        ((TinyIntVector) vector).setSafe(index, (Byte) value);
+            case SMALLINT:
+                return (vector, index, value) ->
+                        ((SmallIntVector) vector).setSafe(index, (Short) value);
+            case INT:
+                return (vector, index, value) ->
+                        ((IntVector) vector).setSafe(index, (Integer) value);
+            case BIGINT:
+                return (vector, index, value) ->
+                        ((BigIntVector) vector).setSafe(index, (Long) value);
+            case FLOAT:
+                return (vector, index, value) ->
+                        ((Float4Vector) vector).setSafe(index, (Float) value);
+            case DOUBLE:
+                return (vector, index, value) ->
+                        ((Float8Vector) vector).setSafe(index, (Double) value);
+            case DECIMAL:
+                DecimalType decimalType = (DecimalType) fieldType;
+                if (decimalType.getPrecision() > MAX_ARROW_DECIMAL_PRECISION) {
+                    return (vector, index, value) ->
+                            ((VarCharVector) vector)
+                                    .setSafe(
+                                            index,
+                                            ((BigDecimal) value)
+                                                    .toPlainString()
+                                                    .getBytes(StandardCharsets.UTF_8));
+                }
+                int scale = decimalType.getScale();
+                return (vector, index, value) ->
+                        ((DecimalVector) vector)
+                                .setSafe(
+                                        index,
+                                        ((BigDecimal) value).setScale(scale, RoundingMode.HALF_UP));
+            case DATE:
+                return (vector, index, value) ->
+                        ((DateDayVector) vector)
+                                .setSafe(index, (int) ((LocalDate) value).toEpochDay());
+            case TIMESTAMP:
+                return (vector, index, value) -> {
+                    LocalDateTime dateTime = (LocalDateTime) value;
+                    long micros =
+                            dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L
+                                    + dateTime.getNano() / 1_000;
+                    ((TimeStampMicroVector) vector).setSafe(index, micros);
+                };
+            case BYTES:
+                return (vector, index, value) ->
+                        ((VarBinaryVector) vector).setSafe(index, (byte[]) value);
+            case STRING:
+                return (vector, index, value) ->
+                        ((VarCharVector) vector)
+                                .setSafe(index, value.toString().getBytes(StandardCharsets.UTF_8));
+            case NULL:
+                return (vector, index, value) -> vector.setNull(index);
+            default:
+                // TIME and the nested types are sent as the text the json format would produce
+                return new JsonTextFieldWriter(fieldType);
+        }
+    }
+
+    @FunctionalInterface
+    private interface FieldWriter {
+        void write(FieldVector vector, int index, Object value) throws IOException;
+    }
+
+    private static class JsonTextFieldWriter implements FieldWriter {
+        private final ObjectMapper mapper;
+        private final RowToJsonConverters.RowToJsonConverter converter;
+
+        private JsonTextFieldWriter(SeaTunnelDataType<?> fieldType) {
+            this.mapper = new ObjectMapper();
+            this.mapper.configure(JsonGenerator.Feature.WRITE_BIGDECIMAL_AS_PLAIN, true);
+            this.converter = new RowToJsonConverters().createConverter(fieldType);
+        }
+
+        @Override
+        public void write(FieldVector vector, int index, Object value) throws IOException {
+            JsonNode node = converter.convert(mapper, null, value);
+            String text = node.isTextual() ? node.asText() : mapper.writeValueAsString(node);
+            ((VarCharVector) vector).setSafe(index, text.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
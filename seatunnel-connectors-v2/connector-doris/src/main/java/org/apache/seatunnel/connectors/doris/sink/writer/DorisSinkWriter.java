@@ -36,6 +36,7 @@ import org.apache.seatunnel.connectors.doris.exception.DorisSchemaChangeExceptio
 import org.apache.seatunnel.connectors.doris.rest.models.RespContent;
 import org.apache.seatunnel.connectors.doris.schema.SchemaChangeManager;
 import org.apache.seatunnel.connectors.doris.serialize.DorisSerializer;
+import org.apache.seatunnel.connectors.doris.serialize.SeaTunnelRowArrowSerializer;
 import org.apache.seatunnel.connectors.doris.serialize.SeaTunnelRowSerializer;
 import org.apache.seatunnel.connectors.doris.sink.LoadStatus;
 import org.apache.seatunnel.connectors.doris.sink.committer.DorisCommitInfo;
@@ -170,9 +171,22 @@ public class DorisSinkWriter
     }
 
     @Override
-    public void applySchemaChange(SchemaChangeEvent event) {
+    public void applySchemaChange(SchemaChangeEvent event) throws IOException {
         this.tableSchema = tableSchemaChanger.reset(tableSchema).apply(event);
         SeaTunnelRowType seaTunnelRowType = tableSchema.toPhysicalRowDataType();
+        if (serializer instanceof SeaTunnelRowArrowSerializer
+                && dorisStreamLoad.getRecordCount() > 0) {
+            // an arrow load body carries a single schema, load the rows of the old one first
+            if (dorisSinkConfig.getEnable2PC()) {
+                throw new DorisConnectorException(
+                        DorisConnectorErrorCode.SCHEMA_CHANGE_FAILED,
+                        "The arrow format can not apply a schema change in the middle of a "
+                                + "checkpoint when 2pc is enabled");
+            }
+            flush();
+            startLoad(labelGenerator.generateLabel(lastCheckpointId));
+        }
+        serializer.close();
         this.serializer = createSerializer(this.dorisSinkConfig, seaTunnelRowType);
 
         try {
@@ -198,6 +212,7 @@ public class DorisSinkWriter
     private RespContent flush() throws IOException {
         // disable exception checker before stop load.
         checkState(dorisStreamLoad != null);
+        dorisStreamLoad.writeTrailer(serializer.finish());
         RespContent respContent = dorisStreamLoad.stopLoad();
         if (respContent != null && !DORIS_SUCCESS_STATUS.contains(respContent.getStatus())) {
             String errMsg =
@@ -262,15 +277,26 @@ public class DorisSinkWriter
         if (dorisStreamLoad != null) {
             dorisStreamLoad.close();
         }
+        if (serializer != null) {
+            serializer.close();
+        }
     }
 
     private DorisSerializer createSerializer(
             DorisSinkConfig dorisSinkConfig, SeaTunnelRowType seaTunnelRowType) {
-        return new SeaTunnelRowSerializer(
+        String format =
                 dorisSinkConfig
                         .getStreamLoadProps()
                         .getProperty(LoadConstants.FORMAT_KEY)
-                        .toLowerCase(),
+                        .toLowerCase();
+        if (LoadConstants.ARROW.equals(format)) {
+            return new SeaTunnelRowArrowSerializer(
+                    seaTunnelRowType,
+                    dorisSinkConfig.getEnableDelete(),
+                    dorisSinkConfig.getArrowBatchSize());
+        }
+        return new SeaTunnelRowSerializer(
+                format,
                 seaTunnelRowType,
                 dorisSinkConfig.getStreamLoadProps().getProperty(LoadConstants.FIELD_DELIMITER_KEY),
                 dorisSinkConfig.getEnableDelete());
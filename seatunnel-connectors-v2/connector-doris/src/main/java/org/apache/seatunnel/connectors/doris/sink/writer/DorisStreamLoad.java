@@ -52,6 +52,8 @@ import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 
+import static org.apache.seatunnel.connectors.doris.sink.writer.LoadConstants.ARROW;
+import static org.apache.seatunnel.connectors.doris.sink.writer.LoadConstants.FORMAT_KEY;
 import static org.apache.seatunnel.connectors.doris.sink.writer.LoadConstants.LINE_DELIMITER_DEFAULT;
 import static org.apache.seatunnel.connectors.doris.sink.writer.LoadConstants.LINE_DELIMITER_KEY;
 import static org.apache.seatunnel.connectors.doris.util.ResponseUtil.LABEL_EXIST_PATTERN;
@@ -114,8 +116,13 @@ public class DorisStreamLoad implements Serializable {
                         new ThreadFactoryBuilder().setNameFormat("stream-load-upload").build());
         this.recordStream =
                 new RecordStream(dorisSinkConfig.getBufferSize(), dorisSinkConfig.getBufferCount());
+        // an arrow body is one binary ipc stream, records are not separated by lines
         lineDelimiter =
-                streamLoadProp.getProperty(LINE_DELIMITER_KEY, LINE_DELIMITER_DEFAULT).getBytes();
+                ARROW.equalsIgnoreCase(streamLoadProp.getProperty(FORMAT_KEY))
+                        ? new byte[0]
+                        : streamLoadProp
+                                .getProperty(LINE_DELIMITER_KEY, LINE_DELIMITER_DEFAULT)
+                                .getBytes();
         loadBatchFirstRecord = true;
     }
 
@@ -181,13 +188,22 @@ public class DorisStreamLoad implements Serializable {
             loadBatchFirstRecord = false;
             recordStream.startInput();
             startStreamLoad();
-        } else {
+        } else if (lineDelimiter.length > 0) {
             recordStream.write(lineDelimiter);
         }
-        recordStream.write(record);
+        if (record.length > 0) {
+            recordStream.write(record);
+        }
         recordCount++;
     }
 
+    /** Appends the bytes that close the body of the running load, if any record was written. */
+    public void writeTrailer(byte[] trailer) throws IOException {
+        if (!loadBatchFirstRecord && trailer.length > 0) {
+            recordStream.write(trailer);
+        }
+    }
+
     public String getLoadFailedMsg() {
         if (!loading) {
             return null;
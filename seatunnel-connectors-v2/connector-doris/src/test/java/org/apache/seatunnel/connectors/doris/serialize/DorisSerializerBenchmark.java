@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.doris.serialize;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.doris.sink.writer.LoadConstants;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the stream load body produced by the json, csv and arrow serializers of the Doris sink
+ * on a narrow and a wide schema of long, double, decimal, string, date and timestamp columns. Each
+ * invocation serializes one load of {@code LOAD_ROWS} rows, including the trailer of the arrow
+ * stream, and returns the body size in bytes.
+ *
+ * <p>Run it from the IDE or with {@code java -cp <test classpath>
+ * org.apache.seatunnel.connectors.doris.serialize.DorisSerializerBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(
+        value = 1,
+        jvmArgsAppend = {
+            "-XX:+IgnoreUnrecognizedVMOptions",
+            "--add-opens=java.base/java.nio=ALL-UNNAMED"
+        })
+public class DorisSerializerBenchmark {
+
+    private static final int LOAD_ROWS = 4096;
+
+    @Param({"16", "128"})
+    private int columns;
+
+    @Param({LoadConstants.JSON, LoadConstants.CSV, LoadConstants.ARROW})
+    private String format;
+
+    private DorisSerializer serializer;
+    private SeaTunnelRow[] rows;
+
+    @Setup
+    public void setup() {
+        String[] fieldNames = new String[columns];
+        SeaTunnelDataType<?>[] fieldTypes = new SeaTunnelDataType<?>[columns];
+        for (int i = 0; i < columns; i++) {
+            fieldNames[i] = "c" + i;
+            fieldTypes[i] = fieldType(i);
+        }
+        SeaTunnelRowType rowType = new SeaTunnelRowType(fieldNames, fieldTypes);
+        serializer =
+                LoadConstants.ARROW.equals(format)
+                        ? new SeaTunnelRowArrowSerializer(rowType, false, LOAD_ROWS)
+                        : new SeaTunnelRowSerializer(format, rowType, "\t", false);
+
+        rows = new SeaTunnelRow[LOAD_ROWS];
+        for (int row = 0; row < LOAD_ROWS; row++) {
+            Object[] fields = new Object[columns];
+            for (int i = 0; i < columns; i++) {
+                fields[i] = value(row, i);
+            }
+            rows[row] = new SeaTunnelRow(fields);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        serializer.close();
+    }
+
+    @Benchmark
+    public long serializeLoad() throws IOException {
+        long bytes = 0;
+        for (SeaTunnelRow row : rows) {
+            bytes += serializer.serialize(row).length;
+        }
+        return bytes + serializer.finish().length;
+    }
+
+    private static SeaTunnelDataType<?> fieldType(int column) {
+        switch (column % 6) {
+            case 0:
+                return BasicType.LONG_TYPE;
+            case 1:
+                return BasicType.DOUBLE_TYPE;
+            case 2:
+                return new DecimalType(18, 4);
+            case 3:
+                return LocalTimeType.LOCAL_DATE_TYPE;
+            case 4:
+                return LocalTimeType.LOCAL_DATE_TIME_TYPE;
+            default:
+                return BasicType.STRING_TYPE;
+        }
+    }
+
+    private static Object value(int row, int column) {
+        switch (column % 6) {
+            case 0:
+                return (long) row * column;
+            case 1:
+                return row / (column + 1d);
+            case 2:
+                return BigDecimal.valueOf(row * 10_000L + column, 4);
+            case 3:
+                return LocalDate.of(2024, 1, 1).plusDays(row % 365);
+            case 4:
+                return LocalDateTime.of(2024, 1, 1, 0, 0).plusSeconds(row * 7L + column);
+            default:
+                return "value" + (row % 1000);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options =
+                new OptionsBuilder()
+                        .include(DorisSerializerBenchmark.class.getSimpleName())
+                        .build();
+        new Runner(options).run();
+    }
+}
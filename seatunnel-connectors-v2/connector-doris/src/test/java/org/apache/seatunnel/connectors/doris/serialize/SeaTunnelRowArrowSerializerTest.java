@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.doris.serialize;
+
+import org.apache.seatunnel.shade.org.apache.arrow.memory.RootAllocator;
+import org.apache.seatunnel.shade.org.apache.arrow.vector.BigIntVector;
+import org.apache.seatunnel.shade.org.apache.arrow.vector.DateDayVector;
+import org.apache.seatunnel.shade.org.apache.arrow.vector.DecimalVector;
+import org.apache.seatunnel.shade.org.apache.arrow.vector.TimeStampMicroVector;
+import org.apache.seatunnel.shade.org.apache.arrow.vector.VarCharVector;
+import org.apache.seatunnel.shade.org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.seatunnel.shade.org.apache.arrow.vector.ipc.ArrowStreamReader;
+
+import org.apache.seatunnel.api.table.type.ArrayType;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.doris.sink.writer.LoadConstants;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class SeaTunnelRowArrowSerializerTest {
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"id", "name", "price", "day", "ts", "tags"},
+                    new SeaTunnelDataType<?>[] {
+                        BasicType.LONG_TYPE,
+                        BasicType.STRING_TYPE,
+                        new DecimalType(10, 2),
+                        LocalTimeType.LOCAL_DATE_TYPE,
+                        LocalTimeType.LOCAL_DATE_TIME_TYPE,
+                        ArrayType.STRING_ARRAY_TYPE
+                    });
+
+    @Test
+    public void testWriteRecordBatches() throws IOException {
+        SeaTunnelRowArrowSerializer serializer =
+                new SeaTunnelRowArrowSerializer(ROW_TYPE, false, 4);
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        for (int i = 0; i < 10; i++) {
+            byte[] bytes = serializer.serialize(row(i));
+            // a batch is only emitted once it is full, the first row also carries the schema
+            Assertions.assertEquals(i == 0 || i % 4 == 3, bytes.length > 0, "row " + i);
+            body.write(bytes);
+        }
+        body.write(serializer.finish());
+        Assertions.assertEquals(0, serializer.finish().length);
+
+        List<Integer> batchSizes = new ArrayList<>();
+        try (RootAllocator allocator = new RootAllocator();
+                ArrowStreamReader reader =
+                        new ArrowStreamReader(
+                                new ByteArrayInputStream(body.toByteArray()), allocator)) {
+            VectorSchemaRoot root = reader.getVectorSchemaRoot();
+            int rowIndex = 0;
+            while (reader.loadNextBatch()) {
+                batchSizes.add(root.getRowCount());
+                for (int i = 0; i < root.getRowCount(); i++, rowIndex++) {
+                    Assertions.assertEquals(rowIndex, ((BigIntVector) root.getVector("id")).get(i));
+                    VarCharVector name = (VarCharVector) root.getVector("name");
+                    if (rowIndex % 3 == 0) {
+                        Assertions.assertTrue(name.isNull(i));
+                    } else {
+                        Assertions.assertEquals("name_" + rowIndex, name.getObject(i).toString());
+                    }
+                    Assertions.assertEquals(
+                            new BigDecimal(rowIndex + ".50"),
+                            ((DecimalVector) root.getVector("price")).getObject(i));
+                    Assertions.assertEquals(
+                            LocalDate.of(2024, 1, 1).plusDays(rowIndex).toEpochDay(),
+                            ((DateDayVector) root.getVector("day")).get(i));
+                    Assertions.assertEquals(
+                            LocalDateTime.of(2024, 1, 1, 0, 0, 0, 123_456_000)
+                                                    .plusSeconds(rowIndex)
+                                                    .toEpochSecond(ZoneOffset.UTC)
+                                            * 1_000_000L
+                                    + 123_456,
+                            ((TimeStampMicroVector) root.getVector("ts")).get(i));
+                    Assertions.assertEquals(
+                            "[\"a" + rowIndex + "\",\"b\"]",
+                            ((VarCharVector) root.getVector("tags")).getObject(i).toString());
+                }
+            }
+            Assertions.assertEquals(10, rowIndex);
+        }
+        Assertions.assertEquals(Arrays.asList(4, 4, 2), batchSizes);
+        serializer.close();
+    }
+
+    @Test
+    public void testEveryLoadIsOneStream() throws IOException {
+        SeaTunnelRowArrowSerializer serializer =
+                new SeaTunnelRowArrowSerializer(ROW_TYPE, true, 100);
+        for (int load = 0; load < 2; load++) {
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            body.write(serializer.serialize(row(0)));
+            SeaTunnelRow delete = row(1);
+            delete.setRowKind(RowKind.DELETE);
+            body.write(serializer.serialize(delete));
+            body.write(serializer.finish());
+
+            try (RootAllocator allocator = new RootAllocator();
+                    ArrowStreamReader reader =
+                            new ArrowStreamReader(
+                                    new ByteArrayInputStream(body.toByteArray()), allocator)) {
+                Assertions.assertTrue(reader.loadNextBatch());
+                VectorSchemaRoot root = reader.getVectorSchemaRoot();
+                Assertions.assertEquals(2, root.getRowCount());
+                VarCharVector deleteSign =
+                        (VarCharVector) root.getVector(LoadConstants.DORIS_DELETE_SIGN);
+                Assertions.assertEquals("0", deleteSign.getObject(0).toString());
+                Assertions.assertEquals("1", deleteSign.getObject(1).toString());
+                Assertions.assertFalse(reader.loadNextBatch());
+            }
+        }
+        serializer.close();
+    }
+
+    private static SeaTunnelRow row(int i) {
+        return new SeaTunnelRow(
+                new Object[] {
+                    (long) i,
+                    i % 3 == 0 ? null : "name_" + i,
+                    new BigDecimal(i + ".5"),
+                    LocalDate.of(2024, 1, 1).plusDays(i),
+                    LocalDateTime.of(2024, 1, 1, 0, 0, 0, 123_456_000).plusSeconds(i),
+                    new String[] {"a" + i, "b"}
+                });
+    }
+}
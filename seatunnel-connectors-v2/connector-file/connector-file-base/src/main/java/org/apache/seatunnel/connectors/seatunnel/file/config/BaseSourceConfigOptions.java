@@ -134,6 +134,14 @@ public class BaseSourceConfigOptions {
                     .noDefaultValue()
                     .withDescription("The columns list that the user want to read");
 
+    public static final Option<String> READ_FILTER =
+            Options.key("read_filter")
+                    .stringType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "The predicates joined by and, such as age >= 18 and city in ('beijing', 'shanghai'), "
+                                    + "that the rows read must match, only valid for parquet and orc files");
+
     public static final Option<String> SHEET_NAME =
             Options.key("sheet_name")
                     .stringType()
@@ -178,4 +186,29 @@ public class BaseSourceConfigOptions {
                     .enumType(ArchiveCompressFormat.class)
                     .defaultValue(ArchiveCompressFormat.NONE)
                     .withDescription("Archive compression codec");
+
+    public static final Option<Long> FILE_SPLIT_SIZE =
+            Options.key("file_split_size")
+                    .longType()
+                    .defaultValue(128 * 1024 * 1024L)
+                    .withDescription(
+                            "The size in bytes of the ranges a large file is split into, so that one file can be read by several readers. "
+                                    + "Only uncompressed text, csv and json files and parquet and orc files are split, "
+                                    + "set it to 0 to read every file as one split.");
+
+    public static final Option<Integer> FILE_LIST_PARALLELISM =
+            Options.key("file_list_parallelism")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The number of directories of the same level listed concurrently, "
+                                    + "object stores such as s3 and oss are listed by prefix instead.");
+
+    public static final Option<String> FILE_LIST_CACHE_PATH =
+            Options.key("file_list_cache_path")
+                    .stringType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "The path of a file that records the files read by earlier runs, "
+                                    + "so that a run only reads the files added or modified since.");
 }
@@ -159,6 +159,20 @@ public class HadoopFileSystemProxy implements Serializable, Closeable {
                 });
     }
 
+    /** List all files under the path, object stores list them by prefix in a few requests. */
+    public List<LocatedFileStatus> listFilesRecursively(String path) throws IOException {
+        return execute(
+                () -> {
+                    List<LocatedFileStatus> fileList = new ArrayList<>();
+                    RemoteIterator<LocatedFileStatus> locatedFileStatusRemoteIterator =
+                            getFileSystem().listFiles(new Path(path), true);
+                    while (locatedFileStatusRemoteIterator.hasNext()) {
+                        fileList.add(locatedFileStatusRemoteIterator.next());
+                    }
+                    return fileList;
+                });
+    }
+
     public List<Path> getAllSubFiles(@NonNull String filePath) throws IOException {
         return execute(
                 () -> {
@@ -60,7 +60,17 @@ public class BaseFileSourceReader implements SourceReader<SeaTunnelRow, FileSour
                 try {
                     // todo: If there is only one table , the tableId is not needed, but it's better
                     // to set this
-                    readStrategy.read(split.splitId(), "", output);
+                    if (split.isWholeFile()) {
+                        readStrategy.read(split.splitId(), "", output);
+                    } else {
+                        readStrategy.read(
+                                new FileSourceSplit(
+                                        "",
+                                        split.getFilePath(),
+                                        split.getStart(),
+                                        split.getLength()),
+                                output);
+                    }
                 } catch (Exception e) {
                     throw CommonError.fileOperationFailed("SeaTunnel", "read", split.splitId(), e);
                 }
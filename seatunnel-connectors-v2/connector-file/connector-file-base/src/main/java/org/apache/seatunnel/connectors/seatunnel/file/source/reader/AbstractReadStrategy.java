@@ -17,6 +17,8 @@
 
 package org.apache.seatunnel.connectors.seatunnel.file.source.reader;
 
+import org.apache.seatunnel.shade.com.google.common.annotations.VisibleForTesting;
+import org.apache.seatunnel.shade.com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.apache.seatunnel.shade.com.typesafe.config.Config;
 
 import org.apache.seatunnel.api.source.Collector;
@@ -30,28 +32,44 @@ import org.apache.seatunnel.connectors.seatunnel.file.config.BaseSourceConfigOpt
 import org.apache.seatunnel.connectors.seatunnel.file.config.FileFormat;
 import org.apache.seatunnel.connectors.seatunnel.file.config.HadoopConf;
 import org.apache.seatunnel.connectors.seatunnel.file.hadoop.HadoopFileSystemProxy;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
 
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
 import org.apache.commons.compress.compressors.gzip.GzipCompressorInputStream;
 import org.apache.commons.compress.compressors.gzip.GzipParameters;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.LocatedFileStatus;
+import org.apache.hadoop.fs.Path;
 
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigDecimal;
+import java.nio.charset.Charset;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.zip.ZipEntry;
@@ -70,16 +88,32 @@ public abstract class AbstractReadStrategy implements ReadStrategy {
     protected static final BigDecimal[] TYPE_ARRAY_BIG_DECIMAL = new BigDecimal[0];
     protected static final LocalDate[] TYPE_ARRAY_LOCAL_DATE = new LocalDate[0];
     protected static final LocalDateTime[] TYPE_ARRAY_LOCAL_DATETIME = new LocalDateTime[0];
+    // a file is only split when it is larger than the split size by this factor, so that no
+    // tiny split is left at the tail of the file
+    protected static final double SPLIT_SLOP = 1.1;
+    // listed by prefix instead of directory by directory
+    protected static final Set<String> OBJECT_STORE_SCHEMES =
+            new HashSet<>(Arrays.asList("s3", "s3a", "s3n", "oss", "cosn", "obs"));
 
     protected HadoopConf hadoopConf;
     protected SeaTunnelRowType seaTunnelRowType;
     protected SeaTunnelRowType seaTunnelRowTypeWithPartition;
     protected Config pluginConfig;
     protected List<String> fileNames = new ArrayList<>();
+    protected Map<String, Long> fileSizes = new HashMap<>();
     protected List<String> readPartitions = new ArrayList<>();
     protected List<String> readColumns = new ArrayList<>();
     protected boolean isMergePartition = true;
     protected long skipHeaderNumber = BaseSourceConfigOptions.SKIP_HEADER_ROW_NUMBER.defaultValue();
+    protected long fileSplitSize = BaseSourceConfigOptions.FILE_SPLIT_SIZE.defaultValue();
+    protected int fileListParallelism =
+            BaseSourceConfigOptions.FILE_LIST_PARALLELISM.defaultValue();
+    protected FileListingCache fileListingCache;
+    protected ReadFilter readFilter;
+    // the columnar formats decode column batches instead of assembling a record per row
+    protected boolean vectorizedRead = true;
+    // the read filter bound to the columns of the row type
+    private transient ReadFilter boundReadFilter;
     protected transient boolean isKerberosAuthorization = false;
     protected HadoopFileSystemProxy hadoopFileSystemProxy;
     protected ArchiveCompressFormat archiveCompressFormat =
@@ -106,38 +140,203 @@ public abstract class AbstractReadStrategy implements ReadStrategy {
 
     @Override
     public List<String> getFileNamesByPath(String path) throws IOException {
+        List<FileStatus> fileStatuses =
+                OBJECT_STORE_SCHEMES.contains(getFileSystemScheme())
+                        ? listFilesByPrefix(path)
+                        : listFilesByLevel(path);
+        fileStatuses.sort(Comparator.comparing(fileStatus -> fileStatus.getPath().toString()));
         ArrayList<String> fileNames = new ArrayList<>();
-        FileStatus[] stats = hadoopFileSystemProxy.listStatus(path);
-        for (FileStatus fileStatus : stats) {
-            if (fileStatus.isDirectory()) {
-                // skip hidden tmp directory, such as .hive-staging_hive
-                if (!fileStatus.getPath().getName().startsWith(".")) {
-                    fileNames.addAll(getFileNamesByPath(fileStatus.getPath().toString()));
-                }
+        for (FileStatus fileStatus : fileStatuses) {
+            if (fileListingCache != null
+                    && !fileListingCache.isNewFile(hadoopFileSystemProxy, fileStatus)) {
                 continue;
             }
-            if (fileStatus.isFile() && filterFileByPattern(fileStatus) && fileStatus.getLen() > 0) {
-                // filter '_SUCCESS' file
-                if (!fileStatus.getPath().getName().equals("_SUCCESS")
-                        && !fileStatus.getPath().getName().startsWith(".")) {
-                    String filePath = fileStatus.getPath().toString();
-                    if (!readPartitions.isEmpty()) {
-                        for (String readPartition : readPartitions) {
-                            if (filePath.contains(readPartition)) {
-                                fileNames.add(filePath);
-                                this.fileNames.add(filePath);
-                                break;
+            String filePath = fileStatus.getPath().toString();
+            fileNames.add(filePath);
+            this.fileNames.add(filePath);
+            this.fileSizes.put(filePath, fileStatus.getLen());
+        }
+        return fileNames;
+    }
+
+    @Override
+    public void commitListedFiles() throws IOException {
+        if (fileListingCache != null) {
+            fileListingCache.commit(hadoopFileSystemProxy);
+        }
+    }
+
+    private String getFileSystemScheme() {
+        return hadoopFileSystemProxy.getFileSystem().getUri().getScheme();
+    }
+
+    /** The object stores have no real directories, all the files under a prefix are listed. */
+    private List<FileStatus> listFilesByPrefix(String path) throws IOException {
+        int rootDepth = new Path(path).depth();
+        List<FileStatus> fileStatuses = new ArrayList<>();
+        for (LocatedFileStatus fileStatus : hadoopFileSystemProxy.listFilesRecursively(path)) {
+            boolean acceptDirectories = true;
+            for (Path parent = fileStatus.getPath().getParent();
+                    parent != null && parent.depth() > rootDepth;
+                    parent = parent.getParent()) {
+                if (!acceptDirectory(parent)) {
+                    acceptDirectories = false;
+                    break;
+                }
+            }
+            if (acceptDirectories && acceptFile(fileStatus)) {
+                fileStatuses.add(fileStatus);
+            }
+        }
+        return fileStatuses;
+    }
+
+    /** The directories of the same level are listed concurrently, level by level. */
+    private List<FileStatus> listFilesByLevel(String path) throws IOException {
+        List<FileStatus> fileStatuses = new ArrayList<>();
+        List<Path> directories = Collections.singletonList(new Path(path));
+        ExecutorService executorService = null;
+        try {
+            while (!directories.isEmpty()) {
+                List<FileStatus[]> levelStatuses;
+                if (fileListParallelism <= 1 || directories.size() == 1) {
+                    levelStatuses = new ArrayList<>(directories.size());
+                    for (Path directory : directories) {
+                        levelStatuses.add(hadoopFileSystemProxy.listStatus(directory.toString()));
+                    }
+                } else {
+                    if (executorService == null) {
+                        executorService =
+                                Executors.newFixedThreadPool(
+                                        fileListParallelism,
+                                        new ThreadFactoryBuilder()
+                                                .setNameFormat("file-listing-%d")
+                                                .setDaemon(true)
+                                                .build());
+                    }
+                    levelStatuses = listStatusConcurrently(executorService, directories);
+                }
+                List<Path> nextDirectories = new ArrayList<>();
+                for (FileStatus[] statuses : levelStatuses) {
+                    for (FileStatus fileStatus : statuses) {
+                        if (fileStatus.isDirectory()) {
+                            if (acceptDirectory(fileStatus.getPath())) {
+                                nextDirectories.add(fileStatus.getPath());
                             }
+                        } else if (acceptFile(fileStatus)) {
+                            fileStatuses.add(fileStatus);
                         }
-                    } else {
-                        fileNames.add(filePath);
-                        this.fileNames.add(filePath);
                     }
                 }
+                directories = nextDirectories;
+            }
+        } finally {
+            if (executorService != null) {
+                executorService.shutdownNow();
             }
         }
+        return fileStatuses;
+    }
 
-        return fileNames;
+    private List<FileStatus[]> listStatusConcurrently(
+            ExecutorService executorService, List<Path> directories) throws IOException {
+        List<Future<FileStatus[]>> futures = new ArrayList<>(directories.size());
+        for (Path directory : directories) {
+            futures.add(
+                    executorService.submit(
+                            () -> hadoopFileSystemProxy.listStatus(directory.toString())));
+        }
+        List<FileStatus[]> levelStatuses = new ArrayList<>(directories.size());
+        try {
+            for (Future<FileStatus[]> future : futures) {
+                levelStatuses.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while listing the files", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException("List the files failed", e.getCause());
+        }
+        return levelStatuses;
+    }
+
+    private boolean acceptDirectory(Path directory) {
+        String directoryName = directory.getName();
+        // skip hidden tmp directory, such as .hive-staging_hive
+        if (directoryName.startsWith(".")) {
+            return false;
+        }
+        return readPartitions.isEmpty() || !isPrunedPartition(directory.toString(), directoryName);
+    }
+
+    /**
+     * Whether none of the files under the hive style partition directory, such as dt=20240101,
+     * matches the read partitions. A read partition, such as dt=20240101/hour=01, prunes the
+     * directories of the other values of the partition keys it contains.
+     */
+    private boolean isPrunedPartition(String directoryPath, String directoryName) {
+        int index = directoryName.indexOf('=');
+        if (index <= 0) {
+            return false;
+        }
+        String partitionKey = directoryName.substring(0, index + 1);
+        for (String readPartition : readPartitions) {
+            if (directoryPath.contains(readPartition)) {
+                return false;
+            }
+            String[] segments = readPartition.split("/");
+            boolean keyFound = false;
+            for (int i = 0; i < segments.length; i++) {
+                if (!segments[i].startsWith(partitionKey)) {
+                    continue;
+                }
+                keyFound = true;
+                boolean lastSegment = i == segments.length - 1;
+                if (lastSegment
+                        ? directoryName.startsWith(segments[i])
+                        : directoryName.equals(segments[i])) {
+                    return false;
+                }
+            }
+            if (!keyFound) {
+                // the read partition does not restrict this partition key
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean acceptFile(FileStatus fileStatus) {
+        if (!fileStatus.isFile() || !filterFileByPattern(fileStatus) || fileStatus.getLen() <= 0) {
+            return false;
+        }
+        String fileName = fileStatus.getPath().getName();
+        // filter '_SUCCESS' file
+        if (fileName.equals("_SUCCESS") || fileName.startsWith(".")) {
+            return false;
+        }
+        if (readPartitions.isEmpty()) {
+            return true;
+        }
+        String filePath = fileStatus.getPath().toString();
+        for (String readPartition : readPartitions) {
+            if (filePath.contains(readPartition)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public long getFileSize(String path) throws IOException {
+        Long fileSize = fileSizes.get(path);
+        if (fileSize != null) {
+            return fileSize;
+        }
+        return hadoopFileSystemProxy.getFileStatus(path).getLen();
     }
 
     @Override
@@ -159,6 +358,19 @@ public abstract class AbstractReadStrategy implements ReadStrategy {
             skipHeaderNumber =
                     pluginConfig.getLong(BaseSourceConfigOptions.SKIP_HEADER_ROW_NUMBER.key());
         }
+        if (pluginConfig.hasPath(BaseSourceConfigOptions.FILE_SPLIT_SIZE.key())) {
+            fileSplitSize = pluginConfig.getLong(BaseSourceConfigOptions.FILE_SPLIT_SIZE.key());
+        }
+        if (pluginConfig.hasPath(BaseSourceConfigOptions.FILE_LIST_PARALLELISM.key())) {
+            fileListParallelism =
+                    pluginConfig.getInt(BaseSourceConfigOptions.FILE_LIST_PARALLELISM.key());
+        }
+        if (pluginConfig.hasPath(BaseSourceConfigOptions.FILE_LIST_CACHE_PATH.key())) {
+            fileListingCache =
+                    new FileListingCache(
+                            pluginConfig.getString(
+                                    BaseSourceConfigOptions.FILE_LIST_CACHE_PATH.key()));
+        }
         if (pluginConfig.hasPath(BaseSourceConfigOptions.READ_PARTITIONS.key())) {
             readPartitions.addAll(
                     pluginConfig.getStringList(BaseSourceConfigOptions.READ_PARTITIONS.key()));
@@ -167,6 +379,11 @@ public abstract class AbstractReadStrategy implements ReadStrategy {
             readColumns.addAll(
                     pluginConfig.getStringList(BaseSourceConfigOptions.READ_COLUMNS.key()));
         }
+        if (pluginConfig.hasPath(BaseSourceConfigOptions.READ_FILTER.key())) {
+            readFilter =
+                    ReadFilter.parse(
+                            pluginConfig.getString(BaseSourceConfigOptions.READ_FILTER.key()));
+        }
         if (pluginConfig.hasPath(BaseSourceConfigOptions.FILE_FILTER_PATTERN.key())) {
             String filterPattern =
                     pluginConfig.getString(BaseSourceConfigOptions.FILE_FILTER_PATTERN.key());
@@ -174,6 +391,32 @@ public abstract class AbstractReadStrategy implements ReadStrategy {
         }
     }
 
+    /** The fields of a row, the partition values are filled if they are merged into the rows. */
+    protected Object[] newRowFields(int fieldsCount, Map<String, String> partitionsMap) {
+        if (!isMergePartition) {
+            return new Object[fieldsCount];
+        }
+        Object[] fields = new Object[fieldsCount + partitionsMap.size()];
+        int index = fieldsCount;
+        for (String value : partitionsMap.values()) {
+            fields[index++] = value;
+        }
+        return fields;
+    }
+
+    @VisibleForTesting
+    void setVectorizedRead(boolean vectorizedRead) {
+        this.vectorizedRead = vectorizedRead;
+    }
+
+    /** The read filter bound to the read columns, null if no filter is configured. */
+    protected ReadFilter getBoundReadFilter() {
+        if (readFilter != null && boundReadFilter == null) {
+            boundReadFilter = readFilter.bind(seaTunnelRowType);
+        }
+        return boundReadFilter;
+    }
+
     @Override
     public SeaTunnelRowType getActualSeaTunnelRowTypeInfo() {
         return isMergePartition ? seaTunnelRowTypeWithPartition : seaTunnelRowType;
@@ -299,6 +542,68 @@ public abstract class AbstractReadStrategy implements ReadStrategy {
                 "The file does not support the compressed file reading");
     }
 
+    protected boolean exceedsFileSplitSize(String path) throws IOException {
+        return fileSplitSize > 0 && getFileSize(path) > fileSplitSize * SPLIT_SLOP;
+    }
+
+    /** Cut a line delimited file into ranges of the split size. */
+    protected List<FileSourceSplit> splitByLength(String tableId, String path) throws IOException {
+        if (!exceedsFileSplitSize(path)) {
+            return Collections.singletonList(new FileSourceSplit(tableId, path));
+        }
+        long fileLength = getFileSize(path);
+        List<FileSourceSplit> splits = new ArrayList<>();
+        long start = 0;
+        while (fileLength - start > fileSplitSize * SPLIT_SLOP) {
+            splits.add(new FileSourceSplit(tableId, path, start, fileSplitSize));
+            start += fileSplitSize;
+        }
+        splits.add(new FileSourceSplit(tableId, path, start, fileLength - start));
+        return splits;
+    }
+
+    /**
+     * Group the blocks of a columnar file, given as (offset, length) pairs in file order, into
+     * splits of about the split size, every split starts at the offset of a block.
+     */
+    protected List<FileSourceSplit> splitByBlocks(
+            String tableId, String path, List<Pair<Long, Long>> blocks) {
+        List<FileSourceSplit> splits = new ArrayList<>();
+        long start = -1;
+        long end = 0;
+        for (Pair<Long, Long> block : blocks) {
+            if (start < 0) {
+                start = block.getLeft();
+            }
+            end = block.getLeft() + block.getRight();
+            if (end - start >= fileSplitSize) {
+                splits.add(new FileSourceSplit(tableId, path, start, end - start));
+                start = -1;
+            }
+        }
+        if (start >= 0) {
+            splits.add(new FileSourceSplit(tableId, path, start, end - start));
+        }
+        if (splits.size() <= 1) {
+            return Collections.singletonList(new FileSourceSplit(tableId, path));
+        }
+        return splits;
+    }
+
+    /** Open the lines of the byte range of the split, see {@link LineRangeInputStream}. */
+    protected InputStream openLineRange(FileSourceSplit split) throws IOException {
+        FSDataInputStream inputStream = hadoopFileSystemProxy.getInputStream(split.getFilePath());
+        inputStream.seek(split.getStart());
+        return new LineRangeInputStream(
+                new BufferedInputStream(inputStream), split.getStart(), split.getLength());
+    }
+
+    /** Whether the lines of the encoding are delimited by a single line feed byte. */
+    protected static boolean isLineSplittable(String encoding) {
+        byte[] lineFeed = "\n".getBytes(Charset.forName(encoding));
+        return lineFeed.length == 1 && lineFeed[0] == '\n';
+    }
+
     protected Map<String, String> parsePartitionsByPath(String path) {
         LinkedHashMap<String, String> partitions = new LinkedHashMap<>();
         Arrays.stream(path.split("/", -1))
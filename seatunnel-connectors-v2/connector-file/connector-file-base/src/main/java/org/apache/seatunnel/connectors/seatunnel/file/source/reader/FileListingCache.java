@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.source.reader;
+
+import org.apache.seatunnel.connectors.seatunnel.file.hadoop.HadoopFileSystemProxy;
+
+import org.apache.hadoop.fs.FileStatus;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Records the files read by the earlier runs of a job in a file of the source file system, so that
+ * a periodic batch run only reads the files added since. A line of the cache file holds the
+ * modification time and the path of a file, a file whose modification time changed is read again.
+ */
+@Slf4j
+public class FileListingCache implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+    private static final String SEPARATOR = "\t";
+
+    private final String cachePath;
+    // the files read by the earlier runs, only needed while listing
+    private transient Map<String, Long> cachedFiles;
+    // the files listed by this run, recorded once they have all been read
+    private final Map<String, Long> listedFiles = new HashMap<>();
+
+    public FileListingCache(String cachePath) {
+        this.cachePath = cachePath;
+    }
+
+    /** Whether the file was not read by an earlier run, the new files are recorded. */
+    public synchronized boolean isNewFile(HadoopFileSystemProxy proxy, FileStatus fileStatus)
+            throws IOException {
+        if (cachedFiles == null) {
+            cachedFiles = load(proxy);
+        }
+        String filePath = fileStatus.getPath().toString();
+        Long modificationTime = cachedFiles.get(filePath);
+        if (modificationTime != null && modificationTime == fileStatus.getModificationTime()) {
+            return false;
+        }
+        listedFiles.put(filePath, fileStatus.getModificationTime());
+        return true;
+    }
+
+    /** Add the files listed by this run to the cache file. */
+    public synchronized void commit(HadoopFileSystemProxy proxy) throws IOException {
+        if (listedFiles.isEmpty()) {
+            return;
+        }
+        // merge with the current content, other tables may share the cache file
+        Map<String, Long> files = load(proxy);
+        files.putAll(listedFiles);
+        String tmpPath = cachePath + ".tmp";
+        try (BufferedWriter writer =
+                new BufferedWriter(
+                        new OutputStreamWriter(
+                                proxy.getOutputStream(tmpPath), StandardCharsets.UTF_8))) {
+            for (Map.Entry<String, Long> file : files.entrySet()) {
+                writer.write(file.getValue() + SEPARATOR + file.getKey());
+                writer.newLine();
+            }
+        }
+        proxy.renameFile(tmpPath, cachePath, true);
+        log.info("Recorded {} new files in the listing cache [{}]", listedFiles.size(), cachePath);
+        listedFiles.clear();
+    }
+
+    private Map<String, Long> load(HadoopFileSystemProxy proxy) throws IOException {
+        Map<String, Long> files = new HashMap<>();
+        if (!proxy.fileExist(cachePath)) {
+            return files;
+        }
+        try (BufferedReader reader =
+                new BufferedReader(
+                        new InputStreamReader(
+                                proxy.getInputStream(cachePath), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int index = line.indexOf(SEPARATOR);
+                if (index > 0) {
+                    files.put(line.substring(index + 1), Long.parseLong(line.substring(0, index)));
+                }
+            }
+        }
+        return files;
+    }
+}
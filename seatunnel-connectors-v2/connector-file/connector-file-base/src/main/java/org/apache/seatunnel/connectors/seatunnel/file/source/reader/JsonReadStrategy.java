@@ -24,12 +24,14 @@ import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.connectors.seatunnel.file.config.ArchiveCompressFormat;
 import org.apache.seatunnel.connectors.seatunnel.file.config.BaseSourceConfigOptions;
 import org.apache.seatunnel.connectors.seatunnel.file.config.CompressFormat;
 import org.apache.seatunnel.connectors.seatunnel.file.config.FileFormat;
 import org.apache.seatunnel.connectors.seatunnel.file.config.HadoopConf;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorErrorCode;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
 import org.apache.seatunnel.format.json.JsonDeserializationSchema;
 
 import io.airlift.compress.lzo.LzopCodec;
@@ -40,6 +42,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Map;
 
 @Slf4j
@@ -81,6 +84,27 @@ public class JsonReadStrategy extends AbstractReadStrategy {
         resolveArchiveCompressedInputStream(path, tableId, output, partitionsMap, FileFormat.JSON);
     }
 
+    @Override
+    public void read(FileSourceSplit split, Collector<SeaTunnelRow> output)
+            throws FileConnectorException, IOException {
+        if (split.isWholeFile()) {
+            read(split.getFilePath(), split.getTableId(), output);
+            return;
+        }
+        Map<String, String> partitionsMap = parsePartitionsByPath(split.getFilePath());
+        readLines(split.getTableId(), output, openLineRange(split), partitionsMap);
+    }
+
+    @Override
+    public List<FileSourceSplit> getFileSplits(String tableId, String path) throws IOException {
+        if (compressFormat == CompressFormat.NONE
+                && archiveCompressFormat == ArchiveCompressFormat.NONE
+                && isLineSplittable(encoding)) {
+            return splitByLength(tableId, path);
+        }
+        return super.getFileSplits(tableId, path);
+    }
+
     @Override
     public void readProcess(
             String path,
@@ -106,8 +130,17 @@ public class JsonReadStrategy extends AbstractReadStrategy {
                 actualInputStream = inputStream;
                 break;
         }
+        readLines(tableId, output, actualInputStream, partitionsMap);
+    }
+
+    private void readLines(
+            String tableId,
+            Collector<SeaTunnelRow> output,
+            InputStream inputStream,
+            Map<String, String> partitionsMap)
+            throws IOException {
         try (BufferedReader reader =
-                new BufferedReader(new InputStreamReader(actualInputStream, encoding))) {
+                new BufferedReader(new InputStreamReader(inputStream, encoding))) {
             reader.lines()
                     .forEach(
                             line -> {
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.source.reader;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads the lines of a byte range of a file, the wrapped stream is positioned at the start of the
+ * range. A range that does not start at the beginning of the file skips its first line, and every
+ * range reads on to the end of the line that crosses its end, so that each line is read by exactly
+ * one range.
+ */
+class LineRangeInputStream extends FilterInputStream {
+
+    private final long end;
+    private long position;
+    private boolean skipFirstLine;
+    private boolean finished;
+
+    LineRangeInputStream(InputStream in, long start, long length) {
+        super(in);
+        this.position = start;
+        this.end = start + length;
+        this.skipFirstLine = start > 0;
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] single = new byte[1];
+        int n = read(single, 0, 1);
+        return n <= 0 ? -1 : single[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (skipFirstLine) {
+            skipFirstLine = false;
+            skipLine();
+        }
+        if (finished) {
+            return -1;
+        }
+        int n = in.read(b, off, len);
+        if (n <= 0) {
+            return n;
+        }
+        // the line feed at or after the end of the range ends the last line of the range
+        for (int i = (int) Math.max(0, Math.min(n, end - position)); i < n; i++) {
+            if (b[off + i] == '\n') {
+                finished = true;
+                n = i + 1;
+                break;
+            }
+        }
+        position += n;
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        byte[] buffer = new byte[(int) Math.min(n, 8192)];
+        long skipped = 0;
+        while (skipped < n) {
+            int read = read(buffer, 0, (int) Math.min(n - skipped, buffer.length));
+            if (read < 0) {
+                break;
+            }
+            skipped += read;
+        }
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    private void skipLine() throws IOException {
+        int b;
+        while ((b = in.read()) != -1) {
+            position++;
+            if (b == '\n') {
+                break;
+            }
+        }
+        // the next line starts after the range, it belongs to the next one
+        finished = b == -1 || position > end;
+    }
+}
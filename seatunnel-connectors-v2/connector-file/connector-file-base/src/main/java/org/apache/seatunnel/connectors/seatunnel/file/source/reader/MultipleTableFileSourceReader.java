@@ -23,6 +23,7 @@ import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.connectors.seatunnel.file.config.BaseFileSourceConfig;
 import org.apache.seatunnel.connectors.seatunnel.file.config.BaseMultipleTableFileSourceConfig;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.AllSplitsReadEvent;
 import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
 
 import lombok.extern.slf4j.Slf4j;
@@ -43,6 +44,8 @@ public class MultipleTableFileSourceReader implements SourceReader<SeaTunnelRow,
 
     private final Context context;
     private volatile boolean noMoreSplit;
+    private volatile boolean splitRequested;
+    private boolean allSplitsReadReported;
 
     private final Deque<FileSourceSplit> sourceSplits = new ConcurrentLinkedDeque<>();
 
@@ -68,6 +71,10 @@ public class MultipleTableFileSourceReader implements SourceReader<SeaTunnelRow,
     public void pollNext(Collector<SeaTunnelRow> output) {
         synchronized (output.getCheckpointLock()) {
             FileSourceSplit split = sourceSplits.poll();
+            if (sourceSplits.isEmpty() && !noMoreSplit) {
+                // request the next split while reading this one
+                requestSplit();
+            }
             if (null != split) {
                 ReadStrategy readStrategy = readStrategyMap.get(split.getTableId());
                 if (readStrategy == null) {
@@ -78,7 +85,7 @@ public class MultipleTableFileSourceReader implements SourceReader<SeaTunnelRow,
                                     + "]");
                 }
                 try {
-                    readStrategy.read(split.getFilePath(), split.getTableId(), output);
+                    readStrategy.read(split, output);
                 } catch (Exception e) {
                     String errorMsg =
                             String.format("Read data from this file [%s] failed", split.splitId());
@@ -88,11 +95,23 @@ public class MultipleTableFileSourceReader implements SourceReader<SeaTunnelRow,
                 // signal to the source that we have reached the end of the data.
                 log.info(
                         "There is no more element for the bounded MultipleTableLocalFileSourceReader");
+                if (!allSplitsReadReported) {
+                    // the enumerator commits the file listing once every reader read its splits
+                    context.sendSourceEventToEnumerator(new AllSplitsReadEvent());
+                    allSplitsReadReported = true;
+                }
                 context.signalNoMoreElement();
             }
         }
     }
 
+    private void requestSplit() {
+        if (!splitRequested) {
+            splitRequested = true;
+            context.sendSplitRequest();
+        }
+    }
+
     @Override
     public List<FileSourceSplit> snapshotState(long checkpointId) {
         return new ArrayList<>(sourceSplits);
@@ -101,6 +120,7 @@ public class MultipleTableFileSourceReader implements SourceReader<SeaTunnelRow,
     @Override
     public void addSplits(List<FileSourceSplit> splits) {
         sourceSplits.addAll(splits);
+        splitRequested = false;
     }
 
     @Override
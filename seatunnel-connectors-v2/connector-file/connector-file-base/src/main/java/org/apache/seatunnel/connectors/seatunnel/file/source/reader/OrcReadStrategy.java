@@ -33,6 +33,7 @@ import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
 import org.apache.seatunnel.connectors.seatunnel.file.config.BaseSourceConfigOptions;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorErrorCode;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
 
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.hadoop.fs.FSDataInputStream;
@@ -41,6 +42,7 @@ import org.apache.hadoop.io.Text;
 import org.apache.orc.OrcFile;
 import org.apache.orc.Reader;
 import org.apache.orc.RecordReader;
+import org.apache.orc.StripeInformation;
 import org.apache.orc.TypeDescription;
 import org.apache.orc.storage.ql.exec.vector.BytesColumnVector;
 import org.apache.orc.storage.ql.exec.vector.ColumnVector;
@@ -53,6 +55,10 @@ import org.apache.orc.storage.ql.exec.vector.StructColumnVector;
 import org.apache.orc.storage.ql.exec.vector.TimestampColumnVector;
 import org.apache.orc.storage.ql.exec.vector.UnionColumnVector;
 import org.apache.orc.storage.ql.exec.vector.VectorizedRowBatch;
+import org.apache.orc.storage.ql.io.sarg.PredicateLeaf;
+import org.apache.orc.storage.ql.io.sarg.SearchArgument;
+import org.apache.orc.storage.ql.io.sarg.SearchArgumentFactory;
+import org.apache.orc.storage.serde2.io.HiveDecimalWritable;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -63,6 +69,7 @@ import java.math.BigDecimal;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.sql.Date;
 import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -83,6 +90,14 @@ public class OrcReadStrategy extends AbstractReadStrategy {
     @Override
     public void read(String path, String tableId, Collector<SeaTunnelRow> output)
             throws FileConnectorException, IOException {
+        read(new FileSourceSplit(tableId, path), output);
+    }
+
+    @Override
+    public void read(FileSourceSplit split, Collector<SeaTunnelRow> output)
+            throws FileConnectorException, IOException {
+        String path = split.getFilePath();
+        String tableId = split.getTableId();
         if (Boolean.FALSE.equals(checkFileType(path))) {
             String errorMsg =
                     String.format(
@@ -105,44 +120,299 @@ public class OrcReadStrategy extends AbstractReadStrategy {
                 schema.addField(seaTunnelRowType.getFieldName(i), typeDescription);
             }
             List<TypeDescription> children = schema.getChildren();
-            RecordReader rows = reader.rows(reader.options().schema(schema));
+            Reader.Options options = reader.options().schema(schema);
+            if (!split.isWholeFile()) {
+                // the stripes whose offset falls in the range are read
+                options.range(split.getStart(), split.getLength());
+            }
+            ReadFilter readFilter = getBoundReadFilter();
+            SearchArgument searchArgument =
+                    readFilter == null ? null : toSearchArgument(readFilter);
+            if (searchArgument != null) {
+                // the stripes and row groups are skipped by their statistics
+                options.searchArgument(searchArgument, seaTunnelRowType.getFieldNames());
+            }
+            // the type of every column is resolved once, not for every value
+            Charset charset = getCharset();
+            ColumnValueReader[] valueReaders = new ColumnValueReader[children.size()];
+            for (int j = 0; j < valueReaders.length; j++) {
+                TypeDescription colType = children.get(j);
+                SeaTunnelDataType<?> dataType = seaTunnelRowType.getFieldType(j);
+                valueReaders[j] =
+                        vectorizedRead ? createValueReader(colType, dataType, charset) : null;
+                if (valueReaders[j] == null) {
+                    valueReaders[j] = (vector, row) -> readColumn(vector, colType, dataType, row);
+                }
+            }
             VectorizedRowBatch rowBatch = schema.createRowBatch();
-            while (rows.nextBatch(rowBatch)) {
-                int num = 0;
-                for (int i = 0; i < rowBatch.size; i++) {
-                    int numCols = rowBatch.numCols;
-                    Object[] fields;
-                    if (isMergePartition) {
-                        int index = numCols;
-                        fields = new Object[numCols + partitionsMap.size()];
-                        for (String value : partitionsMap.values()) {
-                            fields[index++] = value;
-                        }
-                    } else {
-                        fields = new Object[numCols];
+            int numCols = rowBatch.numCols;
+            try (RecordReader rows = reader.rows(options)) {
+                while (rows.nextBatch(rowBatch)) {
+                    Object[][] batchFields = new Object[rowBatch.size][];
+                    for (int i = 0; i < rowBatch.size; i++) {
+                        batchFields[i] = newRowFields(numCols, partitionsMap);
                     }
-                    ColumnVector[] cols = rowBatch.cols;
                     for (int j = 0; j < numCols; j++) {
-                        if (cols[j] == null) {
-                            fields[j] = null;
-                        } else {
-                            fields[j] =
-                                    readColumn(
-                                            cols[j],
-                                            children.get(j),
-                                            seaTunnelRowType.getFieldType(j),
-                                            num);
+                        if (rowBatch.cols[j] != null) {
+                            readColumnBatch(
+                                    rowBatch.cols[j],
+                                    valueReaders[j],
+                                    rowBatch.size,
+                                    batchFields,
+                                    j);
+                        }
+                    }
+                    for (Object[] fields : batchFields) {
+                        SeaTunnelRow seaTunnelRow = new SeaTunnelRow(fields);
+                        // the skipped row groups are coarse, the rows read are filtered one by
+                        // one
+                        if (readFilter != null && !readFilter.test(seaTunnelRow)) {
+                            continue;
                         }
+                        seaTunnelRow.setTableId(tableId);
+                        output.collect(seaTunnelRow);
                     }
-                    SeaTunnelRow seaTunnelRow = new SeaTunnelRow(fields);
-                    seaTunnelRow.setTableId(tableId);
-                    output.collect(seaTunnelRow);
-                    num++;
                 }
             }
         }
     }
 
+    /** Reads the value of a row from a column vector, the nulls are handled by the caller. */
+    @FunctionalInterface
+    private interface ColumnValueReader {
+        Object read(ColumnVector vector, int row);
+    }
+
+    /** Fill a column of the rows of a batch, a repeating vector only holds its first value. */
+    private static void readColumnBatch(
+            ColumnVector vector,
+            ColumnValueReader valueReader,
+            int size,
+            Object[][] batchFields,
+            int column) {
+        if (vector.isRepeating) {
+            boolean isNull = !vector.noNulls && vector.isNull[0];
+            for (int i = 0; i < size; i++) {
+                batchFields[i][column] = isNull ? null : valueReader.read(vector, 0);
+            }
+        } else if (vector.noNulls) {
+            for (int i = 0; i < size; i++) {
+                batchFields[i][column] = valueReader.read(vector, i);
+            }
+        } else {
+            for (int i = 0; i < size; i++) {
+                batchFields[i][column] = vector.isNull[i] ? null : valueReader.read(vector, i);
+            }
+        }
+    }
+
+    /**
+     * The reader of the primitive columns read as their natural types, null for the other columns
+     * that are read by {@link #readColumn}.
+     */
+    private static ColumnValueReader createValueReader(
+            TypeDescription colType, SeaTunnelDataType<?> dataType, Charset charset) {
+        SqlType sqlType = dataType.getSqlType();
+        switch (colType.getCategory()) {
+            case BOOLEAN:
+                return sqlType == SqlType.BOOLEAN
+                        ? (vector, row) -> ((LongColumnVector) vector).vector[row] == 1
+                        : null;
+            case BYTE:
+                return sqlType == SqlType.TINYINT
+                        ? (vector, row) -> (byte) ((LongColumnVector) vector).vector[row]
+                        : null;
+            case SHORT:
+                return sqlType == SqlType.SMALLINT
+                        ? (vector, row) -> (short) ((LongColumnVector) vector).vector[row]
+                        : null;
+            case INT:
+                return sqlType == SqlType.INT
+                        ? (vector, row) -> (int) ((LongColumnVector) vector).vector[row]
+                        : null;
+            case LONG:
+                return sqlType == SqlType.BIGINT
+                        ? (vector, row) -> ((LongColumnVector) vector).vector[row]
+                        : null;
+            case DATE:
+                return sqlType == SqlType.DATE
+                        ? (vector, row) ->
+                                LocalDate.ofEpochDay(((LongColumnVector) vector).vector[row])
+                        : null;
+            case FLOAT:
+                return sqlType == SqlType.FLOAT
+                        ? (vector, row) -> (float) ((DoubleColumnVector) vector).vector[row]
+                        : null;
+            case DOUBLE:
+                return sqlType == SqlType.DOUBLE
+                        ? (vector, row) -> ((DoubleColumnVector) vector).vector[row]
+                        : null;
+            case STRING:
+            case VARCHAR:
+            case CHAR:
+                if (sqlType != SqlType.STRING) {
+                    return null;
+                }
+                return (vector, row) -> {
+                    BytesColumnVector bytesVector = (BytesColumnVector) vector;
+                    return new String(
+                            bytesVector.vector[row],
+                            bytesVector.start[row],
+                            bytesVector.length[row],
+                            charset);
+                };
+            case BINARY:
+                if (sqlType != SqlType.BYTES) {
+                    return null;
+                }
+                return (vector, row) -> {
+                    BytesColumnVector bytesVector = (BytesColumnVector) vector;
+                    return Arrays.copyOfRange(
+                            bytesVector.vector[row],
+                            bytesVector.start[row],
+                            bytesVector.start[row] + bytesVector.length[row]);
+                };
+            case DECIMAL:
+                return sqlType == SqlType.DECIMAL
+                        ? (vector, row) ->
+                                ((DecimalColumnVector) vector)
+                                        .vector[row]
+                                        .getHiveDecimal()
+                                        .bigDecimalValue()
+                        : null;
+            case TIMESTAMP:
+                if (sqlType != SqlType.TIMESTAMP) {
+                    return null;
+                }
+                return (vector, row) -> {
+                    TimestampColumnVector timestampVector = (TimestampColumnVector) vector;
+                    Timestamp timestamp = new Timestamp(timestampVector.time[row]);
+                    timestamp.setNanos(timestampVector.nanos[row]);
+                    return timestamp.toLocalDateTime();
+                };
+            default:
+                return null;
+        }
+    }
+
+    private Charset getCharset() {
+        if (pluginConfig == null) {
+            return StandardCharsets.UTF_8;
+        }
+        return ReadonlyConfig.fromConfig(pluginConfig)
+                .getOptional(BaseSourceConfigOptions.ENCODING)
+                .map(Charset::forName)
+                .orElse(StandardCharsets.UTF_8);
+    }
+
+    /** Convert the predicates on the supported column types to a search argument, null if none. */
+    private SearchArgument toSearchArgument(ReadFilter readFilter) {
+        SearchArgument.Builder builder = SearchArgumentFactory.newBuilder().startAnd();
+        int leafCount = 0;
+        for (ReadFilter.Predicate predicate : readFilter.getPredicates()) {
+            PredicateLeaf.Type type;
+            List<Object> values = new ArrayList<>(predicate.getValues().size());
+            switch (predicate.getDataType().getSqlType()) {
+                case TINYINT:
+                case SMALLINT:
+                case INT:
+                case BIGINT:
+                    type = PredicateLeaf.Type.LONG;
+                    for (Object value : predicate.getValues()) {
+                        values.add(((Number) value).longValue());
+                    }
+                    break;
+                case FLOAT:
+                case DOUBLE:
+                    type = PredicateLeaf.Type.FLOAT;
+                    for (Object value : predicate.getValues()) {
+                        values.add(((Number) value).doubleValue());
+                    }
+                    break;
+                case DECIMAL:
+                    type = PredicateLeaf.Type.DECIMAL;
+                    for (Object value : predicate.getValues()) {
+                        values.add(new HiveDecimalWritable(((BigDecimal) value).toPlainString()));
+                    }
+                    break;
+                case DATE:
+                    type = PredicateLeaf.Type.DATE;
+                    for (Object value : predicate.getValues()) {
+                        values.add(Date.valueOf((LocalDate) value));
+                    }
+                    break;
+                case STRING:
+                    type = PredicateLeaf.Type.STRING;
+                    values.addAll(predicate.getValues());
+                    break;
+                case BOOLEAN:
+                    type = PredicateLeaf.Type.BOOLEAN;
+                    values.addAll(predicate.getValues());
+                    break;
+                default:
+                    // left to the row filter
+                    continue;
+            }
+            String column = predicate.getColumn();
+            switch (predicate.getOperator()) {
+                case EQUALS:
+                    builder.equals(column, type, values.get(0));
+                    break;
+                case NOT_EQUALS:
+                    builder.startNot().equals(column, type, values.get(0)).end();
+                    break;
+                case LESS_THAN:
+                    builder.lessThan(column, type, values.get(0));
+                    break;
+                case LESS_THAN_OR_EQUALS:
+                    builder.lessThanEquals(column, type, values.get(0));
+                    break;
+                case GREATER_THAN:
+                    builder.startNot().lessThanEquals(column, type, values.get(0)).end();
+                    break;
+                case GREATER_THAN_OR_EQUALS:
+                    builder.startNot().lessThan(column, type, values.get(0)).end();
+                    break;
+                case IN:
+                    builder.in(column, type, values.toArray());
+                    break;
+                case NOT_IN:
+                    builder.startNot().in(column, type, values.toArray()).end();
+                    break;
+                case IS_NULL:
+                    builder.isNull(column, type);
+                    break;
+                case IS_NOT_NULL:
+                    builder.startNot().isNull(column, type).end();
+                    break;
+                default:
+                    continue;
+            }
+            leafCount++;
+        }
+        return leafCount == 0 ? null : builder.end().build();
+    }
+
+    @Override
+    public List<FileSourceSplit> getFileSplits(String tableId, String path) throws IOException {
+        if (!exceedsFileSplitSize(path)) {
+            return super.getFileSplits(tableId, path);
+        }
+        try (Reader reader =
+                hadoopFileSystemProxy.doWithHadoopAuth(
+                        ((configuration, userGroupInformation) -> {
+                            OrcFile.ReaderOptions readerOptions =
+                                    OrcFile.readerOptions(configuration);
+                            return OrcFile.createReader(new Path(path), readerOptions);
+                        }))) {
+            List<Pair<Long, Long>> stripes = new ArrayList<>();
+            for (StripeInformation stripe : reader.getStripes()) {
+                stripes.add(Pair.of(stripe.getOffset(), stripe.getLength()));
+            }
+            return splitByBlocks(tableId, path, stripes);
+        }
+    }
+
     @Override
     public SeaTunnelRowType getSeaTunnelRowTypeInfo(String path) throws FileConnectorException {
         return getSeaTunnelRowTypeInfoWithUserConfigRowType(path, null);
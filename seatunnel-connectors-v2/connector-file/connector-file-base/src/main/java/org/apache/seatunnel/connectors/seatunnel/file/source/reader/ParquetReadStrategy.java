@@ -33,18 +33,29 @@ import org.apache.seatunnel.common.exception.CommonError;
 import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorErrorCode;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
 
 import org.apache.avro.Conversions;
+import org.apache.avro.Schema;
 import org.apache.avro.data.TimeConversions;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.util.Utf8;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.Path;
 import org.apache.parquet.avro.AvroParquetReader;
+import org.apache.parquet.avro.AvroReadSupport;
+import org.apache.parquet.avro.AvroSchemaConverter;
 import org.apache.parquet.example.data.simple.NanoTime;
+import org.apache.parquet.filter2.compat.FilterCompat;
+import org.apache.parquet.filter2.predicate.FilterApi;
+import org.apache.parquet.filter2.predicate.FilterPredicate;
+import org.apache.parquet.filter2.predicate.Operators;
 import org.apache.parquet.hadoop.ParquetFileReader;
 import org.apache.parquet.hadoop.ParquetReader;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
 import org.apache.parquet.hadoop.metadata.FileMetaData;
 import org.apache.parquet.hadoop.metadata.ParquetMetadata;
 import org.apache.parquet.hadoop.util.HadoopInputFile;
@@ -52,7 +63,9 @@ import org.apache.parquet.io.api.Binary;
 import org.apache.parquet.schema.GroupType;
 import org.apache.parquet.schema.LogicalTypeAnnotation;
 import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.MessageTypeParser;
 import org.apache.parquet.schema.OriginalType;
+import org.apache.parquet.schema.PrimitiveType;
 import org.apache.parquet.schema.Type;
 
 import lombok.extern.slf4j.Slf4j;
@@ -61,6 +74,7 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.sql.Timestamp;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
@@ -81,10 +95,20 @@ public class ParquetReadStrategy extends AbstractReadStrategy {
     private static final String PARQUET = "Parquet";
 
     private int[] indexes;
+    // the read columns of the file schema, the other columns are not decoded
+    private String requestedSchema;
 
     @Override
     public void read(String path, String tableId, Collector<SeaTunnelRow> output)
             throws FileConnectorException, IOException {
+        read(new FileSourceSplit(tableId, path), output);
+    }
+
+    @Override
+    public void read(FileSourceSplit split, Collector<SeaTunnelRow> output)
+            throws FileConnectorException, IOException {
+        String path = split.getFilePath();
+        String tableId = split.getTableId();
         if (Boolean.FALSE.equals(checkFileType(path))) {
             String errorMsg =
                     String.format(
@@ -97,39 +121,273 @@ public class ParquetReadStrategy extends AbstractReadStrategy {
         HadoopInputFile hadoopInputFile =
                 hadoopFileSystemProxy.doWithHadoopAuth(
                         (configuration, userGroupInformation) ->
-                                HadoopInputFile.fromPath(filePath, configuration));
+                                HadoopInputFile.fromPath(
+                                        filePath, new Configuration(configuration)));
+        MessageType requestedType =
+                requestedSchema == null
+                        ? null
+                        : MessageTypeParser.parseMessageType(requestedSchema);
+        ReadFilter readFilter = getBoundReadFilter();
+        FilterPredicate filterPredicate =
+                readFilter == null || requestedType == null
+                        ? null
+                        : toFilterPredicate(readFilter, requestedType);
         int fieldsCount = seaTunnelRowType.getTotalFields();
+        if (vectorizedRead && requestedType != null) {
+            ParquetVectorizedReader vectorizedReader =
+                    ParquetVectorizedReader.open(
+                            hadoopInputFile,
+                            requestedType,
+                            seaTunnelRowType,
+                            split,
+                            filterPredicate);
+            if (vectorizedReader != null) {
+                try (ParquetVectorizedReader batchReader = vectorizedReader) {
+                    int batchSize;
+                    while ((batchSize = batchReader.nextBatch()) > 0) {
+                        for (int row = 0; row < batchSize; row++) {
+                            Object[] fields = newRowFields(fieldsCount, partitionsMap);
+                            for (int i = 0; i < fieldsCount; i++) {
+                                fields[i] = batchReader.get(i, row);
+                            }
+                            SeaTunnelRow seaTunnelRow = new SeaTunnelRow(fields);
+                            // the skipped row groups and pages are coarse
+                            if (readFilter != null && !readFilter.test(seaTunnelRow)) {
+                                continue;
+                            }
+                            seaTunnelRow.setTableId(tableId);
+                            output.collect(seaTunnelRow);
+                        }
+                    }
+                }
+                return;
+            }
+        }
+        // the nested columns and int96 timestamps are assembled into avro records
+        int[] recordIndexes = projectRequestedColumns(hadoopInputFile, requestedType);
         GenericData dataModel = new GenericData();
         dataModel.addLogicalTypeConversion(new Conversions.DecimalConversion());
         dataModel.addLogicalTypeConversion(new TimeConversions.DateConversion());
         dataModel.addLogicalTypeConversion(new TimeConversions.LocalTimestampMillisConversion());
         GenericRecord record;
-        try (ParquetReader<GenericData.Record> reader =
+        ParquetReader.Builder<GenericData.Record> builder =
                 AvroParquetReader.<GenericData.Record>builder(hadoopInputFile)
-                        .withDataModel(dataModel)
-                        .build()) {
+                        .withDataModel(dataModel);
+        if (filterPredicate != null) {
+            // the row groups and pages are skipped by their statistics, dictionaries and bloom
+            // filters, the remaining rows are filtered while they are assembled
+            builder.withFilter(FilterCompat.get(filterPredicate))
+                    .useStatsFilter()
+                    .useDictionaryFilter()
+                    .useColumnIndexFilter()
+                    .useBloomFilter()
+                    .useRecordFilter();
+        }
+        if (!split.isWholeFile()) {
+            // the row groups whose midpoint falls in the range are read
+            builder.withFileRange(split.getStart(), split.getStart() + split.getLength());
+        }
+        try (ParquetReader<GenericData.Record> reader = builder.build()) {
             while ((record = reader.read()) != null) {
-                Object[] fields;
-                if (isMergePartition) {
-                    int index = fieldsCount;
-                    fields = new Object[fieldsCount + partitionsMap.size()];
-                    for (String value : partitionsMap.values()) {
-                        fields[index++] = value;
-                    }
-                } else {
-                    fields = new Object[fieldsCount];
-                }
+                Object[] fields = newRowFields(fieldsCount, partitionsMap);
                 for (int i = 0; i < fieldsCount; i++) {
-                    Object data = record.get(indexes[i]);
+                    Object data = record.get(recordIndexes[i]);
                     fields[i] = resolveObject(data, seaTunnelRowType.getFieldType(i));
                 }
                 SeaTunnelRow seaTunnelRow = new SeaTunnelRow(fields);
+                // the predicates on the types parquet can not filter are only checked here
+                if (readFilter != null && !readFilter.test(seaTunnelRow)) {
+                    continue;
+                }
                 seaTunnelRow.setTableId(tableId);
                 output.collect(seaTunnelRow);
             }
         }
     }
 
+    @Override
+    public List<FileSourceSplit> getFileSplits(String tableId, String path) throws IOException {
+        if (!exceedsFileSplitSize(path)) {
+            return super.getFileSplits(tableId, path);
+        }
+        try (ParquetFileReader reader =
+                hadoopFileSystemProxy.doWithHadoopAuth(
+                        ((configuration, userGroupInformation) -> {
+                            HadoopInputFile hadoopInputFile =
+                                    HadoopInputFile.fromPath(new Path(path), configuration);
+                            return ParquetFileReader.open(hadoopInputFile);
+                        }))) {
+            List<Pair<Long, Long>> rowGroups = new ArrayList<>();
+            for (BlockMetaData block : reader.getFooter().getBlocks()) {
+                rowGroups.add(Pair.of(block.getStartingPos(), block.getCompressedSize()));
+            }
+            return splitByBlocks(tableId, path, rowGroups);
+        }
+    }
+
+    /**
+     * Project the records to the read columns, returns the indexes of the read columns in the
+     * records. The projection is skipped if it does not map back to the same parquet types, such as
+     * for int96 timestamps.
+     */
+    private int[] projectRequestedColumns(
+            HadoopInputFile hadoopInputFile, MessageType requestedType) {
+        if (requestedType == null) {
+            return indexes;
+        }
+        Configuration configuration = hadoopInputFile.getConfiguration();
+        AvroSchemaConverter schemaConverter = new AvroSchemaConverter(configuration);
+        Schema projection = schemaConverter.convert(requestedType);
+        if (!requestedType.equals(schemaConverter.convert(projection))) {
+            return indexes;
+        }
+        AvroReadSupport.setRequestedProjection(configuration, projection);
+        int[] recordIndexes = new int[readColumns.size()];
+        for (int i = 0; i < recordIndexes.length; i++) {
+            recordIndexes[i] = projection.getField(readColumns.get(i)).pos();
+        }
+        return recordIndexes;
+    }
+
+    /** Convert the predicates on the primitive columns to a parquet filter, null if none. */
+    private FilterPredicate toFilterPredicate(ReadFilter readFilter, MessageType schema) {
+        FilterPredicate filterPredicate = null;
+        for (ReadFilter.Predicate predicate : readFilter.getPredicates()) {
+            String column = predicate.getColumn();
+            // the dots of a column name are taken as the separators of nested columns
+            if (column.contains(".")
+                    || !schema.containsField(column)
+                    || !schema.getType(column).isPrimitive()) {
+                continue;
+            }
+            FilterPredicate columnPredicate =
+                    toFilterPredicate(predicate, schema.getType(column).asPrimitiveType());
+            if (columnPredicate != null) {
+                filterPredicate =
+                        filterPredicate == null
+                                ? columnPredicate
+                                : FilterApi.and(filterPredicate, columnPredicate);
+            }
+        }
+        return filterPredicate;
+    }
+
+    private FilterPredicate toFilterPredicate(
+            ReadFilter.Predicate predicate, PrimitiveType primitiveType) {
+        String column = predicate.getColumn();
+        ReadFilter.Operator operator = predicate.getOperator();
+        LogicalTypeAnnotation annotation = primitiveType.getLogicalTypeAnnotation();
+        List<Object> values = predicate.getValues();
+        switch (primitiveType.getPrimitiveTypeName()) {
+            case INT32:
+                if (annotation instanceof LogicalTypeAnnotation.DateLogicalTypeAnnotation) {
+                    List<Integer> days = new ArrayList<>(values.size());
+                    for (Object value : values) {
+                        days.add((int) ((LocalDate) value).toEpochDay());
+                    }
+                    return comparison(FilterApi.intColumn(column), operator, days);
+                }
+                if (annotation == null
+                        || annotation instanceof LogicalTypeAnnotation.IntLogicalTypeAnnotation) {
+                    List<Integer> ints = new ArrayList<>(values.size());
+                    for (Object value : values) {
+                        ints.add(((Number) value).intValue());
+                    }
+                    return comparison(FilterApi.intColumn(column), operator, ints);
+                }
+                return null;
+            case INT64:
+                if (annotation != null
+                        && !(annotation
+                                instanceof LogicalTypeAnnotation.IntLogicalTypeAnnotation)) {
+                    return null;
+                }
+                List<Long> longs = new ArrayList<>(values.size());
+                for (Object value : values) {
+                    longs.add(((Number) value).longValue());
+                }
+                return comparison(FilterApi.longColumn(column), operator, longs);
+            case FLOAT:
+                List<Float> floats = new ArrayList<>(values.size());
+                for (Object value : values) {
+                    floats.add(((Number) value).floatValue());
+                }
+                return comparison(FilterApi.floatColumn(column), operator, floats);
+            case DOUBLE:
+                List<Double> doubles = new ArrayList<>(values.size());
+                for (Object value : values) {
+                    doubles.add(((Number) value).doubleValue());
+                }
+                return comparison(FilterApi.doubleColumn(column), operator, doubles);
+            case BOOLEAN:
+                List<Boolean> booleans = new ArrayList<>(values.size());
+                for (Object value : values) {
+                    booleans.add((Boolean) value);
+                }
+                return equality(FilterApi.booleanColumn(column), operator, booleans);
+            case BINARY:
+                if (!(annotation instanceof LogicalTypeAnnotation.StringLogicalTypeAnnotation)) {
+                    return null;
+                }
+                List<Binary> binaries = new ArrayList<>(values.size());
+                for (Object value : values) {
+                    binaries.add(Binary.fromString((String) value));
+                }
+                return comparison(FilterApi.binaryColumn(column), operator, binaries);
+            default:
+                return null;
+        }
+    }
+
+    private static <T extends Comparable<T>, C extends Operators.Column<T> & Operators.SupportsLtGt>
+            FilterPredicate comparison(C column, ReadFilter.Operator operator, List<T> values) {
+        switch (operator) {
+            case LESS_THAN:
+                return FilterApi.lt(column, values.get(0));
+            case LESS_THAN_OR_EQUALS:
+                return FilterApi.ltEq(column, values.get(0));
+            case GREATER_THAN:
+                return FilterApi.gt(column, values.get(0));
+            case GREATER_THAN_OR_EQUALS:
+                return FilterApi.gtEq(column, values.get(0));
+            default:
+                return equality(column, operator, values);
+        }
+    }
+
+    private static <
+                    T extends Comparable<T>,
+                    C extends Operators.Column<T> & Operators.SupportsEqNotEq>
+            FilterPredicate equality(C column, ReadFilter.Operator operator, List<T> values) {
+        FilterPredicate filterPredicate = null;
+        switch (operator) {
+            case EQUALS:
+                return FilterApi.eq(column, values.get(0));
+            case NOT_EQUALS:
+                return FilterApi.notEq(column, values.get(0));
+            case IS_NULL:
+                return FilterApi.eq(column, null);
+            case IS_NOT_NULL:
+                return FilterApi.notEq(column, null);
+            case IN:
+                for (T value : values) {
+                    FilterPredicate eq = FilterApi.eq(column, value);
+                    filterPredicate =
+                            filterPredicate == null ? eq : FilterApi.or(filterPredicate, eq);
+                }
+                return filterPredicate;
+            case NOT_IN:
+                for (T value : values) {
+                    FilterPredicate notEq = FilterApi.notEq(column, value);
+                    filterPredicate =
+                            filterPredicate == null ? notEq : FilterApi.and(filterPredicate, notEq);
+                }
+                return filterPredicate;
+            default:
+                return null;
+        }
+    }
+
     private Object resolveObject(Object field, SeaTunnelDataType<?> fieldType) {
         if (field == null) {
             return null;
@@ -280,6 +538,13 @@ public class ParquetReadStrategy extends AbstractReadStrategy {
                     types[i] = parquetType2SeaTunnelType(type, fields[i]);
                 });
         seaTunnelRowType = new SeaTunnelRowType(fields, types);
+        List<Type> requestedFields = new ArrayList<>();
+        for (Type field : originalSchema.getFields()) {
+            if (readColumns.contains(field.getName())) {
+                requestedFields.add(field);
+            }
+        }
+        requestedSchema = new MessageType(originalSchema.getName(), requestedFields).toString();
         seaTunnelRowTypeWithPartition = mergePartitionTypes(path, seaTunnelRowType);
         return getActualSeaTunnelRowTypeInfo();
     }
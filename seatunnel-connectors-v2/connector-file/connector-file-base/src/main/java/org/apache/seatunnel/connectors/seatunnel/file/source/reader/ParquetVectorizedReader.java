@@ -0,0 +1,397 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.source.reader;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.api.table.type.SqlType;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
+
+import org.apache.parquet.HadoopReadOptions;
+import org.apache.parquet.ParquetReadOptions;
+import org.apache.parquet.column.ColumnDescriptor;
+import org.apache.parquet.column.ColumnReader;
+import org.apache.parquet.column.impl.ColumnReadStoreImpl;
+import org.apache.parquet.column.page.PageReadStore;
+import org.apache.parquet.filter2.compat.FilterCompat;
+import org.apache.parquet.filter2.predicate.FilterPredicate;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.util.HadoopInputFile;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.io.api.Converter;
+import org.apache.parquet.io.api.GroupConverter;
+import org.apache.parquet.io.api.PrimitiveConverter;
+import org.apache.parquet.schema.LogicalTypeAnnotation;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType;
+import org.apache.parquet.schema.Type;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.LongFunction;
+
+/**
+ * Reads the flat parquet columns batch by batch straight from the column readers into primitive
+ * arrays, instead of assembling an avro record per row. The values are only boxed when the rows are
+ * built from the batch.
+ */
+class ParquetVectorizedReader implements Closeable {
+
+    static final int BATCH_SIZE = 4096;
+
+    // the converters are required by the column readers, the values are read from the readers
+    private static final GroupConverter NO_OP_CONVERTER =
+            new GroupConverter() {
+                private final PrimitiveConverter primitiveConverter = new PrimitiveConverter() {};
+
+                @Override
+                public Converter getConverter(int fieldIndex) {
+                    return primitiveConverter;
+                }
+
+                @Override
+                public void start() {}
+
+                @Override
+                public void end() {}
+            };
+
+    private final ParquetFileReader fileReader;
+    private final MessageType requestedType;
+    private final String createdBy;
+    // in the order of the row type
+    private final ColumnBatch[] columns;
+    private long rowGroupRemaining;
+
+    private ParquetVectorizedReader(
+            ParquetFileReader fileReader, MessageType requestedType, ColumnBatch[] columns) {
+        this.fileReader = fileReader;
+        this.requestedType = requestedType;
+        this.createdBy = fileReader.getFooter().getFileMetaData().getCreatedBy();
+        this.columns = columns;
+    }
+
+    /**
+     * Open the reader of a split, null if a column is nested or of a type that is only read through
+     * avro, such as int96 timestamps.
+     */
+    static ParquetVectorizedReader open(
+            HadoopInputFile inputFile,
+            MessageType requestedType,
+            SeaTunnelRowType rowType,
+            FileSourceSplit split,
+            FilterPredicate filterPredicate)
+            throws IOException {
+        ColumnBatch[] columns = new ColumnBatch[rowType.getTotalFields()];
+        for (int i = 0; i < columns.length; i++) {
+            String fieldName = rowType.getFieldName(i);
+            if (!requestedType.containsField(fieldName)) {
+                return null;
+            }
+            Type type = requestedType.getType(fieldName);
+            if (!type.isPrimitive() || type.isRepetition(Type.Repetition.REPEATED)) {
+                return null;
+            }
+            columns[i] =
+                    createColumnBatch(
+                            requestedType.getColumnDescription(new String[] {fieldName}),
+                            type.asPrimitiveType(),
+                            rowType.getFieldType(i));
+            if (columns[i] == null) {
+                return null;
+            }
+        }
+        ParquetReadOptions.Builder options =
+                HadoopReadOptions.builder(inputFile.getConfiguration());
+        if (!split.isWholeFile()) {
+            options.withRange(split.getStart(), split.getStart() + split.getLength());
+        }
+        if (filterPredicate != null) {
+            options.withRecordFilter(FilterCompat.get(filterPredicate))
+                    .useStatsFilter()
+                    .useDictionaryFilter()
+                    .useColumnIndexFilter()
+                    .useBloomFilter();
+        }
+        ParquetFileReader fileReader = ParquetFileReader.open(inputFile, options.build());
+        fileReader.setRequestedSchema(requestedType);
+        return new ParquetVectorizedReader(fileReader, requestedType, columns);
+    }
+
+    /** Read the next batch of every column, returns the number of rows, 0 at the end. */
+    int nextBatch() throws IOException {
+        while (rowGroupRemaining == 0) {
+            // the row groups and pages ruled out by the filter are skipped
+            PageReadStore rowGroup = fileReader.readNextFilteredRowGroup();
+            if (rowGroup == null) {
+                return 0;
+            }
+            ColumnReadStoreImpl columnReadStore =
+                    new ColumnReadStoreImpl(rowGroup, NO_OP_CONVERTER, requestedType, createdBy);
+            for (ColumnBatch column : columns) {
+                column.reader = columnReadStore.getColumnReader(column.descriptor);
+            }
+            rowGroupRemaining = rowGroup.getRowCount();
+        }
+        int size = (int) Math.min(BATCH_SIZE, rowGroupRemaining);
+        for (ColumnBatch column : columns) {
+            column.read(size);
+        }
+        rowGroupRemaining -= size;
+        return size;
+    }
+
+    /** The value of a field of a row of the current batch. */
+    Object get(int field, int row) {
+        return columns[field].get(row);
+    }
+
+    @Override
+    public void close() throws IOException {
+        fileReader.close();
+    }
+
+    /** The column batch that converts the values as {@code ParquetReadStrategy} does. */
+    private static ColumnBatch createColumnBatch(
+            ColumnDescriptor descriptor,
+            PrimitiveType primitiveType,
+            SeaTunnelDataType<?> dataType) {
+        LogicalTypeAnnotation annotation = primitiveType.getLogicalTypeAnnotation();
+        SqlType sqlType = dataType.getSqlType();
+        switch (primitiveType.getPrimitiveTypeName()) {
+            case INT32:
+                if (sqlType == SqlType.INT) {
+                    return new IntColumnBatch(descriptor, Integer::valueOf);
+                }
+                if (sqlType == SqlType.TINYINT) {
+                    return new IntColumnBatch(descriptor, value -> (byte) value);
+                }
+                if (sqlType == SqlType.SMALLINT) {
+                    return new IntColumnBatch(descriptor, value -> (short) value);
+                }
+                if (sqlType == SqlType.DATE) {
+                    return new IntColumnBatch(descriptor, LocalDate::ofEpochDay);
+                }
+                return null;
+            case INT64:
+                if (sqlType == SqlType.BIGINT) {
+                    return new LongColumnBatch(descriptor, Long::valueOf);
+                }
+                if (sqlType == SqlType.TIMESTAMP
+                        && annotation
+                                instanceof LogicalTypeAnnotation.TimestampLogicalTypeAnnotation) {
+                    LogicalTypeAnnotation.TimestampLogicalTypeAnnotation timestamp =
+                            (LogicalTypeAnnotation.TimestampLogicalTypeAnnotation) annotation;
+                    if (timestamp.isAdjustedToUTC()
+                            && timestamp.getUnit() == LogicalTypeAnnotation.TimeUnit.MILLIS) {
+                        return new LongColumnBatch(
+                                descriptor,
+                                value ->
+                                        LocalDateTime.ofInstant(
+                                                Instant.ofEpochMilli(value),
+                                                ZoneId.systemDefault()));
+                    }
+                }
+                return null;
+            case FLOAT:
+                return sqlType == SqlType.FLOAT ? new FloatColumnBatch(descriptor) : null;
+            case DOUBLE:
+                return sqlType == SqlType.DOUBLE ? new DoubleColumnBatch(descriptor) : null;
+            case BOOLEAN:
+                return sqlType == SqlType.BOOLEAN ? new BooleanColumnBatch(descriptor) : null;
+            case BINARY:
+                if (sqlType == SqlType.STRING) {
+                    return new BinaryColumnBatch(descriptor, Binary::toStringUsingUTF8);
+                }
+                if (sqlType == SqlType.BYTES) {
+                    return new BinaryColumnBatch(descriptor, Binary::getBytes);
+                }
+                return null;
+            case FIXED_LEN_BYTE_ARRAY:
+                if (sqlType == SqlType.DECIMAL
+                        && annotation
+                                instanceof LogicalTypeAnnotation.DecimalLogicalTypeAnnotation) {
+                    int scale =
+                            ((LogicalTypeAnnotation.DecimalLogicalTypeAnnotation) annotation)
+                                    .getScale();
+                    return new BinaryColumnBatch(
+                            descriptor,
+                            value -> new BigDecimal(new BigInteger(value.getBytes()), scale));
+                }
+                return null;
+            default:
+                return null;
+        }
+    }
+
+    private abstract static class ColumnBatch {
+        private final ColumnDescriptor descriptor;
+        private final int maxDefinitionLevel;
+        private final boolean[] nulls = new boolean[BATCH_SIZE];
+        private ColumnReader reader;
+
+        private ColumnBatch(ColumnDescriptor descriptor) {
+            this.descriptor = descriptor;
+            this.maxDefinitionLevel = descriptor.getMaxDefinitionLevel();
+        }
+
+        private void read(int size) {
+            for (int row = 0; row < size; row++) {
+                // a value below the max definition level is null
+                if (reader.getCurrentDefinitionLevel() == maxDefinitionLevel) {
+                    nulls[row] = false;
+                    readValue(reader, row);
+                } else {
+                    nulls[row] = true;
+                }
+                reader.consume();
+            }
+        }
+
+        private Object get(int row) {
+            return nulls[row] ? null : getValue(row);
+        }
+
+        abstract void readValue(ColumnReader reader, int row);
+
+        abstract Object getValue(int row);
+    }
+
+    private static class IntColumnBatch extends ColumnBatch {
+        private final int[] values = new int[BATCH_SIZE];
+        private final IntFunction<Object> converter;
+
+        private IntColumnBatch(ColumnDescriptor descriptor, IntFunction<Object> converter) {
+            super(descriptor);
+            this.converter = converter;
+        }
+
+        @Override
+        void readValue(ColumnReader reader, int row) {
+            values[row] = reader.getInteger();
+        }
+
+        @Override
+        Object getValue(int row) {
+            return converter.apply(values[row]);
+        }
+    }
+
+    private static class LongColumnBatch extends ColumnBatch {
+        private final long[] values = new long[BATCH_SIZE];
+        private final LongFunction<Object> converter;
+
+        private LongColumnBatch(ColumnDescriptor descriptor, LongFunction<Object> converter) {
+            super(descriptor);
+            this.converter = converter;
+        }
+
+        @Override
+        void readValue(ColumnReader reader, int row) {
+            values[row] = reader.getLong();
+        }
+
+        @Override
+        Object getValue(int row) {
+            return converter.apply(values[row]);
+        }
+    }
+
+    private static class FloatColumnBatch extends ColumnBatch {
+        private final float[] values = new float[BATCH_SIZE];
+
+        private FloatColumnBatch(ColumnDescriptor descriptor) {
+            super(descriptor);
+        }
+
+        @Override
+        void readValue(ColumnReader reader, int row) {
+            values[row] = reader.getFloat();
+        }
+
+        @Override
+        Object getValue(int row) {
+            return values[row];
+        }
+    }
+
+    private static class DoubleColumnBatch extends ColumnBatch {
+        private final double[] values = new double[BATCH_SIZE];
+
+        private DoubleColumnBatch(ColumnDescriptor descriptor) {
+            super(descriptor);
+        }
+
+        @Override
+        void readValue(ColumnReader reader, int row) {
+            values[row] = reader.getDouble();
+        }
+
+        @Override
+        Object getValue(int row) {
+            return values[row];
+        }
+    }
+
+    private static class BooleanColumnBatch extends ColumnBatch {
+        private final boolean[] values = new boolean[BATCH_SIZE];
+
+        private BooleanColumnBatch(ColumnDescriptor descriptor) {
+            super(descriptor);
+        }
+
+        @Override
+        void readValue(ColumnReader reader, int row) {
+            values[row] = reader.getBoolean();
+        }
+
+        @Override
+        Object getValue(int row) {
+            return values[row];
+        }
+    }
+
+    private static class BinaryColumnBatch extends ColumnBatch {
+        private final Object[] values = new Object[BATCH_SIZE];
+        private final Function<Binary, Object> converter;
+
+        private BinaryColumnBatch(ColumnDescriptor descriptor, Function<Binary, Object> converter) {
+            super(descriptor);
+            this.converter = converter;
+        }
+
+        @Override
+        void readValue(ColumnReader reader, int row) {
+            // the binary may be reused by the reader, it is converted while it is valid
+            values[row] = converter.apply(reader.getBinary());
+        }
+
+        @Override
+        Object getValue(int row) {
+            return values[row];
+        }
+    }
+}
@@ -0,0 +1,385 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.source.reader;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * A conjunction of simple predicates on the columns of a file, such as {@code age >= 18 and city in
+ * ('beijing', 'shanghai') and name is not null}. The rows are filtered by it while the files are
+ * read, the columnar formats also use it to skip the row groups and stripes ruled out by their
+ * statistics.
+ */
+public class ReadFilter implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public enum Operator {
+        EQUALS,
+        NOT_EQUALS,
+        LESS_THAN,
+        LESS_THAN_OR_EQUALS,
+        GREATER_THAN,
+        GREATER_THAN_OR_EQUALS,
+        IN,
+        NOT_IN,
+        IS_NULL,
+        IS_NOT_NULL
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Predicate implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final String column;
+        private final Operator operator;
+        private final List<String> literals;
+        // the literals converted to the java type of the column, set once the filter is bound
+        private final List<Object> values;
+        private final int fieldIndex;
+        private final SeaTunnelDataType<?> dataType;
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private boolean test(Object field) {
+            switch (operator) {
+                case IS_NULL:
+                    return field == null;
+                case IS_NOT_NULL:
+                    return field != null;
+                default:
+                    break;
+            }
+            if (field == null) {
+                return false;
+            }
+            Comparable comparable = (Comparable) field;
+            switch (operator) {
+                case EQUALS:
+                    return comparable.compareTo(values.get(0)) == 0;
+                case NOT_EQUALS:
+                    return comparable.compareTo(values.get(0)) != 0;
+                case LESS_THAN:
+                    return comparable.compareTo(values.get(0)) < 0;
+                case LESS_THAN_OR_EQUALS:
+                    return comparable.compareTo(values.get(0)) <= 0;
+                case GREATER_THAN:
+                    return comparable.compareTo(values.get(0)) > 0;
+                case GREATER_THAN_OR_EQUALS:
+                    return comparable.compareTo(values.get(0)) >= 0;
+                case IN:
+                case NOT_IN:
+                    boolean contained = false;
+                    for (Object value : values) {
+                        if (comparable.compareTo(value) == 0) {
+                            contained = true;
+                            break;
+                        }
+                    }
+                    return contained == (operator == Operator.IN);
+                default:
+                    throw new UnsupportedOperationException("Unsupported operator " + operator);
+            }
+        }
+    }
+
+    @Getter private final List<Predicate> predicates;
+
+    private ReadFilter(List<Predicate> predicates) {
+        this.predicates = predicates;
+    }
+
+    public static ReadFilter parse(String expression) {
+        return new Parser(expression).parse();
+    }
+
+    /** Resolve the columns of the predicates and convert the literals to the column types. */
+    public ReadFilter bind(SeaTunnelRowType rowType) {
+        List<Predicate> boundPredicates = new ArrayList<>(predicates.size());
+        for (Predicate predicate : predicates) {
+            int fieldIndex = rowType.indexOf(predicate.getColumn(), false);
+            if (fieldIndex < 0) {
+                throw new FileConnectorException(
+                        CommonErrorCodeDeprecated.ILLEGAL_ARGUMENT,
+                        String.format(
+                                "The filter column [%s] is not one of the read columns [%s]",
+                                predicate.getColumn(), String.join(",", rowType.getFieldNames())));
+            }
+            SeaTunnelDataType<?> dataType = rowType.getFieldType(fieldIndex);
+            List<Object> values = new ArrayList<>(predicate.getLiterals().size());
+            for (String literal : predicate.getLiterals()) {
+                values.add(convertLiteral(predicate.getColumn(), literal, dataType));
+            }
+            boundPredicates.add(
+                    new Predicate(
+                            predicate.getColumn(),
+                            predicate.getOperator(),
+                            predicate.getLiterals(),
+                            values,
+                            fieldIndex,
+                            dataType));
+        }
+        return new ReadFilter(boundPredicates);
+    }
+
+    /** Whether the row matches all the predicates, the filter must be bound. */
+    public boolean test(SeaTunnelRow row) {
+        for (Predicate predicate : predicates) {
+            if (!predicate.test(row.getField(predicate.getFieldIndex()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Object convertLiteral(
+            String column, String literal, SeaTunnelDataType<?> dataType) {
+        try {
+            switch (dataType.getSqlType()) {
+                case STRING:
+                    return literal;
+                case BOOLEAN:
+                    return Boolean.parseBoolean(literal);
+                case TINYINT:
+                    return new BigDecimal(literal).byteValueExact();
+                case SMALLINT:
+                    return new BigDecimal(literal).shortValueExact();
+                case INT:
+                    return new BigDecimal(literal).intValueExact();
+                case BIGINT:
+                    return new BigDecimal(literal).longValueExact();
+                case FLOAT:
+                    return Float.parseFloat(literal);
+                case DOUBLE:
+                    return Double.parseDouble(literal);
+                case DECIMAL:
+                    return new BigDecimal(literal);
+                case DATE:
+                    return LocalDate.parse(literal);
+                case TIMESTAMP:
+                    return LocalDateTime.parse(literal.trim().replace(' ', 'T'));
+                default:
+                    break;
+            }
+        } catch (RuntimeException e) {
+            throw new FileConnectorException(
+                    CommonErrorCodeDeprecated.ILLEGAL_ARGUMENT,
+                    String.format(
+                            "The filter value [%s] of column [%s] is not a %s",
+                            literal, column, dataType),
+                    e);
+        }
+        throw new FileConnectorException(
+                CommonErrorCodeDeprecated.UNSUPPORTED_DATA_TYPE,
+                String.format("The column [%s] of type %s can not be filtered", column, dataType));
+    }
+
+    /** A recursive descent parser of the conjunctions of predicates. */
+    private static class Parser {
+        private final String expression;
+        private int position;
+
+        private Parser(String expression) {
+            this.expression = expression;
+        }
+
+        private ReadFilter parse() {
+            List<Predicate> predicates = new ArrayList<>();
+            do {
+                predicates.add(parsePredicate());
+            } while (acceptKeyword("AND"));
+            skipWhitespace();
+            if (position < expression.length()) {
+                throw error("unexpected [" + expression.substring(position) + "]");
+            }
+            return new ReadFilter(predicates);
+        }
+
+        private Predicate parsePredicate() {
+            String column = parseIdentifier();
+            Operator operator;
+            List<String> literals = new ArrayList<>();
+            if (acceptKeyword("IS")) {
+                operator = acceptKeyword("NOT") ? Operator.IS_NOT_NULL : Operator.IS_NULL;
+                expectKeyword("NULL");
+            } else if (acceptKeyword("NOT")) {
+                expectKeyword("IN");
+                operator = Operator.NOT_IN;
+                literals.addAll(parseLiteralList());
+            } else if (acceptKeyword("IN")) {
+                operator = Operator.IN;
+                literals.addAll(parseLiteralList());
+            } else {
+                operator = parseComparison();
+                literals.add(parseLiteral());
+            }
+            return new Predicate(column, operator, literals, Collections.emptyList(), -1, null);
+        }
+
+        private Operator parseComparison() {
+            skipWhitespace();
+            String[] symbols = {"==", "!=", "<>", "<=", ">=", "=", "<", ">"};
+            Operator[] operators = {
+                Operator.EQUALS,
+                Operator.NOT_EQUALS,
+                Operator.NOT_EQUALS,
+                Operator.LESS_THAN_OR_EQUALS,
+                Operator.GREATER_THAN_OR_EQUALS,
+                Operator.EQUALS,
+                Operator.LESS_THAN,
+                Operator.GREATER_THAN
+            };
+            for (int i = 0; i < symbols.length; i++) {
+                if (expression.startsWith(symbols[i], position)) {
+                    position += symbols[i].length();
+                    return operators[i];
+                }
+            }
+            throw error("expect a comparison operator");
+        }
+
+        private List<String> parseLiteralList() {
+            expect('(');
+            List<String> literals = new ArrayList<>();
+            do {
+                literals.add(parseLiteral());
+            } while (accept(','));
+            expect(')');
+            return literals;
+        }
+
+        private String parseLiteral() {
+            skipWhitespace();
+            if (accept('\'')) {
+                StringBuilder literal = new StringBuilder();
+                while (position < expression.length()) {
+                    char c = expression.charAt(position++);
+                    if (c != '\'') {
+                        literal.append(c);
+                    } else if (position < expression.length()
+                            && expression.charAt(position) == '\'') {
+                        // a quote is escaped by doubling it
+                        literal.append(c);
+                        position++;
+                    } else {
+                        return literal.toString();
+                    }
+                }
+                throw error("unclosed string literal");
+            }
+            int start = position;
+            while (position < expression.length()
+                    && (Character.isLetterOrDigit(expression.charAt(position))
+                            || "+-.".indexOf(expression.charAt(position)) >= 0)) {
+                position++;
+            }
+            if (start == position) {
+                throw error("expect a literal");
+            }
+            return expression.substring(start, position);
+        }
+
+        private String parseIdentifier() {
+            skipWhitespace();
+            if (accept('`')) {
+                int end = expression.indexOf('`', position);
+                if (end < 0) {
+                    throw error("unclosed quoted column");
+                }
+                String identifier = expression.substring(position, end);
+                position = end + 1;
+                return identifier;
+            }
+            int start = position;
+            while (position < expression.length()
+                    && (Character.isLetterOrDigit(expression.charAt(position))
+                            || expression.charAt(position) == '_')) {
+                position++;
+            }
+            if (start == position) {
+                throw error("expect a column");
+            }
+            return expression.substring(start, position);
+        }
+
+        private boolean acceptKeyword(String keyword) {
+            skipWhitespace();
+            int end = position + keyword.length();
+            if (end <= expression.length()
+                    && expression.substring(position, end).toUpperCase(Locale.ROOT).equals(keyword)
+                    && (end == expression.length()
+                            || !Character.isLetterOrDigit(expression.charAt(end)))) {
+                position = end;
+                return true;
+            }
+            return false;
+        }
+
+        private void expectKeyword(String keyword) {
+            if (!acceptKeyword(keyword)) {
+                throw error("expect " + keyword);
+            }
+        }
+
+        private boolean accept(char c) {
+            skipWhitespace();
+            if (position < expression.length() && expression.charAt(position) == c) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(char c) {
+            if (!accept(c)) {
+                throw error("expect '" + c + "'");
+            }
+        }
+
+        private void skipWhitespace() {
+            while (position < expression.length()
+                    && Character.isWhitespace(expression.charAt(position))) {
+                position++;
+            }
+        }
+
+        private FileConnectorException error(String message) {
+            return new FileConnectorException(
+                    CommonErrorCodeDeprecated.ILLEGAL_ARGUMENT,
+                    String.format(
+                            "Parse the read filter [%s] failed at position %d, %s",
+                            expression, position, message));
+        }
+    }
+}
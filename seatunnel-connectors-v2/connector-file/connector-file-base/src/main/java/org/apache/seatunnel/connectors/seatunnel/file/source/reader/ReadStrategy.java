@@ -29,10 +29,12 @@ import org.apache.seatunnel.common.exception.CommonErrorCode;
 import org.apache.seatunnel.common.exception.SeaTunnelRuntimeException;
 import org.apache.seatunnel.connectors.seatunnel.file.config.HadoopConf;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
 
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -45,6 +47,28 @@ public interface ReadStrategy extends Serializable, Closeable {
     void read(String path, String tableId, Collector<SeaTunnelRow> output)
             throws IOException, FileConnectorException;
 
+    /** Read the byte range of the split, the strategies that can not split a file read it all. */
+    default void read(FileSourceSplit split, Collector<SeaTunnelRow> output)
+            throws IOException, FileConnectorException {
+        read(split.getFilePath(), split.getTableId(), output);
+    }
+
+    /**
+     * Cut a file into the splits read by {@link #read(FileSourceSplit, Collector)}, a file that can
+     * not be read from the middle is returned as one split.
+     */
+    default List<FileSourceSplit> getFileSplits(String tableId, String path) throws IOException {
+        return Collections.singletonList(new FileSourceSplit(tableId, path));
+    }
+
+    /** The size in bytes of a file, the largest files are read first. */
+    default long getFileSize(String path) throws IOException {
+        return 0L;
+    }
+
+    /** Record the listed files once they are read, so that the next run skips them. */
+    default void commitListedFiles() throws IOException {}
+
     SeaTunnelRowType getSeaTunnelRowTypeInfo(String path) throws FileConnectorException;
 
     default SeaTunnelRowType getSeaTunnelRowTypeInfo(TablePath tablePath, String path)
@@ -29,11 +29,13 @@ import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.common.utils.DateTimeUtils;
 import org.apache.seatunnel.common.utils.DateUtils;
 import org.apache.seatunnel.common.utils.TimeUtils;
+import org.apache.seatunnel.connectors.seatunnel.file.config.ArchiveCompressFormat;
 import org.apache.seatunnel.connectors.seatunnel.file.config.BaseSourceConfigOptions;
 import org.apache.seatunnel.connectors.seatunnel.file.config.CompressFormat;
 import org.apache.seatunnel.connectors.seatunnel.file.config.FileFormat;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorErrorCode;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
 import org.apache.seatunnel.format.text.TextDeserializationSchema;
 import org.apache.seatunnel.format.text.constant.TextFormatConstant;
 import org.apache.seatunnel.format.text.splitor.DefaultTextLineSplitor;
@@ -47,6 +49,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -70,6 +73,33 @@ public class TextReadStrategy extends AbstractReadStrategy {
         resolveArchiveCompressedInputStream(path, tableId, output, partitionsMap, FileFormat.TEXT);
     }
 
+    @Override
+    public void read(FileSourceSplit split, Collector<SeaTunnelRow> output)
+            throws FileConnectorException, IOException {
+        if (split.isWholeFile()) {
+            read(split.getFilePath(), split.getTableId(), output);
+            return;
+        }
+        // only the first range of the file skips the header
+        Map<String, String> partitionsMap = parsePartitionsByPath(split.getFilePath());
+        readLines(
+                split.getTableId(),
+                output,
+                openLineRange(split),
+                partitionsMap,
+                split.getStart() == 0 ? skipHeaderNumber : 0);
+    }
+
+    @Override
+    public List<FileSourceSplit> getFileSplits(String tableId, String path) throws IOException {
+        if (compressFormat == CompressFormat.NONE
+                && archiveCompressFormat == ArchiveCompressFormat.NONE
+                && isLineSplittable(encoding)) {
+            return splitByLength(tableId, path);
+        }
+        return super.getFileSplits(tableId, path);
+    }
+
     @Override
     public void readProcess(
             String path,
@@ -96,10 +126,20 @@ public class TextReadStrategy extends AbstractReadStrategy {
                 break;
         }
 
+        readLines(tableId, output, actualInputStream, partitionsMap, skipHeaderNumber);
+    }
+
+    private void readLines(
+            String tableId,
+            Collector<SeaTunnelRow> output,
+            InputStream inputStream,
+            Map<String, String> partitionsMap,
+            long skipLines)
+            throws IOException {
         try (BufferedReader reader =
-                new BufferedReader(new InputStreamReader(actualInputStream, encoding))) {
+                new BufferedReader(new InputStreamReader(inputStream, encoding))) {
             reader.lines()
-                    .skip(skipHeaderNumber)
+                    .skip(skipLines)
                     .forEach(
                             line -> {
                                 try {
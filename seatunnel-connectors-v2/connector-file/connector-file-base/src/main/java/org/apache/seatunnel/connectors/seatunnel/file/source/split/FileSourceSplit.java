@@ -26,24 +26,37 @@ public class FileSourceSplit implements SourceSplit {
 
     @Getter private final String tableId;
     @Getter private final String filePath;
+    // the byte range of the file read by this split, the whole file is read when length is 0
+    @Getter private final long start;
+    @Getter private final long length;
 
     public FileSourceSplit(String splitId) {
-        this.filePath = splitId;
-        this.tableId = null;
+        this(null, splitId);
     }
 
     public FileSourceSplit(String tableId, String filePath) {
+        this(tableId, filePath, 0L, 0L);
+    }
+
+    public FileSourceSplit(String tableId, String filePath, long start, long length) {
         this.tableId = tableId;
         this.filePath = filePath;
+        this.start = start;
+        this.length = length;
+    }
+
+    public boolean isWholeFile() {
+        return length <= 0;
     }
 
     @Override
     public String splitId() {
         // In order to be compatible with the split before the upgrade, when tableId is null,
         // filePath is directly returned
-        if (tableId == null) {
-            return filePath;
+        String fileId = tableId == null ? filePath : tableId + "_" + filePath;
+        if (isWholeFile()) {
+            return fileId;
         }
-        return tableId + "_" + filePath;
+        return fileId + "_" + start + "_" + length;
     }
 }
@@ -18,6 +18,9 @@
 package org.apache.seatunnel.connectors.seatunnel.file.source.split;
 
 import org.apache.seatunnel.api.source.SourceSplitEnumerator;
+import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorErrorCode;
+import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.ReadStrategy;
 import org.apache.seatunnel.connectors.seatunnel.file.source.state.FileSourceState;
 
 import org.slf4j.Logger;
@@ -43,12 +46,21 @@ public class FileSourceSplitEnumerator
             new TreeSet<>(Comparator.comparing(FileSourceSplit::splitId));
     private Set<FileSourceSplit> assignedSplit;
     private final List<String> filePaths;
+    private final ReadStrategy readStrategy;
     private final AtomicInteger assignCount = new AtomicInteger(0);
 
     public FileSourceSplitEnumerator(
             SourceSplitEnumerator.Context<FileSourceSplit> context, List<String> filePaths) {
+        this(context, filePaths, (ReadStrategy) null);
+    }
+
+    public FileSourceSplitEnumerator(
+            SourceSplitEnumerator.Context<FileSourceSplit> context,
+            List<String> filePaths,
+            ReadStrategy readStrategy) {
         this.context = context;
         this.filePaths = filePaths;
+        this.readStrategy = readStrategy;
         this.assignedSplit = new HashSet<>();
     }
 
@@ -56,7 +68,15 @@ public class FileSourceSplitEnumerator
             SourceSplitEnumerator.Context<FileSourceSplit> context,
             List<String> filePaths,
             FileSourceState sourceState) {
-        this(context, filePaths);
+        this(context, filePaths, null, sourceState);
+    }
+
+    public FileSourceSplitEnumerator(
+            SourceSplitEnumerator.Context<FileSourceSplit> context,
+            List<String> filePaths,
+            ReadStrategy readStrategy,
+            FileSourceState sourceState) {
+        this(context, filePaths, readStrategy);
         this.assignedSplit = sourceState.getAssignedSplit();
     }
 
@@ -75,7 +95,19 @@ public class FileSourceSplitEnumerator
 
     private Set<FileSourceSplit> discoverySplits() {
         Set<FileSourceSplit> fileSourceSplits = new HashSet<>();
-        filePaths.forEach(k -> fileSourceSplits.add(new FileSourceSplit(k)));
+        for (String filePath : filePaths) {
+            if (readStrategy == null) {
+                fileSourceSplits.add(new FileSourceSplit(filePath));
+                continue;
+            }
+            try {
+                fileSourceSplits.addAll(readStrategy.getFileSplits(null, filePath));
+            } catch (IOException e) {
+                String errorMsg = String.format("Split this file [%s] failed", filePath);
+                throw new FileConnectorException(
+                        FileConnectorErrorCode.FILE_LIST_GET_FAILED, errorMsg, e);
+            }
+        }
         return fileSourceSplits;
     }
 
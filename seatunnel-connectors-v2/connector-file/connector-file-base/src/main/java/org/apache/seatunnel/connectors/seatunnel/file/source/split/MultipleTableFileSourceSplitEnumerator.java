@@ -17,9 +17,13 @@
 
 package org.apache.seatunnel.connectors.seatunnel.file.source.split;
 
+import org.apache.seatunnel.api.source.SourceEvent;
 import org.apache.seatunnel.api.source.SourceSplitEnumerator;
 import org.apache.seatunnel.connectors.seatunnel.file.config.BaseFileSourceConfig;
 import org.apache.seatunnel.connectors.seatunnel.file.config.BaseMultipleTableFileSourceConfig;
+import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorErrorCode;
+import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.ReadStrategy;
 import org.apache.seatunnel.connectors.seatunnel.file.source.state.FileSourceState;
 
 import org.apache.commons.collections4.CollectionUtils;
@@ -27,27 +31,47 @@ import org.apache.commons.collections4.CollectionUtils;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
-import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+/**
+ * Assigns the file splits on demand, every idle reader requests its next split and gets the largest
+ * pending one, so that the large files do not pile up on a few readers.
+ */
 @Slf4j
 public class MultipleTableFileSourceSplitEnumerator
         implements SourceSplitEnumerator<FileSourceSplit, FileSourceState> {
 
     private final Context<FileSourceSplit> context;
-    private final Set<FileSourceSplit> pendingSplit;
+    private final Map<String, Long> splitSizes = new HashMap<>();
+    private final TreeSet<FileSourceSplit> pendingSplit =
+            new TreeSet<>(
+                    Comparator.comparingLong(
+                                    (FileSourceSplit split) ->
+                                            splitSizes.getOrDefault(split.splitId(), 0L))
+                            .reversed()
+                            .thenComparing(FileSourceSplit::splitId));
     private final Set<FileSourceSplit> assignedSplit;
-    private final Map<String, List<String>> filePathMap;
+    private final Map<String, BaseFileSourceConfig> fileSourceConfigMap;
+    private final Set<Integer> allSplitsReadReaders = new HashSet<>();
+    private boolean discovered;
+    // the listed files are committed to the listing cache once this checkpoint completes
+    private long listingCommitCheckpointId = -1L;
+    private boolean listingCommitted;
 
     public MultipleTableFileSourceSplitEnumerator(
             Context<FileSourceSplit> context,
             BaseMultipleTableFileSourceConfig multipleTableFileSourceConfig) {
         this.context = context;
-        this.filePathMap =
+        this.fileSourceConfigMap =
                 multipleTableFileSourceConfig.getFileSourceConfigs().stream()
                         .collect(
                                 Collectors.toMap(
@@ -57,9 +81,8 @@ public class MultipleTableFileSourceSplitEnumerator
                                                         .getTableId()
                                                         .toTablePath()
                                                         .toString(),
-                                        BaseFileSourceConfig::getFilePaths));
+                                        Function.identity()));
         this.assignedSplit = new HashSet<>();
-        this.pendingSplit = new HashSet<>();
     }
 
     public MultipleTableFileSourceSplitEnumerator(
@@ -71,77 +94,115 @@ public class MultipleTableFileSourceSplitEnumerator
     }
 
     @Override
-    public void addSplitsBack(List<FileSourceSplit> splits, int subtaskId) {
+    public synchronized void addSplitsBack(List<FileSourceSplit> splits, int subtaskId) {
         if (CollectionUtils.isEmpty(splits)) {
             return;
         }
+        discoverySplits();
+        Set<String> splitIds =
+                splits.stream().map(FileSourceSplit::splitId).collect(Collectors.toSet());
+        assignedSplit.removeIf(split -> splitIds.contains(split.splitId()));
         pendingSplit.addAll(splits);
-        assignSplit(subtaskId);
     }
 
     @Override
-    public int currentUnassignedSplitSize() {
+    public synchronized int currentUnassignedSplitSize() {
         return pendingSplit.size();
     }
 
     @Override
-    public void handleSplitRequest(int subtaskId) {}
+    public synchronized void handleSplitRequest(int subtaskId) {
+        discoverySplits();
+        FileSourceSplit split = pendingSplit.pollFirst();
+        if (split == null) {
+            log.info("No more splits for SubTask {}", subtaskId);
+            context.signalNoMoreSplits(subtaskId);
+            return;
+        }
+        // assign split
+        context.assignSplit(subtaskId, Collections.singletonList(split));
+        // save the state of assigned splits
+        assignedSplit.add(split);
+        log.info("SubTask {} is assigned to [{}]", subtaskId, split.splitId());
+    }
 
     @Override
-    public void registerReader(int subtaskId) {
-        for (Map.Entry<String, List<String>> filePathEntry : filePathMap.entrySet()) {
-            String tableId = filePathEntry.getKey();
-            List<String> filePaths = filePathEntry.getValue();
-            for (String filePath : filePaths) {
-                pendingSplit.add(new FileSourceSplit(tableId, filePath));
+    public synchronized void registerReader(int subtaskId) {
+        discoverySplits();
+    }
+
+    private void discoverySplits() {
+        // large files are cut into several splits, the file metadata is only read once
+        if (discovered) {
+            return;
+        }
+        Set<String> assignedSplitIds =
+                assignedSplit.stream().map(FileSourceSplit::splitId).collect(Collectors.toSet());
+        for (Map.Entry<String, BaseFileSourceConfig> configEntry : fileSourceConfigMap.entrySet()) {
+            String tableId = configEntry.getKey();
+            ReadStrategy readStrategy = configEntry.getValue().getReadStrategy();
+            for (String filePath : configEntry.getValue().getFilePaths()) {
+                try {
+                    for (FileSourceSplit split : readStrategy.getFileSplits(tableId, filePath)) {
+                        splitSizes.put(
+                                split.splitId(),
+                                split.isWholeFile()
+                                        ? readStrategy.getFileSize(filePath)
+                                        : split.getLength());
+                        // the splits assigned before the checkpoint are restored by the readers
+                        if (!assignedSplitIds.contains(split.splitId())) {
+                            pendingSplit.add(split);
+                        }
+                    }
+                } catch (IOException e) {
+                    String errorMsg = String.format("Split this file [%s] failed", filePath);
+                    throw new FileConnectorException(
+                            FileConnectorErrorCode.FILE_LIST_GET_FAILED, errorMsg, e);
+                }
             }
         }
-        assignSplit(subtaskId);
+        discovered = true;
     }
 
     @Override
-    public FileSourceState snapshotState(long checkpointId) {
-        return new FileSourceState(assignedSplit);
+    public synchronized FileSourceState snapshotState(long checkpointId) {
+        // a split assigned to a reader may still be queued there unread, the listing is only
+        // committed once every reader reported it has read all of its splits
+        if (discovered
+                && listingCommitCheckpointId < 0
+                && pendingSplit.isEmpty()
+                && allSplitsReadReaders.size() >= context.currentParallelism()) {
+            listingCommitCheckpointId = checkpointId;
+        }
+        return new FileSourceState(new HashSet<>(assignedSplit));
     }
 
     @Override
-    public void notifyCheckpointComplete(long checkpointId) {
-        // do nothing.
+    public synchronized void handleSourceEvent(int subtaskId, SourceEvent sourceEvent) {
+        if (sourceEvent instanceof AllSplitsReadEvent) {
+            log.info("SubTask {} has read all of its splits", subtaskId);
+            allSplitsReadReaders.add(subtaskId);
+        }
     }
 
-    private void assignSplit(int taskId) {
-        List<FileSourceSplit> currentTaskSplits = new ArrayList<>();
-        if (context.currentParallelism() == 1) {
-            // if parallelism == 1, we should assign all the splits to reader
-            currentTaskSplits.addAll(pendingSplit);
-        } else {
-            // if parallelism > 1, according to hashCode of split's id to determine whether to
-            // allocate the current task
-            for (FileSourceSplit fileSourceSplit : pendingSplit) {
-                int splitOwner =
-                        getSplitOwner(fileSourceSplit.splitId(), context.currentParallelism());
-                if (splitOwner == taskId) {
-                    currentTaskSplits.add(fileSourceSplit);
-                }
+    @Override
+    public synchronized void notifyCheckpointComplete(long checkpointId) {
+        if (listingCommitted
+                || listingCommitCheckpointId < 0
+                || checkpointId < listingCommitCheckpointId) {
+            return;
+        }
+        for (BaseFileSourceConfig fileSourceConfig : fileSourceConfigMap.values()) {
+            try {
+                fileSourceConfig.getReadStrategy().commitListedFiles();
+            } catch (IOException e) {
+                throw new FileConnectorException(
+                        FileConnectorErrorCode.FILE_LIST_GET_FAILED,
+                        "Commit the listed files failed",
+                        e);
             }
         }
-        // assign splits
-        context.assignSplit(taskId, currentTaskSplits);
-        // save the state of assigned splits
-        assignedSplit.addAll(currentTaskSplits);
-        // remove the assigned splits from pending splits
-        currentTaskSplits.forEach(pendingSplit::remove);
-        log.info(
-                "SubTask {} is assigned to [{}]",
-                taskId,
-                currentTaskSplits.stream()
-                        .map(FileSourceSplit::splitId)
-                        .collect(Collectors.joining(",")));
-        context.signalNoMoreSplits(taskId);
-    }
-
-    private static int getSplitOwner(String tp, int numReaders) {
-        return (tp.hashCode() & Integer.MAX_VALUE) % numReaders;
+        listingCommitted = true;
     }
 
     @Override
@@ -0,0 +1,244 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.source.reader;
+
+import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.connectors.seatunnel.file.writer.ParquetReadStrategyTest;
+
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.commons.io.FileUtils;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.Path;
+import org.apache.orc.OrcFile;
+import org.apache.orc.TypeDescription;
+import org.apache.orc.Writer;
+import org.apache.orc.storage.ql.exec.vector.BytesColumnVector;
+import org.apache.orc.storage.ql.exec.vector.DoubleColumnVector;
+import org.apache.orc.storage.ql.exec.vector.LongColumnVector;
+import org.apache.orc.storage.ql.exec.vector.VectorizedRowBatch;
+import org.apache.parquet.avro.AvroParquetWriter;
+import org.apache.parquet.hadoop.ParquetWriter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import static org.apache.hadoop.fs.CommonConfigurationKeysPublic.FS_DEFAULT_NAME_DEFAULT;
+
+/**
+ * Compares the column batch decoding of {@link ParquetReadStrategy} and {@link OrcReadStrategy}
+ * with the former avro record and per value conversion, on a narrow and a wide schema of long,
+ * double and string columns. Each invocation reads a whole file of {@code ROW_COUNT} rows.
+ *
+ * <p>Run it from the IDE or with {@code java -cp <test classpath>
+ * org.apache.seatunnel.connectors.seatunnel.file.source.reader.ColumnarReadBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ColumnarReadBenchmark {
+
+    private static final int ROW_COUNT = 100_000;
+
+    @Param({"4", "64"})
+    private int columns;
+
+    @Param({"true", "false"})
+    private boolean vectorized;
+
+    private File tempDir;
+    private String parquetPath;
+    private String orcPath;
+    private ParquetReadStrategy parquetReadStrategy;
+    private OrcReadStrategy orcReadStrategy;
+    private CountingCollector collector;
+
+    @Setup
+    public void setup() throws Exception {
+        tempDir = Files.createTempDirectory("columnar-read-benchmark").toFile();
+        parquetPath = writeParquet(new File(tempDir, "data.parquet"));
+        orcPath = writeOrc(new File(tempDir, "data.orc"));
+
+        parquetReadStrategy = new ParquetReadStrategy();
+        parquetReadStrategy.init(new ParquetReadStrategyTest.LocalConf(FS_DEFAULT_NAME_DEFAULT));
+        parquetReadStrategy.getSeaTunnelRowTypeInfo(parquetPath);
+        parquetReadStrategy.setVectorizedRead(vectorized);
+
+        orcReadStrategy = new OrcReadStrategy();
+        orcReadStrategy.init(new ParquetReadStrategyTest.LocalConf(FS_DEFAULT_NAME_DEFAULT));
+        orcReadStrategy.getSeaTunnelRowTypeInfo(orcPath);
+        orcReadStrategy.setVectorizedRead(vectorized);
+
+        collector = new CountingCollector();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        parquetReadStrategy.close();
+        orcReadStrategy.close();
+        FileUtils.deleteDirectory(tempDir);
+    }
+
+    @Benchmark
+    public long parquet() throws Exception {
+        collector.count = 0;
+        parquetReadStrategy.read(parquetPath, "table", collector);
+        return collector.count;
+    }
+
+    @Benchmark
+    public long orc() throws Exception {
+        collector.count = 0;
+        orcReadStrategy.read(orcPath, "table", collector);
+        return collector.count;
+    }
+
+    private String writeParquet(File file) throws IOException {
+        SchemaBuilder.FieldAssembler<Schema> fields = SchemaBuilder.record("data").fields();
+        for (int i = 0; i < columns; i++) {
+            switch (i % 3) {
+                case 0:
+                    fields = fields.optionalLong("c" + i);
+                    break;
+                case 1:
+                    fields = fields.optionalDouble("c" + i);
+                    break;
+                default:
+                    fields = fields.optionalString("c" + i);
+            }
+        }
+        Schema schema = fields.endRecord();
+        try (ParquetWriter<GenericRecord> writer =
+                AvroParquetWriter.<GenericRecord>builder(new Path(file.getPath()))
+                        .withSchema(schema)
+                        .build()) {
+            for (int row = 0; row < ROW_COUNT; row++) {
+                GenericRecord record = new GenericData.Record(schema);
+                for (int i = 0; i < columns; i++) {
+                    record.put(i, value(row, i));
+                }
+                writer.write(record);
+            }
+        }
+        return file.getPath();
+    }
+
+    private String writeOrc(File file) throws IOException {
+        TypeDescription schema = TypeDescription.createStruct();
+        for (int i = 0; i < columns; i++) {
+            switch (i % 3) {
+                case 0:
+                    schema.addField("c" + i, TypeDescription.createLong());
+                    break;
+                case 1:
+                    schema.addField("c" + i, TypeDescription.createDouble());
+                    break;
+                default:
+                    schema.addField("c" + i, TypeDescription.createString());
+            }
+        }
+        try (Writer writer =
+                OrcFile.createWriter(
+                        new Path(file.getPath()),
+                        OrcFile.writerOptions(new Configuration()).setSchema(schema))) {
+            VectorizedRowBatch batch = schema.createRowBatch();
+            for (int row = 0; row < ROW_COUNT; row++) {
+                int batchRow = batch.size++;
+                for (int i = 0; i < columns; i++) {
+                    Object value = value(row, i);
+                    if (value instanceof Long) {
+                        ((LongColumnVector) batch.cols[i]).vector[batchRow] = (Long) value;
+                    } else if (value instanceof Double) {
+                        ((DoubleColumnVector) batch.cols[i]).vector[batchRow] = (Double) value;
+                    } else {
+                        ((BytesColumnVector) batch.cols[i])
+                                .setVal(
+                                        batchRow,
+                                        ((String) value).getBytes(StandardCharsets.UTF_8));
+                    }
+                }
+                if (batch.size == batch.getMaxSize()) {
+                    writer.addRowBatch(batch);
+                    batch.reset();
+                }
+            }
+            if (batch.size > 0) {
+                writer.addRowBatch(batch);
+            }
+        }
+        return file.getPath();
+    }
+
+    private static Object value(int row, int column) {
+        switch (column % 3) {
+            case 0:
+                return (long) row * column;
+            case 1:
+                return row / (column + 1d);
+            default:
+                return "value" + (row % 1000);
+        }
+    }
+
+    private static class CountingCollector implements Collector<SeaTunnelRow> {
+
+        private long count;
+
+        @Override
+        public void collect(SeaTunnelRow record) {
+            count++;
+        }
+
+        @Override
+        public Object getCheckpointLock() {
+            return this;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options =
+                new OptionsBuilder().include(ColumnarReadBenchmark.class.getSimpleName()).build();
+        new Runner(options).run();
+    }
+}
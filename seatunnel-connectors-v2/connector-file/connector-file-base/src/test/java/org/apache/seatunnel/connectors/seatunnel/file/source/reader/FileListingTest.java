@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.source.reader;
+
+import org.apache.seatunnel.shade.com.typesafe.config.Config;
+import org.apache.seatunnel.shade.com.typesafe.config.ConfigFactory;
+import org.apache.seatunnel.shade.com.typesafe.config.ConfigValueFactory;
+
+import org.apache.seatunnel.connectors.seatunnel.file.config.BaseSourceConfigOptions;
+import org.apache.seatunnel.connectors.seatunnel.file.writer.ParquetReadStrategyTest;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.apache.hadoop.fs.CommonConfigurationKeysPublic.FS_DEFAULT_NAME_DEFAULT;
+
+@DisabledOnOs(OS.WINDOWS)
+public class FileListingTest {
+
+    @TempDir File tempDir;
+
+    @Test
+    public void testParallelListing() throws Exception {
+        createPartitionedFiles();
+        List<String> sequentialFiles = listFiles(ConfigFactory.empty());
+        Assertions.assertEquals(12, sequentialFiles.size());
+        Assertions.assertTrue(sequentialFiles.stream().noneMatch(file -> file.contains(".tmp")));
+        List<String> parallelFiles =
+                listFiles(
+                        ConfigFactory.empty()
+                                .withValue(
+                                        BaseSourceConfigOptions.FILE_LIST_PARALLELISM.key(),
+                                        ConfigValueFactory.fromAnyRef(4)));
+        Assertions.assertEquals(sequentialFiles, parallelFiles);
+    }
+
+    @Test
+    public void testListingPrunesPartitions() throws Exception {
+        createPartitionedFiles();
+        Config pluginConfig =
+                ConfigFactory.empty()
+                        .withValue(
+                                BaseSourceConfigOptions.READ_PARTITIONS.key(),
+                                ConfigValueFactory.fromAnyRef(
+                                        Arrays.asList("dt=20240102/hour=01", "dt=20240103")));
+        List<String> files = listFiles(pluginConfig);
+        Assertions.assertEquals(
+                Arrays.asList(
+                        "dt=20240102/hour=01/part-0.txt",
+                        "dt=20240102/hour=01/part-1.txt",
+                        "dt=20240103/hour=00/part-0.txt",
+                        "dt=20240103/hour=00/part-1.txt",
+                        "dt=20240103/hour=01/part-0.txt",
+                        "dt=20240103/hour=01/part-1.txt"),
+                files);
+    }
+
+    @Test
+    public void testListingCacheSkipsReadFiles() throws Exception {
+        createPartitionedFiles();
+        Config pluginConfig =
+                ConfigFactory.empty()
+                        .withValue(
+                                BaseSourceConfigOptions.FILE_LIST_CACHE_PATH.key(),
+                                ConfigValueFactory.fromAnyRef(
+                                        new File(tempDir, "listing.cache").getPath()));
+        File dataDir = new File(tempDir, "data");
+        try (TextReadStrategy readStrategy = createReadStrategy(pluginConfig)) {
+            Assertions.assertEquals(12, readStrategy.getFileNamesByPath(dataDir.getPath()).size());
+            readStrategy.commitListedFiles();
+        }
+        writeFile(new File(dataDir, "dt=20240104/hour=00/part-0.txt"));
+        try (TextReadStrategy readStrategy = createReadStrategy(pluginConfig)) {
+            List<String> files = readStrategy.getFileNamesByPath(dataDir.getPath());
+            Assertions.assertEquals(1, files.size());
+            Assertions.assertTrue(files.get(0).endsWith("dt=20240104/hour=00/part-0.txt"));
+        }
+        // the files are read again until the listing is committed
+        try (TextReadStrategy readStrategy = createReadStrategy(pluginConfig)) {
+            Assertions.assertEquals(1, readStrategy.getFileNamesByPath(dataDir.getPath()).size());
+        }
+    }
+
+    private void createPartitionedFiles() throws Exception {
+        File dataDir = new File(tempDir, "data");
+        for (String dt : Arrays.asList("dt=20240101", "dt=20240102", "dt=20240103")) {
+            for (String hour : Arrays.asList("hour=00", "hour=01")) {
+                for (int i = 0; i < 2; i++) {
+                    writeFile(new File(dataDir, dt + "/" + hour + "/part-" + i + ".txt"));
+                }
+            }
+        }
+        writeFile(new File(dataDir, ".hive-staging/dt=20240101/part-0.txt"));
+        writeFile(new File(dataDir, "dt=20240101/hour=00/.part-2.txt.tmp"));
+    }
+
+    private void writeFile(File file) throws Exception {
+        Files.createDirectories(file.getParentFile().toPath());
+        Files.write(file.toPath(), "a,b\n".getBytes(StandardCharsets.UTF_8));
+    }
+
+    private List<String> listFiles(Config pluginConfig) throws Exception {
+        String dataPath = new File(tempDir, "data").toURI().getPath();
+        try (TextReadStrategy readStrategy = createReadStrategy(pluginConfig)) {
+            return readStrategy.getFileNamesByPath(new File(tempDir, "data").getPath()).stream()
+                    .map(file -> file.substring(file.indexOf(dataPath) + dataPath.length()))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private TextReadStrategy createReadStrategy(Config pluginConfig) {
+        TextReadStrategy readStrategy = new TextReadStrategy();
+        readStrategy.setPluginConfig(pluginConfig);
+        readStrategy.init(new ParquetReadStrategyTest.LocalConf(FS_DEFAULT_NAME_DEFAULT));
+        return readStrategy;
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.source.reader;
+
+import org.apache.seatunnel.shade.com.typesafe.config.Config;
+import org.apache.seatunnel.shade.com.typesafe.config.ConfigFactory;
+import org.apache.seatunnel.shade.com.typesafe.config.ConfigValueFactory;
+
+import org.apache.seatunnel.connectors.seatunnel.file.config.BaseSourceConfigOptions;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
+import org.apache.seatunnel.connectors.seatunnel.file.writer.ParquetReadStrategyTest;
+
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.hadoop.fs.Path;
+import org.apache.parquet.avro.AvroParquetWriter;
+import org.apache.parquet.hadoop.ParquetWriter;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.apache.hadoop.fs.CommonConfigurationKeysPublic.FS_DEFAULT_NAME_DEFAULT;
+
+public class FileSplitReadTest {
+
+    @Test
+    public void testLineRangeReadEveryLineOnce() throws Exception {
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            StringBuilder line = new StringBuilder("line" + i);
+            for (int j = 0; j < i % 7; j++) {
+                line.append(",中文").append(j);
+            }
+            lines.add(line.toString());
+        }
+        byte[] data = (String.join("\n", lines) + "\n").getBytes(StandardCharsets.UTF_8);
+        for (int splitSize = 1; splitSize <= 64; splitSize++) {
+            List<String> readLines = new ArrayList<>();
+            for (long start = 0; start < data.length; start += splitSize) {
+                long length = Math.min(splitSize, data.length - start);
+                ByteArrayInputStream inputStream = new ByteArrayInputStream(data);
+                Assertions.assertEquals(start, inputStream.skip(start));
+                try (BufferedReader reader =
+                        new BufferedReader(
+                                new InputStreamReader(
+                                        new LineRangeInputStream(inputStream, start, length),
+                                        StandardCharsets.UTF_8))) {
+                    readLines.addAll(reader.lines().collect(Collectors.toList()));
+                }
+            }
+            Assertions.assertEquals(lines, readLines, "split size " + splitSize);
+        }
+    }
+
+    @DisabledOnOs(OS.WINDOWS)
+    @Test
+    public void testTextReadSplits(@TempDir File tempDir) throws Exception {
+        List<String> lines = new ArrayList<>();
+        lines.add("header");
+        for (int i = 0; i < 100; i++) {
+            lines.add("value" + i);
+        }
+        File file = new File(tempDir, "text.txt");
+        Files.write(file.toPath(), lines, StandardCharsets.UTF_8);
+
+        Config pluginConfig =
+                ConfigFactory.empty()
+                        .withValue(
+                                BaseSourceConfigOptions.FILE_SPLIT_SIZE.key(),
+                                ConfigValueFactory.fromAnyRef(64))
+                        .withValue(
+                                BaseSourceConfigOptions.SKIP_HEADER_ROW_NUMBER.key(),
+                                ConfigValueFactory.fromAnyRef(1));
+        try (TextReadStrategy textReadStrategy = new TextReadStrategy()) {
+            textReadStrategy.setPluginConfig(pluginConfig);
+            textReadStrategy.init(new ParquetReadStrategyTest.LocalConf(FS_DEFAULT_NAME_DEFAULT));
+            String path = textReadStrategy.getFileNamesByPath(tempDir.getPath()).get(0);
+            textReadStrategy.getSeaTunnelRowTypeInfo(path);
+
+            List<FileSourceSplit> splits = textReadStrategy.getFileSplits("table", path);
+            Assertions.assertTrue(splits.size() > 1);
+            ParquetReadStrategyTest.TestCollector collector =
+                    new ParquetReadStrategyTest.TestCollector();
+            for (FileSourceSplit split : splits) {
+                textReadStrategy.read(split, collector);
+            }
+            Assertions.assertEquals(
+                    lines.subList(1, lines.size()),
+                    collector.getRows().stream()
+                            .map(row -> (String) row.getField(0))
+                            .collect(Collectors.toList()));
+        }
+    }
+
+    @DisabledOnOs(OS.WINDOWS)
+    @Test
+    public void testParquetReadSplitsByRowGroup(@TempDir File tempDir) throws Exception {
+        Schema schema =
+                new Schema.Parser()
+                        .parse(
+                                "{\"type\":\"record\",\"name\":\"User\",\"fields\":"
+                                        + "[{\"name\":\"id\",\"type\":\"long\"},{\"name\":\"name\",\"type\":\"string\"}]}");
+        File file = new File(tempDir, "data.parquet");
+        int rowCount = 5000;
+        try (ParquetWriter<GenericRecord> writer =
+                AvroParquetWriter.<GenericRecord>builder(new Path(file.getPath()))
+                        .withSchema(schema)
+                        .withRowGroupSize(4096)
+                        .withPageSize(1024)
+                        .build()) {
+            for (long i = 0; i < rowCount; i++) {
+                GenericRecord record = new GenericData.Record(schema);
+                record.put("id", i);
+                record.put("name", "name" + i);
+                writer.write(record);
+            }
+        }
+
+        Config pluginConfig =
+                ConfigFactory.empty()
+                        .withValue(
+                                BaseSourceConfigOptions.FILE_SPLIT_SIZE.key(),
+                                ConfigValueFactory.fromAnyRef(8192));
+        try (ParquetReadStrategy parquetReadStrategy = new ParquetReadStrategy()) {
+            parquetReadStrategy.setPluginConfig(pluginConfig);
+            parquetReadStrategy.init(
+                    new ParquetReadStrategyTest.LocalConf(FS_DEFAULT_NAME_DEFAULT));
+            String path = parquetReadStrategy.getFileNamesByPath(tempDir.getPath()).get(0);
+            parquetReadStrategy.getSeaTunnelRowTypeInfo(path);
+
+            List<FileSourceSplit> splits = parquetReadStrategy.getFileSplits("table", path);
+            Assertions.assertTrue(splits.size() > 1);
+            ParquetReadStrategyTest.TestCollector collector =
+                    new ParquetReadStrategyTest.TestCollector();
+            for (FileSourceSplit split : splits) {
+                parquetReadStrategy.read(split, collector);
+            }
+            List<Long> ids =
+                    collector.getRows().stream()
+                            .map(row -> (Long) row.getField(0))
+                            .sorted()
+                            .collect(Collectors.toList());
+            Assertions.assertEquals(rowCount, ids.size());
+            for (int i = 0; i < rowCount; i++) {
+                Assertions.assertEquals(i, ids.get(i).longValue());
+            }
+        }
+    }
+
+    @Test
+    public void testWholeFileSplitId() {
+        FileSourceSplit wholeFile = new FileSourceSplit("table", "/tmp/a.txt");
+        Assertions.assertTrue(wholeFile.isWholeFile());
+        Assertions.assertEquals("table_/tmp/a.txt", wholeFile.splitId());
+        FileSourceSplit range = new FileSourceSplit("table", "/tmp/a.txt", 128, 64);
+        Assertions.assertFalse(range.isWholeFile());
+        Assertions.assertEquals("table_/tmp/a.txt_128_64", range.splitId());
+    }
+}
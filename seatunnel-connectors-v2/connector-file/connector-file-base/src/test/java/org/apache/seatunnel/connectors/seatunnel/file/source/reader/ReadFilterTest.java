@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.source.reader;
+
+import org.apache.seatunnel.shade.com.typesafe.config.Config;
+import org.apache.seatunnel.shade.com.typesafe.config.ConfigFactory;
+import org.apache.seatunnel.shade.com.typesafe.config.ConfigValueFactory;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.seatunnel.file.config.BaseSourceConfigOptions;
+import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.writer.ParquetReadStrategyTest;
+
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.Path;
+import org.apache.orc.OrcFile;
+import org.apache.orc.TypeDescription;
+import org.apache.orc.Writer;
+import org.apache.orc.storage.ql.exec.vector.BytesColumnVector;
+import org.apache.orc.storage.ql.exec.vector.LongColumnVector;
+import org.apache.orc.storage.ql.exec.vector.VectorizedRowBatch;
+import org.apache.parquet.avro.AvroParquetWriter;
+import org.apache.parquet.hadoop.ParquetWriter;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.apache.hadoop.fs.CommonConfigurationKeysPublic.FS_DEFAULT_NAME_DEFAULT;
+
+public class ReadFilterTest {
+
+    private static final int ROW_COUNT = 5000;
+
+    @Test
+    public void testParseAndTest() {
+        SeaTunnelRowType rowType =
+                new SeaTunnelRowType(
+                        new String[] {"id", "name", "day"},
+                        new SeaTunnelDataType[] {
+                            BasicType.LONG_TYPE,
+                            BasicType.STRING_TYPE,
+                            LocalTimeType.LOCAL_DATE_TYPE
+                        });
+        ReadFilter readFilter =
+                ReadFilter.parse(
+                                "id >= 10 AND `name` in ('a', 'it''s') and day <> '2024-01-01'"
+                                        + " and name is not null")
+                        .bind(rowType);
+        Assertions.assertEquals(4, readFilter.getPredicates().size());
+        Assertions.assertTrue(
+                readFilter.test(
+                        new SeaTunnelRow(new Object[] {10L, "it's", LocalDate.of(2024, 1, 2)})));
+        Assertions.assertFalse(
+                readFilter.test(
+                        new SeaTunnelRow(new Object[] {9L, "a", LocalDate.of(2024, 1, 2)})));
+        Assertions.assertFalse(
+                readFilter.test(
+                        new SeaTunnelRow(new Object[] {11L, "b", LocalDate.of(2024, 1, 2)})));
+        Assertions.assertFalse(
+                readFilter.test(
+                        new SeaTunnelRow(new Object[] {11L, "a", LocalDate.of(2024, 1, 1)})));
+        Assertions.assertFalse(readFilter.test(new SeaTunnelRow(new Object[] {null, "a", null})));
+
+        Assertions.assertThrows(FileConnectorException.class, () -> ReadFilter.parse("id >"));
+        Assertions.assertThrows(
+                FileConnectorException.class, () -> ReadFilter.parse("id = 1 or id = 2"));
+        Assertions.assertThrows(
+                FileConnectorException.class, () -> ReadFilter.parse("age = 1").bind(rowType));
+        Assertions.assertThrows(
+                FileConnectorException.class, () -> ReadFilter.parse("id = 'a'").bind(rowType));
+    }
+
+    @DisabledOnOs(OS.WINDOWS)
+    @Test
+    public void testParquetReadWithFilter(@TempDir File tempDir) throws Exception {
+        Schema schema =
+                new Schema.Parser()
+                        .parse(
+                                "{\"type\":\"record\",\"name\":\"User\",\"fields\":"
+                                        + "[{\"name\":\"id\",\"type\":\"long\"},{\"name\":\"name\",\"type\":\"string\"},"
+                                        + "{\"name\":\"score\",\"type\":\"double\"}]}");
+        File file = new File(tempDir, "data.parquet");
+        try (ParquetWriter<GenericRecord> writer =
+                AvroParquetWriter.<GenericRecord>builder(new Path(file.getPath()))
+                        .withSchema(schema)
+                        .withRowGroupSize(4096)
+                        .withPageSize(1024)
+                        .build()) {
+            for (long i = 0; i < ROW_COUNT; i++) {
+                GenericRecord record = new GenericData.Record(schema);
+                record.put("id", i);
+                record.put("name", "name" + i);
+                record.put("score", i / 10.0);
+                writer.write(record);
+            }
+        }
+
+        try (ParquetReadStrategy parquetReadStrategy = new ParquetReadStrategy()) {
+            parquetReadStrategy.setPluginConfig(filterConfig());
+            parquetReadStrategy.init(
+                    new ParquetReadStrategyTest.LocalConf(FS_DEFAULT_NAME_DEFAULT));
+            SeaTunnelRowType rowType = parquetReadStrategy.getSeaTunnelRowTypeInfo(file.getPath());
+            Assertions.assertArrayEquals(new String[] {"name", "id"}, rowType.getFieldNames());
+            ParquetReadStrategyTest.TestCollector collector =
+                    new ParquetReadStrategyTest.TestCollector();
+            parquetReadStrategy.read(file.getPath(), "", collector);
+            assertFilteredRows(collector.getRows());
+        }
+    }
+
+    @DisabledOnOs(OS.WINDOWS)
+    @Test
+    public void testOrcReadWithFilter(@TempDir File tempDir) throws Exception {
+        TypeDescription schema = TypeDescription.fromString("struct<id:bigint,name:string>");
+        File file = new File(tempDir, "data.orc");
+        try (Writer writer =
+                OrcFile.createWriter(
+                        new Path(file.getPath()),
+                        OrcFile.writerOptions(new Configuration())
+                                .setSchema(schema)
+                                .rowIndexStride(1000))) {
+            VectorizedRowBatch batch = schema.createRowBatch();
+            LongColumnVector ids = (LongColumnVector) batch.cols[0];
+            BytesColumnVector names = (BytesColumnVector) batch.cols[1];
+            for (int i = 0; i < ROW_COUNT; i++) {
+                int row = batch.size++;
+                ids.vector[row] = i;
+                names.setVal(row, ("name" + i).getBytes(StandardCharsets.UTF_8));
+                if (batch.size == batch.getMaxSize()) {
+                    writer.addRowBatch(batch);
+                    batch.reset();
+                }
+            }
+            writer.addRowBatch(batch);
+        }
+
+        try (OrcReadStrategy orcReadStrategy = new OrcReadStrategy()) {
+            orcReadStrategy.setPluginConfig(filterConfig());
+            orcReadStrategy.init(new ParquetReadStrategyTest.LocalConf(FS_DEFAULT_NAME_DEFAULT));
+            orcReadStrategy.getSeaTunnelRowTypeInfo(file.getPath());
+            ParquetReadStrategyTest.TestCollector collector =
+                    new ParquetReadStrategyTest.TestCollector();
+            orcReadStrategy.read(file.getPath(), "", collector);
+            assertFilteredRows(collector.getRows());
+        }
+    }
+
+    private Config filterConfig() {
+        return ConfigFactory.empty()
+                .withValue(
+                        BaseSourceConfigOptions.READ_COLUMNS.key(),
+                        ConfigValueFactory.fromAnyRef(Arrays.asList("name", "id")))
+                .withValue(
+                        BaseSourceConfigOptions.READ_FILTER.key(),
+                        ConfigValueFactory.fromAnyRef(
+                                "id >= 4500 and id < 4600 and name not in ('name4510', 'name4520')"));
+    }
+
+    private void assertFilteredRows(List<SeaTunnelRow> rows) {
+        List<Long> ids =
+                rows.stream().map(row -> (Long) row.getField(1)).collect(Collectors.toList());
+        Assertions.assertEquals(98, ids.size());
+        for (SeaTunnelRow row : rows) {
+            long id = (Long) row.getField(1);
+            Assertions.assertTrue(id >= 4500 && id < 4600 && id != 4510 && id != 4520);
+            Assertions.assertEquals("name" + id, row.getField(0));
+        }
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.source.reader;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
+import org.apache.seatunnel.connectors.seatunnel.file.writer.ParquetReadStrategyTest;
+
+import org.apache.avro.Conversions;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.Path;
+import org.apache.parquet.avro.AvroParquetWriter;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.hadoop.util.HadoopInputFile;
+import org.apache.parquet.schema.MessageType;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.apache.hadoop.fs.CommonConfigurationKeysPublic.FS_DEFAULT_NAME_DEFAULT;
+
+public class VectorizedReadTest {
+
+    private static final String FLAT_SCHEMA =
+            "{\"type\":\"record\",\"name\":\"Flat\",\"fields\":["
+                    + "{\"name\":\"c_int\",\"type\":[\"null\",\"int\"]},"
+                    + "{\"name\":\"c_long\",\"type\":[\"null\",\"long\"]},"
+                    + "{\"name\":\"c_float\",\"type\":[\"null\",\"float\"]},"
+                    + "{\"name\":\"c_double\",\"type\":[\"null\",\"double\"]},"
+                    + "{\"name\":\"c_boolean\",\"type\":[\"null\",\"boolean\"]},"
+                    + "{\"name\":\"c_string\",\"type\":[\"null\",\"string\"]},"
+                    + "{\"name\":\"c_bytes\",\"type\":[\"null\",\"bytes\"]},"
+                    + "{\"name\":\"c_date\",\"type\":[\"null\",{\"type\":\"int\",\"logicalType\":\"date\"}]},"
+                    + "{\"name\":\"c_timestamp\",\"type\":[\"null\",{\"type\":\"long\",\"logicalType\":\"timestamp-millis\"}]},"
+                    + "{\"name\":\"c_decimal\",\"type\":[\"null\",{\"type\":\"fixed\",\"name\":\"dec\",\"size\":8,"
+                    + "\"logicalType\":\"decimal\",\"precision\":10,\"scale\":2}]}]}";
+
+    @DisabledOnOs(OS.WINDOWS)
+    @Test
+    public void testParquetVectorizedReadMatchesAvroRead(@TempDir File tempDir) throws Exception {
+        Schema schema = new Schema.Parser().parse(FLAT_SCHEMA);
+        GenericData model = new GenericData();
+        model.addLogicalTypeConversion(new Conversions.DecimalConversion());
+        File file = new File(tempDir, "flat.parquet");
+        int rowCount = 10000;
+        try (ParquetWriter<GenericRecord> writer =
+                AvroParquetWriter.<GenericRecord>builder(new Path(file.getPath()))
+                        .withSchema(schema)
+                        .withDataModel(model)
+                        .withRowGroupSize(64 * 1024)
+                        .withPageSize(4096)
+                        .build()) {
+            for (int i = 0; i < rowCount; i++) {
+                GenericRecord record = new GenericData.Record(schema);
+                if (i % 10 != 0) {
+                    record.put("c_int", i);
+                    record.put("c_long", i * 1000L);
+                    record.put("c_float", i / 4f);
+                    record.put("c_double", i / 8d);
+                    record.put("c_boolean", i % 3 == 0);
+                    record.put("c_string", "value" + i);
+                    record.put(
+                            "c_bytes",
+                            ByteBuffer.wrap(("bytes" + i).getBytes(StandardCharsets.UTF_8)));
+                    record.put("c_date", i % 20000);
+                    record.put("c_timestamp", 1700000000000L + i);
+                    record.put("c_decimal", BigDecimal.valueOf(i, 2));
+                }
+                writer.write(record);
+            }
+        }
+
+        String path = file.getPath();
+        List<SeaTunnelRow> vectorizedRows;
+        try (ParquetReadStrategy readStrategy = new ParquetReadStrategy()) {
+            readStrategy.init(new ParquetReadStrategyTest.LocalConf(FS_DEFAULT_NAME_DEFAULT));
+            SeaTunnelRowType rowType = readStrategy.getSeaTunnelRowTypeInfo(path);
+            HadoopInputFile inputFile =
+                    HadoopInputFile.fromPath(new Path(path), new Configuration());
+            MessageType fileSchema;
+            try (ParquetFileReader fileReader = ParquetFileReader.open(inputFile)) {
+                fileSchema = fileReader.getFooter().getFileMetaData().getSchema();
+            }
+            try (ParquetVectorizedReader reader =
+                    ParquetVectorizedReader.open(
+                            inputFile,
+                            fileSchema,
+                            rowType,
+                            new FileSourceSplit("table", path),
+                            null)) {
+                Assertions.assertNotNull(reader);
+            }
+            vectorizedRows = read(readStrategy, path, true);
+        }
+        List<SeaTunnelRow> avroRows;
+        try (ParquetReadStrategy readStrategy = new ParquetReadStrategy()) {
+            readStrategy.init(new ParquetReadStrategyTest.LocalConf(FS_DEFAULT_NAME_DEFAULT));
+            readStrategy.getSeaTunnelRowTypeInfo(path);
+            avroRows = read(readStrategy, path, false);
+        }
+        Assertions.assertEquals(rowCount, vectorizedRows.size());
+        assertSameRows(avroRows, vectorizedRows);
+    }
+
+    @Test
+    public void testOrcVectorizedReadMatchesRowRead() throws Exception {
+        URL orcFile = VectorizedReadTest.class.getResource("/test.orc");
+        Assertions.assertNotNull(orcFile);
+        String path = Paths.get(orcFile.toURI()).toString();
+        List<SeaTunnelRow> vectorizedRows;
+        try (OrcReadStrategy readStrategy = new OrcReadStrategy()) {
+            readStrategy.init(new ParquetReadStrategyTest.LocalConf(FS_DEFAULT_NAME_DEFAULT));
+            readStrategy.getSeaTunnelRowTypeInfo(path);
+            vectorizedRows = read(readStrategy, path, true);
+        }
+        List<SeaTunnelRow> rows;
+        try (OrcReadStrategy readStrategy = new OrcReadStrategy()) {
+            readStrategy.init(new ParquetReadStrategyTest.LocalConf(FS_DEFAULT_NAME_DEFAULT));
+            readStrategy.getSeaTunnelRowTypeInfo(path);
+            rows = read(readStrategy, path, false);
+        }
+        Assertions.assertFalse(vectorizedRows.isEmpty());
+        assertSameRows(rows, vectorizedRows);
+    }
+
+    private static List<SeaTunnelRow> read(
+            AbstractReadStrategy readStrategy, String path, boolean vectorizedRead)
+            throws Exception {
+        readStrategy.setVectorizedRead(vectorizedRead);
+        ParquetReadStrategyTest.TestCollector collector =
+                new ParquetReadStrategyTest.TestCollector();
+        readStrategy.read(path, "table", collector);
+        return collector.getRows();
+    }
+
+    private static void assertSameRows(List<SeaTunnelRow> expected, List<SeaTunnelRow> actual) {
+        Assertions.assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Assertions.assertTrue(
+                    Arrays.deepEquals(expected.get(i).getFields(), actual.get(i).getFields()),
+                    "row " + i + ": " + expected.get(i) + " != " + actual.get(i));
+        }
+    }
+}
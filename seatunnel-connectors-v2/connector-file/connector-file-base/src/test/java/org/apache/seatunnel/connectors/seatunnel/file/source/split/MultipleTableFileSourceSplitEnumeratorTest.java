@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.source.split;
+
+import org.apache.seatunnel.api.source.SourceSplitEnumerator;
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.catalog.CatalogTableUtil;
+import org.apache.seatunnel.connectors.seatunnel.file.config.BaseFileSourceConfig;
+import org.apache.seatunnel.connectors.seatunnel.file.config.BaseMultipleTableFileSourceConfig;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.ReadStrategy;
+import org.apache.seatunnel.connectors.seatunnel.file.source.state.FileSourceState;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+public class MultipleTableFileSourceSplitEnumeratorTest {
+
+    private BaseMultipleTableFileSourceConfig multipleTableFileSourceConfig;
+    private ReadStrategy readStrategy;
+    private String tableId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        CatalogTable catalogTable = CatalogTableUtil.buildSimpleTextTable();
+        tableId = catalogTable.getTableId().toTablePath().toString();
+
+        readStrategy = Mockito.mock(ReadStrategy.class);
+        when(readStrategy.getFileSplits(anyString(), anyString()))
+                .thenAnswer(
+                        invocation ->
+                                Collections.singletonList(
+                                        new FileSourceSplit(
+                                                invocation.getArgument(0),
+                                                invocation.getArgument(1))));
+        when(readStrategy.getFileSize("small")).thenReturn(10L);
+        when(readStrategy.getFileSize("large")).thenReturn(300L);
+        when(readStrategy.getFileSize("medium")).thenReturn(50L);
+
+        BaseFileSourceConfig fileSourceConfig = Mockito.mock(BaseFileSourceConfig.class);
+        when(fileSourceConfig.getCatalogTable()).thenReturn(catalogTable);
+        when(fileSourceConfig.getReadStrategy()).thenReturn(readStrategy);
+        when(fileSourceConfig.getFilePaths()).thenReturn(Arrays.asList("small", "large", "medium"));
+
+        multipleTableFileSourceConfig = Mockito.mock(BaseMultipleTableFileSourceConfig.class);
+        when(multipleTableFileSourceConfig.getFileSourceConfigs())
+                .thenReturn(Collections.singletonList(fileSourceConfig));
+    }
+
+    @Test
+    void testAssignLargestSplitOnRequest() throws Exception {
+        SourceSplitEnumerator.Context<FileSourceSplit> context = mockContext();
+        MultipleTableFileSourceSplitEnumerator enumerator =
+                new MultipleTableFileSourceSplitEnumerator(context, multipleTableFileSourceConfig);
+        enumerator.registerReader(0);
+        enumerator.registerReader(1);
+        // nothing is assigned before the readers ask for it
+        Mockito.verify(context, Mockito.never()).assignSplit(anyInt(), anyList());
+        Assertions.assertEquals(3, enumerator.currentUnassignedSplitSize());
+
+        enumerator.handleSplitRequest(0);
+        enumerator.handleSplitRequest(1);
+        enumerator.handleSplitRequest(0);
+        Assertions.assertEquals(
+                Arrays.asList("large", "medium", "small"), assignedFilePaths(context, 3));
+        Assertions.assertEquals(0, enumerator.currentUnassignedSplitSize());
+
+        enumerator.handleSplitRequest(1);
+        Mockito.verify(context).signalNoMoreSplits(1);
+        Mockito.verify(context, Mockito.never()).signalNoMoreSplits(0);
+        Assertions.assertEquals(3, enumerator.snapshotState(1).getAssignedSplit().size());
+    }
+
+    @Test
+    void testRestoreSkipAssignedSplits() throws Exception {
+        SourceSplitEnumerator.Context<FileSourceSplit> context = mockContext();
+        MultipleTableFileSourceSplitEnumerator enumerator =
+                new MultipleTableFileSourceSplitEnumerator(context, multipleTableFileSourceConfig);
+        enumerator.handleSplitRequest(0);
+        FileSourceState state = enumerator.snapshotState(1);
+
+        SourceSplitEnumerator.Context<FileSourceSplit> restoredContext = mockContext();
+        MultipleTableFileSourceSplitEnumerator restoredEnumerator =
+                new MultipleTableFileSourceSplitEnumerator(
+                        restoredContext, multipleTableFileSourceConfig, state);
+        restoredEnumerator.registerReader(0);
+        Assertions.assertEquals(2, restoredEnumerator.currentUnassignedSplitSize());
+
+        restoredEnumerator.addSplitsBack(
+                Collections.singletonList(new FileSourceSplit(tableId, "large")), 0);
+        Assertions.assertEquals(3, restoredEnumerator.currentUnassignedSplitSize());
+        restoredEnumerator.handleSplitRequest(0);
+        Assertions.assertEquals(
+                Collections.singletonList("large"), assignedFilePaths(restoredContext, 1));
+        Set<String> assignedSplitIds =
+                restoredEnumerator.snapshotState(2).getAssignedSplit().stream()
+                        .map(FileSourceSplit::splitId)
+                        .collect(Collectors.toSet());
+        Assertions.assertEquals(
+                Collections.singleton(new FileSourceSplit(tableId, "large").splitId()),
+                assignedSplitIds);
+    }
+
+    @Test
+    void testCommitListingOnceAllReadersReadTheirSplits() throws Exception {
+        SourceSplitEnumerator.Context<FileSourceSplit> context = mockContext();
+        when(context.currentParallelism()).thenReturn(2);
+        MultipleTableFileSourceSplitEnumerator enumerator =
+                new MultipleTableFileSourceSplitEnumerator(context, multipleTableFileSourceConfig);
+        enumerator.registerReader(0);
+        enumerator.registerReader(1);
+        enumerator.handleSplitRequest(0);
+        enumerator.handleSplitRequest(1);
+        enumerator.handleSplitRequest(0);
+        // both readers are out of splits, but the prefetched ones may not be read yet
+        enumerator.handleSplitRequest(0);
+        enumerator.handleSplitRequest(1);
+        enumerator.snapshotState(1);
+        enumerator.notifyCheckpointComplete(1);
+        Mockito.verify(readStrategy, Mockito.never()).commitListedFiles();
+
+        enumerator.handleSourceEvent(0, new AllSplitsReadEvent());
+        enumerator.snapshotState(2);
+        enumerator.notifyCheckpointComplete(2);
+        Mockito.verify(readStrategy, Mockito.never()).commitListedFiles();
+
+        enumerator.handleSourceEvent(1, new AllSplitsReadEvent());
+        enumerator.snapshotState(3);
+        enumerator.notifyCheckpointComplete(3);
+        Mockito.verify(readStrategy).commitListedFiles();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static SourceSplitEnumerator.Context<FileSourceSplit> mockContext() {
+        return Mockito.mock(SourceSplitEnumerator.Context.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> assignedFilePaths(
+            SourceSplitEnumerator.Context<FileSourceSplit> context, int times) {
+        ArgumentCaptor<List<FileSourceSplit>> captor = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(context, Mockito.times(times)).assignSplit(anyInt(), captor.capture());
+        return captor.getAllValues().stream()
+                .flatMap(List::stream)
+                .map(FileSourceSplit::getFilePath)
+                .collect(Collectors.toList());
+    }
+}
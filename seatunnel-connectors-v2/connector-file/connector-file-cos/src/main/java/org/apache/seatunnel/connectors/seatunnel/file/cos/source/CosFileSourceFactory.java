@@ -72,6 +72,9 @@ public class CosFileSourceFactory implements TableSourceFactory {
                 .optional(BaseSourceConfigOptions.FILE_FILTER_PATTERN)
                 .optional(BaseSourceConfigOptions.COMPRESS_CODEC)
                 .optional(BaseSourceConfigOptions.ARCHIVE_COMPRESS_CODEC)
+                .optional(BaseSourceConfigOptions.FILE_SPLIT_SIZE)
+                .optional(BaseSourceConfigOptions.READ_FILTER)
+                .optional(BaseSourceConfigOptions.FILE_LIST_PARALLELISM)
                 .optional(BaseSourceConfigOptions.NULL_FORMAT)
                 .build();
     }
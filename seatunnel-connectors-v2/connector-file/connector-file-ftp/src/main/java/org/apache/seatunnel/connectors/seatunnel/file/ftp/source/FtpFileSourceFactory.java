@@ -83,6 +83,10 @@ public class FtpFileSourceFactory implements TableSourceFactory {
                 .optional(BaseSourceConfigOptions.COMPRESS_CODEC)
                 .optional(FtpConfigOptions.FTP_CONNECTION_MODE)
                 .optional(BaseSourceConfigOptions.ARCHIVE_COMPRESS_CODEC)
+                .optional(BaseSourceConfigOptions.FILE_SPLIT_SIZE)
+                .optional(BaseSourceConfigOptions.READ_FILTER)
+                .optional(BaseSourceConfigOptions.FILE_LIST_PARALLELISM)
+                .optional(BaseSourceConfigOptions.FILE_LIST_CACHE_PATH)
                 .optional(BaseSourceConfigOptions.NULL_FORMAT)
                 .build();
     }
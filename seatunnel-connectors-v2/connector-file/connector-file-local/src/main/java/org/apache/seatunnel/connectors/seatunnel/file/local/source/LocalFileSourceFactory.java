@@ -78,6 +78,10 @@ public class LocalFileSourceFactory implements TableSourceFactory {
                 .optional(BaseSourceConfigOptions.TIME_FORMAT)
                 .optional(BaseSourceConfigOptions.FILE_FILTER_PATTERN)
                 .optional(BaseSourceConfigOptions.ARCHIVE_COMPRESS_CODEC)
+                .optional(BaseSourceConfigOptions.FILE_SPLIT_SIZE)
+                .optional(BaseSourceConfigOptions.READ_FILTER)
+                .optional(BaseSourceConfigOptions.FILE_LIST_PARALLELISM)
+                .optional(BaseSourceConfigOptions.FILE_LIST_CACHE_PATH)
                 .optional(BaseSourceConfigOptions.NULL_FORMAT)
                 .build();
     }
@@ -43,6 +43,8 @@ public class JdbcSourceConfig implements Serializable {
     private int splitSampleShardingThreshold;
     private int splitInverseSamplingRate;
     private boolean decimalTypeNarrowing;
+    private boolean splitPrefetch;
+    private int splitParallelism;
 
     public static JdbcSourceConfig of(ReadonlyConfig config) {
         JdbcSourceConfig.Builder builder = JdbcSourceConfig.builder();
@@ -64,6 +66,8 @@ public class JdbcSourceConfig implements Serializable {
         builder.splitSampleShardingThreshold(
                 config.get(JdbcSourceOptions.SPLIT_SAMPLE_SHARDING_THRESHOLD));
         builder.splitInverseSamplingRate(config.get(JdbcSourceOptions.SPLIT_INVERSE_SAMPLING_RATE));
+        builder.splitPrefetch(config.get(JdbcSourceOptions.SPLIT_PREFETCH));
+        builder.splitParallelism(config.get(JdbcSourceOptions.SPLIT_PARALLELISM));
 
         builder.decimalTypeNarrowing(config.get(JdbcOptions.DECIMAL_TYPE_NARROWING));
 
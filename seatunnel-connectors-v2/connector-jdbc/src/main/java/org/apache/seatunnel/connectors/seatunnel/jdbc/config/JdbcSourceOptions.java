@@ -94,6 +94,22 @@ public interface JdbcSourceOptions {
                                     + "For example, a value of 1000 means a sampling rate of 1/1000. "
                                     + "This parameter is used when the sample sharding strategy is triggered.");
 
+    Option<Boolean> SPLIT_PREFETCH =
+            Options.key("split.prefetch")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Open the query of the next split on a second connection in the background while the current split is read, "
+                                    + "so that the query execution time of the next split is hidden.");
+
+    Option<Integer> SPLIT_PARALLELISM =
+            Options.key("split.parallelism")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The number of tables that are split into chunks concurrently by the split enumerator, "
+                                    + "each on its own database connection.");
+
     Option<Boolean> USE_SELECT_COUNT =
             Options.key("use_select_count")
                     .booleanType()
@@ -63,6 +63,8 @@ public class JdbcInputFormat implements Serializable {
     private transient PreparedStatement statement;
     private transient ResultSet resultSet;
     private volatile boolean hasNext;
+    private transient int splitKeyIndex = -1;
+    private transient Object lastSplitKey;
 
     public JdbcInputFormat(JdbcSourceConfig config, Map<TablePath, CatalogTable> tables) {
         this.jdbcDialect =
@@ -94,6 +96,11 @@ public class JdbcInputFormat implements Serializable {
         try {
             splitTableSchema = tables.get(inputSplit.getTablePath()).getTableSchema();
             splitTableId = inputSplit.getTablePath().toString();
+            splitKeyIndex =
+                    chunkSplitter.isResumable(inputSplit, splitTableSchema)
+                            ? splitTableSchema.indexOf(inputSplit.getSplitKeyName())
+                            : -1;
+            lastSplitKey = inputSplit.getSplitResumeKey();
 
             statement = chunkSplitter.generateSplitStatement(inputSplit, splitTableSchema);
             resultSet = statement.executeQuery();
@@ -137,6 +144,16 @@ public class JdbcInputFormat implements Serializable {
         return !hasNext;
     }
 
+    /** Whether the opened split can be resumed from {@link #getLastSplitKey()}. */
+    public boolean isResumable() {
+        return splitKeyIndex >= 0;
+    }
+
+    /** The split key of the last row returned by {@link #nextRecord()}. */
+    public Object getLastSplitKey() {
+        return lastSplitKey;
+    }
+
     /** Convert a row of data to seatunnelRow */
     public SeaTunnelRow nextRecord() {
         try {
@@ -146,6 +163,9 @@ public class JdbcInputFormat implements Serializable {
             SeaTunnelRow seaTunnelRow = jdbcRowConverter.toInternal(resultSet, splitTableSchema);
             seaTunnelRow.setTableId(splitTableId);
             seaTunnelRow.setRowKind(RowKind.INSERT);
+            if (splitKeyIndex >= 0) {
+                lastSplitKey = seaTunnelRow.getField(splitKeyIndex);
+            }
 
             // update hasNext after we've read the record
             hasNext = resultSet.next();
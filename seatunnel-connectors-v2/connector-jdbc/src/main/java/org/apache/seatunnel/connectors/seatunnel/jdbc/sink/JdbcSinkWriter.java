@@ -21,6 +21,7 @@ import org.apache.seatunnel.api.sink.MultiTableResourceManager;
 import org.apache.seatunnel.api.table.catalog.TablePath;
 import org.apache.seatunnel.api.table.catalog.TableSchema;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcSinkConfig;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorErrorCode;
@@ -116,6 +117,23 @@ public class JdbcSinkWriter extends AbstractJdbcSinkWriter<ConnectionPoolManager
         return primaryKeyIndex != null ? Optional.of(primaryKeyIndex) : Optional.empty();
     }
 
+    @Override
+    public Optional<int[]> primaryKeys() {
+        if (primaryKeyIndex == null) {
+            return Optional.empty();
+        }
+        List<String> keyNames = tableSchema.getPrimaryKey().getColumnNames();
+        SeaTunnelRowType rowType = tableSchema.toPhysicalRowDataType();
+        int[] keyIndexes = new int[keyNames.size()];
+        for (int i = 0; i < keyIndexes.length; i++) {
+            keyIndexes[i] = rowType.indexOf(keyNames.get(i), false);
+            if (keyIndexes[i] < 0) {
+                return primaryKey().map(index -> new int[] {index});
+            }
+        }
+        return Optional.of(keyIndexes);
+    }
+
     private void tryOpen() throws IOException {
         if (!isOpen) {
             isOpen = true;
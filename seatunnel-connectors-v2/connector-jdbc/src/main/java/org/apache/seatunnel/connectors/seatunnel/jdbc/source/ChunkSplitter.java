@@ -42,11 +42,14 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -86,33 +89,90 @@ public abstract class ChunkSplitter implements AutoCloseable, Serializable {
     }
 
     public Collection<JdbcSourceSplit> generateSplits(JdbcSourceTable table) throws Exception {
+        List<JdbcSourceSplit> splits = new ArrayList<>();
+        generateSplits(table, null, splits::addAll);
+        return splits;
+    }
+
+    /**
+     * Splits the table and hands the splits to the consumer in batches as soon as they are
+     * computed, so that readers can start on the first chunks of a large table while the later
+     * chunks are still being computed.
+     *
+     * @param lastSplit the last split handed out before a restore, splitting continues after it
+     * @return the number of splits handed to the consumer
+     */
+    public int generateSplits(
+            JdbcSourceTable table,
+            JdbcSourceSplit lastSplit,
+            Consumer<Collection<JdbcSourceSplit>> splitConsumer)
+            throws Exception {
+        if (lastSplit != null && lastSplit.getSplitEnd() == null) {
+            // the ending split has been handed out already
+            return 0;
+        }
         log.info("Start splitting table {} into chunks...", table.getTablePath());
         long start = System.currentTimeMillis();
 
-        Collection<JdbcSourceSplit> splits;
+        AtomicInteger splitCount = new AtomicInteger();
+        Consumer<Collection<JdbcSourceSplit>> countingConsumer =
+                splits -> {
+                    splitCount.addAndGet(splits.size());
+                    splitConsumer.accept(splits);
+                };
         Optional<SeaTunnelRowType> splitKeyOptional = findSplitKey(table);
         if (!splitKeyOptional.isPresent()) {
             JdbcSourceSplit split = createSingleSplit(table);
-            splits = Collections.singletonList(split);
+            countingConsumer.accept(Collections.singletonList(split));
         } else {
             if (splitKeyOptional.get().getTotalFields() != 1) {
                 throw new UnsupportedOperationException("Currently, only support one split key");
             }
-            splits = createSplits(table, splitKeyOptional.get());
+            if (lastSplit == null) {
+                createSplits(table, splitKeyOptional.get(), countingConsumer);
+            } else {
+                resumeSplits(table, splitKeyOptional.get(), lastSplit, countingConsumer);
+            }
         }
 
         long end = System.currentTimeMillis();
         log.info(
                 "Split table {} into {} chunks, time cost: {}ms.",
                 table.getTablePath(),
-                splits.size(),
+                splitCount.get(),
                 end - start);
-        return splits;
+        return splitCount.get();
     }
 
     protected abstract Collection<JdbcSourceSplit> createSplits(
             JdbcSourceTable table, SeaTunnelRowType splitKeyType) throws SQLException, Exception;
 
+    /** Splitters that compute chunks incrementally override this to hand them out early. */
+    protected void createSplits(
+            JdbcSourceTable table,
+            SeaTunnelRowType splitKeyType,
+            Consumer<Collection<JdbcSourceSplit>> splitConsumer)
+            throws Exception {
+        splitConsumer.accept(createSplits(table, splitKeyType));
+    }
+
+    /**
+     * Continues splitting a table after the last split handed out before a restore. Only splitters
+     * that hand out splits in more than one batch need to override this, a splitter that hands out
+     * all splits of a table in one batch has nothing left to split once any split was handed out.
+     */
+    protected void resumeSplits(
+            JdbcSourceTable table,
+            SeaTunnelRowType splitKeyType,
+            JdbcSourceSplit lastSplit,
+            Consumer<Collection<JdbcSourceSplit>> splitConsumer)
+            throws Exception {
+        log.info(
+                "All splits of table {} have been handed out before split {}",
+                table.getTablePath(),
+                lastSplit.splitId());
+    }
+
     public PreparedStatement generateSplitStatement(JdbcSourceSplit split, TableSchema schema)
             throws SQLException {
         if (split.getSplitKeyName() == null) {
@@ -124,7 +184,20 @@ public abstract class ChunkSplitter implements AutoCloseable, Serializable {
     protected abstract PreparedStatement createSplitStatement(
             JdbcSourceSplit split, TableSchema schema) throws SQLException;
 
+    /**
+     * Whether the split is read in the order of a unique split key, so that it can be resumed after
+     * the key of the last emitted row, see {@link JdbcSourceSplit#getSplitResumeKey()}.
+     */
+    public boolean isResumable(JdbcSourceSplit split, TableSchema schema) {
+        return false;
+    }
+
     protected PreparedStatement createPreparedStatement(String sql) throws SQLException {
+        return createPreparedStatement(sql, null);
+    }
+
+    protected PreparedStatement createPreparedStatement(String sql, String orderByClause)
+            throws SQLException {
         Connection connection = getOrEstablishConnection();
         // set autoCommit mode only if it was explicitly configured.
         // keep connection default otherwise.
@@ -134,6 +207,9 @@ public abstract class ChunkSplitter implements AutoCloseable, Serializable {
         if (StringUtils.isNotBlank(config.getWhereConditionClause())) {
             sql = String.format("SELECT * FROM (%s) tmp %s", sql, config.getWhereConditionClause());
         }
+        if (StringUtils.isNotBlank(orderByClause)) {
+            sql = sql + " " + orderByClause;
+        }
         log.debug("Prepared statement: {}", sql);
         return jdbcDialect.creatPreparedStatement(connection, sql, fetchSize);
     }
@@ -319,6 +395,30 @@ public abstract class ChunkSplitter implements AutoCloseable, Serializable {
         return Optional.empty();
     }
 
+    protected boolean isUniqueKey(TableSchema schema, String columnName) {
+        PrimaryKey pk = schema.getPrimaryKey();
+        if (pk != null
+                && pk.getColumnNames().size() == 1
+                && pk.getColumnNames().get(0).equals(columnName)) {
+            return true;
+        }
+        List<ConstraintKey> constraintKeys = schema.getConstraintKeys();
+        if (constraintKeys == null) {
+            return false;
+        }
+        return constraintKeys.stream()
+                .anyMatch(
+                        constraintKey ->
+                                constraintKey.getConstraintType()
+                                                == ConstraintKey.ConstraintType.UNIQUE_KEY
+                                        && constraintKey.getColumnNames().size() == 1
+                                        && columnName.equals(
+                                                constraintKey
+                                                        .getColumnNames()
+                                                        .get(0)
+                                                        .getColumnName()));
+    }
+
     protected boolean isSupportSplitColumn(Column splitColumn) {
         SeaTunnelDataType<?> dataType = splitColumn.getDataType();
         // currently, we only support these types.
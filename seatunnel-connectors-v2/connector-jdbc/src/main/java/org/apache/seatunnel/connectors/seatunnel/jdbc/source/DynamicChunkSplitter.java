@@ -48,6 +48,8 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import static java.math.BigDecimal.ROUND_CEILING;
@@ -56,6 +58,9 @@ import static org.apache.seatunnel.shade.com.google.common.base.Preconditions.ch
 @Slf4j
 public class DynamicChunkSplitter extends ChunkSplitter {
 
+    // unevenly-sized chunks are handed out in batches of this size while they are computed
+    private static final int UNEVEN_CHUNK_BATCH_SIZE = 10;
+
     public DynamicChunkSplitter(JdbcSourceConfig config) {
         super(config);
     }
@@ -63,7 +68,49 @@ public class DynamicChunkSplitter extends ChunkSplitter {
     @Override
     protected Collection<JdbcSourceSplit> createSplits(
             JdbcSourceTable table, SeaTunnelRowType splitKey) throws Exception {
-        return createDynamicSplits(table, splitKey);
+        List<JdbcSourceSplit> splits = new ArrayList<>();
+        createSplits(table, splitKey, splits::addAll);
+        return splits;
+    }
+
+    @Override
+    protected void createSplits(
+            JdbcSourceTable table,
+            SeaTunnelRowType splitKey,
+            Consumer<Collection<JdbcSourceSplit>> splitConsumer)
+            throws Exception {
+        String splitKeyName = splitKey.getFieldNames()[0];
+        SeaTunnelDataType splitKeyType = splitKey.getFieldType(0);
+        splitTableIntoChunks(
+                table,
+                splitKeyName,
+                splitKeyType,
+                chunkToSplits(table, splitKeyName, splitKeyType, 0, splitConsumer));
+    }
+
+    @Override
+    protected void resumeSplits(
+            JdbcSourceTable table,
+            SeaTunnelRowType splitKey,
+            JdbcSourceSplit lastSplit,
+            Consumer<Collection<JdbcSourceSplit>> splitConsumer)
+            throws Exception {
+        // only unevenly-sized chunks are handed out in more than one batch
+        String splitKeyName = splitKey.getFieldNames()[0];
+        SeaTunnelDataType splitKeyType = splitKey.getFieldType(0);
+        String splitId = lastSplit.splitId();
+        int nextIndex = Integer.parseInt(splitId.substring(splitId.lastIndexOf('-') + 1)) + 1;
+        log.info("Resume splitting table {} after split {}", table.getTablePath(), splitId);
+
+        Pair<Object, Object> minMax = queryMinMax(table, splitKeyName);
+        splitUnevenlySizedChunks(
+                table,
+                splitKeyName,
+                lastSplit.getSplitEnd(),
+                minMax.getLeft(),
+                minMax.getRight(),
+                config.getSplitSize(),
+                chunkToSplits(table, splitKeyName, splitKeyType, nextIndex, splitConsumer));
     }
 
     @Override
@@ -72,46 +119,63 @@ public class DynamicChunkSplitter extends ChunkSplitter {
         return createDynamicSplitStatement(split, schema);
     }
 
-    private Collection<JdbcSourceSplit> createDynamicSplits(
-            JdbcSourceTable table, SeaTunnelRowType splitKey) throws Exception {
-        String splitKeyName = splitKey.getFieldNames()[0];
-        SeaTunnelDataType splitKeyType = splitKey.getFieldType(0);
-        List<ChunkRange> chunks = splitTableIntoChunks(table, splitKeyName, splitKeyType);
+    private Consumer<List<ChunkRange>> chunkToSplits(
+            JdbcSourceTable table,
+            String splitKeyName,
+            SeaTunnelDataType splitKeyType,
+            int firstIndex,
+            Consumer<Collection<JdbcSourceSplit>> splitConsumer) {
+        AtomicInteger nextIndex = new AtomicInteger(firstIndex);
+        return chunks -> {
+            List<JdbcSourceSplit> splits = new ArrayList<>(chunks.size());
+            for (ChunkRange chunk : chunks) {
+                JdbcSourceSplit split =
+                        new JdbcSourceSplit(
+                                table.getTablePath(),
+                                createSplitId(table.getTablePath(), nextIndex.getAndIncrement()),
+                                table.getQuery(),
+                                splitKeyName,
+                                splitKeyType,
+                                chunk.getChunkStart(),
+                                chunk.getChunkEnd());
+                splits.add(split);
+            }
+            splitConsumer.accept(splits);
+        };
+    }
 
-        List<JdbcSourceSplit> splits = new ArrayList<>();
-        for (int i = 0; i < chunks.size(); i++) {
-            ChunkRange chunk = chunks.get(i);
-            JdbcSourceSplit split =
-                    new JdbcSourceSplit(
-                            table.getTablePath(),
-                            createSplitId(table.getTablePath(), i),
-                            table.getQuery(),
-                            splitKeyName,
-                            splitKeyType,
-                            chunk.getChunkStart(),
-                            chunk.getChunkEnd());
-            splits.add(split);
-        }
-        return splits;
+    @Override
+    public boolean isResumable(JdbcSourceSplit split, TableSchema schema) {
+        return split.getSplitKeyName() != null && isUniqueKey(schema, split.getSplitKeyName());
     }
 
     private PreparedStatement createDynamicSplitStatement(JdbcSourceSplit split, TableSchema schema)
             throws SQLException {
         String splitQuery = createDynamicSplitQuerySQL(split, schema);
-        PreparedStatement statement = createPreparedStatement(splitQuery);
+        String orderByClause = null;
+        if (isResumable(split, schema)) {
+            StringBuilder sql = new StringBuilder("ORDER BY ");
+            addKeyColumnsToCondition(schema, splitKeyRowType(split), sql, "");
+            orderByClause = sql.toString();
+        }
+        PreparedStatement statement = createPreparedStatement(splitQuery, orderByClause);
         prepareDynamicSplitStatement(statement, split);
         return statement;
     }
 
-    private List<ChunkRange> splitTableIntoChunks(
-            JdbcSourceTable table, String splitColumnName, SeaTunnelDataType splitColumnType)
+    private void splitTableIntoChunks(
+            JdbcSourceTable table,
+            String splitColumnName,
+            SeaTunnelDataType splitColumnType,
+            Consumer<List<ChunkRange>> chunkConsumer)
             throws Exception {
         Pair<Object, Object> minMax = queryMinMax(table, splitColumnName);
         Object min = minMax.getLeft();
         Object max = minMax.getRight();
         if (min == null || max == null || min.equals(max)) {
             // empty table, or only one row, return full table scan as a chunk
-            return Collections.singletonList(ChunkRange.all());
+            chunkConsumer.accept(Collections.singletonList(ChunkRange.all()));
+            return;
         }
 
         int chunkSize = config.getSplitSize();
@@ -125,17 +189,25 @@ public class DynamicChunkSplitter extends ChunkSplitter {
             case DOUBLE:
             case FLOAT:
             case STRING:
-                return evenlyColumnSplitChunks(table, splitColumnName, min, max, chunkSize);
+                evenlyColumnSplitChunks(table, splitColumnName, min, max, chunkSize, chunkConsumer);
+                return;
             case DATE:
-                return dateColumnSplitChunks(table, splitColumnName, min, max, chunkSize);
+                chunkConsumer.accept(
+                        dateColumnSplitChunks(table, splitColumnName, min, max, chunkSize));
+                return;
             default:
                 throw CommonError.unsupportedDataType(
                         "JDBC", splitColumnType.getSqlType().toString(), splitColumnName);
         }
     }
 
-    private List<ChunkRange> evenlyColumnSplitChunks(
-            JdbcSourceTable table, String splitColumnName, Object min, Object max, int chunkSize)
+    private void evenlyColumnSplitChunks(
+            JdbcSourceTable table,
+            String splitColumnName,
+            Object min,
+            Object max,
+            int chunkSize,
+            Consumer<List<ChunkRange>> chunkConsumer)
             throws Exception {
         TablePath tablePath = table.getTablePath();
         double distributionFactorUpper = config.getSplitEvenDistributionFactorUpperBound();
@@ -166,8 +238,9 @@ public class DynamicChunkSplitter extends ChunkSplitter {
         if (dataIsEvenlyDistributed) {
             // the minimum dynamic chunk size is at least 1
             final int dynamicChunkSize = Math.max((int) (distributionFactor * chunkSize), 1);
-            return splitEvenlySizedChunks(
-                    tablePath, min, max, approximateRowCnt, chunkSize, dynamicChunkSize);
+            chunkConsumer.accept(
+                    splitEvenlySizedChunks(
+                            tablePath, min, max, approximateRowCnt, chunkSize, dynamicChunkSize));
         } else {
             int shardCount = (int) (approximateRowCnt / chunkSize);
             int inverseSamplingRate = config.getSplitInverseSamplingRate();
@@ -200,10 +273,13 @@ public class DynamicChunkSplitter extends ChunkSplitter {
                         "Sample data from table {} end, the sample size is {}",
                         tablePath,
                         sample.length);
-                return efficientShardingThroughSampling(
-                        tablePath, sample, approximateRowCnt, shardCount);
+                chunkConsumer.accept(
+                        efficientShardingThroughSampling(
+                                tablePath, sample, approximateRowCnt, shardCount));
+                return;
             }
-            return splitUnevenlySizedChunks(table, splitColumnName, min, max, chunkSize);
+            splitUnevenlySizedChunks(
+                    table, splitColumnName, null, min, max, chunkSize, chunkConsumer);
         }
     }
 
@@ -322,20 +398,39 @@ public class DynamicChunkSplitter extends ChunkSplitter {
         return splits;
     }
 
-    private List<ChunkRange> splitUnevenlySizedChunks(
-            JdbcSourceTable table, String splitColumnName, Object min, Object max, int chunkSize)
+    /**
+     * Computes the chunks one query at a time and hands them to the consumer in batches, starting
+     * after {@code chunkStart} or from the beginning of the table when it is null.
+     */
+    private void splitUnevenlySizedChunks(
+            JdbcSourceTable table,
+            String splitColumnName,
+            Object chunkStart,
+            Object min,
+            Object max,
+            int chunkSize,
+            Consumer<List<ChunkRange>> chunkConsumer)
             throws SQLException {
         log.info(
                 "Use unevenly-sized chunks for table {}, the chunk size is {}",
                 table.getTablePath(),
                 chunkSize);
-        final List<ChunkRange> splits = new ArrayList<>();
-        Object chunkStart = null;
-        Object chunkEnd = nextChunkEnd(min, table, splitColumnName, max, chunkSize);
+        List<ChunkRange> splits = new ArrayList<>();
+        Object chunkEnd =
+                nextChunkEnd(
+                        chunkStart == null ? min : chunkStart,
+                        table,
+                        splitColumnName,
+                        max,
+                        chunkSize);
         int count = 0;
         while (chunkEnd != null && objectCompare(chunkEnd, max) <= 0) {
             // we start from [null, min + chunk_size) and avoid [null, min)
             splits.add(ChunkRange.of(chunkStart, chunkEnd));
+            if (splits.size() >= UNEVEN_CHUNK_BATCH_SIZE) {
+                chunkConsumer.accept(splits);
+                splits = new ArrayList<>();
+            }
             // may sleep a while to avoid DDOS on MySQL server
             maySleep(count++, table.getTablePath());
             chunkStart = chunkEnd;
@@ -343,7 +438,7 @@ public class DynamicChunkSplitter extends ChunkSplitter {
         }
         // add the ending split
         splits.add(ChunkRange.of(chunkStart, null));
-        return splits;
+        chunkConsumer.accept(splits);
     }
 
     /**
@@ -456,14 +551,11 @@ public class DynamicChunkSplitter extends ChunkSplitter {
 
     @VisibleForTesting
     String createDynamicSplitQuerySQL(JdbcSourceSplit split, TableSchema schema) {
-        SeaTunnelRowType rowType =
-                new SeaTunnelRowType(
-                        new String[] {split.getSplitKeyName()},
-                        new SeaTunnelDataType[] {split.getSplitKeyType()});
+        SeaTunnelRowType rowType = splitKeyRowType(split);
         boolean isFirstSplit = split.getSplitStart() == null;
         boolean isLastSplit = split.getSplitEnd() == null;
 
-        final String condition;
+        String condition;
         if (isFirstSplit && isLastSplit) {
             condition = null;
         } else if (isFirstSplit) {
@@ -487,6 +579,14 @@ public class DynamicChunkSplitter extends ChunkSplitter {
             addKeyColumnsToCondition(schema, rowType, sql, " <= ?");
             condition = sql.toString();
         }
+        if (split.getSplitResumeKey() != null) {
+            StringBuilder sql = new StringBuilder();
+            if (condition != null) {
+                sql.append(condition).append(" AND ");
+            }
+            addKeyColumnsToCondition(schema, rowType, sql, " > ?");
+            condition = sql.toString();
+        }
 
         String splitQuery = split.getSplitQuery();
         if (StringUtils.isNotBlank(splitQuery)) {
@@ -521,10 +621,26 @@ public class DynamicChunkSplitter extends ChunkSplitter {
         }
     }
 
+    private static SeaTunnelRowType splitKeyRowType(JdbcSourceSplit split) {
+        return new SeaTunnelRowType(
+                new String[] {split.getSplitKeyName()},
+                new SeaTunnelDataType[] {split.getSplitKeyType()});
+    }
+
     private static void prepareDynamicSplitStatement(
             PreparedStatement statement, JdbcSourceSplit split) throws SQLException {
         boolean isFirstSplit = split.getSplitStart() == null;
         boolean isLastSplit = split.getSplitEnd() == null;
+        if (split.getSplitResumeKey() != null) {
+            int boundParameters = isFirstSplit ? (isLastSplit ? 0 : 2) : (isLastSplit ? 1 : 3);
+            Object resumeKey = split.getSplitResumeKey();
+            // rows carry LocalDate for DATE keys, bind it the way the chunk bounds are bound
+            statement.setObject(
+                    boundParameters + 1,
+                    resumeKey instanceof LocalDate
+                            ? Date.valueOf((LocalDate) resumeKey)
+                            : resumeKey);
+        }
         if (isFirstSplit && isLastSplit) {
             return;
         }
@@ -33,58 +33,160 @@ import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 @Slf4j
 public class JdbcSourceReader implements SourceReader<SeaTunnelRow, JdbcSourceSplit> {
+
+    /**
+     * Rows emitted by one pollNext of a resumable split, the checkpoint lock is released in between
+     * so that checkpoints do not wait for the whole split.
+     */
+    private static final int MAX_ROWS_PER_POLL = 1024;
+
     private final Context context;
-    private final JdbcInputFormat inputFormat;
     private final Deque<JdbcSourceSplit> splits = new ConcurrentLinkedDeque<>();
     private volatile boolean noMoreSplit;
 
+    private JdbcInputFormat inputFormat;
+    private JdbcSourceSplit currentSplit;
+
+    /** Opens the next split on its own connection while the current split is read. */
+    private JdbcInputFormat prefetchInputFormat;
+
+    private ExecutorService prefetchExecutor;
+    private JdbcSourceSplit prefetchSplit;
+    private Future<?> prefetchFuture;
+
     public JdbcSourceReader(
             Context context, JdbcSourceConfig config, Map<TablePath, CatalogTable> tables) {
         this.inputFormat = new JdbcInputFormat(config, tables);
+        if (config.isSplitPrefetch()) {
+            this.prefetchInputFormat = new JdbcInputFormat(config, tables);
+        }
         this.context = context;
     }
 
     @Override
     public void open() throws Exception {
         inputFormat.openInputFormat();
+        if (prefetchInputFormat != null) {
+            prefetchInputFormat.openInputFormat();
+            String taskThreadName = Thread.currentThread().getName();
+            prefetchExecutor =
+                    Executors.newSingleThreadExecutor(
+                            r -> new Thread(r, "Jdbc Split Prefetcher for " + taskThreadName));
+        }
     }
 
     @Override
     public void close() throws IOException {
+        if (prefetchExecutor != null) {
+            prefetchExecutor.shutdownNow();
+        }
         inputFormat.closeInputFormat();
+        if (prefetchInputFormat != null) {
+            prefetchInputFormat.closeInputFormat();
+        }
     }
 
     @Override
     @SuppressWarnings("magicnumber")
     public void pollNext(Collector<SeaTunnelRow> output) throws Exception {
         synchronized (output.getCheckpointLock()) {
-            JdbcSourceSplit split = splits.poll();
-            if (null != split) {
-                try {
-                    inputFormat.open(split);
-                    while (!inputFormat.reachedEnd()) {
-                        SeaTunnelRow seaTunnelRow = inputFormat.nextRecord();
-                        output.collect(seaTunnelRow);
-                    }
-                } finally {
-                    inputFormat.close();
+            if (currentSplit == null && !openNextSplit()) {
+                if (noMoreSplit && splits.isEmpty()) {
+                    // signal to the source that we have reached the end of the data.
+                    log.info("Closed the bounded jdbc source");
+                    context.signalNoMoreElement();
+                } else {
+                    Thread.sleep(1000L);
+                }
+                return;
+            }
+            prefetchNextSplit();
+            try {
+                // a split that can't be resumed is drained at once, so it never shows up
+                // half-read in a checkpoint
+                int maxRows = inputFormat.isResumable() ? MAX_ROWS_PER_POLL : Integer.MAX_VALUE;
+                for (int rows = 0; rows < maxRows && !inputFormat.reachedEnd(); rows++) {
+                    output.collect(inputFormat.nextRecord());
+                }
+            } catch (Exception e) {
+                closeCurrentSplit();
+                throw e;
+            }
+            if (inputFormat.reachedEnd()) {
+                closeCurrentSplit();
+            }
+        }
+    }
+
+    private boolean openNextSplit() throws Exception {
+        if (prefetchSplit != null) {
+            try {
+                prefetchFuture.get();
+            } catch (ExecutionException e) {
+                prefetchInputFormat.close();
+                prefetchSplit = null;
+                if (e.getCause() instanceof Exception) {
+                    throw (Exception) e.getCause();
                 }
-            } else if (noMoreSplit && splits.isEmpty()) {
-                // signal to the source that we have reached the end of the data.
-                log.info("Closed the bounded jdbc source");
-                context.signalNoMoreElement();
-            } else {
-                Thread.sleep(1000L);
+                throw e;
             }
+            JdbcInputFormat drained = inputFormat;
+            inputFormat = prefetchInputFormat;
+            prefetchInputFormat = drained;
+            currentSplit = prefetchSplit;
+            prefetchSplit = null;
+            return true;
         }
+        JdbcSourceSplit split = splits.poll();
+        if (split == null) {
+            return false;
+        }
+        inputFormat.open(split);
+        currentSplit = split;
+        return true;
+    }
+
+    private void prefetchNextSplit() {
+        if (prefetchInputFormat == null || prefetchSplit != null) {
+            return;
+        }
+        JdbcSourceSplit split = splits.poll();
+        if (split == null) {
+            return;
+        }
+        JdbcInputFormat format = prefetchInputFormat;
+        prefetchSplit = split;
+        prefetchFuture =
+                prefetchExecutor.submit(
+                        () -> {
+                            format.open(split);
+                            return null;
+                        });
+    }
+
+    private void closeCurrentSplit() throws IOException {
+        currentSplit = null;
+        inputFormat.close();
     }
 
     @Override
     public List<JdbcSourceSplit> snapshotState(long checkpointId) throws Exception {
-        return new ArrayList<>(splits);
+        List<JdbcSourceSplit> state = new ArrayList<>(splits.size() + 2);
+        if (currentSplit != null) {
+            state.add(currentSplit.resumeFrom(inputFormat.getLastSplitKey()));
+        }
+        if (prefetchSplit != null) {
+            state.add(prefetchSplit);
+        }
+        state.addAll(splits);
+        return state;
     }
 
     @Override
@@ -29,6 +29,9 @@ import lombok.ToString;
 @ToString
 @AllArgsConstructor
 public class JdbcSourceSplit implements SourceSplit {
+    // the value computed for the fields before splitResumeKey, so older checkpoints still restore
+    private static final long serialVersionUID = -815542654355310611L;
+
     private final TablePath tablePath;
     private final String splitId;
     private final String splitQuery;
@@ -37,6 +40,43 @@ public class JdbcSourceSplit implements SourceSplit {
     private final Object splitStart;
     private final Object splitEnd;
 
+    /**
+     * Split key of the last row emitted from this split, the split is resumed after it. Only set
+     * when the split is read in the order of a unique split key.
+     */
+    private final Object splitResumeKey;
+
+    public JdbcSourceSplit(
+            TablePath tablePath,
+            String splitId,
+            String splitQuery,
+            String splitKeyName,
+            SeaTunnelDataType splitKeyType,
+            Object splitStart,
+            Object splitEnd) {
+        this(
+                tablePath,
+                splitId,
+                splitQuery,
+                splitKeyName,
+                splitKeyType,
+                splitStart,
+                splitEnd,
+                null);
+    }
+
+    public JdbcSourceSplit resumeFrom(Object splitResumeKey) {
+        return new JdbcSourceSplit(
+                tablePath,
+                splitId,
+                splitQuery,
+                splitKeyName,
+                splitKeyType,
+                splitStart,
+                splitEnd,
+                splitResumeKey);
+    }
+
     @Override
     public String splitId() {
         return splitId;
@@ -17,6 +17,10 @@
 
 package org.apache.seatunnel.connectors.seatunnel.jdbc.source;
 
+import org.apache.seatunnel.shade.com.google.common.collect.Iterables;
+
+import org.apache.seatunnel.api.common.metrics.Counter;
+import org.apache.seatunnel.api.common.metrics.MetricsContext;
 import org.apache.seatunnel.api.source.SourceSplitEnumerator;
 import org.apache.seatunnel.api.table.catalog.TablePath;
 import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
@@ -36,6 +40,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.apache.seatunnel.api.common.metrics.MetricNames.SOURCE_GENERATED_SPLITS;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.SOURCE_SPLIT_GENERATION_TIME;
 
 public class JdbcSourceSplitEnumerator
         implements SourceSplitEnumerator<JdbcSourceSplit, JdbcSourceState> {
@@ -44,6 +55,9 @@ public class JdbcSourceSplitEnumerator
     private final Map<TablePath, JdbcSourceTable> tables;
     private final ConcurrentLinkedQueue<TablePath> pendingTables;
     private final Map<Integer, List<JdbcSourceSplit>> pendingSplits;
+    // tables being split, mapped to the last split handed out for them
+    private final Map<TablePath, JdbcSourceSplit> splittingTables;
+    private final JdbcSourceConfig jdbcSourceConfig;
     private final ChunkSplitter splitter;
     private final Context<JdbcSourceSplit> context;
     private final Object stateLock = new Object();
@@ -55,12 +69,20 @@ public class JdbcSourceSplitEnumerator
             JdbcSourceState sourceState) {
         this.context = context;
         this.tables = tables;
+        this.jdbcSourceConfig = jdbcSourceConfig;
         this.splitter = ChunkSplitter.create(jdbcSourceConfig);
+        this.splittingTables = new HashMap<>();
         if (sourceState == null) {
             this.pendingTables = new ConcurrentLinkedQueue<>(tables.keySet());
             this.pendingSplits = new HashMap<>();
         } else {
-            this.pendingTables = new ConcurrentLinkedQueue<>(sourceState.getPendingTables());
+            this.pendingTables = new ConcurrentLinkedQueue<>();
+            if (sourceState.getSplittingTables() != null) {
+                // continue the tables that were partially split first
+                this.splittingTables.putAll(sourceState.getSplittingTables());
+                this.pendingTables.addAll(sourceState.getSplittingTables().keySet());
+            }
+            this.pendingTables.addAll(sourceState.getPendingTables());
             this.pendingSplits = new HashMap<>(sourceState.getPendingSplits());
         }
     }
@@ -73,21 +95,51 @@ public class JdbcSourceSplitEnumerator
         LOG.info("Starting split enumerator.");
 
         Set<Integer> readers = context.registeredReaders();
-        while (!pendingTables.isEmpty()) {
-            synchronized (stateLock) {
-                TablePath tablePath = pendingTables.poll();
-                LOG.info("Splitting table {}.", tablePath);
+        MetricsContext metricsContext = context.getMetricsContext();
+        Counter splitGenerationTime = metricsContext.counter(SOURCE_SPLIT_GENERATION_TIME);
+        Counter generatedSplits = metricsContext.counter(SOURCE_GENERATED_SPLITS);
 
-                Collection<JdbcSourceSplit> splits = splitter.generateSplits(tables.get(tablePath));
-                LOG.info("Split table {} into {} splits.", tablePath, splits.size());
-
-                addPendingSplit(splits);
-            }
-
-            synchronized (stateLock) {
-                assignSplit(readers);
+        int parallelism =
+                Math.min(jdbcSourceConfig.getSplitParallelism(), Math.max(pendingTables.size(), 1));
+        // the wall time of the whole split phase, the workers split concurrently
+        long start = System.currentTimeMillis();
+        if (parallelism <= 1) {
+            splitPendingTables(splitter, readers, generatedSplits);
+        } else {
+            LOG.info("Splitting {} tables with parallelism {}.", pendingTables.size(), parallelism);
+            ExecutorService executor =
+                    Executors.newFixedThreadPool(
+                            parallelism, r -> new Thread(r, "Jdbc Source Splitter"));
+            // the splitters of the extra workers, the first worker uses the shared splitter
+            List<ChunkSplitter> splitters = new ArrayList<>();
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int i = 0; i < parallelism; i++) {
+                    // every worker splits on its own connection
+                    ChunkSplitter workerSplitter =
+                            i == 0 ? splitter : ChunkSplitter.create(jdbcSourceConfig);
+                    if (i > 0) {
+                        splitters.add(workerSplitter);
+                    }
+                    futures.add(
+                            executor.submit(
+                                    () -> {
+                                        splitPendingTables(
+                                                workerSplitter, readers, generatedSplits);
+                                        return null;
+                                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } catch (ExecutionException e) {
+                throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+            } finally {
+                executor.shutdownNow();
+                splitters.forEach(ChunkSplitter::close);
             }
         }
+        splitGenerationTime.inc(System.currentTimeMillis() - start);
 
         splitter.close();
 
@@ -95,6 +147,49 @@ public class JdbcSourceSplitEnumerator
         readers.forEach(context::signalNoMoreSplits);
     }
 
+    private void splitPendingTables(
+            ChunkSplitter tableSplitter, Set<Integer> readers, Counter generatedSplits)
+            throws Exception {
+        TablePath tablePath;
+        while ((tablePath = nextPendingTable()) != null) {
+            LOG.info("Splitting table {}.", tablePath);
+
+            JdbcSourceSplit lastSplit;
+            synchronized (stateLock) {
+                lastSplit = splittingTables.get(tablePath);
+            }
+            TablePath splittingTable = tablePath;
+            // splits are assigned batch by batch, so readers start before the table is split
+            int splitCount =
+                    tableSplitter.generateSplits(
+                            tables.get(tablePath),
+                            lastSplit,
+                            splits -> {
+                                synchronized (stateLock) {
+                                    addPendingSplit(splits);
+                                    splittingTables.put(splittingTable, Iterables.getLast(splits));
+                                    assignSplit(readers);
+                                }
+                            });
+            synchronized (stateLock) {
+                splittingTables.remove(tablePath);
+            }
+
+            generatedSplits.inc(splitCount);
+            LOG.info("Split table {} into {} splits.", tablePath, splitCount);
+        }
+    }
+
+    private TablePath nextPendingTable() {
+        synchronized (stateLock) {
+            TablePath tablePath = pendingTables.poll();
+            if (tablePath != null && !splittingTables.containsKey(tablePath)) {
+                splittingTables.put(tablePath, null);
+            }
+            return tablePath;
+        }
+    }
+
     @Override
     public void close() throws IOException {
         splitter.close();
@@ -120,7 +215,11 @@ public class JdbcSourceSplitEnumerator
 
     @Override
     public int currentUnassignedSplitSize() {
-        return pendingTables.isEmpty() && pendingSplits.isEmpty() ? 0 : 1;
+        synchronized (stateLock) {
+            return pendingTables.isEmpty() && splittingTables.isEmpty() && pendingSplits.isEmpty()
+                    ? 0
+                    : 1;
+        }
     }
 
     @Override
@@ -133,8 +232,8 @@ public class JdbcSourceSplitEnumerator
     @Override
     public void registerReader(int subtaskId) {
         LOG.info("Register reader {} to JdbcSourceSplitEnumerator.", subtaskId);
-        if (!pendingSplits.isEmpty()) {
-            synchronized (stateLock) {
+        synchronized (stateLock) {
+            if (!pendingSplits.isEmpty()) {
                 assignSplit(Collections.singletonList(subtaskId));
             }
         }
@@ -143,7 +242,21 @@ public class JdbcSourceSplitEnumerator
     @Override
     public JdbcSourceState snapshotState(long checkpointId) throws Exception {
         synchronized (stateLock) {
-            return new JdbcSourceState(new ArrayList(pendingTables), new HashMap<>(pendingSplits));
+            List<TablePath> unsplitTables = new ArrayList<>();
+            Map<TablePath, JdbcSourceSplit> partiallySplitTables = new HashMap<>();
+            splittingTables.forEach(
+                    (tablePath, lastSplit) -> {
+                        if (lastSplit == null) {
+                            unsplitTables.add(tablePath);
+                        } else {
+                            partiallySplitTables.put(tablePath, lastSplit);
+                        }
+                    });
+            unsplitTables.addAll(pendingTables);
+            Map<Integer, List<JdbcSourceSplit>> splits = new HashMap<>();
+            pendingSplits.forEach(
+                    (reader, readerSplits) -> splits.put(reader, new ArrayList<>(readerSplits)));
+            return new JdbcSourceState(unsplitTables, splits, partiallySplitTables);
         }
     }
 
@@ -32,4 +32,6 @@ import java.util.Map;
 public class JdbcSourceState implements Serializable {
     private List<TablePath> pendingTables;
     private Map<Integer, List<JdbcSourceSplit>> pendingSplits;
+    // the last split handed out for each table whose splitting is still in progress
+    private Map<TablePath, JdbcSourceSplit> splittingTables;
 }
@@ -0,0 +1,227 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.source;
+
+import org.apache.seatunnel.api.common.metrics.MetricsContext;
+import org.apache.seatunnel.api.event.EventListener;
+import org.apache.seatunnel.api.source.Boundedness;
+import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.source.SourceEvent;
+import org.apache.seatunnel.api.source.SourceReader;
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.catalog.PhysicalColumn;
+import org.apache.seatunnel.api.table.catalog.PrimaryKey;
+import org.apache.seatunnel.api.table.catalog.TableIdentifier;
+import org.apache.seatunnel.api.table.catalog.TablePath;
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcConnectionConfig;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcSourceConfig;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public class JdbcSourceReaderTest {
+
+    private static final int ROW_COUNT = 3000;
+
+    private static final TablePath TABLE_PATH = TablePath.of("main", "t");
+
+    private String url;
+
+    @BeforeEach
+    public void setup(@TempDir Path tempDir) throws Exception {
+        url = "jdbc:sqlite:" + tempDir.resolve("test.db");
+        try (Connection connection = DriverManager.getConnection(url);
+                Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE t (id INTEGER PRIMARY KEY, name TEXT)");
+            connection.setAutoCommit(false);
+            try (PreparedStatement insert =
+                    connection.prepareStatement("INSERT INTO t VALUES (?, ?)")) {
+                for (int i = 1; i <= ROW_COUNT; i++) {
+                    insert.setInt(1, i);
+                    insert.setString(2, "name-" + i);
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+            connection.commit();
+        }
+    }
+
+    @Test
+    public void testResumeSplitFromSnapshot() throws Exception {
+        List<JdbcSourceSplit> splits =
+                Arrays.asList(
+                        new JdbcSourceSplit(
+                                TABLE_PATH,
+                                "t-0",
+                                "SELECT * FROM t",
+                                "id",
+                                BasicType.INT_TYPE,
+                                null,
+                                2000),
+                        new JdbcSourceSplit(
+                                TABLE_PATH,
+                                "t-1",
+                                "SELECT * FROM t",
+                                "id",
+                                BasicType.INT_TYPE,
+                                2000,
+                                null));
+
+        List<SeaTunnelRow> emitted = new ArrayList<>();
+        List<JdbcSourceSplit> state;
+        JdbcSourceReader reader = createReader();
+        try {
+            reader.open();
+            reader.addSplits(splits);
+            reader.pollNext(new ListCollector(emitted));
+            // only a bounded number of rows is emitted per poll
+            Assertions.assertTrue(emitted.size() < 2000);
+            state = reader.snapshotState(1);
+        } finally {
+            reader.close();
+        }
+        Assertions.assertEquals(2, state.size());
+        Assertions.assertEquals(emitted.size(), state.get(0).getSplitResumeKey());
+        Assertions.assertNull(state.get(1).getSplitResumeKey());
+
+        JdbcSourceReader restored = createReader();
+        try {
+            restored.open();
+            restored.addSplits(state);
+            restored.handleNoMoreSplits();
+            ListCollector collector = new ListCollector(emitted);
+            while (!collector.finished) {
+                restored.pollNext(collector);
+                collector.finished = restored.snapshotState(2).isEmpty();
+            }
+        } finally {
+            restored.close();
+        }
+        List<Integer> ids =
+                emitted.stream().map(row -> (Integer) row.getField(0)).collect(Collectors.toList());
+        Assertions.assertEquals(ROW_COUNT, ids.size());
+        Assertions.assertEquals(ROW_COUNT, ids.stream().distinct().count());
+    }
+
+    private JdbcSourceReader createReader() {
+        JdbcSourceConfig config =
+                JdbcSourceConfig.builder()
+                        .jdbcConnectionConfig(
+                                JdbcConnectionConfig.builder()
+                                        .url(url)
+                                        .driverName("org.sqlite.JDBC")
+                                        .build())
+                        .useDynamicSplitter(true)
+                        .splitPrefetch(true)
+                        .build();
+        TableSchema schema =
+                TableSchema.builder()
+                        .column(
+                                PhysicalColumn.builder()
+                                        .name("id")
+                                        .dataType(BasicType.INT_TYPE)
+                                        .build())
+                        .column(
+                                PhysicalColumn.builder()
+                                        .name("name")
+                                        .dataType(BasicType.STRING_TYPE)
+                                        .build())
+                        .primaryKey(PrimaryKey.of("pk", Collections.singletonList("id")))
+                        .build();
+        Map<TablePath, CatalogTable> tables = new HashMap<>();
+        tables.put(
+                TABLE_PATH,
+                CatalogTable.of(
+                        TableIdentifier.of("sqlite", TABLE_PATH),
+                        schema,
+                        new HashMap<>(),
+                        new ArrayList<>(),
+                        null));
+        return new JdbcSourceReader(new TestContext(), config, tables);
+    }
+
+    private static class ListCollector implements Collector<SeaTunnelRow> {
+        private final List<SeaTunnelRow> rows;
+        private boolean finished;
+
+        private ListCollector(List<SeaTunnelRow> rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public void collect(SeaTunnelRow record) {
+            rows.add(record);
+        }
+
+        @Override
+        public Object getCheckpointLock() {
+            return this;
+        }
+    }
+
+    private static class TestContext implements SourceReader.Context {
+
+        @Override
+        public int getIndexOfSubtask() {
+            return 0;
+        }
+
+        @Override
+        public Boundedness getBoundedness() {
+            return Boundedness.BOUNDED;
+        }
+
+        @Override
+        public void signalNoMoreElement() {}
+
+        @Override
+        public void sendSplitRequest() {}
+
+        @Override
+        public void sendSourceEventToEnumerator(SourceEvent sourceEvent) {}
+
+        @Override
+        public MetricsContext getMetricsContext() {
+            return null;
+        }
+
+        @Override
+        public EventListener getEventListener() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,280 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.source;
+
+import org.apache.seatunnel.api.common.metrics.AbstractMetricsContext;
+import org.apache.seatunnel.api.common.metrics.MetricsContext;
+import org.apache.seatunnel.api.event.EventListener;
+import org.apache.seatunnel.api.source.SourceEvent;
+import org.apache.seatunnel.api.source.SourceSplitEnumerator;
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.catalog.PhysicalColumn;
+import org.apache.seatunnel.api.table.catalog.PrimaryKey;
+import org.apache.seatunnel.api.table.catalog.TableIdentifier;
+import org.apache.seatunnel.api.table.catalog.TablePath;
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcConnectionConfig;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcSourceConfig;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.state.JdbcSourceState;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.apache.seatunnel.api.common.metrics.MetricNames.SOURCE_GENERATED_SPLITS;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.SOURCE_SPLIT_GENERATION_TIME;
+
+public class JdbcSourceSplitEnumeratorTest {
+
+    private static final int ROW_COUNT = 3000;
+
+    private static final List<TablePath> TABLE_PATHS =
+            Arrays.asList(TablePath.of("main", "t1"), TablePath.of("main", "t2"));
+
+    private String url;
+
+    @BeforeEach
+    public void setup(@TempDir Path tempDir) throws Exception {
+        url = "jdbc:sqlite:" + tempDir.resolve("test.db");
+        try (Connection connection = DriverManager.getConnection(url);
+                Statement statement = connection.createStatement()) {
+            connection.setAutoCommit(false);
+            for (TablePath tablePath : TABLE_PATHS) {
+                String table = tablePath.getTableName();
+                statement.execute("CREATE TABLE " + table + " (id INTEGER PRIMARY KEY)");
+                try (PreparedStatement insert =
+                        connection.prepareStatement("INSERT INTO " + table + " VALUES (?)")) {
+                    for (int i = 1; i <= ROW_COUNT; i++) {
+                        // sparse keys force unevenly-sized chunks
+                        insert.setInt(1, i * i);
+                        insert.addBatch();
+                    }
+                    insert.executeBatch();
+                }
+            }
+            connection.commit();
+        }
+    }
+
+    @Test
+    public void testStreamAndResumeSplits() throws Exception {
+        JdbcSourceTable table = createTables().get(TABLE_PATHS.get(0));
+        List<Collection<JdbcSourceSplit>> batches = new ArrayList<>();
+        List<JdbcSourceSplit> resumed = new ArrayList<>();
+        try (ChunkSplitter splitter = ChunkSplitter.create(createConfig(1))) {
+            int splitCount = splitter.generateSplits(table, null, batches::add);
+            List<JdbcSourceSplit> splits =
+                    batches.stream().flatMap(Collection::stream).collect(Collectors.toList());
+            Assertions.assertEquals(splits.size(), splitCount);
+            // splits are handed out before the whole table is split
+            Assertions.assertTrue(batches.size() > 1);
+            assertContiguous(splits);
+
+            JdbcSourceSplit lastSplit =
+                    new ArrayList<>(batches.get(0)).get(batches.get(0).size() - 1);
+            splitter.generateSplits(table, lastSplit, resumed::addAll);
+            List<JdbcSourceSplit> remaining = splits.subList(batches.get(0).size(), splits.size());
+            Assertions.assertEquals(
+                    remaining.stream().map(JdbcSourceSplit::splitId).collect(Collectors.toList()),
+                    resumed.stream().map(JdbcSourceSplit::splitId).collect(Collectors.toList()));
+            Assertions.assertEquals(lastSplit.getSplitEnd(), resumed.get(0).getSplitStart());
+
+            // a table whose ending split has been handed out is not split again
+            Assertions.assertEquals(
+                    0,
+                    splitter.generateSplits(table, splits.get(splits.size() - 1), resumed::addAll));
+        }
+    }
+
+    @Test
+    public void testResumeSingleBatchSplitter() throws Exception {
+        JdbcSourceTable table = createTables(4).get(TABLE_PATHS.get(0));
+        try (ChunkSplitter splitter = ChunkSplitter.create(createConfig(1, false))) {
+            List<JdbcSourceSplit> splits = new ArrayList<>();
+            splitter.generateSplits(table, null, splits::addAll);
+            JdbcSourceSplit lastSplit = splits.get(splits.size() - 1);
+            Assertions.assertNotNull(lastSplit.getSplitEnd());
+
+            // a checkpoint taken after the only batch was handed out restores a finished table
+            Assertions.assertEquals(0, splitter.generateSplits(table, lastSplit, splits::addAll));
+        }
+    }
+
+    @Test
+    public void testSplitTablesInParallel() throws Exception {
+        TestContext context = new TestContext();
+        JdbcSourceSplitEnumerator enumerator =
+                new JdbcSourceSplitEnumerator(context, createConfig(2), createTables(), null);
+        long start = System.currentTimeMillis();
+        enumerator.run();
+        long elapsed = System.currentTimeMillis() - start;
+        enumerator.close();
+
+        for (TablePath tablePath : TABLE_PATHS) {
+            List<JdbcSourceSplit> splits =
+                    context.assigned.stream()
+                            .filter(split -> split.getTablePath().equals(tablePath))
+                            .sorted(
+                                    (s1, s2) ->
+                                            Integer.compare(
+                                                    splitIndex(s1.splitId()),
+                                                    splitIndex(s2.splitId())))
+                            .collect(Collectors.toList());
+            Assertions.assertTrue(splits.size() > 1);
+            assertContiguous(splits);
+        }
+        Assertions.assertEquals(
+                context.assigned.size(),
+                context.metricsContext.counter(SOURCE_GENERATED_SPLITS).getCount());
+        // the wall time, not the time of the workers summed up
+        long splitGenerationTime =
+                context.metricsContext.counter(SOURCE_SPLIT_GENERATION_TIME).getCount();
+        Assertions.assertTrue(splitGenerationTime >= 0 && splitGenerationTime <= elapsed);
+        Assertions.assertEquals(new HashSet<>(Arrays.asList(0, 1)), context.noMoreSplits);
+
+        JdbcSourceState state = enumerator.snapshotState(1);
+        Assertions.assertTrue(state.getPendingTables().isEmpty());
+        Assertions.assertTrue(state.getSplittingTables().isEmpty());
+        Assertions.assertEquals(0, enumerator.currentUnassignedSplitSize());
+    }
+
+    private static void assertContiguous(List<JdbcSourceSplit> splits) {
+        Assertions.assertNull(splits.get(0).getSplitStart());
+        Assertions.assertNull(splits.get(splits.size() - 1).getSplitEnd());
+        for (int i = 1; i < splits.size(); i++) {
+            Assertions.assertEquals(splits.get(i - 1).getSplitEnd(), splits.get(i).getSplitStart());
+        }
+    }
+
+    private static int splitIndex(String splitId) {
+        return Integer.parseInt(splitId.substring(splitId.lastIndexOf('-') + 1));
+    }
+
+    private JdbcSourceConfig createConfig(int splitParallelism) {
+        return createConfig(splitParallelism, true);
+    }
+
+    private JdbcSourceConfig createConfig(int splitParallelism, boolean useDynamicSplitter) {
+        return JdbcSourceConfig.builder()
+                .jdbcConnectionConfig(
+                        JdbcConnectionConfig.builder()
+                                .url(url)
+                                .driverName("org.sqlite.JDBC")
+                                .build())
+                .useDynamicSplitter(useDynamicSplitter)
+                .splitSize(100)
+                .splitEvenDistributionFactorUpperBound(100)
+                .splitEvenDistributionFactorLowerBound(0.05)
+                .splitSampleShardingThreshold(1000)
+                .splitInverseSamplingRate(1000)
+                .splitParallelism(splitParallelism)
+                .build();
+    }
+
+    private Map<TablePath, JdbcSourceTable> createTables() {
+        return createTables(null);
+    }
+
+    private Map<TablePath, JdbcSourceTable> createTables(Integer partitionNumber) {
+        Map<TablePath, JdbcSourceTable> tables = new HashMap<>();
+        for (TablePath tablePath : TABLE_PATHS) {
+            TableSchema schema =
+                    TableSchema.builder()
+                            .column(
+                                    PhysicalColumn.builder()
+                                            .name("id")
+                                            .dataType(BasicType.INT_TYPE)
+                                            .build())
+                            .primaryKey(PrimaryKey.of("pk", Collections.singletonList("id")))
+                            .build();
+            tables.put(
+                    tablePath,
+                    JdbcSourceTable.builder()
+                            .tablePath(tablePath)
+                            .query("SELECT * FROM " + tablePath.getTableName())
+                            .partitionNumber(partitionNumber)
+                            .catalogTable(
+                                    CatalogTable.of(
+                                            TableIdentifier.of("sqlite", tablePath),
+                                            schema,
+                                            new HashMap<>(),
+                                            new ArrayList<>(),
+                                            null))
+                            .build());
+        }
+        return tables;
+    }
+
+    private static class TestContext implements SourceSplitEnumerator.Context<JdbcSourceSplit> {
+        private final List<JdbcSourceSplit> assigned =
+                Collections.synchronizedList(new ArrayList<>());
+        private final Set<Integer> noMoreSplits = new HashSet<>();
+        private final MetricsContext metricsContext = new AbstractMetricsContext() {};
+
+        @Override
+        public int currentParallelism() {
+            return 2;
+        }
+
+        @Override
+        public Set<Integer> registeredReaders() {
+            return new HashSet<>(Arrays.asList(0, 1));
+        }
+
+        @Override
+        public void assignSplit(int subtaskId, List<JdbcSourceSplit> splits) {
+            assigned.addAll(splits);
+        }
+
+        @Override
+        public void signalNoMoreSplits(int subtask) {
+            noMoreSplits.add(subtask);
+        }
+
+        @Override
+        public void sendEventToSourceReader(int subtaskId, SourceEvent event) {}
+
+        @Override
+        public MetricsContext getMetricsContext() {
+            return metricsContext;
+        }
+
+        @Override
+        public EventListener getEventListener() {
+            return null;
+        }
+    }
+}
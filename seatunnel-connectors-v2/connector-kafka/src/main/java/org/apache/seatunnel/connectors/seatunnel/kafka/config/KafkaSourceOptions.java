@@ -95,6 +95,14 @@ public class KafkaSourceOptions extends KafkaBaseOptions {
                     .defaultValue(10000L)
                     .withDescription("The interval for poll message");
 
+    public static final Option<Integer> DESERIALIZATION_THREADS =
+            Options.key("deserialization.threads")
+                    .intType()
+                    .defaultValue(0)
+                    .withDescription(
+                            "The number of threads deserializing the polled messages ahead of the reader, "
+                                    + "the default 0 deserializes them on the reader thread.");
+
     public static final Option<MessageFormatErrorHandleWay> MESSAGE_FORMAT_ERROR_HANDLE_WAY_OPTION =
             Options.key("format_error_handle_way")
                     .enumType(MessageFormatErrorHandleWay.class)
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.kafka.source;
+
+import org.apache.seatunnel.api.serialization.DeserializationSchema;
+import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.table.schema.event.SchemaChangeEvent;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * A {@link ConsumerRecord} whose value is deserialized ahead by a {@link KafkaRecordDecoder}
+ * worker. The rows are buffered until the reader thread emits the record, so the offsets of the
+ * split state still only move forward with the emitted rows.
+ */
+class KafkaDecodedRecord extends ConsumerRecord<byte[], byte[]> {
+
+    private final List<Object> output = new ArrayList<>(1);
+    private Exception failure;
+    private Future<?> decoded;
+
+    KafkaDecodedRecord(ConsumerRecord<byte[], byte[]> record) {
+        super(
+                record.topic(),
+                record.partition(),
+                record.offset(),
+                record.timestamp(),
+                record.timestampType(),
+                record.serializedKeySize(),
+                record.serializedValueSize(),
+                record.key(),
+                record.value(),
+                record.headers(),
+                record.leaderEpoch());
+    }
+
+    void setDecoded(Future<?> decoded) {
+        this.decoded = decoded;
+    }
+
+    /** Runs on the decoder thread, a failure is kept to be handled when the record is emitted. */
+    void decode(DeserializationSchema<SeaTunnelRow> deserializationSchema) {
+        try {
+            KafkaRecordEmitter.deserialize(deserializationSchema, this, new BufferCollector());
+        } catch (Exception e) {
+            failure = e;
+        }
+    }
+
+    /** Waits for the record to be decoded and hands its rows over in the decoded order. */
+    void emitTo(Collector<SeaTunnelRow> collector) throws Exception {
+        try {
+            decoded.get();
+        } catch (ExecutionException e) {
+            // the decoding failures are kept in the record, only errors are left here
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+        for (Object element : output) {
+            if (element instanceof SchemaChangeEvent) {
+                collector.collect((SchemaChangeEvent) element);
+            } else {
+                collector.collect((SeaTunnelRow) element);
+            }
+        }
+        output.clear();
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private class BufferCollector implements Collector<SeaTunnelRow> {
+
+        @Override
+        public void collect(SeaTunnelRow record) {
+            output.add(record);
+        }
+
+        @Override
+        public void collect(SchemaChangeEvent event) {
+            output.add(event);
+        }
+
+        @Override
+        public Object getCheckpointLock() {
+            return this;
+        }
+    }
+}
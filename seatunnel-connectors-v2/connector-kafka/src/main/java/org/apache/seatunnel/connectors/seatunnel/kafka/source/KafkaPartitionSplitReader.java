@@ -20,11 +20,14 @@ package org.apache.seatunnel.connectors.seatunnel.kafka.source;
 import org.apache.seatunnel.shade.com.google.common.base.Preconditions;
 
 import org.apache.seatunnel.api.source.SourceReader;
+import org.apache.seatunnel.api.table.catalog.TablePath;
 import org.apache.seatunnel.common.utils.TemporaryClassLoaderContext;
 import org.apache.seatunnel.connectors.seatunnel.common.source.reader.RecordsWithSplitIds;
 import org.apache.seatunnel.connectors.seatunnel.common.source.reader.splitreader.SplitReader;
 import org.apache.seatunnel.connectors.seatunnel.common.source.reader.splitreader.SplitsAddition;
 import org.apache.seatunnel.connectors.seatunnel.common.source.reader.splitreader.SplitsChange;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.splitreader.SplitsReassignment;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.splitreader.SplitsRemoval;
 import org.apache.seatunnel.connectors.seatunnel.kafka.config.StartMode;
 
 import org.apache.kafka.clients.consumer.ConsumerConfig;
@@ -75,10 +78,29 @@ public class KafkaPartitionSplitReader
 
     private final long pollTimeout;
 
+    @Nullable private final KafkaRecordDecoder recordDecoder;
+
+    private final Map<TopicPartition, TablePath> tablePaths = new HashMap<>();
+
     public KafkaPartitionSplitReader(
             KafkaSourceConfig kafkaSourceConfig, SourceReader.Context context) {
+        this(kafkaSourceConfig, context, 0, null);
+    }
+
+    /**
+     * @param fetcherIndex the index of the fetcher among the fetchers of the source reader, it
+     *     tells the client ids of their consumers apart.
+     * @param recordDecoder decodes the fetched records ahead of the reader thread, or null to leave
+     *     the decoding to the {@link KafkaRecordEmitter}.
+     */
+    public KafkaPartitionSplitReader(
+            KafkaSourceConfig kafkaSourceConfig,
+            SourceReader.Context context,
+            int fetcherIndex,
+            @Nullable KafkaRecordDecoder recordDecoder) {
         this.kafkaSourceConfig = kafkaSourceConfig;
-        this.consumer = initConsumer(kafkaSourceConfig, context.getIndexOfSubtask());
+        this.recordDecoder = recordDecoder;
+        this.consumer = initConsumer(kafkaSourceConfig, context.getIndexOfSubtask(), fetcherIndex);
         this.stoppingOffsets = new HashMap<>();
         this.groupId =
                 kafkaSourceConfig.getProperties().getProperty(ConsumerConfig.GROUP_ID_CONFIG);
@@ -133,6 +155,11 @@ public class KafkaPartitionSplitReader
             unassignPartitions(finishedPartitions);
         }
 
+        if (recordDecoder != null) {
+            recordsBySplits.decodeRecords(recordDecoder, tablePaths);
+        }
+        finishedPartitions.forEach(tablePaths::remove);
+
         return recordsBySplits;
     }
 
@@ -162,6 +189,10 @@ public class KafkaPartitionSplitReader
 
     @Override
     public void handleSplitsChanges(SplitsChange<KafkaSourceSplit> splitsChange) {
+        if (splitsChange instanceof SplitsRemoval) {
+            removeSplits(splitsChange.splits());
+            return;
+        }
         // Get all the partition assignments and stopping offsets.
         if (!(splitsChange instanceof SplitsAddition)) {
             throw new UnsupportedOperationException(
@@ -179,14 +210,19 @@ public class KafkaPartitionSplitReader
         // Stopping offsets.
         List<TopicPartition> partitionsStoppingAtLatest = new ArrayList<>();
 
+        // The splits moved from another fetcher resume from the offset of their state.
+        boolean resumed = splitsChange instanceof SplitsReassignment;
+
         // Parse the starting and stopping offsets.
         splitsChange
                 .splits()
                 .forEach(
                         s -> {
                             newPartitionAssignments.add(s.getTopicPartition());
+                            tablePaths.put(s.getTopicPartition(), s.getTablePath());
                             parseStartingOffsets(
                                     s,
+                                    resumed,
                                     partitionsStartingFromEarliest,
                                     partitionsStartingFromLatest,
                                     partitionsStartingFromSpecifiedOffsets);
@@ -234,6 +270,23 @@ public class KafkaPartitionSplitReader
         }
     }
 
+    private void removeSplits(Collection<KafkaSourceSplit> splits) {
+        List<TopicPartition> partitions =
+                splits.stream()
+                        .map(KafkaSourceSplit::getTopicPartition)
+                        .collect(Collectors.toList());
+        partitions.forEach(stoppingOffsets::remove);
+        partitions.forEach(tablePaths::remove);
+        splits.forEach(split -> emptySplits.remove(split.splitId()));
+        unassignPartitions(partitions);
+        LOG.info("Stopped reading partitions {} to hand them over to another fetcher", partitions);
+    }
+
+    @Override
+    public boolean supportsSplitRemoval() {
+        return true;
+    }
+
     private void removeEmptySplits() {
         List<TopicPartition> emptyPartitions = new ArrayList<>();
         // If none of the partitions have any records,
@@ -309,10 +362,15 @@ public class KafkaPartitionSplitReader
 
     private void parseStartingOffsets(
             KafkaSourceSplit split,
+            boolean resumed,
             List<TopicPartition> partitionsStartingFromEarliest,
             List<TopicPartition> partitionsStartingFromLatest,
             Map<TopicPartition, Long> partitionsStartingFromSpecifiedOffsets) {
         TopicPartition tp = split.getTopicPartition();
+        if (resumed && split.getStartOffset() >= 0) {
+            partitionsStartingFromSpecifiedOffsets.put(tp, split.getStartOffset());
+            return;
+        }
         // Parse starting offsets.
         ConsumerMetadata metadata = kafkaSourceConfig.getMapMetadata().get(split.getTablePath());
         if (metadata.getStartMode() == StartMode.EARLIEST) {
@@ -344,7 +402,9 @@ public class KafkaPartitionSplitReader
     }
 
     private KafkaConsumer<byte[], byte[]> initConsumer(
-            KafkaSourceConfig kafkaSourceConfig, int subtaskId) {
+            KafkaSourceConfig kafkaSourceConfig, int subtaskId, int fetcherIndex) {
+        String clientIdSuffix =
+                fetcherIndex > 0 ? subtaskId + "-" + fetcherIndex : String.valueOf(subtaskId);
 
         try (TemporaryClassLoaderContext ignored =
                 TemporaryClassLoaderContext.of(kafkaSourceConfig.getClass().getClassLoader())) {
@@ -360,13 +420,13 @@ public class KafkaPartitionSplitReader
             if (this.kafkaSourceConfig.getProperties().get("client.id") == null) {
                 props.setProperty(
                         ConsumerConfig.CLIENT_ID_CONFIG,
-                        CLIENT_ID_PREFIX + "-consumer-" + subtaskId);
+                        CLIENT_ID_PREFIX + "-consumer-" + clientIdSuffix);
             } else {
                 props.setProperty(
                         ConsumerConfig.CLIENT_ID_CONFIG,
                         this.kafkaSourceConfig.getProperties().get("client.id").toString()
                                 + "-"
-                                + subtaskId);
+                                + clientIdSuffix);
             }
             props.setProperty(
                     ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG,
@@ -400,6 +460,8 @@ public class KafkaPartitionSplitReader
 
         private final Set<String> finishedSplits = new HashSet<>();
         private final Map<TopicPartition, Long> stoppingOffsets = new HashMap<>();
+        private final Map<TopicPartition, List<ConsumerRecord<byte[], byte[]>>> decodedRecords =
+                new HashMap<>();
         private final ConsumerRecords<byte[], byte[]> consumerRecords;
         private final Iterator<TopicPartition> splitIterator;
         private Iterator<ConsumerRecord<byte[], byte[]>> recordIterator;
@@ -420,11 +482,31 @@ public class KafkaPartitionSplitReader
             finishedSplits.add(splitId);
         }
 
+        private void decodeRecords(
+                KafkaRecordDecoder recordDecoder, Map<TopicPartition, TablePath> tablePaths) {
+            for (TopicPartition tp : consumerRecords.partitions()) {
+                TablePath tablePath = tablePaths.get(tp);
+                if (tablePath == null) {
+                    continue;
+                }
+                long stoppingOffset = stoppingOffsets.getOrDefault(tp, Long.MAX_VALUE);
+                // The records after the stopping offset are never emitted, skip decoding them
+                List<ConsumerRecord<byte[], byte[]>> records =
+                        consumerRecords.records(tp).stream()
+                                .filter(record -> record.offset() < stoppingOffset)
+                                .collect(Collectors.toList());
+                decodedRecords.put(tp, recordDecoder.decode(tablePath, records));
+            }
+        }
+
         @Nullable @Override
         public String nextSplit() {
             if (splitIterator.hasNext()) {
                 currentTopicPartition = splitIterator.next();
-                recordIterator = consumerRecords.records(currentTopicPartition).iterator();
+                recordIterator =
+                        decodedRecords.containsKey(currentTopicPartition)
+                                ? decodedRecords.get(currentTopicPartition).iterator()
+                                : consumerRecords.records(currentTopicPartition).iterator();
                 currentSplitStoppingOffset =
                         stoppingOffsets.getOrDefault(currentTopicPartition, Long.MAX_VALUE);
                 return currentTopicPartition.toString();
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.kafka.source;
+
+import org.apache.seatunnel.shade.com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import org.apache.seatunnel.api.serialization.DeserializationSchema;
+import org.apache.seatunnel.api.table.catalog.TablePath;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.common.utils.SerializationUtils;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deserializes the polled records on a bounded pool of threads, so that decoding JSON, Avro or
+ * Debezium payloads no longer runs on the reader thread. The records of a partition are cut into
+ * chunks decoded in parallel, but the reader still emits them one by one in their fetched order.
+ *
+ * <p>Deserialization schemas are not required to be thread-safe, every decoding thread works on its
+ * own copy of them. When all the threads are busy and the task queue is full, the fetcher thread
+ * decodes the chunk itself, which slows down polling until the pool catches up.
+ */
+public class KafkaRecordDecoder implements AutoCloseable {
+
+    private static final int RECORDS_PER_TASK = 128;
+
+    private final Map<TablePath, ConsumerMetadata> mapMetadata;
+    private final ThreadLocal<Map<TablePath, DeserializationSchema<SeaTunnelRow>>> schemas =
+            ThreadLocal.withInitial(HashMap::new);
+    private final ThreadPoolExecutor executor;
+
+    public KafkaRecordDecoder(
+            Map<TablePath, ConsumerMetadata> mapMetadata, int threads, int subtaskId) {
+        this.mapMetadata = mapMetadata;
+        this.executor =
+                new ThreadPoolExecutor(
+                        threads,
+                        threads,
+                        0L,
+                        TimeUnit.MILLISECONDS,
+                        new ArrayBlockingQueue<>(threads * 2),
+                        new ThreadFactoryBuilder()
+                                .setNameFormat("kafka-record-decoder-" + subtaskId + "-%d")
+                                .setDaemon(true)
+                                .build(),
+                        (task, pool) -> {
+                            if (pool.isShutdown()) {
+                                throw new RejectedExecutionException(
+                                        "The kafka record decoder is closed");
+                            }
+                            task.run();
+                        });
+    }
+
+    /**
+     * Starts decoding the records of a partition and returns them wrapped as {@link
+     * KafkaDecodedRecord}, in the same order.
+     */
+    List<ConsumerRecord<byte[], byte[]>> decode(
+            TablePath tablePath, List<ConsumerRecord<byte[], byte[]>> records) {
+        List<ConsumerRecord<byte[], byte[]>> decodedRecords = new ArrayList<>(records.size());
+        for (int start = 0; start < records.size(); start += RECORDS_PER_TASK) {
+            List<KafkaDecodedRecord> chunk = new ArrayList<>(RECORDS_PER_TASK);
+            for (ConsumerRecord<byte[], byte[]> record :
+                    records.subList(start, Math.min(start + RECORDS_PER_TASK, records.size()))) {
+                chunk.add(new KafkaDecodedRecord(record));
+            }
+            Future<?> decoded =
+                    executor.submit(
+                            () -> {
+                                DeserializationSchema<SeaTunnelRow> deserializationSchema =
+                                        schemas.get()
+                                                .computeIfAbsent(
+                                                        tablePath, this::copyDeserializationSchema);
+                                chunk.forEach(record -> record.decode(deserializationSchema));
+                            });
+            chunk.forEach(record -> record.setDecoded(decoded));
+            decodedRecords.addAll(chunk);
+        }
+        return decodedRecords;
+    }
+
+    private DeserializationSchema<SeaTunnelRow> copyDeserializationSchema(TablePath tablePath) {
+        DeserializationSchema<SeaTunnelRow> deserializationSchema =
+                mapMetadata.get(tablePath).getDeserializationSchema();
+        return SerializationUtils.deserialize(
+                SerializationUtils.serialize(deserializationSchema),
+                deserializationSchema.getClass().getClassLoader());
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
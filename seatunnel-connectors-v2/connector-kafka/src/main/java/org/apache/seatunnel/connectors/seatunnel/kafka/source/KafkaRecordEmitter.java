@@ -61,11 +61,11 @@ public class KafkaRecordEmitter
         DeserializationSchema<SeaTunnelRow> deserializationSchema =
                 mapMetadata.get(splitState.getTablePath()).getDeserializationSchema();
         try {
-            if (deserializationSchema instanceof CompatibleKafkaConnectDeserializationSchema) {
-                ((CompatibleKafkaConnectDeserializationSchema) deserializationSchema)
-                        .deserialize(consumerRecord, outputCollector);
+            if (consumerRecord instanceof KafkaDecodedRecord) {
+                // decoded ahead by the KafkaRecordDecoder, only its output is left to emit
+                ((KafkaDecodedRecord) consumerRecord).emitTo(outputCollector);
             } else {
-                deserializationSchema.deserialize(consumerRecord.value(), outputCollector);
+                deserialize(deserializationSchema, consumerRecord, outputCollector);
             }
         } catch (Exception e) {
             if (this.messageFormatErrorHandleWay == MessageFormatErrorHandleWay.SKIP) {
@@ -81,6 +81,19 @@ public class KafkaRecordEmitter
         splitState.setCurrentOffset(consumerRecord.offset() + 1);
     }
 
+    static void deserialize(
+            DeserializationSchema<SeaTunnelRow> deserializationSchema,
+            ConsumerRecord<byte[], byte[]> consumerRecord,
+            Collector<SeaTunnelRow> collector)
+            throws Exception {
+        if (deserializationSchema instanceof CompatibleKafkaConnectDeserializationSchema) {
+            ((CompatibleKafkaConnectDeserializationSchema) deserializationSchema)
+                    .deserialize(consumerRecord, collector);
+        } else {
+            deserializationSchema.deserialize(consumerRecord.value(), collector);
+        }
+    }
+
     private static class OutputCollector<T> implements Collector<T> {
         private Collector<T> output;
 
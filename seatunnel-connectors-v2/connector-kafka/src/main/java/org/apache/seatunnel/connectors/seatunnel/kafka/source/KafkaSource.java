@@ -40,6 +40,7 @@ import org.apache.kafka.clients.consumer.ConsumerRecord;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 public class KafkaSource
@@ -82,12 +83,27 @@ public class KafkaSource
         BlockingQueue<RecordsWithSplitIds<ConsumerRecord<byte[], byte[]>>> elementsQueue =
                 new LinkedBlockingQueue<>();
 
+        SourceReaderOptions sourceReaderOptions = new SourceReaderOptions(readonlyConfig);
+        int fetcherNum = sourceReaderOptions.getFetcherNum();
+        AtomicInteger splitReaderCount = new AtomicInteger();
+        KafkaRecordDecoder kafkaRecordDecoder =
+                kafkaSourceConfig.getDeserializationThreads() > 0
+                        ? new KafkaRecordDecoder(
+                                kafkaSourceConfig.getMapMetadata(),
+                                kafkaSourceConfig.getDeserializationThreads(),
+                                readerContext.getIndexOfSubtask())
+                        : null;
         Supplier<KafkaPartitionSplitReader> kafkaPartitionSplitReaderSupplier =
-                () -> new KafkaPartitionSplitReader(kafkaSourceConfig, readerContext);
+                () ->
+                        new KafkaPartitionSplitReader(
+                                kafkaSourceConfig,
+                                readerContext,
+                                splitReaderCount.getAndIncrement() % fetcherNum,
+                                kafkaRecordDecoder);
 
         KafkaSourceFetcherManager kafkaSourceFetcherManager =
                 new KafkaSourceFetcherManager(
-                        elementsQueue, kafkaPartitionSplitReaderSupplier::get);
+                        elementsQueue, kafkaPartitionSplitReaderSupplier::get, fetcherNum);
         KafkaRecordEmitter kafkaRecordEmitter =
                 new KafkaRecordEmitter(
                         kafkaSourceConfig.getMapMetadata(),
@@ -97,7 +113,8 @@ public class KafkaSource
                 elementsQueue,
                 kafkaSourceFetcherManager,
                 kafkaRecordEmitter,
-                new SourceReaderOptions(readonlyConfig),
+                kafkaRecordDecoder,
+                sourceReaderOptions,
                 kafkaSourceConfig,
                 readerContext);
     }
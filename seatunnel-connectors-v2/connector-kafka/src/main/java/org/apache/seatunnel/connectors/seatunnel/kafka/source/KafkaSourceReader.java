@@ -21,9 +21,8 @@ import org.apache.seatunnel.api.source.SourceReader;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.connectors.seatunnel.common.source.reader.RecordEmitter;
 import org.apache.seatunnel.connectors.seatunnel.common.source.reader.RecordsWithSplitIds;
-import org.apache.seatunnel.connectors.seatunnel.common.source.reader.SingleThreadMultiplexSourceReaderBase;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.SourceReaderBase;
 import org.apache.seatunnel.connectors.seatunnel.common.source.reader.SourceReaderOptions;
-import org.apache.seatunnel.connectors.seatunnel.common.source.reader.fetcher.SingleThreadFetcherManager;
 import org.apache.seatunnel.connectors.seatunnel.kafka.source.fetch.KafkaSourceFetcherManager;
 
 import org.apache.kafka.clients.consumer.ConsumerRecord;
@@ -33,6 +32,8 @@ import org.apache.kafka.common.TopicPartition;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -44,7 +45,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
 public class KafkaSourceReader
-        extends SingleThreadMultiplexSourceReaderBase<
+        extends SourceReaderBase<
                 ConsumerRecord<byte[], byte[]>,
                 SeaTunnelRow,
                 KafkaSourceSplit,
@@ -58,12 +59,14 @@ public class KafkaSourceReader
 
     private final ConcurrentMap<TopicPartition, OffsetAndMetadata> offsetsOfFinishedSplits;
 
+    @Nullable private final KafkaRecordDecoder recordDecoder;
+
     KafkaSourceReader(
             BlockingQueue<RecordsWithSplitIds<ConsumerRecord<byte[], byte[]>>> elementsQueue,
-            SingleThreadFetcherManager<ConsumerRecord<byte[], byte[]>, KafkaSourceSplit>
-                    splitFetcherManager,
+            KafkaSourceFetcherManager splitFetcherManager,
             RecordEmitter<ConsumerRecord<byte[], byte[]>, SeaTunnelRow, KafkaSourceSplitState>
                     recordEmitter,
+            @Nullable KafkaRecordDecoder recordDecoder,
             SourceReaderOptions options,
             KafkaSourceConfig kafkaSourceConfig,
             Context context) {
@@ -72,6 +75,19 @@ public class KafkaSourceReader
         this.context = context;
         this.checkpointOffsetMap = Collections.synchronizedSortedMap(new TreeMap<>());
         this.offsetsOfFinishedSplits = new ConcurrentHashMap<>();
+        this.recordDecoder = recordDecoder;
+    }
+
+    @Override
+    public void close() {
+        try {
+            super.close();
+        } finally {
+            // the fetchers are stopped first, nothing is handed to the decoder afterwards
+            if (recordDecoder != null) {
+                recordDecoder.close();
+            }
+        }
     }
 
     @Override
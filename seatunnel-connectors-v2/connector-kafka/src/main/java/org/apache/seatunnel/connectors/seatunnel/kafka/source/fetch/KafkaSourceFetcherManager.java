@@ -18,7 +18,7 @@
 package org.apache.seatunnel.connectors.seatunnel.kafka.source.fetch;
 
 import org.apache.seatunnel.connectors.seatunnel.common.source.reader.RecordsWithSplitIds;
-import org.apache.seatunnel.connectors.seatunnel.common.source.reader.fetcher.SingleThreadFetcherManager;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.fetcher.MultiThreadFetcherManager;
 import org.apache.seatunnel.connectors.seatunnel.common.source.reader.fetcher.SplitFetcher;
 import org.apache.seatunnel.connectors.seatunnel.common.source.reader.fetcher.SplitFetcherTask;
 import org.apache.seatunnel.connectors.seatunnel.common.source.reader.splitreader.SplitReader;
@@ -41,23 +41,25 @@ import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 public class KafkaSourceFetcherManager
-        extends SingleThreadFetcherManager<ConsumerRecord<byte[], byte[]>, KafkaSourceSplit> {
+        extends MultiThreadFetcherManager<ConsumerRecord<byte[], byte[]>, KafkaSourceSplit> {
 
     private static final Logger logger = LoggerFactory.getLogger(KafkaSourceFetcherManager.class);
 
     public KafkaSourceFetcherManager(
             BlockingQueue<RecordsWithSplitIds<ConsumerRecord<byte[], byte[]>>> elementsQueue,
             Supplier<SplitReader<ConsumerRecord<byte[], byte[]>, KafkaSourceSplit>>
-                    splitReaderSupplier) {
-        super(elementsQueue, splitReaderSupplier);
+                    splitReaderSupplier,
+            int fetcherNum) {
+        super(elementsQueue, splitReaderSupplier, fetcherNum);
     }
 
     public KafkaSourceFetcherManager(
             BlockingQueue<RecordsWithSplitIds<ConsumerRecord<byte[], byte[]>>> elementsQueue,
             Supplier<SplitReader<ConsumerRecord<byte[], byte[]>, KafkaSourceSplit>>
                     splitReaderSupplier,
-            Consumer<Collection<String>> splitFinishedHook) {
-        super(elementsQueue, splitReaderSupplier, splitFinishedHook);
+            Consumer<Collection<String>> splitFinishedHook,
+            int fetcherNum) {
+        super(elementsQueue, splitReaderSupplier, splitFinishedHook, fetcherNum);
     }
 
     public void commitOffsets(
@@ -66,8 +68,9 @@ public class KafkaSourceFetcherManager
         if (offsetsToCommit.isEmpty()) {
             return;
         }
+        // the consumers of all the fetchers belong to the group, any of them commits the offsets
         SplitFetcher<ConsumerRecord<byte[], byte[]>, KafkaSourceSplit> splitFetcher =
-                fetchers.get(0);
+                fetchers.values().stream().findFirst().orElse(null);
         if (splitFetcher != null) {
             // The fetcher thread is still running. This should be the majority of the cases.
             enqueueOffsetsCommitTask(splitFetcher, offsetsToCommit, callback);
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.kafka.source;
+
+import org.apache.seatunnel.api.configuration.ReadonlyConfig;
+import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.table.catalog.TablePath;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.connectors.seatunnel.kafka.config.MessageFormatErrorHandleWay;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.apache.seatunnel.connectors.seatunnel.kafka.config.KafkaSourceOptions.MESSAGE_FORMAT_ERROR_HANDLE_WAY_OPTION;
+
+public class KafkaRecordDecoderTest {
+
+    @Test
+    void testDecodedRecordsAreEmittedInOrder() throws Exception {
+        Map<String, Object> schemaFields = new HashMap<>();
+        schemaFields.put("id", "bigint");
+        Map<String, Object> schema = new HashMap<>();
+        schema.put("fields", schemaFields);
+
+        Map<String, Object> configMap = new HashMap<>();
+        configMap.put("bootstrap.servers", "localhost:9092");
+        configMap.put("topic", "test");
+        configMap.put("schema", schema);
+        configMap.put(MESSAGE_FORMAT_ERROR_HANDLE_WAY_OPTION.key(), "skip");
+        KafkaSourceConfig sourceConfig = new KafkaSourceConfig(ReadonlyConfig.fromMap(configMap));
+
+        int malformedOffset = 500;
+        List<ConsumerRecord<byte[], byte[]>> records = new ArrayList<>();
+        for (long offset = 0; offset < 1000; offset++) {
+            String value = offset == malformedOffset ? "{malformed" : "{\"id\": " + offset + "}";
+            records.add(
+                    new ConsumerRecord<>(
+                            "test", 0, offset, null, value.getBytes(StandardCharsets.UTF_8)));
+        }
+
+        List<SeaTunnelRow> rows = new ArrayList<>();
+        KafkaSourceSplitState splitState =
+                new KafkaSourceSplitState(
+                        new KafkaSourceSplit(TablePath.of("test"), new TopicPartition("test", 0)));
+        KafkaRecordEmitter recordEmitter =
+                new KafkaRecordEmitter(
+                        sourceConfig.getMapMetadata(), MessageFormatErrorHandleWay.SKIP);
+        try (KafkaRecordDecoder recordDecoder =
+                new KafkaRecordDecoder(sourceConfig.getMapMetadata(), 4, 0)) {
+            List<ConsumerRecord<byte[], byte[]>> decodedRecords =
+                    recordDecoder.decode(TablePath.of("test"), records);
+            Assertions.assertEquals(records.size(), decodedRecords.size());
+            for (ConsumerRecord<byte[], byte[]> record : decodedRecords) {
+                Assertions.assertTrue(record instanceof KafkaDecodedRecord);
+                recordEmitter.emitRecord(record, new ListCollector(rows), splitState);
+                Assertions.assertEquals(record.offset() + 1, splitState.getCurrentOffset());
+            }
+        }
+
+        Assertions.assertEquals(records.size() - 1, rows.size());
+        int index = 0;
+        for (long offset = 0; offset < records.size(); offset++) {
+            if (offset == malformedOffset) {
+                continue;
+            }
+            Assertions.assertEquals(offset, rows.get(index++).getField(0));
+        }
+    }
+
+    private static class ListCollector implements Collector<SeaTunnelRow> {
+
+        private final List<SeaTunnelRow> rows;
+
+        private ListCollector(List<SeaTunnelRow> rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public void collect(SeaTunnelRow record) {
+            rows.add(record);
+        }
+
+        @Override
+        public Object getCheckpointLock() {
+            return this;
+        }
+    }
+}
@@ -18,11 +18,16 @@
 package org.apache.seatunnel.connectors.seatunnel.starrocks.client;
 
 import org.apache.seatunnel.shade.com.google.common.base.Strings;
+import org.apache.seatunnel.shade.com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
 import org.apache.seatunnel.connectors.seatunnel.starrocks.config.SinkConfig;
 import org.apache.seatunnel.connectors.seatunnel.starrocks.exception.StarRocksConnectorErrorCode;
 import org.apache.seatunnel.connectors.seatunnel.starrocks.exception.StarRocksConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.starrocks.serialize.StarRocksDelimiterParser;
+import org.apache.seatunnel.connectors.seatunnel.starrocks.serialize.StarRocksISerializer;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -31,57 +36,193 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Serializes the rows straight into a {@link StarRocksStreamLoadBuffer} and loads the full buffers
+ * in the background, so the writer goes on with the next batch during the HTTP round trip. A batch
+ * growing beyond one chunk starts its load early and streams the rows as they come, at most {@code
+ * max_concurrent_loads} loads are in flight. {@link #flush()} waits for all of them.
+ *
+ * <p>A load started early keeps its HTTP request open until its batch is sealed, so the batch is
+ * also sealed once no row has been written for {@code load_idle_timeout_ms}.
+ */
 @Slf4j
 public class StarRocksSinkManager {
 
     private final SinkConfig sinkConfig;
-    private final List<byte[]> batchList;
+    private final StarRocksISerializer serializer;
+    private final byte[] lineDelimiter;
 
     private final StarRocksStreamLoadVisitor starrocksStreamLoadVisitor;
-    private volatile boolean initialize;
+    private final ExecutorService loadExecutor;
+    private final Semaphore loadPermits;
+    private final List<Future<?>> runningLoads = new ArrayList<>();
+    private final ScheduledExecutorService idleLoadScheduler;
     private volatile Exception flushException;
-    private int batchRowCount = 0;
-    private long batchBytesSize = 0;
 
-    public StarRocksSinkManager(SinkConfig sinkConfig, TableSchema tableSchema) {
-        this.sinkConfig = sinkConfig;
-        this.batchList = new ArrayList<>();
-        starrocksStreamLoadVisitor = new StarRocksStreamLoadVisitor(sinkConfig, tableSchema);
-    }
+    private StarRocksStreamLoadBuffer buffer;
+    private boolean bufferLoading;
+    private long lastWriteTime;
 
-    private void tryInit() throws IOException {
-        if (initialize) {
-            return;
+    public StarRocksSinkManager(
+            SinkConfig sinkConfig, TableSchema tableSchema, StarRocksISerializer serializer) {
+        this.sinkConfig = sinkConfig;
+        this.serializer = serializer;
+        this.lineDelimiter =
+                StarRocksDelimiterParser.parse(
+                                (String) sinkConfig.getStreamLoadProps().get("row_delimiter"), "\n")
+                        .getBytes(StandardCharsets.UTF_8);
+        this.starrocksStreamLoadVisitor = new StarRocksStreamLoadVisitor(sinkConfig, tableSchema);
+        int maxConcurrentLoads = Math.max(1, sinkConfig.getMaxConcurrentLoads());
+        if (maxConcurrentLoads > 1
+                && (sinkConfig.isEnableUpsertDelete() || tableSchema.getPrimaryKey() != null)) {
+            // loads running side by side may commit out of order, the changes of a key must not,
+            // and every row written into a primary key table is an upsert
+            log.warn("Loading one batch at a time as the rows are upserts of a primary key table");
+            maxConcurrentLoads = 1;
+        }
+        this.loadPermits = new Semaphore(maxConcurrentLoads);
+        this.loadExecutor =
+                Executors.newFixedThreadPool(
+                        maxConcurrentLoads,
+                        new ThreadFactoryBuilder()
+                                .setNameFormat("starrocks-stream-load-%d")
+                                .setDaemon(true)
+                                .build());
+        long idleTimeoutMs = sinkConfig.getLoadIdleTimeoutMs();
+        if (idleTimeoutMs > 0) {
+            this.idleLoadScheduler =
+                    Executors.newSingleThreadScheduledExecutor(
+                            new ThreadFactoryBuilder()
+                                    .setNameFormat("starrocks-idle-load-%d")
+                                    .setDaemon(true)
+                                    .build());
+            idleLoadScheduler.scheduleWithFixedDelay(
+                    this::sealIdleLoad, idleTimeoutMs, idleTimeoutMs, TimeUnit.MILLISECONDS);
+        } else {
+            this.idleLoadScheduler = null;
         }
-        initialize = true;
     }
 
-    public synchronized void write(String record) throws IOException {
-        tryInit();
+    public synchronized void write(SeaTunnelRow row) throws IOException {
         checkFlushException();
-        byte[] bts = record.getBytes(StandardCharsets.UTF_8);
-        batchList.add(bts);
-        batchRowCount++;
-        batchBytesSize += bts.length;
-        if (batchRowCount >= sinkConfig.getBatchMaxSize()
-                || batchBytesSize >= sinkConfig.getBatchMaxBytes()) {
-            flush();
+        if (buffer == null) {
+            buffer = new StarRocksStreamLoadBuffer(sinkConfig.getLoadFormat(), lineDelimiter);
+        }
+        buffer.beginRow();
+        try {
+            serializer.serialize(row, buffer);
+        } catch (Exception e) {
+            buffer.rollbackRow();
+            throw new StarRocksConnectorException(
+                    CommonErrorCodeDeprecated.WRITER_OPERATION_FAILED,
+                    "serialize failed. Row={" + row + "}",
+                    e);
+        }
+        buffer.endRow();
+        lastWriteTime = System.currentTimeMillis();
+        if (buffer.getRows() >= sinkConfig.getBatchMaxSize()
+                || buffer.getBytes() >= sinkConfig.getBatchMaxBytes()) {
+            loadBuffer();
+        } else if (!bufferLoading && buffer.hasPublishedChunks() && loadPermits.tryAcquire()) {
+            // start streaming the rows of a large batch while it is still being written
+            bufferLoading = true;
+            startLoad(buffer);
         }
     }
 
     public synchronized void close() throws IOException {
-        flush();
+        try {
+            flush();
+        } finally {
+            if (buffer != null) {
+                buffer.abort();
+            }
+            if (idleLoadScheduler != null) {
+                idleLoadScheduler.shutdownNow();
+            }
+            loadExecutor.shutdownNow();
+        }
     }
 
     public synchronized void flush() throws IOException {
         checkFlushException();
-        if (batchList.isEmpty()) {
-            return;
+        if (buffer != null) {
+            loadBuffer();
+        }
+        for (Future<?> load : runningLoads) {
+            try {
+                load.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new StarRocksConnectorException(
+                        StarRocksConnectorErrorCode.FLUSH_DATA_FAILED, e);
+            } catch (ExecutionException e) {
+                throw new StarRocksConnectorException(
+                        StarRocksConnectorErrorCode.FLUSH_DATA_FAILED, e.getCause());
+            }
         }
-        String label = createBatchLabel();
-        StarRocksFlushTuple tuple =
-                new StarRocksFlushTuple(label, batchBytesSize, new ArrayList<>(batchList));
+        runningLoads.clear();
+        checkFlushException();
+    }
+
+    /** Seals the current buffer and makes sure it is loaded, waiting for a free load slot. */
+    private void loadBuffer() throws IOException {
+        StarRocksStreamLoadBuffer sealedBuffer = buffer;
+        boolean loading = bufferLoading;
+        buffer = null;
+        bufferLoading = false;
+        sealedBuffer.seal();
+        if (!loading) {
+            try {
+                loadPermits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new StarRocksConnectorException(
+                        StarRocksConnectorErrorCode.FLUSH_DATA_FAILED, e);
+            }
+            startLoad(sealedBuffer);
+        }
+    }
+
+    /** Seals the buffer of a load that started early once the writer has been idle for a while. */
+    private synchronized void sealIdleLoad() {
+        if (bufferLoading
+                && System.currentTimeMillis() - lastWriteTime
+                        >= sinkConfig.getLoadIdleTimeoutMs()) {
+            try {
+                // the load is running already, sealing does not wait for a load slot
+                loadBuffer();
+            } catch (Exception e) {
+                flushException = e;
+            }
+        }
+    }
+
+    private void startLoad(StarRocksStreamLoadBuffer loadBuffer) {
+        runningLoads.removeIf(Future::isDone);
+        runningLoads.add(
+                loadExecutor.submit(
+                        () -> {
+                            try {
+                                doStreamLoad(loadBuffer);
+                            } catch (Exception e) {
+                                flushException = e;
+                            } finally {
+                                loadPermits.release();
+                            }
+                        }));
+    }
+
+    private void doStreamLoad(StarRocksStreamLoadBuffer loadBuffer) {
+        StarRocksFlushTuple tuple = new StarRocksFlushTuple(createBatchLabel(), loadBuffer);
         for (int i = 0; i <= sinkConfig.getMaxRetries(); i++) {
             try {
                 Boolean successFlag = starrocksStreamLoadVisitor.doStreamLoad(tuple);
@@ -120,9 +261,6 @@ public class StarRocksSinkManager {
                 }
             }
         }
-        batchList.clear();
-        batchRowCount = 0;
-        batchBytesSize = 0;
     }
 
     private void checkFlushException() {
@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.starrocks.client;
+
+import org.apache.seatunnel.connectors.seatunnel.starrocks.config.SinkConfig;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The body of one stream load. Rows are serialized straight into fixed size chunks, and every chunk
+ * completed at a row boundary is published, so a running load streams it out while the writer keeps
+ * adding rows. The chunks are kept until the load succeeds, a retry replays them from the start.
+ *
+ * <p>Only the writer thread writes rows, the loading threads read the published chunks through
+ * {@link #awaitChunk(int)}.
+ */
+public class StarRocksStreamLoadBuffer extends OutputStream {
+
+    static final int CHUNK_SIZE = 64 * 1024;
+
+    private static final byte[] JSON_ARRAY_START = "[".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] JSON_ARRAY_END = "]".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] JSON_DELIMITER = ",".getBytes(StandardCharsets.UTF_8);
+
+    private final boolean json;
+    private final byte[] lineDelimiter;
+
+    private final List<byte[]> publishedChunks = new ArrayList<>();
+    private final List<byte[]> pendingChunks = new ArrayList<>();
+    private boolean sealed;
+    private boolean aborted;
+
+    private byte[] chunk = new byte[CHUNK_SIZE];
+    private int position;
+    private byte[] rowStartChunk;
+    private int rowStartPosition;
+    private long rowStartBytes;
+
+    private volatile int rows;
+    private volatile long bytes;
+
+    public StarRocksStreamLoadBuffer(SinkConfig.StreamLoadFormat format, byte[] lineDelimiter) {
+        this.json = SinkConfig.StreamLoadFormat.JSON.equals(format);
+        this.lineDelimiter = lineDelimiter;
+    }
+
+    /** Marks where the next row starts, so that a row failing to serialize can be dropped. */
+    public void beginRow() throws IOException {
+        rowStartChunk = chunk;
+        rowStartPosition = position;
+        rowStartBytes = bytes;
+        if (json) {
+            write(rows == 0 ? JSON_ARRAY_START : JSON_DELIMITER);
+        }
+    }
+
+    public void endRow() throws IOException {
+        if (!json) {
+            write(lineDelimiter);
+        }
+        rows++;
+        if (!pendingChunks.isEmpty()) {
+            synchronized (this) {
+                publishedChunks.addAll(pendingChunks);
+                notifyAll();
+            }
+            pendingChunks.clear();
+        }
+    }
+
+    /** Drops what was written since {@link #beginRow()}. */
+    public void rollbackRow() {
+        pendingChunks.clear();
+        chunk = rowStartChunk;
+        position = rowStartPosition;
+        bytes = rowStartBytes;
+    }
+
+    @Override
+    public void write(int b) {
+        if (position == chunk.length) {
+            nextChunk();
+        }
+        chunk[position++] = (byte) b;
+        bytes++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        bytes += len;
+        while (len > 0) {
+            if (position == chunk.length) {
+                nextChunk();
+            }
+            int length = Math.min(len, chunk.length - position);
+            System.arraycopy(b, off, chunk, position, length);
+            position += length;
+            off += length;
+            len -= length;
+        }
+    }
+
+    private void nextChunk() {
+        pendingChunks.add(chunk);
+        chunk = new byte[CHUNK_SIZE];
+        position = 0;
+    }
+
+    /** Completes the body, no rows are added afterwards. */
+    public void seal() throws IOException {
+        if (json) {
+            if (rows == 0) {
+                write(JSON_ARRAY_START);
+            }
+            write(JSON_ARRAY_END);
+        }
+        synchronized (this) {
+            publishedChunks.addAll(pendingChunks);
+            publishedChunks.add(Arrays.copyOf(chunk, position));
+            sealed = true;
+            notifyAll();
+        }
+        pendingChunks.clear();
+        chunk = null;
+    }
+
+    /** Wakes up the loads waiting for more data, they fail instead of sending a partial body. */
+    public synchronized void abort() {
+        aborted = true;
+        notifyAll();
+    }
+
+    public synchronized boolean hasPublishedChunks() {
+        return !publishedChunks.isEmpty();
+    }
+
+    /**
+     * Returns the chunk at the index, waiting for the writer to publish it.
+     *
+     * @return the chunk, or null when the buffer is sealed and has no more chunks
+     */
+    synchronized byte[] awaitChunk(int index) throws IOException {
+        while (index >= publishedChunks.size() && !sealed && !aborted) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for rows to load");
+            }
+        }
+        if (aborted) {
+            throw new IOException("The stream load was aborted before all rows were written");
+        }
+        return index < publishedChunks.size() ? publishedChunks.get(index) : null;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public long getBytes() {
+        return bytes;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.starrocks.client;
+
+import org.apache.seatunnel.connectors.seatunnel.starrocks.config.SinkConfig;
+
+import org.apache.http.entity.AbstractHttpEntity;
+
+import net.jpountz.lz4.LZ4FrameOutputStream;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Sends a {@link StarRocksStreamLoadBuffer} with chunked transfer encoding, the chunks go out as
+ * soon as the writer publishes them. The entity is repeatable, a redirect from the FE to a BE or a
+ * retry sends the body again from its first chunk.
+ */
+public class StarRocksStreamLoadEntity extends AbstractHttpEntity {
+
+    private final StarRocksStreamLoadBuffer buffer;
+    private final SinkConfig.StreamLoadCompression compression;
+
+    public StarRocksStreamLoadEntity(
+            StarRocksStreamLoadBuffer buffer, SinkConfig.StreamLoadCompression compression) {
+        this.buffer = buffer;
+        this.compression = compression;
+        setChunked(true);
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return true;
+    }
+
+    @Override
+    public long getContentLength() {
+        return -1;
+    }
+
+    @Override
+    public InputStream getContent() {
+        throw new UnsupportedOperationException("The stream load body can only be written out");
+    }
+
+    @Override
+    public void writeTo(OutputStream outStream) throws IOException {
+        OutputStream out = compress(new UnclosableOutputStream(outStream));
+        byte[] chunk;
+        for (int i = 0; (chunk = buffer.awaitChunk(i)) != null; i++) {
+            out.write(chunk);
+            out.flush();
+        }
+        // finishes the compressed frame, the underlying stream stays open
+        out.close();
+    }
+
+    private OutputStream compress(OutputStream out) throws IOException {
+        switch (compression) {
+            case GZIP:
+                return new GZIPOutputStream(out, StarRocksStreamLoadBuffer.CHUNK_SIZE);
+            case LZ4_FRAME:
+                return new LZ4FrameOutputStream(out);
+            case NONE:
+            default:
+                return out;
+        }
+    }
+
+    @Override
+    public boolean isStreaming() {
+        return false;
+    }
+
+    private static class UnclosableOutputStream extends FilterOutputStream {
+
+        private UnclosableOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
@@ -40,6 +40,12 @@ public class SinkConfig implements Serializable {
         JSON;
     }
 
+    public enum StreamLoadCompression {
+        NONE,
+        GZIP,
+        LZ4_FRAME;
+    }
+
     private List<String> nodeUrls;
     private String jdbcUrl;
     private String username;
@@ -49,6 +55,9 @@ public class SinkConfig implements Serializable {
     private String labelPrefix;
     private String columnSeparator;
     private StreamLoadFormat loadFormat;
+    private StreamLoadCompression loadCompression;
+    private int maxConcurrentLoads;
+    private long loadIdleTimeoutMs;
     private int batchMaxSize;
     private long batchMaxBytes;
 
@@ -94,6 +103,9 @@ public class SinkConfig implements Serializable {
         config.getOptional(StarRocksSinkOptions.COLUMN_SEPARATOR)
                 .ifPresent(sinkConfig::setColumnSeparator);
         sinkConfig.setLoadFormat(config.get(StarRocksSinkOptions.LOAD_FORMAT));
+        sinkConfig.setLoadCompression(config.get(StarRocksSinkOptions.LOAD_COMPRESSION));
+        sinkConfig.setMaxConcurrentLoads(config.get(StarRocksSinkOptions.MAX_CONCURRENT_LOADS));
+        sinkConfig.setLoadIdleTimeoutMs(config.get(StarRocksSinkOptions.LOAD_IDLE_TIMEOUT_MS));
         sinkConfig.setSchemaSaveMode(config.get(StarRocksSinkOptions.SCHEMA_SAVE_MODE));
         sinkConfig.setDataSaveMode(config.get(StarRocksSinkOptions.DATA_SAVE_MODE));
         sinkConfig.setCustomSql(config.get(StarRocksSinkOptions.CUSTOM_SQL));
@@ -22,6 +22,7 @@ import org.apache.seatunnel.api.configuration.Options;
 import org.apache.seatunnel.api.sink.DataSaveMode;
 import org.apache.seatunnel.api.sink.SaveModePlaceHolder;
 import org.apache.seatunnel.api.sink.SchemaSaveMode;
+import org.apache.seatunnel.connectors.seatunnel.starrocks.config.SinkConfig.StreamLoadCompression;
 import org.apache.seatunnel.connectors.seatunnel.starrocks.config.SinkConfig.StreamLoadFormat;
 
 import java.util.Map;
@@ -130,6 +131,30 @@ public class StarRocksSinkOptions extends StarRocksBaseOptions {
                     .enumType(StreamLoadFormat.class)
                     .defaultValue(StreamLoadFormat.JSON)
                     .withDescription("");
+
+    public static final Option<StreamLoadCompression> LOAD_COMPRESSION =
+            Options.key("starrocks.config.compression")
+                    .enumType(StreamLoadCompression.class)
+                    .defaultValue(StreamLoadCompression.NONE)
+                    .withDescription(
+                            "The compression of the stream load body, supports gzip and lz4_frame");
+
+    public static final Option<Integer> MAX_CONCURRENT_LOADS =
+            Options.key("max_concurrent_loads")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The number of stream loads a writer keeps in flight while it serializes the next batch. "
+                                    + "Loads may commit out of order, so it is only used for append only writes into duplicate key tables, "
+                                    + "with enable_upsert_delete or a primary key in the table schema it stays 1");
+
+    public static final Option<Long> LOAD_IDLE_TIMEOUT_MS =
+            Options.key("load_idle_timeout_ms")
+                    .longType()
+                    .defaultValue(3000L)
+                    .withDescription(
+                            "A stream load that starts before its batch is full is completed once no row has been written for this long, "
+                                    + "so that its http request is not kept open while the writer is idle. 0 disables it");
     public static final Option<SchemaSaveMode> SCHEMA_SAVE_MODE =
             Options.key("schema_save_mode")
                     .enumType(SchemaSaveMode.class)
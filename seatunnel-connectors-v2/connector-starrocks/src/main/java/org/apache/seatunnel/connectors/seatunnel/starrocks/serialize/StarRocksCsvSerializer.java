@@ -20,34 +20,56 @@ package org.apache.seatunnel.connectors.seatunnel.starrocks.serialize;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
 public class StarRocksCsvSerializer extends StarRocksBaseSerializer
         implements StarRocksISerializer {
     private static final long serialVersionUID = 1L;
 
-    private final String columnSeparator;
+    private static final byte[] NULL_VALUE = "\\N".getBytes(StandardCharsets.UTF_8);
+
+    private final byte[] columnSeparator;
     private final SeaTunnelRowType seaTunnelRowType;
     private final boolean enableUpsertDelete;
 
     public StarRocksCsvSerializer(
             String sp, SeaTunnelRowType seaTunnelRowType, boolean enableUpsertDelete) {
-        this.columnSeparator = StarRocksDelimiterParser.parse(sp, "\t");
+        this.columnSeparator =
+                StarRocksDelimiterParser.parse(sp, "\t").getBytes(StandardCharsets.UTF_8);
         this.seaTunnelRowType = seaTunnelRowType;
         this.enableUpsertDelete = enableUpsertDelete;
     }
 
     @Override
     public String serialize(SeaTunnelRow row) {
-        StringBuilder sb = new StringBuilder();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            serialize(row, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void serialize(SeaTunnelRow row, OutputStream out) throws IOException {
         for (int i = 0; i < row.getFields().length; i++) {
             Object value = convert(seaTunnelRowType.getFieldType(i), row.getField(i));
-            sb.append(null == value ? "\\N" : value);
+            out.write(
+                    null == value ? NULL_VALUE : value.toString().getBytes(StandardCharsets.UTF_8));
             if (i < row.getFields().length - 1) {
-                sb.append(columnSeparator);
+                out.write(columnSeparator);
             }
         }
         if (enableUpsertDelete) {
-            sb.append(columnSeparator).append(StarRocksSinkOP.parse(row.getRowKind()).ordinal());
+            out.write(columnSeparator);
+            out.write(
+                    String.valueOf(StarRocksSinkOP.parse(row.getRowKind()).ordinal())
+                            .getBytes(StandardCharsets.UTF_8));
         }
-        return sb.toString();
     }
 }
@@ -19,9 +19,17 @@ package org.apache.seatunnel.connectors.seatunnel.starrocks.serialize;
 
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
 
 public interface StarRocksISerializer extends Serializable {
 
     String serialize(SeaTunnelRow seaTunnelRow);
+
+    /** Writes the serialized row straight into the stream load buffer. */
+    default void serialize(SeaTunnelRow seaTunnelRow, OutputStream out) throws IOException {
+        out.write(serialize(seaTunnelRow).getBytes(StandardCharsets.UTF_8));
+    }
 }
@@ -22,6 +22,8 @@ import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.api.table.type.SqlType;
 import org.apache.seatunnel.common.utils.JsonUtils;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -39,6 +41,15 @@ public class StarRocksJsonSerializer extends StarRocksBaseSerializer
 
     @Override
     public String serialize(SeaTunnelRow row) {
+        return JsonUtils.toJsonString(toRowMap(row));
+    }
+
+    @Override
+    public void serialize(SeaTunnelRow row, OutputStream out) throws IOException {
+        JsonUtils.writeValue(out, toRowMap(row));
+    }
+
+    private Map<String, Object> toRowMap(SeaTunnelRow row) {
         Map<String, Object> rowMap = new LinkedHashMap<>(row.getFields().length);
 
         for (int i = 0; i < row.getFields().length; i++) {
@@ -49,8 +60,7 @@ public class StarRocksJsonSerializer extends StarRocksBaseSerializer
                     || sqlType == SqlType.ROW
                     || sqlType == SqlType.MULTIPLE_ROW) {
                 // If the field type is complex type, we should keep the origin value.
-                // It will be transformed to json string in the next step
-                // JsonUtils.toJsonString(rowMap).
+                // It will be transformed to json when the row map is written out.
                 value = row.getField(i);
             } else {
                 value = convert(seaTunnelRowType.getFieldType(i), row.getField(i));
@@ -61,6 +71,6 @@ public class StarRocksJsonSerializer extends StarRocksBaseSerializer
             rowMap.put(
                     StarRocksSinkOP.COLUMN_KEY, StarRocksSinkOP.parse(row.getRowKind()).ordinal());
         }
-        return JsonUtils.toJsonString(rowMap);
+        return rowMap;
     }
 }
@@ -66,7 +66,9 @@ public class StarRocksSinkFactory implements TableSinkFactory {
                         DATA_SAVE_MODE,
                         MULTI_TABLE_SINK_REPLICA,
                         StarRocksSinkOptions.SAVE_MODE_CREATE_TEMPLATE,
-                        StarRocksSinkOptions.HTTP_SOCKET_TIMEOUT_MS)
+                        StarRocksSinkOptions.HTTP_SOCKET_TIMEOUT_MS,
+                        StarRocksSinkOptions.MAX_CONCURRENT_LOADS,
+                        StarRocksSinkOptions.LOAD_IDLE_TIMEOUT_MS)
                 .conditional(
                         DATA_SAVE_MODE,
                         DataSaveMode.CUSTOM_PROCESSING,
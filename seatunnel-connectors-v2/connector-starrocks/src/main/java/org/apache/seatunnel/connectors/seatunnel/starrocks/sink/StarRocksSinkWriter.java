@@ -61,31 +61,24 @@ public class StarRocksSinkWriter extends AbstractSinkWriter<SeaTunnelRow, Void>
         this.tableSchema = tableSchema;
         SeaTunnelRowType seaTunnelRowType = tableSchema.toPhysicalRowDataType();
         this.serializer = createSerializer(sinkConfig, seaTunnelRowType);
-        this.manager = new StarRocksSinkManager(sinkConfig, tableSchema);
+        this.manager = new StarRocksSinkManager(sinkConfig, tableSchema, serializer);
         this.sinkConfig = sinkConfig;
         this.sinkTablePath = tablePath;
     }
 
     @Override
     public void write(SeaTunnelRow element) throws IOException {
-        String record;
-        try {
-            record = serializer.serialize(element);
-        } catch (Exception e) {
-            throw new StarRocksConnectorException(
-                    CommonErrorCodeDeprecated.WRITER_OPERATION_FAILED,
-                    "serialize failed. Row={" + element + "}",
-                    e);
-        }
-        manager.write(record);
+        manager.write(element);
     }
 
     @Override
-    public void applySchemaChange(SchemaChangeEvent event) {
+    public void applySchemaChange(SchemaChangeEvent event) throws IOException {
+        // the rows buffered so far are loaded with the old schema, it also stops the load threads
+        manager.close();
         this.tableSchema = tableSchemaChangeEventDispatcher.reset(tableSchema).apply(event);
         SeaTunnelRowType seaTunnelRowType = tableSchema.toPhysicalRowDataType();
         this.serializer = createSerializer(sinkConfig, seaTunnelRowType);
-        this.manager = new StarRocksSinkManager(sinkConfig, tableSchema);
+        this.manager = new StarRocksSinkManager(sinkConfig, tableSchema, serializer);
 
         try {
             Class.forName("com.mysql.cj.jdbc.Driver");
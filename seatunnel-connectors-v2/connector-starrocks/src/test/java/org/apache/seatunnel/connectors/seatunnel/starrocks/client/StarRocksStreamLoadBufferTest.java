@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.starrocks.client;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.common.utils.JsonUtils;
+import org.apache.seatunnel.connectors.seatunnel.starrocks.config.SinkConfig;
+import org.apache.seatunnel.connectors.seatunnel.starrocks.serialize.StarRocksCsvSerializer;
+import org.apache.seatunnel.connectors.seatunnel.starrocks.serialize.StarRocksISerializer;
+import org.apache.seatunnel.connectors.seatunnel.starrocks.serialize.StarRocksJsonSerializer;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.zip.GZIPInputStream;
+
+public class StarRocksStreamLoadBufferTest {
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"id", "name"},
+                    new SeaTunnelDataType<?>[] {BasicType.LONG_TYPE, BasicType.STRING_TYPE});
+
+    private static final byte[] LINE_DELIMITER = "\n".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    public void testJsonRowsAreStreamedWhileWriting() throws Exception {
+        StarRocksStreamLoadBuffer buffer =
+                new StarRocksStreamLoadBuffer(SinkConfig.StreamLoadFormat.JSON, LINE_DELIMITER);
+        StarRocksStreamLoadEntity entity =
+                new StarRocksStreamLoadEntity(buffer, SinkConfig.StreamLoadCompression.NONE);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CompletableFuture<Void> load =
+                CompletableFuture.runAsync(
+                        () -> {
+                            try {
+                                entity.writeTo(out);
+                            } catch (IOException e) {
+                                throw new RuntimeException(e);
+                            }
+                        });
+
+        int rowCount = 10_000;
+        writeRows(buffer, new StarRocksJsonSerializer(ROW_TYPE, false), rowCount);
+        Assertions.assertTrue(buffer.hasPublishedChunks());
+        Assertions.assertFalse(load.isDone());
+        buffer.seal();
+        load.get();
+
+        Assertions.assertEquals(buffer.getBytes(), out.size());
+        Assertions.assertEquals(rowCount, JsonUtils.parseArray(out.toString("UTF-8")).size());
+        Assertions.assertEquals(
+                "name9999",
+                JsonUtils.parseArray(out.toString("UTF-8")).get(rowCount - 1).get("name").asText());
+
+        // a retry or a redirect sends the same body again
+        ByteArrayOutputStream replay = new ByteArrayOutputStream();
+        entity.writeTo(replay);
+        Assertions.assertArrayEquals(out.toByteArray(), replay.toByteArray());
+    }
+
+    @Test
+    public void testFailedRowIsRolledBack() throws Exception {
+        StarRocksStreamLoadBuffer buffer =
+                new StarRocksStreamLoadBuffer(SinkConfig.StreamLoadFormat.CSV, LINE_DELIMITER);
+        StarRocksCsvSerializer serializer = new StarRocksCsvSerializer(",", ROW_TYPE, false);
+        writeRows(buffer, serializer, 2);
+
+        buffer.beginRow();
+        // a row failing half way, after it overflowed the current chunk
+        buffer.write(new byte[StarRocksStreamLoadBuffer.CHUNK_SIZE + 10]);
+        buffer.rollbackRow();
+        Assertions.assertFalse(buffer.hasPublishedChunks());
+
+        buffer.beginRow();
+        serializer.serialize(new SeaTunnelRow(new Object[] {2L, null}), buffer);
+        buffer.endRow();
+        buffer.seal();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new StarRocksStreamLoadEntity(buffer, SinkConfig.StreamLoadCompression.NONE).writeTo(out);
+        Assertions.assertEquals("0,name0\n1,name1\n2,\\N\n", out.toString("UTF-8"));
+        Assertions.assertEquals(out.size(), buffer.getBytes());
+    }
+
+    @Test
+    public void testCompressedBody() throws Exception {
+        StarRocksStreamLoadBuffer buffer =
+                new StarRocksStreamLoadBuffer(SinkConfig.StreamLoadFormat.CSV, LINE_DELIMITER);
+        StarRocksISerializer serializer = new StarRocksCsvSerializer("\t", ROW_TYPE, false);
+        writeRows(buffer, serializer, 1000);
+        buffer.seal();
+
+        ByteArrayOutputStream plain = new ByteArrayOutputStream();
+        new StarRocksStreamLoadEntity(buffer, SinkConfig.StreamLoadCompression.NONE).writeTo(plain);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        new StarRocksStreamLoadEntity(buffer, SinkConfig.StreamLoadCompression.GZIP)
+                .writeTo(compressed);
+        Assertions.assertTrue(compressed.size() < plain.size());
+        try (InputStream in =
+                new GZIPInputStream(new ByteArrayInputStream(compressed.toByteArray()))) {
+            Assertions.assertArrayEquals(plain.toByteArray(), readAll(in));
+        }
+    }
+
+    @Test
+    public void testAbortedBufferFailsTheLoad() {
+        StarRocksStreamLoadBuffer buffer =
+                new StarRocksStreamLoadBuffer(SinkConfig.StreamLoadFormat.JSON, LINE_DELIMITER);
+        buffer.abort();
+        Assertions.assertThrows(
+                IOException.class,
+                () ->
+                        new StarRocksStreamLoadEntity(buffer, SinkConfig.StreamLoadCompression.NONE)
+                                .writeTo(new ByteArrayOutputStream()));
+    }
+
+    private static void writeRows(
+            StarRocksStreamLoadBuffer buffer, StarRocksISerializer serializer, int rowCount)
+            throws IOException {
+        for (long i = 0; i < rowCount; i++) {
+            buffer.beginRow();
+            serializer.serialize(new SeaTunnelRow(new Object[] {i, "name" + i}), buffer);
+            buffer.endRow();
+        }
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] bytes = new byte[4096];
+        int read;
+        while ((read = in.read(bytes)) != -1) {
+            out.write(bytes, 0, read);
+        }
+        return out.toByteArray();
+    }
+}
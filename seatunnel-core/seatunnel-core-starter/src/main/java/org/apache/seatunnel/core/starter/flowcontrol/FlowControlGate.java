@@ -48,6 +48,14 @@ public class FlowControlGate {
         countRateLimiter.ifPresent(RateLimiter::acquire);
     }
 
+    /** Same as {@link #audit(SeaTunnelRow)} for a row whose byte size is already known. */
+    public void audit(SeaTunnelRow row, int bytesSize) {
+        if (bytesSize > 0) {
+            bytesRateLimiter.ifPresent(rateLimiter -> rateLimiter.acquire(bytesSize));
+        }
+        countRateLimiter.ifPresent(RateLimiter::acquire);
+    }
+
     public static FlowControlGate create(FlowControlStrategy flowControlStrategy) {
         return new FlowControlGate(flowControlStrategy);
     }
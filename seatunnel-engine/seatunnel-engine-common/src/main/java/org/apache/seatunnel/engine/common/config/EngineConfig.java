@@ -27,6 +27,7 @@ import org.apache.seatunnel.engine.common.config.server.ServerConfigOptions;
 import org.apache.seatunnel.engine.common.config.server.SlotServiceConfig;
 import org.apache.seatunnel.engine.common.config.server.TelemetryConfig;
 import org.apache.seatunnel.engine.common.config.server.ThreadShareMode;
+import org.apache.seatunnel.engine.common.config.server.ThreadShareScheduler;
 import org.apache.seatunnel.engine.common.runtime.ExecutionMode;
 
 import lombok.Data;
@@ -54,6 +55,23 @@ public class EngineConfig {
     private ThreadShareMode taskExecutionThreadShareMode =
             ServerConfigOptions.TASK_EXECUTION_THREAD_SHARE_MODE.defaultValue();
 
+    private ThreadShareScheduler taskExecutionThreadShareScheduler =
+            ServerConfigOptions.TASK_EXECUTION_THREAD_SHARE_SCHEDULER.defaultValue();
+
+    private int taskExecutionWorkStealingBlockingThresholdMillis =
+            ServerConfigOptions.TASK_EXECUTION_WORK_STEALING_BLOCKING_THRESHOLD_MILLIS
+                    .defaultValue();
+
+    private int taskExecutionWorkStealingDemoteAfterBlockingCalls =
+            ServerConfigOptions.TASK_EXECUTION_WORK_STEALING_DEMOTE_AFTER_BLOCKING_CALLS
+                    .defaultValue();
+
+    private boolean taskExecutionVirtualThread =
+            ServerConfigOptions.TASK_EXECUTION_VIRTUAL_THREAD.defaultValue();
+
+    private int taskMetricsBytesSampleInterval =
+            ServerConfigOptions.TASK_METRICS_BYTES_SAMPLE_INTERVAL.defaultValue();
+
     private SlotServiceConfig slotServiceConfig = ServerConfigOptions.SLOT_SERVICE.defaultValue();
 
     private CheckpointConfig checkpointConfig = ServerConfigOptions.CHECKPOINT.defaultValue();
@@ -120,6 +138,39 @@ public class EngineConfig {
         this.taskExecutionThreadShareMode = taskExecutionThreadShareMode;
     }
 
+    public void setTaskExecutionThreadShareScheduler(
+            ThreadShareScheduler taskExecutionThreadShareScheduler) {
+        checkNotNull(taskExecutionThreadShareScheduler);
+        this.taskExecutionThreadShareScheduler = taskExecutionThreadShareScheduler;
+    }
+
+    public void setTaskExecutionWorkStealingBlockingThresholdMillis(
+            int taskExecutionWorkStealingBlockingThresholdMillis) {
+        checkPositive(
+                taskExecutionWorkStealingBlockingThresholdMillis,
+                ServerConfigOptions.TASK_EXECUTION_WORK_STEALING_BLOCKING_THRESHOLD_MILLIS
+                        + " must be > 0");
+        this.taskExecutionWorkStealingBlockingThresholdMillis =
+                taskExecutionWorkStealingBlockingThresholdMillis;
+    }
+
+    public void setTaskExecutionWorkStealingDemoteAfterBlockingCalls(
+            int taskExecutionWorkStealingDemoteAfterBlockingCalls) {
+        checkPositive(
+                taskExecutionWorkStealingDemoteAfterBlockingCalls,
+                ServerConfigOptions.TASK_EXECUTION_WORK_STEALING_DEMOTE_AFTER_BLOCKING_CALLS
+                        + " must be > 0");
+        this.taskExecutionWorkStealingDemoteAfterBlockingCalls =
+                taskExecutionWorkStealingDemoteAfterBlockingCalls;
+    }
+
+    public void setTaskMetricsBytesSampleInterval(int taskMetricsBytesSampleInterval) {
+        checkPositive(
+                taskMetricsBytesSampleInterval,
+                ServerConfigOptions.TASK_METRICS_BYTES_SAMPLE_INTERVAL + " must be > 0");
+        this.taskMetricsBytesSampleInterval = taskMetricsBytesSampleInterval;
+    }
+
     public void setHistoryJobExpireMinutes(int historyJobExpireMinutes) {
         checkPositive(
                 historyJobExpireMinutes,
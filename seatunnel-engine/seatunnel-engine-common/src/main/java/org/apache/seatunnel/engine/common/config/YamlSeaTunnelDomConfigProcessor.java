@@ -33,6 +33,7 @@ import org.apache.seatunnel.engine.common.config.server.TelemetryConfig;
 import org.apache.seatunnel.engine.common.config.server.TelemetryLogsConfig;
 import org.apache.seatunnel.engine.common.config.server.TelemetryMetricConfig;
 import org.apache.seatunnel.engine.common.config.server.ThreadShareMode;
+import org.apache.seatunnel.engine.common.config.server.ThreadShareScheduler;
 
 import org.apache.commons.lang3.StringUtils;
 
@@ -164,6 +165,37 @@ public class YamlSeaTunnelDomConfigProcessor extends AbstractDomConfigProcessor
                                     + " must in [ALL, OFF, PART]");
                 }
                 engineConfig.setTaskExecutionThreadShareMode(ThreadShareMode.valueOf(mode));
+            } else if (ServerConfigOptions.TASK_EXECUTION_THREAD_SHARE_SCHEDULER
+                    .key()
+                    .equals(name)) {
+                engineConfig.setTaskExecutionThreadShareScheduler(
+                        ThreadShareScheduler.valueOf(
+                                getTextContent(node).toUpperCase(Locale.ROOT)));
+            } else if (ServerConfigOptions.TASK_EXECUTION_WORK_STEALING_BLOCKING_THRESHOLD_MILLIS
+                    .key()
+                    .equals(name)) {
+                engineConfig.setTaskExecutionWorkStealingBlockingThresholdMillis(
+                        getIntegerValue(
+                                ServerConfigOptions
+                                        .TASK_EXECUTION_WORK_STEALING_BLOCKING_THRESHOLD_MILLIS
+                                        .key(),
+                                getTextContent(node)));
+            } else if (ServerConfigOptions.TASK_EXECUTION_WORK_STEALING_DEMOTE_AFTER_BLOCKING_CALLS
+                    .key()
+                    .equals(name)) {
+                engineConfig.setTaskExecutionWorkStealingDemoteAfterBlockingCalls(
+                        getIntegerValue(
+                                ServerConfigOptions
+                                        .TASK_EXECUTION_WORK_STEALING_DEMOTE_AFTER_BLOCKING_CALLS
+                                        .key(),
+                                getTextContent(node)));
+            } else if (ServerConfigOptions.TASK_EXECUTION_VIRTUAL_THREAD.key().equals(name)) {
+                engineConfig.setTaskExecutionVirtualThread(getBooleanValue(getTextContent(node)));
+            } else if (ServerConfigOptions.TASK_METRICS_BYTES_SAMPLE_INTERVAL.key().equals(name)) {
+                engineConfig.setTaskMetricsBytesSampleInterval(
+                        getIntegerValue(
+                                ServerConfigOptions.TASK_METRICS_BYTES_SAMPLE_INTERVAL.key(),
+                                getTextContent(node)));
             } else if (ServerConfigOptions.SLOT_SERVICE.key().equals(name)) {
                 engineConfig.setSlotServiceConfig(parseSlotServiceConfig(node));
             } else if (ServerConfigOptions.CHECKPOINT.key().equals(name)) {
@@ -255,6 +287,8 @@ public class YamlSeaTunnelDomConfigProcessor extends AbstractDomConfigProcessor
                         getIntegerValue(
                                 ServerConfigOptions.CHECKPOINT_STORAGE_MAX_RETAINED.key(),
                                 getTextContent(node)));
+            } else if (ServerConfigOptions.CHECKPOINT_STORAGE_INCREMENTAL.key().equals(name)) {
+                checkpointStorageConfig.setIncremental(getBooleanValue(getTextContent(node)));
             } else if (ServerConfigOptions.CHECKPOINT_STORAGE_PLUGIN_CONFIG.key().equals(name)) {
                 Map<String, String> pluginConfig = parseCheckpointPluginConfig(node);
                 checkpointStorageConfig.setStoragePluginConfig(pluginConfig);
@@ -19,5 +19,7 @@ package org.apache.seatunnel.engine.common.config.server;
 
 public enum QueueType {
     DISRUPTOR,
-    BLOCKINGQUEUE
+    BLOCKINGQUEUE,
+    /** Lock-free single producer single consumer ring buffer that moves row batches. */
+    RINGBUFFER
 }
@@ -58,6 +58,41 @@ public class ServerConfigOptions {
                     .withDescription(
                             "The thread sharing mode of TaskExecutionServer, including ALL, OFF, PART. Default is OFF");
 
+    public static final Option<ThreadShareScheduler> TASK_EXECUTION_THREAD_SHARE_SCHEDULER =
+            Options.key("task_execution_thread_share_scheduler")
+                    .type(new TypeReference<ThreadShareScheduler>() {})
+                    .defaultValue(ThreadShareScheduler.BUS_WORKER)
+                    .withDescription(
+                            "The scheduler of the thread shared tasks, including BUS_WORKER, WORK_STEALING. Default is BUS_WORKER");
+
+    public static final Option<Integer> TASK_EXECUTION_WORK_STEALING_BLOCKING_THRESHOLD_MILLIS =
+            Options.key("task_execution_work_stealing_blocking_threshold_millis")
+                    .intType()
+                    .defaultValue(50)
+                    .withDescription(
+                            "The duration in milliseconds after which a call of a thread shared task counts as blocking under the WORK_STEALING scheduler. Default is 50");
+
+    public static final Option<Integer> TASK_EXECUTION_WORK_STEALING_DEMOTE_AFTER_BLOCKING_CALLS =
+            Options.key("task_execution_work_stealing_demote_after_blocking_calls")
+                    .intType()
+                    .defaultValue(20)
+                    .withDescription(
+                            "The number of consecutive blocking calls after which the WORK_STEALING scheduler moves a task to a dedicated thread. Default is 20");
+
+    public static final Option<Boolean> TASK_EXECUTION_VIRTUAL_THREAD =
+            Options.key("task_execution_virtual_thread")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to run the tasks that are not thread shared on virtual threads. Only takes effect on Java 24 or later, where a virtual thread blocking inside a synchronized block no longer pins its carrier thread, otherwise platform threads are used. Default is false");
+
+    public static final Option<Integer> TASK_METRICS_BYTES_SAMPLE_INTERVAL =
+            Options.key("task_metrics_bytes_sample_interval")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "Measure the byte size of one out of every N rows for the source and sink bytes metrics, the rows in between reuse the last measured size. Default is 1, every row is measured");
+
     public static final Option<Boolean> DYNAMIC_SLOT =
             Options.key("dynamic-slot")
                     .booleanType()
@@ -103,6 +138,13 @@ public class ServerConfigOptions {
                     .defaultValue(20)
                     .withDescription("The maximum number of retained checkpoints.");
 
+    public static final Option<Boolean> CHECKPOINT_STORAGE_INCREMENTAL =
+            Options.key("incremental")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether large subtask states are stored as shared state files, which are written once and referenced by every retained checkpoint containing the same state.");
+
     public static final Option<QueueType> QUEUE_TYPE =
             Options.key("queue-type")
                     .type(new TypeReference<QueueType>() {})
@@ -17,6 +17,8 @@
 
 package org.apache.seatunnel.engine.common.config;
 
+import org.apache.seatunnel.engine.common.config.server.ThreadShareScheduler;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -43,6 +45,18 @@ public class YamlSeaTunnelConfigParserTest {
 
         Assertions.assertEquals(2, config.getEngineConfig().getPrintExecutionInfoInterval());
 
+        Assertions.assertEquals(
+                ThreadShareScheduler.WORK_STEALING,
+                config.getEngineConfig().getTaskExecutionThreadShareScheduler());
+
+        Assertions.assertEquals(
+                100,
+                config.getEngineConfig().getTaskExecutionWorkStealingBlockingThresholdMillis());
+
+        Assertions.assertEquals(
+                10,
+                config.getEngineConfig().getTaskExecutionWorkStealingDemoteAfterBlockingCalls());
+
         Assertions.assertFalse(config.getEngineConfig().getSlotServiceConfig().isDynamicSlot());
 
         Assertions.assertEquals(5, config.getEngineConfig().getSlotServiceConfig().getSlotNum());
@@ -20,6 +20,7 @@ package org.apache.seatunnel.engine.server;
 import org.apache.seatunnel.engine.checkpoint.storage.PipelineState;
 import org.apache.seatunnel.engine.checkpoint.storage.api.CheckpointStorage;
 import org.apache.seatunnel.engine.checkpoint.storage.api.CheckpointStorageFactory;
+import org.apache.seatunnel.engine.checkpoint.storage.exception.CheckpointStorageException;
 import org.apache.seatunnel.engine.common.config.server.CheckpointConfig;
 import org.apache.seatunnel.engine.common.utils.FactoryUtil;
 import org.apache.seatunnel.engine.core.job.JobPipelineCheckpointData;
@@ -29,6 +30,7 @@ import org.apache.seatunnel.engine.server.checkpoint.ActionState;
 import org.apache.seatunnel.engine.server.checkpoint.ActionStateKey;
 import org.apache.seatunnel.engine.server.checkpoint.ActionSubtaskState;
 import org.apache.seatunnel.engine.server.checkpoint.CompletedCheckpoint;
+import org.apache.seatunnel.engine.server.checkpoint.SharedStateRegistry;
 
 import lombok.SneakyThrows;
 
@@ -65,9 +67,14 @@ public class CheckpointService {
                 .map(
                         pipelineState -> {
                             try {
-                                return serializer.deserialize(
-                                        pipelineState.getStates(), CompletedCheckpoint.class);
-                            } catch (IOException e) {
+                                CompletedCheckpoint checkpoint =
+                                        serializer.deserialize(
+                                                pipelineState.getStates(),
+                                                CompletedCheckpoint.class);
+                                SharedStateRegistry.resolve(
+                                        checkpointStorage, serializer, checkpoint);
+                                return checkpoint;
+                            } catch (IOException | CheckpointStorageException e) {
                                 throw new RuntimeException(e);
                             }
                         })
@@ -27,8 +27,10 @@ import org.apache.seatunnel.common.utils.ExceptionUtils;
 import org.apache.seatunnel.common.utils.StringFormatUtils;
 import org.apache.seatunnel.engine.common.Constant;
 import org.apache.seatunnel.engine.common.config.ConfigProvider;
+import org.apache.seatunnel.engine.common.config.EngineConfig;
 import org.apache.seatunnel.engine.common.config.SeaTunnelConfig;
 import org.apache.seatunnel.engine.common.config.server.ThreadShareMode;
+import org.apache.seatunnel.engine.common.config.server.ThreadShareScheduler;
 import org.apache.seatunnel.engine.common.exception.JobNotFoundException;
 import org.apache.seatunnel.engine.common.utils.PassiveCompletableFuture;
 import org.apache.seatunnel.engine.common.utils.concurrent.CompletableFuture;
@@ -48,11 +50,14 @@ import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
 import org.apache.seatunnel.engine.server.execution.TaskGroupUtils;
 import org.apache.seatunnel.engine.server.execution.TaskLocation;
 import org.apache.seatunnel.engine.server.execution.TaskTracker;
+import org.apache.seatunnel.engine.server.execution.VirtualTaskThreadFactory;
+import org.apache.seatunnel.engine.server.execution.WorkStealingTaskScheduler;
 import org.apache.seatunnel.engine.server.metrics.SeaTunnelMetricsContext;
 import org.apache.seatunnel.engine.server.service.jar.ServerConnectorPackageClient;
 import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
 import org.apache.seatunnel.engine.server.task.TaskGroupImmutableInformation;
 import org.apache.seatunnel.engine.server.task.operation.NotifyTaskStatusOperation;
+import org.apache.seatunnel.engine.server.task.shuffle.ShuffleService;
 
 import org.apache.commons.collections4.CollectionUtils;
 
@@ -62,6 +67,7 @@ import com.hazelcast.internal.metrics.DynamicMetricsProvider;
 import com.hazelcast.internal.metrics.MetricDescriptor;
 import com.hazelcast.internal.metrics.MetricsCollectionContext;
 import com.hazelcast.internal.metrics.MetricsRegistry;
+import com.hazelcast.internal.metrics.Probe;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.jet.impl.execution.init.CustomClassLoadedObject;
 import com.hazelcast.logging.ILogger;
@@ -75,10 +81,12 @@ import java.io.IOException;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.BlockingQueue;
@@ -126,6 +134,11 @@ public class TaskExecutionService implements DynamicMetricsProvider {
             new LinkedBlockingDeque<>();
     private final ExecutorService executorService =
             newCachedThreadPool(new BlockingTaskThreadFactory());
+    /** Null unless {@code task_execution_virtual_thread} is enabled and supported by the JVM. */
+    private final VirtualTaskThreadFactory virtualTaskThreadFactory;
+    /** Runs the {@link BlockingWorker}s, it is {@link #executorService} without virtual threads. */
+    private final ExecutorService blockingTaskExecutorService;
+
     private final RunBusWorkSupplier runBusWorkSupplier =
             new RunBusWorkSupplier(executorService, threadShareTaskQueue);
     // key: TaskID
@@ -147,6 +160,11 @@ public class TaskExecutionService implements DynamicMetricsProvider {
 
     private final EventService eventService;
 
+    private final ShuffleService shuffleService;
+
+    /** Only set when the thread share scheduler is {@link ThreadShareScheduler#WORK_STEALING}. */
+    private final WorkStealingTaskScheduler workStealingTaskScheduler;
+
     public TaskExecutionService(
             ClassLoaderService classLoaderService,
             NodeEngineImpl nodeEngine,
@@ -174,16 +192,84 @@ public class TaskExecutionService implements DynamicMetricsProvider {
                 new ServerConnectorPackageClient(nodeEngine, seaTunnelConfig);
 
         this.eventService = eventService;
+
+        shuffleService =
+                new ShuffleService(
+                        nodeEngine.getThisAddress().getHost(),
+                        nodeEngine.getHazelcastInstance().getMap(Constant.IMAP_SHUFFLE_ENDPOINTS));
+
+        if (seaTunnelConfig.getEngineConfig().isTaskExecutionVirtualThread()
+                && VirtualTaskThreadFactory.isSupported()
+                && VirtualTaskThreadFactory.isPinningFree()) {
+            virtualTaskThreadFactory =
+                    new VirtualTaskThreadFactory(
+                            "hz." + hzInstanceName + ".seaTunnel.task.virtual-thread-%d");
+            blockingTaskExecutorService = virtualTaskThreadFactory.newThreadPerTaskExecutor();
+            logger.info("Blocking tasks will run on virtual threads");
+        } else {
+            if (seaTunnelConfig.getEngineConfig().isTaskExecutionVirtualThread()) {
+                if (!VirtualTaskThreadFactory.isSupported()) {
+                    logger.warning(
+                            "Virtual threads are not supported by the current JVM, blocking tasks will run on platform threads");
+                } else {
+                    // readers block inside synchronized (checkpointLock), which pins the carrier
+                    logger.warning(
+                            String.format(
+                                    "Virtual threads pin their carrier thread inside synchronized blocks before Java %s, blocking tasks will run on platform threads",
+                                    VirtualTaskThreadFactory.MIN_PINNING_FREE_JAVA_VERSION));
+                }
+            }
+            virtualTaskThreadFactory = null;
+            blockingTaskExecutorService = executorService;
+        }
+
+        if (seaTunnelConfig.getEngineConfig().getTaskExecutionThreadShareScheduler()
+                == ThreadShareScheduler.WORK_STEALING) {
+            workStealingTaskScheduler =
+                    new WorkStealingTaskScheduler(
+                            Runtime.getRuntime().availableProcessors(),
+                            seaTunnelConfig
+                                    .getEngineConfig()
+                                    .getTaskExecutionWorkStealingBlockingThresholdMillis(),
+                            seaTunnelConfig
+                                    .getEngineConfig()
+                                    .getTaskExecutionWorkStealingDemoteAfterBlockingCalls(),
+                            new WorkStealingTaskScheduler.TaskCallHandler() {
+                                @Override
+                                public boolean call(TaskTracker taskTracker, Thread worker) {
+                                    return callThreadShareTask(taskTracker, worker);
+                                }
+
+                                @Override
+                                public void demote(TaskTracker taskTracker) {
+                                    demoteThreadShareTask(taskTracker);
+                                }
+                            },
+                            new ThreadShareTaskThreadFactory());
+        } else {
+            workStealingTaskScheduler = null;
+        }
     }
 
     public void start() {
-        runBusWorkSupplier.runNewBusWork(false);
+        if (workStealingTaskScheduler != null) {
+            workStealingTaskScheduler.start();
+        } else {
+            runBusWorkSupplier.runNewBusWork(false);
+        }
     }
 
     public void shutdown() {
         isRunning = false;
+        if (workStealingTaskScheduler != null) {
+            workStealingTaskScheduler.shutdown();
+        }
         executorService.shutdownNow();
+        if (blockingTaskExecutorService != executorService) {
+            blockingTaskExecutorService.shutdownNow();
+        }
         scheduledExecutorService.shutdown();
+        shuffleService.shutdown();
     }
 
     public TaskGroupContext getExecutionContext(TaskGroupLocation taskGroupLocation) {
@@ -230,13 +316,75 @@ public class TaskExecutionService implements DynamicMetricsProvider {
                                     return null;
                                 });
         if (!taskGroupExecutionTracker.executionCompletedExceptionally()) {
-            taskTrackerStream.forEach(threadShareTaskQueue::add);
+            if (workStealingTaskScheduler != null) {
+                taskTrackerStream
+                        .filter(Objects::nonNull)
+                        .forEach(workStealingTaskScheduler::submit);
+            } else {
+                taskTrackerStream.forEach(threadShareTaskQueue::add);
+            }
         }
     }
 
+    /** Run one call of a thread shared task on a {@link WorkStealingTaskScheduler} worker. */
+    private boolean callThreadShareTask(TaskTracker taskTracker, Thread worker) {
+        TaskGroupExecutionTracker taskGroupExecutionTracker = taskTracker.taskGroupExecutionTracker;
+        Task task = taskTracker.task;
+        if (taskGroupExecutionTracker.executionCompletedExceptionally()) {
+            taskGroupExecutionTracker.taskDone(task);
+            return false;
+        }
+        WorkerCallFuture callFuture = new WorkerCallFuture(worker);
+        taskGroupExecutionTracker.currRunningTaskFuture.put(task.getTaskID(), callFuture);
+        ProgressState call;
+        try {
+            worker.setContextClassLoader(
+                    executionContexts
+                            .get(taskGroupExecutionTracker.taskGroup.getTaskGroupLocation())
+                            .getClassLoaders()
+                            .get(task.getTaskID()));
+            call = task.call();
+        } catch (InterruptedException e) {
+            if (taskGroupExecutionTracker.executionException.get() == null
+                    && !taskGroupExecutionTracker.isCancel.get()) {
+                taskGroupExecutionTracker.exception(e);
+            }
+            taskGroupExecutionTracker.taskDone(task);
+            logger.warning("Exception in " + task, e);
+            return false;
+        } catch (Throwable e) {
+            taskGroupExecutionTracker.exception(e);
+            taskGroupExecutionTracker.taskDone(task);
+            logger.warning("Exception in " + task, e);
+            return false;
+        } finally {
+            callFuture.finish();
+            taskGroupExecutionTracker.currRunningTaskFuture.remove(task.getTaskID());
+        }
+        if (call.isDone()) {
+            taskGroupExecutionTracker.taskDone(task);
+            return false;
+        }
+        return true;
+    }
+
+    /** Move a thread shared task that keeps blocking its worker to a dedicated thread. */
+    private void demoteThreadShareTask(TaskTracker taskTracker) {
+        TaskGroupExecutionTracker taskGroupExecutionTracker = taskTracker.taskGroupExecutionTracker;
+        Future<?> future =
+                MDCTracer.tracing(blockingTaskExecutorService)
+                        .submit(
+                                new NamedTaskWrapper(
+                                        new BlockingWorker(taskTracker),
+                                        "BlockingWorker-"
+                                                + taskGroupExecutionTracker.taskGroup
+                                                        .getTaskGroupLocation()));
+        taskGroupExecutionTracker.currRunningTaskFuture.put(taskTracker.task.getTaskID(), future);
+    }
+
     private void submitBlockingTask(
             TaskGroupExecutionTracker taskGroupExecutionTracker, List<Task> tasks) {
-        MDCExecutorService mdcExecutorService = MDCTracer.tracing(executorService);
+        MDCExecutorService mdcExecutorService = MDCTracer.tracing(blockingTaskExecutorService);
 
         CountDownLatch startedLatch = new CountDownLatch(tasks.size());
         taskGroupExecutionTracker.blockingFutures =
@@ -656,7 +804,9 @@ public class TaskExecutionService implements DynamicMetricsProvider {
                             "completedTaskCount",
                             completedTaskCount,
                             "taskCount",
-                            taskCount));
+                            taskCount,
+                            "virtualThreadCount",
+                            getVirtualTaskThreads().size()));
         }
     }
 
@@ -668,10 +818,19 @@ public class TaskExecutionService implements DynamicMetricsProvider {
 
         private final TaskTracker tracker;
         private final CountDownLatch startedLatch;
+        private final boolean taskInitialized;
 
         private BlockingWorker(TaskTracker tracker, CountDownLatch startedLatch) {
             this.tracker = tracker;
             this.startedLatch = startedLatch;
+            this.taskInitialized = false;
+        }
+
+        /** Continue running a task that was already initialized by the thread share scheduler. */
+        private BlockingWorker(TaskTracker tracker) {
+            this.tracker = tracker;
+            this.startedLatch = null;
+            this.taskInitialized = true;
         }
 
         @Override
@@ -688,8 +847,10 @@ public class TaskExecutionService implements DynamicMetricsProvider {
             final Task t = tracker.task;
             ProgressState result = null;
             try {
-                startedLatch.countDown();
-                t.init();
+                if (!taskInitialized) {
+                    startedLatch.countDown();
+                    t.init();
+                }
                 do {
                     result = t.call();
                 } while (!result.isDone()
@@ -731,6 +892,64 @@ public class TaskExecutionService implements DynamicMetricsProvider {
         }
     }
 
+    private final class ThreadShareTaskThreadFactory implements ThreadFactory {
+        private final AtomicInteger seq = new AtomicInteger();
+
+        @Override
+        public Thread newThread(@NonNull Runnable r) {
+            return new Thread(
+                    r,
+                    String.format(
+                            "hz.%s.seaTunnel.task.share-thread-%d",
+                            hzInstanceName, seq.getAndIncrement()));
+        }
+    }
+
+    /**
+     * Handle of one task call on a shared worker thread. Cancelling it interrupts the worker only
+     * while that call is still running, so that a late cancellation can't hit the next task.
+     */
+    private static final class WorkerCallFuture implements Future<Void> {
+        private final Thread worker;
+        private boolean running = true;
+
+        private WorkerCallFuture(Thread worker) {
+            this.worker = worker;
+        }
+
+        private synchronized void finish() {
+            running = false;
+        }
+
+        @Override
+        public synchronized boolean cancel(boolean mayInterruptIfRunning) {
+            if (running && mayInterruptIfRunning) {
+                worker.interrupt();
+            }
+            return running;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return false;
+        }
+
+        @Override
+        public synchronized boolean isDone() {
+            return !running;
+        }
+
+        @Override
+        public Void get() {
+            return null;
+        }
+
+        @Override
+        public Void get(long timeout, @NonNull TimeUnit unit) {
+            return null;
+        }
+    }
+
     /**
      * CooperativeTaskWorker is used to poll the task call method, When a task times out, a new
      * BusWork will be created to take over the execution of the task
@@ -1001,6 +1220,65 @@ public class TaskExecutionService implements DynamicMetricsProvider {
         return serverConnectorPackageClient;
     }
 
+    public ShuffleService getShuffleService() {
+        return shuffleService;
+    }
+
+    public EngineConfig getEngineConfig() {
+        return seaTunnelConfig.getEngineConfig();
+    }
+
+    @Probe(name = "threadShareWorkerCount")
+    public int getThreadShareWorkerCount() {
+        return workStealingTaskScheduler == null ? 0 : workStealingTaskScheduler.getWorkerCount();
+    }
+
+    @Probe(name = "threadShareScheduledTaskCount")
+    public int getThreadShareScheduledTaskCount() {
+        return workStealingTaskScheduler == null
+                ? threadShareTaskQueue.size()
+                : workStealingTaskScheduler.getScheduledTaskCount();
+    }
+
+    @Probe(name = "threadShareTaskCallCount")
+    public long getThreadShareTaskCallCount() {
+        return workStealingTaskScheduler == null ? 0 : workStealingTaskScheduler.getTaskCallCount();
+    }
+
+    @Probe(name = "threadShareStealCount")
+    public long getThreadShareStealCount() {
+        return workStealingTaskScheduler == null ? 0 : workStealingTaskScheduler.getStealCount();
+    }
+
+    @Probe(name = "threadShareIdleParkCount")
+    public long getThreadShareIdleParkCount() {
+        return workStealingTaskScheduler == null ? 0 : workStealingTaskScheduler.getIdleParkCount();
+    }
+
+    @Probe(name = "threadShareDemotedTaskCount")
+    public long getThreadShareDemotedTaskCount() {
+        return workStealingTaskScheduler == null
+                ? 0
+                : workStealingTaskScheduler.getDemotedTaskCount();
+    }
+
+    @Probe(name = "taskThreadCount")
+    public int getTaskThreadCount() {
+        return ((ThreadPoolExecutor) executorService).getPoolSize();
+    }
+
+    @Probe(name = "taskVirtualThreadCount")
+    public int getTaskVirtualThreadCount() {
+        return getVirtualTaskThreads().size();
+    }
+
+    /** The live virtual threads running blocking tasks, they are absent from thread dumps. */
+    public Collection<Thread> getVirtualTaskThreads() {
+        return virtualTaskThreadFactory == null
+                ? Collections.emptyList()
+                : virtualTaskThreadFactory.getLiveThreads();
+    }
+
     public static class NamedTaskWrapper implements Runnable {
         private final Runnable task;
         private final String threadName;
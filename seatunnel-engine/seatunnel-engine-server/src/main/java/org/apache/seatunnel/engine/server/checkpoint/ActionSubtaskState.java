@@ -30,4 +30,10 @@ public class ActionSubtaskState implements Serializable {
     private final ActionStateKey stateKey;
     private final int index;
     private final List<byte[]> state;
+
+    /**
+     * Name of the shared state file holding {@link #state} in an incremental checkpoint, the state
+     * itself is not serialized with the checkpoint then. See {@link SharedStateRegistry}.
+     */
+    private String sharedStateHandle;
 }
@@ -25,6 +25,7 @@ import org.apache.seatunnel.common.utils.RetryUtils;
 import org.apache.seatunnel.common.utils.SeaTunnelException;
 import org.apache.seatunnel.engine.checkpoint.storage.PipelineState;
 import org.apache.seatunnel.engine.checkpoint.storage.api.CheckpointStorage;
+import org.apache.seatunnel.engine.checkpoint.storage.exception.CheckpointStorageException;
 import org.apache.seatunnel.engine.common.Constant;
 import org.apache.seatunnel.engine.common.config.server.CheckpointConfig;
 import org.apache.seatunnel.engine.common.utils.ExceptionUtil;
@@ -55,13 +56,16 @@ import lombok.Getter;
 import lombok.NonNull;
 import lombok.SneakyThrows;
 
+import java.io.IOException;
 import java.time.Instant;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
@@ -102,6 +106,8 @@ public class CheckpointCoordinator {
 
     private final transient Serializer serializer;
 
+    private final SharedStateRegistry sharedStateRegistry;
+
     /**
      * All tasks in this pipeline. <br>
      * key: the task id; <br>
@@ -122,6 +128,9 @@ public class CheckpointCoordinator {
 
     private volatile CompletedCheckpoint latestCompletedCheckpoint = null;
 
+    /** Completes the checkpoints one after the other, each once its shared states are stored. */
+    private CompletableFuture<Void> checkpointCompletion = CompletableFuture.completedFuture(null);
+
     private final CheckpointConfig coordinatorConfig;
 
     private transient ScheduledExecutorService scheduler;
@@ -191,6 +200,13 @@ public class CheckpointCoordinator {
         ((ScheduledThreadPoolExecutor) this.scheduler).setRemoveOnCancelPolicy(true);
         this.scheduler = MDCTracer.tracing(scheduler);
         this.serializer = new ProtoStuffSerializer();
+        this.sharedStateRegistry =
+                new SharedStateRegistry(
+                        checkpointStorage,
+                        serializer,
+                        jobId,
+                        pipelineId,
+                        checkpointConfig.getStorage().isIncremental());
         this.pipelineTasks = getPipelineTasks(plan.getPipelineSubtasks());
         this.pipelineTaskStatus = new ConcurrentHashMap<>();
         this.checkpointIdCounter = checkpointIdCounter;
@@ -206,6 +222,10 @@ public class CheckpointCoordinator {
         if (pipelineState != null) {
             this.latestCompletedCheckpoint =
                     serializer.deserialize(pipelineState.getStates(), CompletedCheckpoint.class);
+            sharedStateRegistry.restore(latestCompletedCheckpoint);
+            if (checkpointConfig.getStorage().isIncremental()) {
+                restoreRetainedCheckpoints();
+            }
             this.latestCompletedCheckpoint.setRestored(true);
             LOG.info(
                     "Restore job({}@{}) with checkpoint({}), data: {}",
@@ -242,6 +262,24 @@ public class CheckpointCoordinator {
         return pipelineId;
     }
 
+    /**
+     * Rebuilds the shared state references of all retained checkpoints, they are discarded by the
+     * regular rotation once enough newer checkpoints completed.
+     */
+    private void restoreRetainedCheckpoints() throws IOException, CheckpointStorageException {
+        Set<Long> checkpointIds = new TreeSet<>();
+        checkpointIds.add(latestCompletedCheckpoint.getCheckpointId());
+        for (PipelineState state :
+                checkpointStorage.getCheckpointsByJobIdAndPipelineId(
+                        String.valueOf(jobId), String.valueOf(pipelineId))) {
+            if (checkpointIds.add(state.getCheckpointId())) {
+                sharedStateRegistry.retain(
+                        serializer.deserialize(state.getStates(), CompletedCheckpoint.class));
+            }
+        }
+        checkpointIds.forEach(id -> completedCheckpointIds.addLast(String.valueOf(id)));
+    }
+
     // --------------------------------------------------------------------------------------------
     // The start step of the coordinator
     // --------------------------------------------------------------------------------------------
@@ -838,7 +876,56 @@ public class CheckpointCoordinator {
         }
     }
 
+    /**
+     * Stores the checkpoint and notifies the tasks once its shared states are written, without
+     * blocking the calling thread on them.
+     */
     public synchronized void completePendingCheckpoint(CompletedCheckpoint completedCheckpoint) {
+        checkpointCompletion =
+                new CompletableFuture<>(
+                        checkpointCompletion
+                                .thenCompose(ignored -> registerSharedStates(completedCheckpoint))
+                                .thenAcceptAsync(
+                                        persistedCheckpoint ->
+                                                storeCompletedCheckpoint(
+                                                        completedCheckpoint, persistedCheckpoint),
+                                        executorService)
+                                .exceptionally(
+                                        error -> {
+                                            handleCoordinatorError(
+                                                    "complete checkpoint failed",
+                                                    error,
+                                                    CheckpointCloseReason.CHECKPOINT_INSIDE_ERROR);
+                                            return null;
+                                        }));
+    }
+
+    private CompletableFuture<CompletedCheckpoint> registerSharedStates(
+            CompletedCheckpoint completedCheckpoint) {
+        if (!completedCheckpoint.getCheckpointType().notCompletedCheckpoint()) {
+            return CompletableFuture.completedFuture(completedCheckpoint);
+        }
+        try {
+            return new CompletableFuture<>(sharedStateRegistry.register(completedCheckpoint));
+        } catch (Throwable e) {
+            CompletableFuture<CompletedCheckpoint> future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+            return future;
+        }
+    }
+
+    private synchronized void storeCompletedCheckpoint(
+            CompletedCheckpoint completedCheckpoint, CompletedCheckpoint persistedCheckpoint) {
+        final long checkpointId = completedCheckpoint.getCheckpointId();
+        if (!pendingCheckpoints.containsKey(checkpointId)) {
+            LOG.info(
+                    "skip storing checkpoint({}/{}@{}), the coordinator was reset meanwhile",
+                    checkpointId,
+                    pipelineId,
+                    jobId);
+            sharedStateRegistry.discard(Collections.singletonList(String.valueOf(checkpointId)));
+            return;
+        }
         LOG.debug(
                 "pending checkpoint({}/{}@{}) completed! cost: {}, trigger: {}, completed: {}",
                 completedCheckpoint.getCheckpointId(),
@@ -848,11 +935,10 @@ public class CheckpointCoordinator {
                         - completedCheckpoint.getCheckpointTimestamp(),
                 completedCheckpoint.getCheckpointTimestamp(),
                 completedCheckpoint.getCompletedTimestamp());
-        final long checkpointId = completedCheckpoint.getCheckpointId();
         completedCheckpointIds.addLast(String.valueOf(completedCheckpoint.getCheckpointId()));
         try {
             if (completedCheckpoint.getCheckpointType().notCompletedCheckpoint()) {
-                byte[] states = serializer.serialize(completedCheckpoint);
+                byte[] states = serializer.serialize(persistedCheckpoint);
                 checkpointStorage.storeCheckPoint(
                         PipelineState.builder()
                                 .checkpointId(checkpointId)
@@ -877,6 +963,7 @@ public class CheckpointCoordinator {
                         String.valueOf(completedCheckpoint.getJobId()),
                         String.valueOf(completedCheckpoint.getPipelineId()),
                         needDeleteCheckpointId);
+                sharedStateRegistry.discard(needDeleteCheckpointId);
             }
         } catch (Throwable e) {
             LOG.error("store checkpoint states failed.", e);
@@ -0,0 +1,330 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.checkpoint;
+
+import org.apache.seatunnel.engine.checkpoint.storage.api.CheckpointStorage;
+import org.apache.seatunnel.engine.checkpoint.storage.exception.CheckpointStorageException;
+import org.apache.seatunnel.engine.serializer.api.Serializer;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Stores the large subtask states of a pipeline as shared state files of the {@link
+ * CheckpointStorage}, so that a state which did not change between checkpoints is written once and
+ * referenced by every retained checkpoint containing it.
+ *
+ * <p>Shared state files are named by the digest of their content and reference counted, a file is
+ * deleted when the last checkpoint referencing it is discarded. The tasks digest their states
+ * themselves, see {@link SharedStateTracker}, and acknowledge a state which did not change since
+ * their last completed checkpoint by its handle only. On restore the references of every retained
+ * checkpoint are rebuilt, so the files are released by the regular checkpoint rotation.
+ */
+@Slf4j
+public class SharedStateRegistry {
+
+    /** States smaller than this stay inline, a separate file would cost more than it saves. */
+    public static final int MIN_SHARED_STATE_BYTES = 4 * 1024;
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private final CheckpointStorage checkpointStorage;
+
+    private final Serializer serializer;
+
+    private final String jobId;
+
+    private final int pipelineId;
+
+    private final boolean incremental;
+
+    private final Map<String, Integer> referenceCounts = new HashMap<>();
+
+    private final Map<Long, List<String>> checkpointReferences = new HashMap<>();
+
+    public SharedStateRegistry(
+            CheckpointStorage checkpointStorage,
+            Serializer serializer,
+            long jobId,
+            int pipelineId,
+            boolean incremental) {
+        this.checkpointStorage = checkpointStorage;
+        this.serializer = serializer;
+        this.jobId = String.valueOf(jobId);
+        this.pipelineId = pipelineId;
+        this.incremental = incremental;
+    }
+
+    /**
+     * Builds the checkpoint to persist: large subtask states are replaced by handles to shared
+     * state files, the files not written by a retained checkpoint yet are written in parallel.
+     * Checkpoints must be registered one after the other, each once the previous one completed.
+     *
+     * @return future completed with the checkpoint to persist once its shared states are durable,
+     *     or with the checkpoint itself when incremental checkpoints are disabled
+     */
+    public synchronized CompletableFuture<CompletedCheckpoint> register(
+            CompletedCheckpoint checkpoint) throws IOException, CheckpointStorageException {
+        if (!incremental) {
+            return CompletableFuture.completedFuture(checkpoint);
+        }
+        List<String> handles = new ArrayList<>();
+        Map<String, CompletableFuture<Void>> uploads = new LinkedHashMap<>();
+        Map<ActionStateKey, ActionState> taskStates = new HashMap<>();
+        for (Map.Entry<ActionStateKey, ActionState> entry : checkpoint.getTaskStates().entrySet()) {
+            ActionState actionState = entry.getValue();
+            ActionState persistedState =
+                    new ActionState(actionState.getStateKey(), actionState.getParallelism());
+            persistedState.reportState(
+                    -1, externalize(actionState.getCoordinatorState(), handles, uploads));
+            List<ActionSubtaskState> subtaskStates = actionState.getSubtaskStates();
+            for (int i = 0; i < subtaskStates.size(); i++) {
+                persistedState.reportState(i, externalize(subtaskStates.get(i), handles, uploads));
+            }
+            taskStates.put(entry.getKey(), persistedState);
+        }
+        CompletedCheckpoint persistedCheckpoint =
+                new CompletedCheckpoint(
+                        checkpoint.getJobId(),
+                        checkpoint.getPipelineId(),
+                        checkpoint.getCheckpointId(),
+                        checkpoint.getCheckpointTimestamp(),
+                        checkpoint.getCheckpointType(),
+                        checkpoint.getCompletedTimestamp(),
+                        taskStates,
+                        checkpoint.getTaskStatistics());
+        return CompletableFuture.allOf(uploads.values().toArray(new CompletableFuture[0]))
+                .handle(
+                        (ignored, error) -> {
+                            synchronized (this) {
+                                if (error != null) {
+                                    uploads.keySet().forEach(this::deleteQuietly);
+                                    throw new CompletionException(
+                                            new CheckpointStorageException(
+                                                    String.format(
+                                                            "Failed to store shared states of checkpoint(%s/%s@%s)",
+                                                            checkpoint.getCheckpointId(),
+                                                            pipelineId,
+                                                            jobId),
+                                                    error instanceof CompletionException
+                                                            ? error.getCause()
+                                                            : error));
+                                }
+                                reference(checkpoint.getCheckpointId(), handles);
+                            }
+                            log.debug(
+                                    "checkpoint({}/{}@{}) references {} shared states, {} newly written",
+                                    checkpoint.getCheckpointId(),
+                                    pipelineId,
+                                    jobId,
+                                    handles.size(),
+                                    uploads.size());
+                            return persistedCheckpoint;
+                        });
+    }
+
+    /**
+     * Releases the shared states of discarded checkpoints, deleting the files no retained
+     * checkpoint references anymore. Checkpoints not registered here are ignored.
+     */
+    public synchronized void discard(List<String> checkpointIds) {
+        for (String checkpointId : checkpointIds) {
+            List<String> handles = checkpointReferences.remove(Long.parseLong(checkpointId));
+            if (handles == null) {
+                continue;
+            }
+            for (String handle : handles) {
+                if (referenceCounts.computeIfPresent(
+                                handle, (k, count) -> count == 1 ? null : count - 1)
+                        == null) {
+                    deleteQuietly(handle);
+                }
+            }
+        }
+    }
+
+    /**
+     * Resolves the shared states of the checkpoint the pipeline is restored from and keeps their
+     * files referenced until the checkpoint is discarded.
+     */
+    public synchronized void restore(CompletedCheckpoint checkpoint)
+            throws IOException, CheckpointStorageException {
+        reference(checkpoint.getCheckpointId(), resolve(checkpointStorage, serializer, checkpoint));
+    }
+
+    /**
+     * Keeps the shared state files of a retained checkpoint, which the pipeline is not restored
+     * from, referenced until the checkpoint is discarded. The states themselves are not read.
+     */
+    public synchronized void retain(CompletedCheckpoint checkpoint) {
+        List<String> handles = new ArrayList<>();
+        for (ActionState actionState : checkpoint.getTaskStates().values()) {
+            addHandle(actionState.getCoordinatorState(), handles);
+            actionState.getSubtaskStates().forEach(state -> addHandle(state, handles));
+        }
+        reference(checkpoint.getCheckpointId(), handles);
+    }
+
+    private void reference(long checkpointId, List<String> handles) {
+        if (checkpointReferences.containsKey(checkpointId)) {
+            return;
+        }
+        handles.forEach(handle -> referenceCounts.merge(handle, 1, Integer::sum));
+        checkpointReferences.put(checkpointId, handles);
+    }
+
+    private static void addHandle(ActionSubtaskState state, List<String> handles) {
+        if (state != null && state.getSharedStateHandle() != null) {
+            handles.add(state.getSharedStateHandle());
+        }
+    }
+
+    /**
+     * Replaces the shared state handles of a stored checkpoint in place by the states they
+     * reference.
+     *
+     * @return the resolved handles
+     */
+    public static List<String> resolve(
+            CheckpointStorage checkpointStorage,
+            Serializer serializer,
+            CompletedCheckpoint checkpoint)
+            throws IOException, CheckpointStorageException {
+        String jobId = String.valueOf(checkpoint.getJobId());
+        List<String> handles = new ArrayList<>();
+        for (ActionState actionState : checkpoint.getTaskStates().values()) {
+            ActionSubtaskState coordinatorState = actionState.getCoordinatorState();
+            if (coordinatorState != null && coordinatorState.getSharedStateHandle() != null) {
+                actionState.reportState(
+                        -1,
+                        readSharedState(
+                                checkpointStorage, serializer, jobId, coordinatorState, handles));
+            }
+            List<ActionSubtaskState> subtaskStates = actionState.getSubtaskStates();
+            for (int i = 0; i < subtaskStates.size(); i++) {
+                ActionSubtaskState subtaskState = subtaskStates.get(i);
+                if (subtaskState != null && subtaskState.getSharedStateHandle() != null) {
+                    actionState.reportState(
+                            i,
+                            readSharedState(
+                                    checkpointStorage, serializer, jobId, subtaskState, handles));
+                }
+            }
+        }
+        return handles;
+    }
+
+    private static ActionSubtaskState readSharedState(
+            CheckpointStorage checkpointStorage,
+            Serializer serializer,
+            String jobId,
+            ActionSubtaskState state,
+            List<String> handles)
+            throws IOException, CheckpointStorageException {
+        String handle = state.getSharedStateHandle();
+        handles.add(handle);
+        return serializer.deserialize(
+                checkpointStorage.getSharedState(jobId, handle), ActionSubtaskState.class);
+    }
+
+    private ActionSubtaskState externalize(
+            ActionSubtaskState state,
+            List<String> handles,
+            Map<String, CompletableFuture<Void>> uploads)
+            throws IOException, CheckpointStorageException {
+        if (state == null) {
+            return null;
+        }
+        String handle = state.getSharedStateHandle();
+        if (state.getState() == null && handle != null) {
+            // acknowledged by reference, the task did not change it since its last checkpoint
+            if (!referenceCounts.containsKey(handle)) {
+                throw new CheckpointStorageException(
+                        String.format(
+                                "Shared state %s of %s is not referenced by a retained checkpoint of job %s",
+                                handle, state.getStateKey(), jobId));
+            }
+            handles.add(handle);
+            return state;
+        }
+        if (state.getState() == null || sizeOf(state) < MIN_SHARED_STATE_BYTES) {
+            return state;
+        }
+        byte[] data =
+                serializer.serialize(
+                        new ActionSubtaskState(
+                                state.getStateKey(), state.getIndex(), state.getState()));
+        if (handle == null) {
+            handle = handleOf(pipelineId, data);
+        }
+        handles.add(handle);
+        if (!referenceCounts.containsKey(handle) && !uploads.containsKey(handle)) {
+            uploads.put(handle, checkpointStorage.asyncStoreSharedState(jobId, handle, data));
+        }
+        ActionSubtaskState persistedState =
+                new ActionSubtaskState(state.getStateKey(), state.getIndex(), null);
+        persistedState.setSharedStateHandle(handle);
+        return persistedState;
+    }
+
+    private void deleteQuietly(String handle) {
+        try {
+            checkpointStorage.deleteSharedState(jobId, handle);
+        } catch (Exception e) {
+            log.warn("Failed to delete shared state {} of job {}", handle, jobId, e);
+        }
+    }
+
+    /** The name of the shared state file of the given serialized subtask state. */
+    static String handleOf(int pipelineId, byte[] data) {
+        return pipelineId + "-" + digest(data);
+    }
+
+    static long sizeOf(ActionSubtaskState state) {
+        long size = 0;
+        for (byte[] bytes : state.getState()) {
+            size += bytes == null ? 0 : bytes.length;
+        }
+        return size;
+    }
+
+    private static String digest(byte[] data) {
+        byte[] hash;
+        try {
+            hash = MessageDigest.getInstance("SHA-256").digest(data);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        char[] chars = new char[hash.length * 2];
+        for (int i = 0; i < hash.length; i++) {
+            chars[i * 2] = HEX_DIGITS[(hash[i] >> 4) & 0xF];
+            chars[i * 2 + 1] = HEX_DIGITS[hash[i] & 0xF];
+        }
+        return new String(chars);
+    }
+}
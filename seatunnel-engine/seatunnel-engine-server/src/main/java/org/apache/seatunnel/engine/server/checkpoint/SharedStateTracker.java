@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.checkpoint;
+
+import org.apache.seatunnel.engine.serializer.api.Serializer;
+import org.apache.seatunnel.engine.serializer.protobuf.ProtoStuffSerializer;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Detects on the task side which large states did not change since the last completed checkpoint of
+ * the task. Such a state is acknowledged by its shared state handle only, so it is neither shipped
+ * to nor digested by the checkpoint coordinator again, see {@link SharedStateRegistry}. Changed
+ * states are acknowledged together with their handle.
+ */
+public class SharedStateTracker {
+
+    private final Serializer serializer = new ProtoStuffSerializer();
+
+    private final int pipelineId;
+
+    /** The handles of the acknowledged checkpoints not completed yet, by state key and index. */
+    private final Map<Long, Map<String, String>> pendingHandles = new ConcurrentHashMap<>();
+
+    private volatile Map<String, String> completedHandles = Collections.emptyMap();
+
+    public SharedStateTracker(int pipelineId) {
+        this.pipelineId = pipelineId;
+    }
+
+    /** Returns the states to acknowledge for the given barrier in place of the given ones. */
+    public List<ActionSubtaskState> track(
+            CheckpointBarrier barrier, List<ActionSubtaskState> states) throws IOException {
+        if (states == null || !barrier.getCheckpointType().notCompletedCheckpoint()) {
+            // the final checkpoint of a finished pipeline is not stored
+            return states;
+        }
+        // only the latest completed checkpoint is surely retained, the states of a later
+        // acknowledged one may be released before it completes
+        Map<String, String> referencedHandles =
+                pendingHandles.isEmpty() ? completedHandles : Collections.emptyMap();
+        Map<String, String> handles = new HashMap<>();
+        List<ActionSubtaskState> trackedStates = new ArrayList<>(states.size());
+        for (ActionSubtaskState state : states) {
+            if (state == null
+                    || state.getState() == null
+                    || SharedStateRegistry.sizeOf(state)
+                            < SharedStateRegistry.MIN_SHARED_STATE_BYTES) {
+                trackedStates.add(state);
+                continue;
+            }
+            String handle = SharedStateRegistry.handleOf(pipelineId, serializer.serialize(state));
+            String key = state.getStateKey().getName() + "#" + state.getIndex();
+            handles.put(key, handle);
+            ActionSubtaskState trackedState =
+                    new ActionSubtaskState(
+                            state.getStateKey(),
+                            state.getIndex(),
+                            handle.equals(referencedHandles.get(key)) ? null : state.getState());
+            trackedState.setSharedStateHandle(handle);
+            trackedStates.add(trackedState);
+        }
+        pendingHandles.put(barrier.getId(), handles);
+        return trackedStates;
+    }
+
+    /** The coordinator notifies a checkpoint once it and its shared states are stored. */
+    public void notifyCheckpointComplete(long checkpointId) {
+        Map<String, String> handles = pendingHandles.remove(checkpointId);
+        pendingHandles.keySet().removeIf(id -> id < checkpointId);
+        completedHandles = handles == null ? Collections.emptyMap() : handles;
+    }
+
+    public void notifyCheckpointAborted(long checkpointId) {
+        pendingHandles.remove(checkpointId);
+    }
+}
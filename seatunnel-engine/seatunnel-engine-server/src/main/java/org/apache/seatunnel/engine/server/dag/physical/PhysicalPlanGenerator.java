@@ -60,6 +60,7 @@ import org.apache.seatunnel.engine.server.task.SourceSplitEnumeratorTask;
 import org.apache.seatunnel.engine.server.task.TransformSeaTunnelTask;
 import org.apache.seatunnel.engine.server.task.group.TaskGroupWithIntermediateBlockingQueue;
 import org.apache.seatunnel.engine.server.task.group.TaskGroupWithIntermediateDisruptor;
+import org.apache.seatunnel.engine.server.task.group.TaskGroupWithIntermediateRingBuffer;
 
 import com.hazelcast.flakeidgen.FlakeIdGenerator;
 import com.hazelcast.jet.datamodel.Tuple2;
@@ -85,6 +86,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.apache.seatunnel.engine.common.config.server.QueueType.BLOCKINGQUEUE;
+import static org.apache.seatunnel.engine.common.config.server.QueueType.RINGBUFFER;
 
 public class PhysicalPlanGenerator {
 
@@ -599,6 +601,14 @@ public class PhysicalPlanGenerator {
                                                         taskList.stream()
                                                                 .map(task -> (Task) task)
                                                                 .collect(Collectors.toList()));
+                                    } else if (queueType.equals(RINGBUFFER)) {
+                                        taskGroup =
+                                                new TaskGroupWithIntermediateRingBuffer(
+                                                        taskGroupLocation,
+                                                        flow.getAction().getName() + "-SourceTask",
+                                                        taskList.stream()
+                                                                .map(task -> (Task) task)
+                                                                .collect(Collectors.toList()));
                                     } else {
                                         taskGroup =
                                                 new TaskGroupWithIntermediateDisruptor(
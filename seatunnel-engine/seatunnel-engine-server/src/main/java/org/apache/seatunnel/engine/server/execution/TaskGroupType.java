@@ -21,4 +21,5 @@ public enum TaskGroupType {
     DEFAULT,
     INTERMEDIATE_BLOCKING_QUEUE,
     INTERMEDIATE_DISRUPTOR_QUEUE,
+    INTERMEDIATE_RING_BUFFER_QUEUE,
 }
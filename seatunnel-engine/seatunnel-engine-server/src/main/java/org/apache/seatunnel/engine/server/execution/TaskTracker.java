@@ -23,6 +23,9 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 public class TaskTracker {
     public final AtomicInteger expiredTimes = new AtomicInteger(0);
+    /** Consecutive calls that exceeded the blocking threshold of the work stealing scheduler. */
+    int blockingCalls;
+
     public final TaskExecutionService.TaskGroupExecutionTracker taskGroupExecutionTracker;
     public final Task task;
 
@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.execution;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates virtual threads for blocking tasks. Virtual threads are looked up by reflection because
+ * the engine is still built for Java 8, use {@link #isSupported()} before creating the factory.
+ *
+ * <p>Virtual threads are cheap and meant to be created per task rather than pooled, so they run
+ * through {@link #newThreadPerTaskExecutor()}. They are not returned by {@link
+ * Thread#getAllStackTraces()}, so the factory keeps track of its running threads to make them
+ * visible in the running threads rest api.
+ *
+ * <p>Source readers poll inside {@code synchronized (checkpointLock)}, and before Java 24 (JEP 491)
+ * a virtual thread blocking inside a monitor pins its carrier thread. Use {@link #isPinningFree()}
+ * to only run tasks on virtual threads where that does not starve the carriers.
+ */
+@Slf4j
+public class VirtualTaskThreadFactory implements ThreadFactory {
+
+    private static final ThreadFactory VIRTUAL_THREAD_FACTORY = lookupVirtualThreadFactory();
+
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR = lookupThreadPerTaskExecutor();
+
+    /** The first Java version whose virtual threads do not pin their carrier in a monitor. */
+    public static final int MIN_PINNING_FREE_JAVA_VERSION = 24;
+
+    private final String namePattern;
+    private final AtomicInteger seq = new AtomicInteger();
+    private final Set<Thread> liveThreads = ConcurrentHashMap.newKeySet();
+
+    /** @param namePattern thread name format, the only argument is the thread sequence number */
+    public VirtualTaskThreadFactory(@NonNull String namePattern) {
+        if (!isSupported()) {
+            throw new UnsupportedOperationException(
+                    "Virtual threads are not supported by this JVM");
+        }
+        this.namePattern = namePattern;
+    }
+
+    public static boolean isSupported() {
+        return VIRTUAL_THREAD_FACTORY != null && NEW_THREAD_PER_TASK_EXECUTOR != null;
+    }
+
+    /** Whether a virtual thread blocking inside a {@code synchronized} block unmounts. */
+    public static boolean isPinningFree() {
+        return javaFeatureVersion(System.getProperty("java.specification.version", "1.8"))
+                >= MIN_PINNING_FREE_JAVA_VERSION;
+    }
+
+    static int javaFeatureVersion(String version) {
+        if (version.startsWith("1.")) {
+            return 8;
+        }
+        try {
+            return Integer.parseInt(version);
+        } catch (NumberFormatException e) {
+            return 8;
+        }
+    }
+
+    /** Creates an executor that starts a new virtual thread of this factory for each task. */
+    public ExecutorService newThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, this);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Failed to create a thread per task executor", e);
+        }
+    }
+
+    @Override
+    public Thread newThread(@NonNull Runnable r) {
+        Thread thread =
+                VIRTUAL_THREAD_FACTORY.newThread(
+                        () -> {
+                            // tracked from start to end, a thread that is never started can not
+                            // leak
+                            Thread current = Thread.currentThread();
+                            liveThreads.add(current);
+                            try {
+                                r.run();
+                            } finally {
+                                liveThreads.remove(current);
+                            }
+                        });
+        thread.setName(String.format(namePattern, seq.getAndIncrement()));
+        return thread;
+    }
+
+    /** The virtual threads of this factory that are running. */
+    public Collection<Thread> getLiveThreads() {
+        return Collections.unmodifiableList(new ArrayList<>(liveThreads));
+    }
+
+    private static Method lookupThreadPerTaskExecutor() {
+        try {
+            return Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+        } catch (ReflectiveOperationException | LinkageError e) {
+            log.debug("Thread per task executors are not available", e);
+            return null;
+        }
+    }
+
+    private static ThreadFactory lookupVirtualThreadFactory() {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            return (ThreadFactory)
+                    Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException | LinkageError e) {
+            log.debug("Virtual threads are not available", e);
+            return null;
+        } catch (RuntimeException e) {
+            // Java 19 and 20 throw UnsupportedOperationException without --enable-preview
+            log.debug("Virtual threads are not enabled", e);
+            return null;
+        }
+    }
+}
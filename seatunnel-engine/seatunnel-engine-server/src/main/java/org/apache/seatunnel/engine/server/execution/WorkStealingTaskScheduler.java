@@ -0,0 +1,239 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.execution;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Scheduler for thread shared tasks with a fixed number of workers. Every worker owns a deque: it
+ * takes tasks from the head and puts unfinished tasks back to the tail, idle workers steal from the
+ * tail of other deques. A worker that found nothing to do spins, then yields, then parks with a
+ * growing timeout instead of starting new threads.
+ *
+ * <p>A task whose call keeps exceeding the blocking threshold is handed over to {@link
+ * TaskCallHandler#demote} so that it does not stall the other tasks of its worker.
+ */
+@Slf4j
+public class WorkStealingTaskScheduler {
+
+    private static final int SPIN_TRIES = 64;
+    private static final int YIELD_TRIES = 16;
+    private static final long MIN_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    /** Runs one call of a task on behalf of a worker. */
+    public interface TaskCallHandler {
+
+        /**
+         * Call the task once.
+         *
+         * @return true if the task is not finished and must be scheduled again
+         */
+        boolean call(TaskTracker taskTracker, Thread worker);
+
+        /** Move a task that keeps blocking its worker out of the scheduler. */
+        void demote(TaskTracker taskTracker);
+    }
+
+    private final Worker[] workers;
+    private final TaskCallHandler handler;
+    private final long blockingThresholdNanos;
+    private final int demoteAfterBlockingCalls;
+    private final AtomicInteger nextWorker = new AtomicInteger();
+    private final AtomicInteger scheduledTasks = new AtomicInteger();
+    private final AtomicLong taskCalls = new AtomicLong();
+    private final AtomicLong steals = new AtomicLong();
+    private final AtomicLong demotedTasks = new AtomicLong();
+    private final AtomicLong idleParks = new AtomicLong();
+    private volatile boolean running;
+
+    public WorkStealingTaskScheduler(
+            int parallelism,
+            long blockingThresholdMillis,
+            int demoteAfterBlockingCalls,
+            TaskCallHandler handler,
+            ThreadFactory threadFactory) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException(
+                    "parallelism must be positive, but is " + parallelism);
+        }
+        this.handler = handler;
+        this.blockingThresholdNanos = TimeUnit.MILLISECONDS.toNanos(blockingThresholdMillis);
+        this.demoteAfterBlockingCalls = demoteAfterBlockingCalls;
+        this.workers = new Worker[parallelism];
+        for (int i = 0; i < parallelism; i++) {
+            workers[i] = new Worker(i);
+            workers[i].thread = threadFactory.newThread(workers[i]);
+            workers[i].thread.setDaemon(true);
+        }
+    }
+
+    public void start() {
+        running = true;
+        for (Worker worker : workers) {
+            worker.thread.start();
+        }
+        log.info("Started work stealing task scheduler with {} workers", workers.length);
+    }
+
+    public void shutdown() {
+        running = false;
+        for (Worker worker : workers) {
+            worker.thread.interrupt();
+        }
+    }
+
+    public void submit(TaskTracker taskTracker) {
+        scheduledTasks.incrementAndGet();
+        Worker target = workers[Math.floorMod(nextWorker.getAndIncrement(), workers.length)];
+        target.deque.offerLast(taskTracker);
+        target.wakeUp();
+    }
+
+    public int getWorkerCount() {
+        return workers.length;
+    }
+
+    public int getScheduledTaskCount() {
+        return scheduledTasks.get();
+    }
+
+    public long getTaskCallCount() {
+        return taskCalls.get();
+    }
+
+    public long getStealCount() {
+        return steals.get();
+    }
+
+    public long getDemotedTaskCount() {
+        return demotedTasks.get();
+    }
+
+    public long getIdleParkCount() {
+        return idleParks.get();
+    }
+
+    private TaskTracker steal(Worker thief) {
+        int start = ThreadLocalRandom.current().nextInt(workers.length);
+        for (int i = 0; i < workers.length; i++) {
+            Worker victim = workers[(start + i) % workers.length];
+            if (victim == thief) {
+                continue;
+            }
+            TaskTracker taskTracker = victim.deque.pollLast();
+            if (taskTracker != null) {
+                steals.incrementAndGet();
+                return taskTracker;
+            }
+        }
+        return null;
+    }
+
+    private final class Worker implements Runnable {
+        private final int index;
+        private final ConcurrentLinkedDeque<TaskTracker> deque = new ConcurrentLinkedDeque<>();
+        private volatile boolean parked;
+        private Thread thread;
+
+        private Worker(int index) {
+            this.index = index;
+        }
+
+        private void wakeUp() {
+            if (parked) {
+                LockSupport.unpark(thread);
+            }
+        }
+
+        @Override
+        public void run() {
+            int idleRounds = 0;
+            long parkNanos = MIN_PARK_NANOS;
+            while (running) {
+                TaskTracker taskTracker = deque.pollFirst();
+                if (taskTracker == null) {
+                    taskTracker = steal(this);
+                }
+                if (taskTracker == null) {
+                    idleRounds++;
+                    if (idleRounds <= SPIN_TRIES) {
+                        // busy retry, the queues are polled again right away
+                        continue;
+                    }
+                    if (idleRounds <= SPIN_TRIES + YIELD_TRIES) {
+                        Thread.yield();
+                    } else {
+                        idleParks.incrementAndGet();
+                        parked = true;
+                        if (deque.isEmpty()) {
+                            LockSupport.parkNanos(this, parkNanos);
+                        }
+                        parked = false;
+                        parkNanos = Math.min(parkNanos << 1, MAX_PARK_NANOS);
+                    }
+                    continue;
+                }
+                idleRounds = 0;
+                parkNanos = MIN_PARK_NANOS;
+                runTask(taskTracker);
+            }
+            log.info("Work stealing worker {} stopped", index);
+        }
+
+        private void runTask(TaskTracker taskTracker) {
+            taskCalls.incrementAndGet();
+            long start = System.nanoTime();
+            boolean reschedule;
+            try {
+                reschedule = handler.call(taskTracker, thread);
+            } catch (Throwable e) {
+                log.error("Unexpected error in work stealing worker " + index, e);
+                reschedule = false;
+            }
+            // a cancelled task may have interrupted this worker, the worker itself keeps running
+            Thread.interrupted();
+            if (!reschedule) {
+                scheduledTasks.decrementAndGet();
+                return;
+            }
+            if (System.nanoTime() - start > blockingThresholdNanos) {
+                if (++taskTracker.blockingCalls >= demoteAfterBlockingCalls) {
+                    log.info(
+                            "Task {} kept blocking its worker, move it to a dedicated thread",
+                            taskTracker.task.getTaskID());
+                    scheduledTasks.decrementAndGet();
+                    demotedTasks.incrementAndGet();
+                    handler.demote(taskTracker);
+                    return;
+                }
+            } else {
+                taskTracker.blockingCalls = 0;
+            }
+            deque.offerLast(taskTracker);
+        }
+    }
+}
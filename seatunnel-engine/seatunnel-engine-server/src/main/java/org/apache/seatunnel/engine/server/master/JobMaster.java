@@ -327,6 +327,8 @@ public class JobMaster {
                 defaultCheckpointConfig.getStorage().getStoragePluginConfig());
         jobCheckpointStorageConfig.setMaxRetainedCheckpoints(
                 defaultCheckpointConfig.getStorage().getMaxRetainedCheckpoints());
+        jobCheckpointStorageConfig.setIncremental(
+                defaultCheckpointConfig.getStorage().isIncremental());
         jobCheckpointConfig.setStorage(jobCheckpointStorageConfig);
 
         if (jobEnv.containsKey(EnvCommonOptions.CHECKPOINT_INTERVAL.key())) {
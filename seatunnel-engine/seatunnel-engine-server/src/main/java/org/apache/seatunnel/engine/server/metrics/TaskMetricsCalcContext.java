@@ -21,13 +21,15 @@ import org.apache.seatunnel.api.common.metrics.Meter;
 import org.apache.seatunnel.api.common.metrics.MetricsContext;
 import org.apache.seatunnel.api.table.catalog.TablePath;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowSizeEstimator;
 import org.apache.seatunnel.common.constants.PluginType;
 
 import org.apache.commons.lang3.StringUtils;
 
+import lombok.AllArgsConstructor;
+
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 
 import static org.apache.seatunnel.api.common.metrics.MetricNames.SINK_WRITE_BYTES;
@@ -45,29 +47,55 @@ public class TaskMetricsCalcContext {
 
     private final PluginType type;
 
-    private Counter count;
+    /** Only one out of every {@code bytesSampleInterval} rows has its byte size measured. */
+    private final int bytesSampleInterval;
 
-    private Map<String, Counter> countPerTable = new ConcurrentHashMap<>();
+    private int rowsUntilBytesSample;
 
-    private Meter QPS;
+    private int sampledBytesSize;
 
-    private Map<String, Meter> QPSPerTable = new ConcurrentHashMap<>();
+    private String countName;
 
-    private Counter bytes;
+    private String qpsName;
+
+    private String bytesName;
+
+    private String bytesPerSecondsName;
+
+    private Counter count;
+
+    private Meter QPS;
 
-    private Map<String, Counter> bytesPerTable = new ConcurrentHashMap<>();
+    private Counter bytes;
 
     private Meter bytesPerSeconds;
 
-    private Map<String, Meter> bytesPerSecondsPerTable = new ConcurrentHashMap<>();
+    /** The per table metrics, keyed by the table full name. */
+    private final Map<String, TableMetrics> metricsPerTable = new ConcurrentHashMap<>();
+
+    /**
+     * The per table metrics keyed by the table id carried by the rows, so resolving the table of a
+     * row is a single lookup of a string that already caches its hash code.
+     */
+    private final Map<String, TableMetrics> metricsPerTableId = new ConcurrentHashMap<>();
 
     public TaskMetricsCalcContext(
             MetricsContext metricsContext,
             PluginType type,
             boolean isMulti,
             List<TablePath> tables) {
+        this(metricsContext, type, isMulti, tables, 1);
+    }
+
+    public TaskMetricsCalcContext(
+            MetricsContext metricsContext,
+            PluginType type,
+            boolean isMulti,
+            List<TablePath> tables,
+            int bytesSampleInterval) {
         this.metricsContext = metricsContext;
         this.type = type;
+        this.bytesSampleInterval = Math.max(1, bytesSampleInterval);
         initializeMetrics(isMulti, tables);
     }
 
@@ -98,113 +126,91 @@ public class TaskMetricsCalcContext {
             String qpsName,
             String bytesName,
             String bytesPerSecondsName) {
+        this.countName = countName;
+        this.qpsName = qpsName;
+        this.bytesName = bytesName;
+        this.bytesPerSecondsName = bytesPerSecondsName;
         count = metricsContext.counter(countName);
         QPS = metricsContext.meter(qpsName);
         bytes = metricsContext.counter(bytesName);
         bytesPerSeconds = metricsContext.meter(bytesPerSecondsName);
         if (isMulti) {
             tables.forEach(
-                    tablePath -> {
-                        countPerTable.put(
-                                tablePath.getFullName(),
-                                metricsContext.counter(countName + "#" + tablePath.getFullName()));
-                        QPSPerTable.put(
-                                tablePath.getFullName(),
-                                metricsContext.meter(qpsName + "#" + tablePath.getFullName()));
-                        bytesPerTable.put(
-                                tablePath.getFullName(),
-                                metricsContext.counter(bytesName + "#" + tablePath.getFullName()));
-                        bytesPerSecondsPerTable.put(
-                                tablePath.getFullName(),
-                                metricsContext.meter(
-                                        bytesPerSecondsName + "#" + tablePath.getFullName()));
-                    });
+                    tablePath ->
+                            metricsPerTable.computeIfAbsent(
+                                    tablePath.getFullName(), this::createTableMetrics));
         }
     }
 
-    public void updateMetrics(Object data, String tableId) {
-        count.inc();
-        QPS.markEvent();
-        if (data instanceof SeaTunnelRow) {
-            SeaTunnelRow row = (SeaTunnelRow) data;
-            bytes.inc(row.getBytesSize());
-            bytesPerSeconds.markEvent(row.getBytesSize());
-
-            if (StringUtils.isNotBlank(tableId)) {
-                String tableName = TablePath.of(tableId).getFullName();
-
-                // Processing count
-                processMetrics(
-                        countPerTable,
-                        Counter.class,
-                        tableName,
-                        SINK_WRITE_COUNT,
-                        SOURCE_RECEIVED_COUNT,
-                        Counter::inc);
-
-                // Processing bytes
-                processMetrics(
-                        bytesPerTable,
-                        Counter.class,
-                        tableName,
-                        SINK_WRITE_BYTES,
-                        SOURCE_RECEIVED_BYTES,
-                        counter -> counter.inc(row.getBytesSize()));
-
-                // Processing QPS
-                processMetrics(
-                        QPSPerTable,
-                        Meter.class,
-                        tableName,
-                        SINK_WRITE_QPS,
-                        SOURCE_RECEIVED_QPS,
-                        Meter::markEvent);
-
-                // Processing bytes rate
-                processMetrics(
-                        bytesPerSecondsPerTable,
-                        Meter.class,
-                        tableName,
-                        SINK_WRITE_BYTES_PER_SECONDS,
-                        SOURCE_RECEIVED_BYTES_PER_SECONDS,
-                        meter -> meter.markEvent(row.getBytesSize()));
+    /**
+     * Returns the byte size of the row, measuring only one out of every {@code
+     * task_metrics_bytes_sample_interval} rows and reusing the last measured size in between.
+     *
+     * @param estimator the estimator of the row type, measure by the classes of the values if null
+     */
+    public int getBytesSize(SeaTunnelRow row, SeaTunnelRowSizeEstimator estimator) {
+        if (bytesSampleInterval > 1) {
+            if (rowsUntilBytesSample > 0) {
+                rowsUntilBytesSample--;
+                return sampledBytesSize;
             }
+            rowsUntilBytesSample = bytesSampleInterval - 1;
         }
+        sampledBytesSize = estimator == null ? row.getBytesSize() : row.getBytesSize(estimator);
+        return sampledBytesSize;
     }
 
-    private <T> void processMetrics(
-            Map<String, T> metricMap,
-            Class<T> cls,
-            String tableName,
-            String sinkMetric,
-            String sourceMetric,
-            MetricProcessor<T> processor) {
-        T metric = metricMap.get(tableName);
-        if (Objects.nonNull(metric)) {
-            processor.process(metric);
+    public void updateMetrics(Object data, String tableId) {
+        if (data instanceof SeaTunnelRow) {
+            updateMetrics(tableId, 1, getBytesSize((SeaTunnelRow) data, null));
         } else {
-            String metricName =
-                    PluginType.SINK.equals(type)
-                            ? sinkMetric + "#" + tableName
-                            : sourceMetric + "#" + tableName;
-            T newMetric = createMetric(metricsContext, metricName, cls);
-            processor.process(newMetric);
-            metricMap.put(tableName, newMetric);
+            count.inc();
+            QPS.markEvent();
         }
     }
 
-    private <T> T createMetric(
-            MetricsContext metricsContext, String metricName, Class<T> metricClass) {
-        if (metricClass == Counter.class) {
-            return metricClass.cast(metricsContext.counter(metricName));
-        } else if (metricClass == Meter.class) {
-            return metricClass.cast(metricsContext.meter(metricName));
+    /** Updates the metrics of a row whose byte size is already known. */
+    public void updateRowMetrics(String tableId, int bytesSize) {
+        updateMetrics(tableId, 1, bytesSize);
+    }
+
+    private void updateMetrics(String tableId, long rows, long bytesSize) {
+        count.inc(rows);
+        QPS.markEvent(rows);
+        bytes.inc(bytesSize);
+        bytesPerSeconds.markEvent(bytesSize);
+
+        if (StringUtils.isNotBlank(tableId)) {
+            TableMetrics tableMetrics = metricsPerTableId.get(tableId);
+            if (tableMetrics == null) {
+                tableMetrics =
+                        metricsPerTableId.computeIfAbsent(
+                                tableId,
+                                id ->
+                                        metricsPerTable.computeIfAbsent(
+                                                TablePath.of(id).getFullName(),
+                                                this::createTableMetrics));
+            }
+            tableMetrics.count.inc(rows);
+            tableMetrics.QPS.markEvent(rows);
+            tableMetrics.bytes.inc(bytesSize);
+            tableMetrics.bytesPerSeconds.markEvent(bytesSize);
         }
-        throw new IllegalArgumentException("Unsupported metric class: " + metricClass.getName());
     }
 
-    @FunctionalInterface
-    interface MetricProcessor<T> {
-        void process(T t);
+    private TableMetrics createTableMetrics(String tableName) {
+        return new TableMetrics(
+                metricsContext.counter(countName + "#" + tableName),
+                metricsContext.meter(qpsName + "#" + tableName),
+                metricsContext.counter(bytesName + "#" + tableName),
+                metricsContext.meter(bytesPerSecondsName + "#" + tableName));
+    }
+
+    @AllArgsConstructor
+    private static class TableMetrics {
+        private final Counter count;
+        private final Meter QPS;
+        private final Counter bytes;
+        private final Meter bytesPerSeconds;
     }
 }
@@ -69,6 +69,8 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -115,6 +117,15 @@ public abstract class BaseService {
         return seaTunnelServer;
     }
 
+    /** Virtual task threads are not part of {@link Thread#getAllStackTraces()}. */
+    protected Collection<Thread> getVirtualTaskThreads() {
+        SeaTunnelServer seaTunnelServer = getSeaTunnelServer(false);
+        if (seaTunnelServer == null || seaTunnelServer.getTaskExecutionService() == null) {
+            return Collections.emptyList();
+        }
+        return seaTunnelServer.getTaskExecutionService().getVirtualTaskThreads();
+    }
+
     protected JsonObject convertToJson(JobInfo jobInfo, long jobId) {
 
         JsonObject jobInfoJson = new JsonObject();
@@ -22,6 +22,7 @@ import com.hazelcast.internal.json.JsonObject;
 import com.hazelcast.spi.impl.NodeEngineImpl;
 
 import java.util.Comparator;
+import java.util.stream.Stream;
 
 public class RunningThreadService extends BaseService {
     public RunningThreadService(NodeEngineImpl nodeEngine) {
@@ -29,7 +30,9 @@ public class RunningThreadService extends BaseService {
     }
 
     public JsonArray getRunningThread() {
-        return Thread.getAllStackTraces().keySet().stream()
+        return Stream.concat(
+                        Thread.getAllStackTraces().keySet().stream(),
+                        getVirtualTaskThreads().stream())
                 .sorted(Comparator.comparing(Thread::getName))
                 .map(
                         stackTraceElements -> {
@@ -21,6 +21,7 @@ import com.hazelcast.internal.json.JsonArray;
 import com.hazelcast.internal.json.JsonObject;
 import com.hazelcast.spi.impl.NodeEngineImpl;
 
+import java.util.HashMap;
 import java.util.Map;
 
 public class ThreadDumpService extends BaseService {
@@ -30,7 +31,10 @@ public class ThreadDumpService extends BaseService {
 
     public JsonArray getThreadDump() {
 
-        Map<Thread, StackTraceElement[]> threadStacks = Thread.getAllStackTraces();
+        Map<Thread, StackTraceElement[]> threadStacks = new HashMap<>(Thread.getAllStackTraces());
+        for (Thread thread : getVirtualTaskThreads()) {
+            threadStacks.put(thread, thread.getStackTrace());
+        }
         JsonArray threadInfoList = new JsonArray();
         for (Map.Entry<Thread, StackTraceElement[]> entry : threadStacks.entrySet()) {
             StringBuilder stackTraceBuilder = new StringBuilder();
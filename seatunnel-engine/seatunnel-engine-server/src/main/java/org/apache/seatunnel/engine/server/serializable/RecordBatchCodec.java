@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.serializable;
+
+import org.apache.seatunnel.api.table.schema.event.SchemaChangeEvent;
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Stateful codec for the batches of records sent through one direction of a channel. The writer and
+ * the reader of a channel must each use their own instance and see the batches in the same order.
+ *
+ * <p>A batch starts with {@link #FORMAT_VERSION}, so that a reader of another engine version fails
+ * instead of misreading the data, followed by the varint record count. Every row is prefixed with a
+ * one byte kind and its table id from a {@link TableIdDictionary}. Rows of tables with a known
+ * {@link SeaTunnelRowType} are written by a schema driven {@link SeaTunnelRowCodec}. Once a {@link
+ * SchemaChangeEvent} of a table passed the channel, or for rows of unknown tables, the tagged
+ * encoding is used instead. Other records, such as barriers and schema change events, fall back to
+ * object serialization.
+ */
+public class RecordBatchCodec {
+    public static final byte FORMAT_VERSION = 1;
+
+    private static final byte KIND_TAGGED_ROW = 0;
+    private static final byte KIND_SCHEMA_ROW = 1;
+    private static final byte KIND_OBJECT = 2;
+
+    private final Map<String, SeaTunnelRowType> rowTypes;
+    private final Map<String, SeaTunnelRowCodec> rowCodecs = new HashMap<>();
+    private final Set<String> changedTables = new HashSet<>();
+    private final TableIdDictionary tableIds = new TableIdDictionary();
+
+    public RecordBatchCodec() {
+        this(Collections.emptyMap());
+    }
+
+    /** @param rowTypes the row type of each table id the channel carries */
+    public RecordBatchCodec(Map<String, SeaTunnelRowType> rowTypes) {
+        this.rowTypes = rowTypes;
+    }
+
+    public void write(DataOutput out, Collection<Record<?>> records) throws IOException {
+        out.writeByte(FORMAT_VERSION);
+        SeaTunnelRowCodec.writeVarInt(out, records.size());
+        for (Record<?> record : records) {
+            Object data = record.getData();
+            if (data instanceof SeaTunnelRow) {
+                SeaTunnelRow row = (SeaTunnelRow) data;
+                SeaTunnelRowCodec rowCodec = getRowCodec(row.getTableId());
+                if (rowCodec != null && rowCodec.getArity() == row.getArity()) {
+                    out.writeByte(KIND_SCHEMA_ROW);
+                    tableIds.write(out, row.getTableId());
+                    rowCodec.write(out, row);
+                } else {
+                    out.writeByte(KIND_TAGGED_ROW);
+                    tableIds.write(out, row.getTableId());
+                    SeaTunnelRowCodec.writeTaggedRow(out, row);
+                }
+            } else {
+                if (data instanceof SchemaChangeEvent) {
+                    schemaChanged((SchemaChangeEvent) data);
+                }
+                out.writeByte(KIND_OBJECT);
+                SeaTunnelRowCodec.writeObject(out, data);
+            }
+        }
+    }
+
+    public List<Record<?>> read(DataInput in) throws IOException {
+        byte version = in.readByte();
+        if (version != FORMAT_VERSION) {
+            throw new UnsupportedEncodingException(
+                    String.format(
+                            "Unsupported record batch format version %s, expected %s. "
+                                    + "All members of a cluster must run the same SeaTunnel version.",
+                            version, FORMAT_VERSION));
+        }
+        int size = SeaTunnelRowCodec.readVarInt(in);
+        List<Record<?>> records = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            byte kind = in.readByte();
+            if (kind == KIND_SCHEMA_ROW) {
+                String tableId = tableIds.read(in);
+                SeaTunnelRowCodec rowCodec = rowCodecs.get(tableId);
+                if (rowCodec == null) {
+                    SeaTunnelRowType rowType = rowTypes.get(tableId);
+                    if (rowType == null) {
+                        throw new IOException("No row type registered for table " + tableId);
+                    }
+                    rowCodec = new SeaTunnelRowCodec(rowType);
+                    rowCodecs.put(tableId, rowCodec);
+                }
+                SeaTunnelRow row = rowCodec.read(in);
+                row.setTableId(tableId);
+                records.add(new Record<>(row));
+            } else if (kind == KIND_TAGGED_ROW) {
+                String tableId = tableIds.read(in);
+                SeaTunnelRow row = SeaTunnelRowCodec.readTaggedRow(in);
+                row.setTableId(tableId);
+                records.add(new Record<>(row));
+            } else if (kind == KIND_OBJECT) {
+                records.add(new Record<>(SeaTunnelRowCodec.readObject(in)));
+            } else {
+                throw new UnsupportedEncodingException("Unsupported record kind: " + kind);
+            }
+        }
+        return records;
+    }
+
+    private SeaTunnelRowCodec getRowCodec(String tableId) {
+        SeaTunnelRowCodec rowCodec = rowCodecs.get(tableId);
+        if (rowCodec == null && !changedTables.contains(tableId)) {
+            SeaTunnelRowType rowType = rowTypes.get(tableId);
+            if (rowType != null) {
+                rowCodec = new SeaTunnelRowCodec(rowType);
+                rowCodecs.put(tableId, rowCodec);
+            }
+        }
+        return rowCodec;
+    }
+
+    private void schemaChanged(SchemaChangeEvent event) {
+        // the registered row type no longer describes the rows that follow
+        String tableId = event.tablePath().toString();
+        changedTables.add(tableId);
+        rowCodecs.remove(tableId);
+    }
+}
@@ -18,7 +18,6 @@
 package org.apache.seatunnel.engine.server.serializable;
 
 import org.apache.seatunnel.api.table.type.Record;
-import org.apache.seatunnel.api.table.type.RowKind;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.engine.core.checkpoint.CheckpointType;
 import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
@@ -30,7 +29,18 @@ import com.hazelcast.nio.serialization.StreamSerializer;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 
+/**
+ * Hazelcast serializer of a single {@link Record}. Every record is encoded on its own, so rows
+ * carry their full table id and use the tagged {@link SeaTunnelRowCodec} encoding. Channels that
+ * send batches of records use the more compact {@link RecordBatchCodec}.
+ */
 public class RecordSerializer implements StreamSerializer<Record> {
+    /**
+     * Written before every record. Engines without a format version started with the {@link
+     * RecordDataType} ordinal, which is always below it.
+     */
+    static final byte FORMAT_VERSION = 2;
+
     enum RecordDataType {
         CHECKPOINT_BARRIER,
         SEATUNNEL_ROW;
@@ -39,6 +49,7 @@ public class RecordSerializer implements StreamSerializer<Record> {
     @Override
     public void write(ObjectDataOutput out, Record record) throws IOException {
         Object data = record.getData();
+        out.writeByte(FORMAT_VERSION);
         if (data instanceof CheckpointBarrier) {
             CheckpointBarrier checkpointBarrier = (CheckpointBarrier) data;
             out.writeByte(RecordDataType.CHECKPOINT_BARRIER.ordinal());
@@ -51,11 +62,7 @@ public class RecordSerializer implements StreamSerializer<Record> {
             SeaTunnelRow row = (SeaTunnelRow) data;
             out.writeByte(RecordDataType.SEATUNNEL_ROW.ordinal());
             out.writeString(row.getTableId());
-            out.writeByte(row.getRowKind().toByteValue());
-            out.writeByte(row.getArity());
-            for (Object field : row.getFields()) {
-                out.writeObject(field);
-            }
+            SeaTunnelRowCodec.writeTaggedRow(out, row);
         } else {
             throw new UnsupportedEncodingException(
                     "Unsupported serialize class: " + data.getClass());
@@ -65,6 +72,14 @@ public class RecordSerializer implements StreamSerializer<Record> {
     @Override
     public Record read(ObjectDataInput in) throws IOException {
         Object data;
+        byte version = in.readByte();
+        if (version != FORMAT_VERSION) {
+            throw new UnsupportedEncodingException(
+                    String.format(
+                            "Unsupported record format version %s, expected %s. "
+                                    + "All members of a cluster must run the same SeaTunnel version.",
+                            version, FORMAT_VERSION));
+        }
         byte dataType = in.readByte();
         if (dataType == RecordDataType.CHECKPOINT_BARRIER.ordinal()) {
             data =
@@ -76,14 +91,8 @@ public class RecordSerializer implements StreamSerializer<Record> {
                             in.readObject());
         } else if (dataType == RecordDataType.SEATUNNEL_ROW.ordinal()) {
             String tableId = in.readString();
-            byte rowKind = in.readByte();
-            byte arity = in.readByte();
-            SeaTunnelRow row = new SeaTunnelRow(arity);
+            SeaTunnelRow row = SeaTunnelRowCodec.readTaggedRow(in);
             row.setTableId(tableId);
-            row.setRowKind(RowKind.fromByteValue(rowKind));
-            for (int i = 0; i < arity; i++) {
-                row.setField(i, in.readObject());
-            }
             data = row;
         } else {
             throw new UnsupportedEncodingException(
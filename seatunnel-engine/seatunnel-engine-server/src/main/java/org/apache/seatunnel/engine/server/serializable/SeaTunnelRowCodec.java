@@ -0,0 +1,586 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.serializable;
+
+import org.apache.seatunnel.api.table.type.ArrayType;
+import org.apache.seatunnel.api.table.type.MapType;
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.UnsupportedEncodingException;
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compact binary codec for {@link SeaTunnelRow}.
+ *
+ * <p>A codec created for a {@link SeaTunnelRowType} resolves one field writer/reader per column up
+ * front and encodes a row as its {@link RowKind}, a null bitmap and the non-null values only:
+ * primitives use their fixed width, strings and bytes are prefixed with a varint length. The table
+ * id of the row itself is not part of the encoding, channels that carry rows of several tables
+ * encode it with a {@link TableIdDictionary}, see {@link RecordBatchCodec}. Nested rows keep their
+ * table id.
+ *
+ * <p>When the row type is unknown, as in {@link RecordSerializer}, {@link #writeTaggedRow} and
+ * {@link #readTaggedRow} also write the null bitmap, but prefix every non-null value with a one
+ * byte type tag, and only fall back to generic object serialization for values outside the
+ * SeaTunnel type system.
+ */
+public final class SeaTunnelRowCodec {
+
+    private static final byte TAG_NULL = 0;
+    private static final byte TAG_BOOLEAN = 1;
+    private static final byte TAG_BYTE = 2;
+    private static final byte TAG_SHORT = 3;
+    private static final byte TAG_INT = 4;
+    private static final byte TAG_LONG = 5;
+    private static final byte TAG_FLOAT = 6;
+    private static final byte TAG_DOUBLE = 7;
+    private static final byte TAG_STRING = 8;
+    private static final byte TAG_BYTES = 9;
+    private static final byte TAG_DECIMAL = 10;
+    private static final byte TAG_DATE = 11;
+    private static final byte TAG_TIME = 12;
+    private static final byte TAG_TIMESTAMP = 13;
+    private static final byte TAG_TIMESTAMP_TZ = 14;
+    private static final byte TAG_ROW = 15;
+    private static final byte TAG_OBJECT = 16;
+
+    private final FieldCodec[] fieldCodecs;
+    private final int nullBitmapBytes;
+
+    public SeaTunnelRowCodec(SeaTunnelRowType rowType) {
+        SeaTunnelDataType<?>[] fieldTypes = rowType.getFieldTypes();
+        this.fieldCodecs = new FieldCodec[fieldTypes.length];
+        for (int i = 0; i < fieldTypes.length; i++) {
+            fieldCodecs[i] = createFieldCodec(fieldTypes[i]);
+        }
+        this.nullBitmapBytes = (fieldTypes.length + 7) >>> 3;
+    }
+
+    public int getArity() {
+        return fieldCodecs.length;
+    }
+
+    public void write(DataOutput out, SeaTunnelRow row) throws IOException {
+        out.writeByte(row.getRowKind().toByteValue());
+        Object[] fields = row.getFields();
+        if (fields.length != fieldCodecs.length) {
+            throw new IllegalArgumentException(
+                    String.format(
+                            "Row arity %s does not match the codec arity %s",
+                            fields.length, fieldCodecs.length));
+        }
+        writeNullBitmap(out, fields);
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i] != null) {
+                fieldCodecs[i].write(out, fields[i]);
+            }
+        }
+    }
+
+    public SeaTunnelRow read(DataInput in) throws IOException {
+        RowKind rowKind = RowKind.fromByteValue(in.readByte());
+        int arity = fieldCodecs.length;
+        Object[] fields = new Object[arity];
+        byte[] nullBitmap = new byte[nullBitmapBytes];
+        in.readFully(nullBitmap);
+        for (int i = 0; i < arity; i++) {
+            if (!isNull(nullBitmap, i)) {
+                fields[i] = fieldCodecs[i].read(in);
+            }
+        }
+        SeaTunnelRow row = new SeaTunnelRow(fields);
+        row.setRowKind(rowKind);
+        return row;
+    }
+
+    /** Write a row without schema, every non-null field is prefixed with a type tag. */
+    public static void writeTaggedRow(DataOutput out, SeaTunnelRow row) throws IOException {
+        out.writeByte(row.getRowKind().toByteValue());
+        Object[] fields = row.getFields();
+        writeVarInt(out, fields.length);
+        writeNullBitmap(out, fields);
+        for (Object field : fields) {
+            if (field != null) {
+                writeTaggedValue(out, field);
+            }
+        }
+    }
+
+    public static SeaTunnelRow readTaggedRow(DataInput in) throws IOException {
+        RowKind rowKind = RowKind.fromByteValue(in.readByte());
+        int arity = readVarInt(in);
+        Object[] fields = new Object[arity];
+        byte[] nullBitmap = new byte[(arity + 7) >>> 3];
+        in.readFully(nullBitmap);
+        for (int i = 0; i < arity; i++) {
+            if (!isNull(nullBitmap, i)) {
+                fields[i] = readTaggedValue(in);
+            }
+        }
+        SeaTunnelRow row = new SeaTunnelRow(fields);
+        row.setRowKind(rowKind);
+        return row;
+    }
+
+    private static void writeNullBitmap(DataOutput out, Object[] fields) throws IOException {
+        int bytes = (fields.length + 7) >>> 3;
+        for (int b = 0; b < bytes; b++) {
+            int bits = 0;
+            int end = Math.min(fields.length, (b + 1) << 3);
+            for (int i = b << 3; i < end; i++) {
+                if (fields[i] == null) {
+                    bits |= 1 << (i & 7);
+                }
+            }
+            out.writeByte(bits);
+        }
+    }
+
+    private static boolean isNull(byte[] nullBitmap, int index) {
+        return (nullBitmap[index >>> 3] & (1 << (index & 7))) != 0;
+    }
+
+    public static void writeVarInt(DataOutput out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    public static int readVarInt(DataInput in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = in.readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    public static void writeString(DataOutput out, String value) throws IOException {
+        writeBytes(out, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String readString(DataInput in) throws IOException {
+        return new String(readBytes(in), StandardCharsets.UTF_8);
+    }
+
+    /** Nullable variant of {@link #writeString}, the length is shifted by one to mark null. */
+    public static void writeNullableString(DataOutput out, String value) throws IOException {
+        if (value == null) {
+            writeVarInt(out, 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length + 1);
+        out.write(bytes);
+    }
+
+    public static String readNullableString(DataInput in) throws IOException {
+        int length = readVarInt(in);
+        if (length == 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length - 1];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeBytes(DataOutput out, byte[] value) throws IOException {
+        writeVarInt(out, value.length);
+        out.write(value);
+    }
+
+    private static byte[] readBytes(DataInput in) throws IOException {
+        byte[] value = new byte[readVarInt(in)];
+        in.readFully(value);
+        return value;
+    }
+
+    private static void writeDecimal(DataOutput out, BigDecimal value) throws IOException {
+        writeVarInt(out, value.scale());
+        writeBytes(out, value.unscaledValue().toByteArray());
+    }
+
+    private static BigDecimal readDecimal(DataInput in) throws IOException {
+        int scale = readVarInt(in);
+        return new BigDecimal(new BigInteger(readBytes(in)), scale);
+    }
+
+    private static void writeTimestamp(DataOutput out, LocalDateTime value) throws IOException {
+        out.writeLong(value.toLocalDate().toEpochDay());
+        out.writeLong(value.toLocalTime().toNanoOfDay());
+    }
+
+    private static LocalDateTime readTimestamp(DataInput in) throws IOException {
+        return LocalDateTime.of(
+                LocalDate.ofEpochDay(in.readLong()), LocalTime.ofNanoOfDay(in.readLong()));
+    }
+
+    private static void writeTimestampTz(DataOutput out, OffsetDateTime value) throws IOException {
+        writeTimestamp(out, value.toLocalDateTime());
+        out.writeInt(value.getOffset().getTotalSeconds());
+    }
+
+    private static OffsetDateTime readTimestampTz(DataInput in) throws IOException {
+        LocalDateTime dateTime = readTimestamp(in);
+        return OffsetDateTime.of(dateTime, ZoneOffset.ofTotalSeconds(in.readInt()));
+    }
+
+    private static void writeByteBuffer(DataOutput out, ByteBuffer value) throws IOException {
+        ByteBuffer buffer = value.duplicate();
+        buffer.rewind();
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        writeBytes(out, bytes);
+    }
+
+    private static void writeTaggedValue(DataOutput out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(TAG_NULL);
+            return;
+        }
+        Class<?> clazz = value.getClass();
+        if (clazz == String.class) {
+            out.writeByte(TAG_STRING);
+            writeString(out, (String) value);
+        } else if (clazz == Integer.class) {
+            out.writeByte(TAG_INT);
+            out.writeInt((Integer) value);
+        } else if (clazz == Long.class) {
+            out.writeByte(TAG_LONG);
+            out.writeLong((Long) value);
+        } else if (clazz == Double.class) {
+            out.writeByte(TAG_DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (clazz == Boolean.class) {
+            out.writeByte(TAG_BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else if (clazz == BigDecimal.class) {
+            out.writeByte(TAG_DECIMAL);
+            writeDecimal(out, (BigDecimal) value);
+        } else if (clazz == LocalDateTime.class) {
+            out.writeByte(TAG_TIMESTAMP);
+            writeTimestamp(out, (LocalDateTime) value);
+        } else if (clazz == LocalDate.class) {
+            out.writeByte(TAG_DATE);
+            out.writeLong(((LocalDate) value).toEpochDay());
+        } else if (clazz == Float.class) {
+            out.writeByte(TAG_FLOAT);
+            out.writeFloat((Float) value);
+        } else if (clazz == Short.class) {
+            out.writeByte(TAG_SHORT);
+            out.writeShort((Short) value);
+        } else if (clazz == Byte.class) {
+            out.writeByte(TAG_BYTE);
+            out.writeByte((Byte) value);
+        } else if (clazz == byte[].class) {
+            out.writeByte(TAG_BYTES);
+            writeBytes(out, (byte[]) value);
+        } else if (clazz == LocalTime.class) {
+            out.writeByte(TAG_TIME);
+            out.writeLong(((LocalTime) value).toNanoOfDay());
+        } else if (clazz == OffsetDateTime.class) {
+            out.writeByte(TAG_TIMESTAMP_TZ);
+            writeTimestampTz(out, (OffsetDateTime) value);
+        } else if (clazz == SeaTunnelRow.class) {
+            out.writeByte(TAG_ROW);
+            SeaTunnelRow nested = (SeaTunnelRow) value;
+            writeNullableString(out, nested.getTableId());
+            writeTaggedRow(out, nested);
+        } else {
+            out.writeByte(TAG_OBJECT);
+            writeObject(out, value);
+        }
+    }
+
+    private static Object readTaggedValue(DataInput in) throws IOException {
+        byte tag = in.readByte();
+        switch (tag) {
+            case TAG_NULL:
+                return null;
+            case TAG_BOOLEAN:
+                return in.readBoolean();
+            case TAG_BYTE:
+                return in.readByte();
+            case TAG_SHORT:
+                return in.readShort();
+            case TAG_INT:
+                return in.readInt();
+            case TAG_LONG:
+                return in.readLong();
+            case TAG_FLOAT:
+                return in.readFloat();
+            case TAG_DOUBLE:
+                return in.readDouble();
+            case TAG_STRING:
+                return readString(in);
+            case TAG_BYTES:
+                return readBytes(in);
+            case TAG_DECIMAL:
+                return readDecimal(in);
+            case TAG_DATE:
+                return LocalDate.ofEpochDay(in.readLong());
+            case TAG_TIME:
+                return LocalTime.ofNanoOfDay(in.readLong());
+            case TAG_TIMESTAMP:
+                return readTimestamp(in);
+            case TAG_TIMESTAMP_TZ:
+                return readTimestampTz(in);
+            case TAG_ROW:
+                return readTaggedNestedRow(in);
+            case TAG_OBJECT:
+                return readObject(in);
+            default:
+                throw new UnsupportedEncodingException("Unsupported value tag: " + tag);
+        }
+    }
+
+    private static SeaTunnelRow readTaggedNestedRow(DataInput in) throws IOException {
+        String tableId = readNullableString(in);
+        SeaTunnelRow nested = readTaggedRow(in);
+        nested.setTableId(tableId);
+        return nested;
+    }
+
+    static void writeObject(DataOutput out, Object value) throws IOException {
+        if (out instanceof ObjectDataOutput) {
+            ((ObjectDataOutput) out).writeObject(value);
+            return;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOut = new ObjectOutputStream(bytes)) {
+            objectOut.writeObject(value);
+        }
+        writeBytes(out, bytes.toByteArray());
+    }
+
+    static Object readObject(DataInput in) throws IOException {
+        if (in instanceof ObjectDataInput) {
+            return ((ObjectDataInput) in).readObject();
+        }
+        try (ObjectInputStream objectIn =
+                new ObjectInputStream(new ByteArrayInputStream(readBytes(in)))) {
+            return objectIn.readObject();
+        } catch (ClassNotFoundException e) {
+            throw new IOException(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static FieldCodec createFieldCodec(SeaTunnelDataType<?> dataType) {
+        switch (dataType.getSqlType()) {
+            case BOOLEAN:
+                return FieldCodec.of(
+                        (out, value) -> out.writeBoolean((Boolean) value), DataInput::readBoolean);
+            case TINYINT:
+                return FieldCodec.of(
+                        (out, value) -> out.writeByte((Byte) value), DataInput::readByte);
+            case SMALLINT:
+                return FieldCodec.of(
+                        (out, value) -> out.writeShort((Short) value), DataInput::readShort);
+            case INT:
+                return FieldCodec.of(
+                        (out, value) -> out.writeInt((Integer) value), DataInput::readInt);
+            case BIGINT:
+                return FieldCodec.of(
+                        (out, value) -> out.writeLong((Long) value), DataInput::readLong);
+            case FLOAT:
+                return FieldCodec.of(
+                        (out, value) -> out.writeFloat((Float) value), DataInput::readFloat);
+            case DOUBLE:
+                return FieldCodec.of(
+                        (out, value) -> out.writeDouble((Double) value), DataInput::readDouble);
+            case STRING:
+                return FieldCodec.of(
+                        (out, value) -> writeString(out, (String) value),
+                        SeaTunnelRowCodec::readString);
+            case BYTES:
+                return FieldCodec.of(
+                        (out, value) -> writeBytes(out, (byte[]) value),
+                        SeaTunnelRowCodec::readBytes);
+            case DECIMAL:
+                return FieldCodec.of(
+                        (out, value) -> writeDecimal(out, (BigDecimal) value),
+                        SeaTunnelRowCodec::readDecimal);
+            case DATE:
+                return FieldCodec.of(
+                        (out, value) -> out.writeLong(((LocalDate) value).toEpochDay()),
+                        in -> LocalDate.ofEpochDay(in.readLong()));
+            case TIME:
+                return FieldCodec.of(
+                        (out, value) -> out.writeLong(((LocalTime) value).toNanoOfDay()),
+                        in -> LocalTime.ofNanoOfDay(in.readLong()));
+            case TIMESTAMP:
+                return FieldCodec.of(
+                        (out, value) -> writeTimestamp(out, (LocalDateTime) value),
+                        SeaTunnelRowCodec::readTimestamp);
+            case TIMESTAMP_TZ:
+                return FieldCodec.of(
+                        (out, value) -> writeTimestampTz(out, (OffsetDateTime) value),
+                        SeaTunnelRowCodec::readTimestampTz);
+            case NULL:
+                return FieldCodec.of((out, value) -> {}, in -> null);
+            case BINARY_VECTOR:
+            case FLOAT_VECTOR:
+            case FLOAT16_VECTOR:
+            case BFLOAT16_VECTOR:
+                return FieldCodec.of(
+                        (out, value) -> writeByteBuffer(out, (ByteBuffer) value),
+                        in -> ByteBuffer.wrap(readBytes(in)));
+            case ARRAY:
+                return createArrayCodec((ArrayType<?, ?>) dataType);
+            case MAP:
+                MapType<?, ?> mapType = (MapType<?, ?>) dataType;
+                return createMapCodec(
+                        createFieldCodec(mapType.getKeyType()),
+                        createFieldCodec(mapType.getValueType()));
+            case ROW:
+                SeaTunnelRowCodec rowCodec = new SeaTunnelRowCodec((SeaTunnelRowType) dataType);
+                return FieldCodec.of(
+                        (out, value) -> {
+                            SeaTunnelRow nested = (SeaTunnelRow) value;
+                            writeNullableString(out, nested.getTableId());
+                            rowCodec.write(out, nested);
+                        },
+                        in -> {
+                            String tableId = readNullableString(in);
+                            SeaTunnelRow nested = rowCodec.read(in);
+                            nested.setTableId(tableId);
+                            return nested;
+                        });
+            default:
+                // e.g. sparse vectors whose key and value classes are connector specific
+                return FieldCodec.of(
+                        SeaTunnelRowCodec::writeTaggedValue, SeaTunnelRowCodec::readTaggedValue);
+        }
+    }
+
+    private static FieldCodec createArrayCodec(ArrayType<?, ?> arrayType) {
+        FieldCodec elementCodec = createFieldCodec(arrayType.getElementType());
+        Class<?> elementClass = arrayType.getElementType().getTypeClass();
+        return FieldCodec.of(
+                (out, value) -> {
+                    Object[] elements = (Object[]) value;
+                    writeVarInt(out, elements.length);
+                    for (Object element : elements) {
+                        out.writeBoolean(element != null);
+                        if (element != null) {
+                            elementCodec.write(out, element);
+                        }
+                    }
+                },
+                in -> {
+                    int length = readVarInt(in);
+                    Object[] elements = (Object[]) Array.newInstance(elementClass, length);
+                    for (int i = 0; i < length; i++) {
+                        if (in.readBoolean()) {
+                            elements[i] = elementCodec.read(in);
+                        }
+                    }
+                    return elements;
+                });
+    }
+
+    private static FieldCodec createMapCodec(FieldCodec keyCodec, FieldCodec valueCodec) {
+        return FieldCodec.of(
+                (out, value) -> {
+                    Map<?, ?> map = (Map<?, ?>) value;
+                    writeVarInt(out, map.size());
+                    for (Map.Entry<?, ?> entry : map.entrySet()) {
+                        out.writeBoolean(entry.getKey() != null);
+                        if (entry.getKey() != null) {
+                            keyCodec.write(out, entry.getKey());
+                        }
+                        out.writeBoolean(entry.getValue() != null);
+                        if (entry.getValue() != null) {
+                            valueCodec.write(out, entry.getValue());
+                        }
+                    }
+                },
+                in -> {
+                    int size = readVarInt(in);
+                    Map<Object, Object> map = new LinkedHashMap<>();
+                    for (int i = 0; i < size; i++) {
+                        Object key = in.readBoolean() ? keyCodec.read(in) : null;
+                        Object value = in.readBoolean() ? valueCodec.read(in) : null;
+                        map.put(key, value);
+                    }
+                    return map;
+                });
+    }
+
+    @FunctionalInterface
+    private interface ValueWriter {
+        void write(DataOutput out, Object value) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface ValueReader {
+        Object read(DataInput in) throws IOException;
+    }
+
+    private static final class FieldCodec {
+        private final ValueWriter writer;
+        private final ValueReader reader;
+
+        private FieldCodec(ValueWriter writer, ValueReader reader) {
+            this.writer = writer;
+            this.reader = reader;
+        }
+
+        static FieldCodec of(ValueWriter writer, ValueReader reader) {
+            return new FieldCodec(writer, reader);
+        }
+
+        void write(DataOutput out, Object value) throws IOException {
+            writer.write(out, value);
+        }
+
+        Object read(DataInput in) throws IOException {
+            return reader.read(in);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.serializable;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Stateful table id encoding for one direction of a channel. The first occurrence of a table id is
+ * written in full and assigned the next index, after that only the varint index is written. The
+ * writer and the reader of a channel must each use their own instance and see the rows in the same
+ * order. A null table id is encoded like any other.
+ */
+public class TableIdDictionary {
+    private static final int NEW_ENTRY = 0;
+
+    private final Map<String, Integer> indexes = new HashMap<>();
+    private final List<String> tableIds = new ArrayList<>();
+
+    public void write(DataOutput out, String tableId) throws IOException {
+        Integer index = indexes.get(tableId);
+        if (index != null) {
+            SeaTunnelRowCodec.writeVarInt(out, index + 1);
+            return;
+        }
+        SeaTunnelRowCodec.writeVarInt(out, NEW_ENTRY);
+        SeaTunnelRowCodec.writeNullableString(out, tableId);
+        indexes.put(tableId, tableIds.size());
+        tableIds.add(tableId);
+    }
+
+    public String read(DataInput in) throws IOException {
+        int index = SeaTunnelRowCodec.readVarInt(in);
+        if (index != NEW_ENTRY) {
+            return tableIds.get(index - 1);
+        }
+        String tableId = SeaTunnelRowCodec.readNullableString(in);
+        indexes.put(tableId, tableIds.size());
+        tableIds.add(tableId);
+        return tableId;
+    }
+
+    public void reset() {
+        indexes.clear();
+        tableIds.clear();
+    }
+}
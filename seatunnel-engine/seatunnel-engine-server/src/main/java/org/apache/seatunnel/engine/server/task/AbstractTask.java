@@ -20,6 +20,9 @@ package org.apache.seatunnel.engine.server.task;
 import org.apache.seatunnel.api.serialization.Serializer;
 import org.apache.seatunnel.engine.common.utils.concurrent.CompletableFuture;
 import org.apache.seatunnel.engine.core.job.ConnectorJarIdentifier;
+import org.apache.seatunnel.engine.server.checkpoint.ActionSubtaskState;
+import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
+import org.apache.seatunnel.engine.server.checkpoint.SharedStateTracker;
 import org.apache.seatunnel.engine.server.checkpoint.operation.TaskReportStatusOperation;
 import org.apache.seatunnel.engine.server.execution.ProgressState;
 import org.apache.seatunnel.engine.server.execution.Task;
@@ -51,6 +54,9 @@ public abstract class AbstractTask implements Task {
 
     protected AtomicLong prepareCloseBarrierId;
 
+    /** Null unless incremental checkpoints are enabled, see {@link SharedStateTracker}. */
+    protected transient SharedStateTracker sharedStateTracker;
+
     protected Progress progress;
 
     public AbstractTask(long jobID, TaskLocation taskLocation) {
@@ -80,9 +86,29 @@ public abstract class AbstractTask implements Task {
     @Override
     public void init() throws Exception {
         this.restoreComplete = new CompletableFuture<>();
+        if (executionContext != null
+                && executionContext.getTaskExecutionService() != null
+                && executionContext
+                        .getTaskExecutionService()
+                        .getEngineConfig()
+                        .getCheckpointConfig()
+                        .getStorage()
+                        .isIncremental()) {
+            this.sharedStateTracker =
+                    new SharedStateTracker(taskLocation.getTaskGroupLocation().getPipelineId());
+        }
         progress.start();
     }
 
+    /** Returns the states to acknowledge the barrier with. */
+    protected List<ActionSubtaskState> trackSharedStates(
+            CheckpointBarrier barrier, List<ActionSubtaskState> states) {
+        if (sharedStateTracker == null) {
+            return states;
+        }
+        return sneaky(() -> sharedStateTracker.track(barrier, states));
+    }
+
     @NonNull @Override
     public abstract ProgressState call() throws Exception;
 
@@ -27,6 +27,7 @@ import org.apache.seatunnel.api.table.type.MultipleRowType;
 import org.apache.seatunnel.api.table.type.Record;
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowSizeEstimator;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.common.constants.PluginType;
 import org.apache.seatunnel.core.starter.flowcontrol.FlowControlGate;
@@ -40,6 +41,7 @@ import org.apache.commons.collections4.CollectionUtils;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -65,6 +67,8 @@ public class SeaTunnelSourceCollector<T> implements Collector<T> {
             new DataTypeChangeEventDispatcher();
     private Map<String, SeaTunnelRowType> rowTypeMap = new HashMap<>();
     private SeaTunnelDataType rowType;
+    private SeaTunnelRowSizeEstimator rowSizeEstimator;
+    private final Map<String, SeaTunnelRowSizeEstimator> rowSizeEstimatorMap = new HashMap<>();
     private FlowControlGate flowControlGate;
 
     public SeaTunnelSourceCollector(
@@ -74,41 +78,48 @@ public class SeaTunnelSourceCollector<T> implements Collector<T> {
             FlowControlStrategy flowControlStrategy,
             SeaTunnelDataType rowType,
             List<TablePath> tablePaths) {
+        this(checkpointLock, outputs, metricsContext, flowControlStrategy, rowType, tablePaths, 1);
+    }
+
+    public SeaTunnelSourceCollector(
+            Object checkpointLock,
+            List<OneInputFlowLifeCycle<Record<?>>> outputs,
+            MetricsContext metricsContext,
+            FlowControlStrategy flowControlStrategy,
+            SeaTunnelDataType rowType,
+            List<TablePath> tablePaths,
+            int bytesSampleInterval) {
         this.checkpointLock = checkpointLock;
         this.outputs = outputs;
         this.rowType = rowType;
         this.metricsContext = metricsContext;
-        if (rowType instanceof MultipleRowType) {
+        if (rowType instanceof SeaTunnelRowType) {
+            this.rowSizeEstimator = SeaTunnelRowSizeEstimator.of((SeaTunnelRowType) rowType);
+        } else if (rowType instanceof MultipleRowType) {
             ((MultipleRowType) rowType)
                     .iterator()
-                    .forEachRemaining(type -> this.rowTypeMap.put(type.getKey(), type.getValue()));
+                    .forEachRemaining(
+                            type -> {
+                                this.rowTypeMap.put(type.getKey(), type.getValue());
+                                this.rowSizeEstimatorMap.put(
+                                        type.getKey(),
+                                        SeaTunnelRowSizeEstimator.of(type.getValue()));
+                            });
         }
         this.taskMetricsCalcContext =
                 new TaskMetricsCalcContext(
                         metricsContext,
                         PluginType.SOURCE,
                         CollectionUtils.isNotEmpty(tablePaths),
-                        tablePaths);
+                        tablePaths,
+                        bytesSampleInterval);
         flowControlGate = FlowControlGate.create(flowControlStrategy);
     }
 
     @Override
     public void collect(T row) {
         try {
-            if (row instanceof SeaTunnelRow) {
-                String tableId = ((SeaTunnelRow) row).getTableId();
-                int size;
-                if (rowType instanceof SeaTunnelRowType) {
-                    size = ((SeaTunnelRow) row).getBytesSize((SeaTunnelRowType) rowType);
-                } else if (rowType instanceof MultipleRowType) {
-                    size = ((SeaTunnelRow) row).getBytesSize(rowTypeMap.get(tableId));
-                } else {
-                    throw new SeaTunnelEngineException(
-                            "Unsupported row type: " + rowType.getClass().getName());
-                }
-                flowControlGate.audit((SeaTunnelRow) row);
-                taskMetricsCalcContext.updateMetrics(row, tableId);
-            }
+            auditRow(row);
             sendRecordToNext(new Record<>(row));
             emptyThisPollNext = false;
         } catch (IOException e) {
@@ -116,16 +127,55 @@ public class SeaTunnelSourceCollector<T> implements Collector<T> {
         }
     }
 
+    @Override
+    public void collectBatch(List<T> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        try {
+            List<Record<?>> records = new ArrayList<>(rows.size());
+            for (T row : rows) {
+                auditRow(row);
+                records.add(new Record<>(row));
+            }
+            sendRecordsToNext(records);
+            emptyThisPollNext = false;
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private void auditRow(T row) {
+        if (row instanceof SeaTunnelRow) {
+            SeaTunnelRow seaTunnelRow = (SeaTunnelRow) row;
+            String tableId = seaTunnelRow.getTableId();
+            SeaTunnelRowSizeEstimator estimator;
+            if (rowType instanceof SeaTunnelRowType) {
+                estimator = rowSizeEstimator;
+            } else if (rowType instanceof MultipleRowType) {
+                estimator = rowSizeEstimatorMap.get(tableId);
+            } else {
+                throw new SeaTunnelEngineException(
+                        "Unsupported row type: " + rowType.getClass().getName());
+            }
+            int size = taskMetricsCalcContext.getBytesSize(seaTunnelRow, estimator);
+            flowControlGate.audit(seaTunnelRow, size);
+            taskMetricsCalcContext.updateRowMetrics(tableId, size);
+        }
+    }
+
     @Override
     public void collect(SchemaChangeEvent event) {
         try {
             if (rowType instanceof SeaTunnelRowType) {
                 rowType = dataTypeChangeEventHandler.reset((SeaTunnelRowType) rowType).apply(event);
+                rowSizeEstimator = SeaTunnelRowSizeEstimator.of((SeaTunnelRowType) rowType);
             } else if (rowType instanceof MultipleRowType) {
                 String tableId = event.tablePath().toString();
-                rowTypeMap.put(
-                        tableId,
-                        dataTypeChangeEventHandler.reset(rowTypeMap.get(tableId)).apply(event));
+                SeaTunnelRowType newRowType =
+                        dataTypeChangeEventHandler.reset(rowTypeMap.get(tableId)).apply(event);
+                rowTypeMap.put(tableId, newRowType);
+                rowSizeEstimatorMap.put(tableId, SeaTunnelRowSizeEstimator.of(newRowType));
             } else {
                 throw new SeaTunnelEngineException(
                         "Unsupported row type: " + rowType.getClass().getName());
@@ -196,4 +246,12 @@ public class SeaTunnelSourceCollector<T> implements Collector<T> {
             }
         }
     }
+
+    public void sendRecordsToNext(List<Record<?>> records) throws IOException {
+        synchronized (checkpointLock) {
+            for (OneInputFlowLifeCycle<Record<?>> output : outputs) {
+                output.receivedBatch(records);
+            }
+        }
+    }
 }
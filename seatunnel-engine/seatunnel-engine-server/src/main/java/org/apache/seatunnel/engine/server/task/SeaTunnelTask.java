@@ -23,6 +23,7 @@ import org.apache.seatunnel.api.table.type.Record;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.tracing.MDCTracer;
 import org.apache.seatunnel.common.utils.function.ConsumerWithException;
+import org.apache.seatunnel.engine.common.config.server.ServerConfigOptions;
 import org.apache.seatunnel.engine.common.utils.concurrent.CompletableFuture;
 import org.apache.seatunnel.engine.core.checkpoint.InternalCheckpointListener;
 import org.apache.seatunnel.engine.core.dag.actions.Action;
@@ -45,6 +46,7 @@ import org.apache.seatunnel.engine.server.dag.physical.flow.Flow;
 import org.apache.seatunnel.engine.server.dag.physical.flow.IntermediateExecutionFlow;
 import org.apache.seatunnel.engine.server.dag.physical.flow.PhysicalExecutionFlow;
 import org.apache.seatunnel.engine.server.dag.physical.flow.UnknownFlowException;
+import org.apache.seatunnel.engine.server.execution.TaskExecutionContext;
 import org.apache.seatunnel.engine.server.execution.TaskGroup;
 import org.apache.seatunnel.engine.server.execution.TaskLocation;
 import org.apache.seatunnel.engine.server.metrics.SeaTunnelMetricsContext;
@@ -59,6 +61,7 @@ import org.apache.seatunnel.engine.server.task.flow.SourceFlowLifeCycle;
 import org.apache.seatunnel.engine.server.task.flow.TransformFlowLifeCycle;
 import org.apache.seatunnel.engine.server.task.group.AbstractTaskGroupWithIntermediateQueue;
 import org.apache.seatunnel.engine.server.task.record.Barrier;
+import org.apache.seatunnel.engine.server.task.shuffle.ShuffleService;
 import org.apache.seatunnel.engine.server.task.statemachine.SeaTunnelTaskState;
 
 import com.hazelcast.core.HazelcastInstance;
@@ -110,6 +113,9 @@ public abstract class SeaTunnelTask extends AbstractTask {
 
     private final Map<Long, Integer> cycleAcks = new ConcurrentHashMap<>();
 
+    /** The last acknowledgement sent to the master, later ones are chained after it. */
+    private transient CompletableFuture<Object> pendingAcknowledge;
+
     protected int indexID;
 
     private TaskGroup taskBelongGroup;
@@ -241,6 +247,8 @@ public abstract class SeaTunnelTask extends AbstractTask {
             } else if (f.getAction() instanceof ShuffleAction) {
                 ShuffleAction shuffleAction = (ShuffleAction) f.getAction();
                 HazelcastInstance hazelcastInstance = getExecutionContext().getInstance();
+                ShuffleService shuffleService =
+                        getExecutionContext().getTaskExecutionService().getShuffleService();
                 if (flow.getNext().isEmpty()) {
                     lifeCycle =
                             new ShuffleSinkFlowLifeCycle(
@@ -248,6 +256,7 @@ public abstract class SeaTunnelTask extends AbstractTask {
                                     indexID,
                                     shuffleAction,
                                     hazelcastInstance,
+                                    shuffleService,
                                     completableFuture);
                 } else {
                     lifeCycle =
@@ -256,6 +265,7 @@ public abstract class SeaTunnelTask extends AbstractTask {
                                     indexID,
                                     shuffleAction,
                                     hazelcastInstance,
+                                    shuffleService,
                                     completableFuture);
                 }
                 outputs = flowLifeCycles;
@@ -345,17 +355,52 @@ public abstract class SeaTunnelTask extends AbstractTask {
                 this.prepareCloseBarrierId.set(barrier.getId());
             }
             if (barrier.snapshot()) {
-                this.getExecutionContext()
-                        .sendToMaster(
-                                new TaskAcknowledgeOperation(
-                                        this.taskLocation,
+                acknowledge(
+                        new TaskAcknowledgeOperation(
+                                this.taskLocation,
+                                (CheckpointBarrier) barrier,
+                                trackSharedStates(
                                         (CheckpointBarrier) barrier,
-                                        checkpointStates.remove(barrier.getId())))
-                        .join();
+                                        checkpointStates.remove(barrier.getId()))),
+                        barrier.prepareClose(this.taskLocation));
             }
         }
     }
 
+    /**
+     * Sends the acknowledgement to the master without waiting for it on the task thread, so
+     * shipping a large state does not stall the data flow. Acknowledgements stay in checkpoint
+     * order, a failed one fails the task on the next barrier, and the one of a closing task is
+     * awaited.
+     */
+    private synchronized void acknowledge(
+            TaskAcknowledgeOperation operation, boolean prepareClose) {
+        if (pendingAcknowledge == null) {
+            pendingAcknowledge = CompletableFuture.completedFuture(null);
+        } else if (pendingAcknowledge.isCompletedExceptionally()) {
+            pendingAcknowledge.join();
+        }
+        pendingAcknowledge =
+                new CompletableFuture<>(
+                        pendingAcknowledge.thenCompose(
+                                ignored -> this.getExecutionContext().sendToMaster(operation)));
+        if (prepareClose) {
+            pendingAcknowledge.join();
+        }
+    }
+
+    /** See {@link ServerConfigOptions#TASK_METRICS_BYTES_SAMPLE_INTERVAL}. */
+    public int getMetricsBytesSampleInterval() {
+        TaskExecutionContext executionContext = getExecutionContext();
+        if (executionContext == null || executionContext.getTaskExecutionService() == null) {
+            return ServerConfigOptions.TASK_METRICS_BYTES_SAMPLE_INTERVAL.defaultValue();
+        }
+        return executionContext
+                .getTaskExecutionService()
+                .getEngineConfig()
+                .getTaskMetricsBytesSampleInterval();
+    }
+
     public InvocationFuture<Object> triggerSchemaChangeBeforeCheckpoint() {
         log.info(
                 "trigger schema-change-before checkpoint. jobID[{}], taskLocation[{}]",
@@ -382,12 +427,18 @@ public abstract class SeaTunnelTask extends AbstractTask {
 
     @Override
     public void notifyCheckpointComplete(long checkpointId) throws Exception {
+        if (sharedStateTracker != null) {
+            sharedStateTracker.notifyCheckpointComplete(checkpointId);
+        }
         notifyAllAction(listener -> listener.notifyCheckpointComplete(checkpointId));
         tryClose(checkpointId);
     }
 
     @Override
     public void notifyCheckpointAborted(long checkpointId) throws Exception {
+        if (sharedStateTracker != null) {
+            sharedStateTracker.notifyCheckpointAborted(checkpointId);
+        }
         notifyAllAction(listener -> listener.notifyCheckpointAborted(checkpointId));
         tryClose(checkpointId);
     }
@@ -43,6 +43,17 @@ public class SeaTunnelTransformCollector implements Collector<Record<?>> {
         }
     }
 
+    @Override
+    public void collectBatch(List<Record<?>> records) {
+        for (OneInputFlowLifeCycle<Record<?>> output : outputs) {
+            try {
+                output.receivedBatch(records);
+            } catch (IOException e) {
+                throw new TaskRuntimeException(e);
+            }
+        }
+    }
+
     @Override
     public void close() {}
 }
@@ -169,11 +169,14 @@ public class SourceSplitEnumeratorTask<SplitT extends SourceSplit> extends Coord
                             new TaskAcknowledgeOperation(
                                     this.taskLocation,
                                     (CheckpointBarrier) barrier,
-                                    Collections.singletonList(
-                                            new ActionSubtaskState(
-                                                    ActionStateKey.of(source),
-                                                    -1,
-                                                    Collections.singletonList(serialize)))))
+                                    trackSharedStates(
+                                            (CheckpointBarrier) barrier,
+                                            Collections.singletonList(
+                                                    new ActionSubtaskState(
+                                                            ActionStateKey.of(source),
+                                                            -1,
+                                                            Collections.singletonList(
+                                                                    serialize))))))
                     .join();
         }
 
@@ -392,6 +395,9 @@ public class SourceSplitEnumeratorTask<SplitT extends SourceSplit> extends Coord
 
     @Override
     public void notifyCheckpointComplete(long checkpointId) throws Exception {
+        if (sharedStateTracker != null) {
+            sharedStateTracker.notifyCheckpointComplete(checkpointId);
+        }
         getEnumerator().notifyCheckpointComplete(checkpointId);
         if (prepareCloseBarrierId.get() == checkpointId) {
             closeCall();
@@ -400,6 +406,9 @@ public class SourceSplitEnumeratorTask<SplitT extends SourceSplit> extends Coord
 
     @Override
     public void notifyCheckpointAborted(long checkpointId) throws Exception {
+        if (sharedStateTracker != null) {
+            sharedStateTracker.notifyCheckpointAborted(checkpointId);
+        }
         getEnumerator().notifyCheckpointAborted(checkpointId);
         if (prepareCloseBarrierId.get() == checkpointId) {
             closeCall();
@@ -19,12 +19,15 @@ package org.apache.seatunnel.engine.server.task.flow;
 
 import org.apache.seatunnel.api.table.schema.event.SchemaChangeEvent;
 import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.engine.common.utils.concurrent.CompletableFuture;
 import org.apache.seatunnel.engine.core.dag.actions.ShuffleAction;
 import org.apache.seatunnel.engine.core.dag.actions.ShuffleStrategy;
 import org.apache.seatunnel.engine.server.checkpoint.ActionStateKey;
 import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
 import org.apache.seatunnel.engine.server.task.record.Barrier;
+import org.apache.seatunnel.engine.server.task.shuffle.ShuffleOutputChannel;
+import org.apache.seatunnel.engine.server.task.shuffle.ShuffleService;
 
 import com.hazelcast.collection.IQueue;
 import com.hazelcast.core.HazelcastInstance;
@@ -45,6 +48,10 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
     private final int taskIndex;
     private final ShuffleAction shuffleAction;
     private final Map<String, IQueue<Record<?>>> shuffles;
+    private final ShuffleService shuffleService;
+    // resolved lazily after the pipeline started, when all shuffle readers are registered
+    private final Map<String, ShuffleOutputChannel> shuffleChannels;
+    private final Map<String, SeaTunnelRowType> rowTypes;
     private final int shuffleBatchSize;
     private final long shuffleBatchFlushInterval;
     private final Map<String, Queue<Record<?>>> shuffleBuffer;
@@ -57,6 +64,7 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
             int taskIndex,
             ShuffleAction shuffleAction,
             HazelcastInstance hazelcastInstance,
+            ShuffleService shuffleService,
             CompletableFuture<Void> completableFuture) {
         super(runningTask, completableFuture);
         this.pipelineId = runningTask.getTaskLocation().getTaskGroupLocation().getPipelineId();
@@ -64,6 +72,9 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
         this.shuffleAction = shuffleAction;
         this.shuffleStrategy = shuffleAction.getConfig().getShuffleStrategy();
         this.shuffles = shuffleStrategy.createShuffles(hazelcastInstance, pipelineId, taskIndex);
+        this.shuffleService = shuffleService;
+        this.shuffleChannels = new HashMap<>();
+        this.rowTypes = ShuffleService.getRowTypes(shuffleStrategy);
         this.shuffleBatchSize = shuffleAction.getConfig().getBatchSize();
         this.shuffleBatchFlushInterval = shuffleAction.getConfig().getBatchFlushInterval();
         this.shuffleBuffer = new HashMap<>();
@@ -88,10 +99,9 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
             runningTask.ack(barrier);
 
             // The barrier needs to be replicated to all channels
-            for (Map.Entry<String, IQueue<Record<?>>> shuffle : shuffles.entrySet()) {
-                IQueue<Record<?>> shuffleQueue = shuffle.getValue();
+            for (String shuffleKey : shuffles.keySet()) {
                 try {
-                    shuffleQueue.put(record);
+                    getShuffleChannel(shuffleKey).put(record);
                 } catch (InterruptedException e) {
                     throw new RuntimeException(e);
                 }
@@ -120,13 +130,21 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
     @Override
     public void close() throws IOException {
         super.close();
+        for (ShuffleOutputChannel shuffleChannel : shuffleChannels.values()) {
+            try {
+                shuffleChannel.close();
+            } catch (IOException e) {
+                // the reader may already be gone once it received the final barrier
+                log.warn("close shuffle channel {} failed", shuffleChannel.getName(), e);
+            }
+        }
         for (Map.Entry<String, IQueue<Record<?>>> shuffleItem : shuffles.entrySet()) {
             log.info("destroy shuffle queue: {}", shuffleItem.getKey());
             shuffleItem.getValue().destroy();
         }
     }
 
-    private synchronized void shuffleItem(Record<?> record) {
+    private synchronized void shuffleItem(Record<?> record) throws IOException {
         String shuffleKey = shuffleStrategy.createShuffleKey(record, pipelineId, taskIndex);
         shuffleBuffer.computeIfAbsent(shuffleKey, key -> new LinkedList<>()).add(record);
         shuffleBufferSize++;
@@ -138,27 +156,31 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
         }
     }
 
-    private synchronized void shuffleFlush() {
+    private synchronized void shuffleFlush() throws IOException {
         for (Map.Entry<String, Queue<Record<?>>> shuffleBatch : shuffleBuffer.entrySet()) {
-            IQueue<Record<?>> shuffleQueue = shuffles.get(shuffleBatch.getKey());
             Queue<Record<?>> shuffleQueueBatch = shuffleBatch.getValue();
-            if (shuffleQueue.remainingCapacity() <= 0
-                    || !shuffleQueue.addAll(shuffleBatch.getValue())) {
-                for (; ; ) {
-                    Record<?> shuffleItem = shuffleQueueBatch.poll();
-                    if (shuffleItem == null) {
-                        break;
-                    }
-                    try {
-                        shuffleQueue.put(shuffleItem);
-                    } catch (InterruptedException e) {
-                        throw new RuntimeException(e);
-                    }
-                }
+            if (shuffleQueueBatch.isEmpty()) {
+                continue;
+            }
+            try {
+                getShuffleChannel(shuffleBatch.getKey()).putAll(shuffleQueueBatch);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
             }
             shuffleQueueBatch.clear();
         }
         shuffleBufferSize = 0;
         lastModify = System.currentTimeMillis();
     }
+
+    private ShuffleOutputChannel getShuffleChannel(String shuffleKey) throws IOException {
+        ShuffleOutputChannel shuffleChannel = shuffleChannels.get(shuffleKey);
+        if (shuffleChannel == null) {
+            shuffleChannel =
+                    shuffleService.createOutputChannel(
+                            shuffles.get(shuffleKey).getName(), rowTypes);
+            shuffleChannels.put(shuffleKey, shuffleChannel);
+        }
+        return shuffleChannel;
+    }
 }
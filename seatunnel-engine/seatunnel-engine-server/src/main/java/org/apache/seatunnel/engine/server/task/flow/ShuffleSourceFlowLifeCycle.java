@@ -18,12 +18,16 @@
 package org.apache.seatunnel.engine.server.task.flow;
 
 import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.api.transform.Collector;
 import org.apache.seatunnel.engine.common.utils.concurrent.CompletableFuture;
 import org.apache.seatunnel.engine.core.dag.actions.ShuffleAction;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleStrategy;
 import org.apache.seatunnel.engine.server.checkpoint.ActionStateKey;
 import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
 import org.apache.seatunnel.engine.server.task.record.Barrier;
+import org.apache.seatunnel.engine.server.task.shuffle.ShuffleInputChannel;
+import org.apache.seatunnel.engine.server.task.shuffle.ShuffleService;
 
 import com.hazelcast.collection.IQueue;
 import com.hazelcast.core.HazelcastInstance;
@@ -42,7 +46,7 @@ public class ShuffleSourceFlowLifeCycle<T> extends AbstractFlowLifeCycle
         implements OneOutputFlowLifeCycle<Record<?>> {
     private final ShuffleAction shuffleAction;
     private final int shuffleBatchSize;
-    private final IQueue<Record<?>>[] shuffles;
+    private final ShuffleInputChannel[] shuffles;
     private Map<Integer, List<Record<?>>> unsentBufferMap = new HashMap<>();
     private final Map<Integer, Barrier> alignedBarriers = new HashMap<>();
     private long currentCheckpointId = Long.MAX_VALUE;
@@ -53,15 +57,23 @@ public class ShuffleSourceFlowLifeCycle<T> extends AbstractFlowLifeCycle
             int taskIndex,
             ShuffleAction shuffleAction,
             HazelcastInstance hazelcastInstance,
+            ShuffleService shuffleService,
             CompletableFuture<Void> completableFuture) {
         super(runningTask, completableFuture);
         int pipelineId = runningTask.getTaskLocation().getPipelineId();
         this.shuffleAction = shuffleAction;
-        this.shuffles =
-                shuffleAction
-                        .getConfig()
-                        .getShuffleStrategy()
-                        .getShuffles(hazelcastInstance, pipelineId, taskIndex);
+        ShuffleStrategy shuffleStrategy = shuffleAction.getConfig().getShuffleStrategy();
+        IQueue<Record<?>>[] shuffleQueues =
+                shuffleStrategy.getShuffles(hazelcastInstance, pipelineId, taskIndex);
+        Map<String, SeaTunnelRowType> rowTypes = ShuffleService.getRowTypes(shuffleStrategy);
+        this.shuffles = new ShuffleInputChannel[shuffleQueues.length];
+        for (int i = 0; i < shuffleQueues.length; i++) {
+            shuffles[i] =
+                    shuffleService.createInputChannel(
+                            shuffleQueues[i].getName(),
+                            shuffleStrategy.getQueueMaxSize(),
+                            rowTypes);
+        }
         this.shuffleBatchSize = shuffleAction.getConfig().getBatchSize();
     }
 
@@ -70,7 +82,7 @@ public class ShuffleSourceFlowLifeCycle<T> extends AbstractFlowLifeCycle
         int emptyShuffleQueueCount = 0;
 
         for (int i = 0; i < shuffles.length; i++) {
-            IQueue<Record<?>> shuffleQueue = shuffles[i];
+            ShuffleInputChannel shuffleQueue = shuffles[i];
             List<Record<?>> unsentBuffer =
                     unsentBufferMap.computeIfAbsent(i, k -> new LinkedList<>());
             if (shuffleQueue.size() == 0) {
@@ -151,7 +163,7 @@ public class ShuffleSourceFlowLifeCycle<T> extends AbstractFlowLifeCycle
     @Override
     public void close() throws IOException {
         super.close();
-        for (IQueue<Record<?>> shuffleQueue : shuffles) {
+        for (ShuffleInputChannel shuffleQueue : shuffles) {
             log.info("destroy shuffle queue: {}", shuffleQueue.getName());
             shuffleQueue.destroy();
         }
@@ -102,6 +102,12 @@ public class SinkFlowLifeCycle<T, CommitInfoT extends Serializable, AggregatedCo
     /** Mapping relationship between upstream tablepath and downstream tablepath. */
     private final Map<TablePath, TablePath> tablesMaps = new HashMap<>();
 
+    /** The downstream table full name resolved once per upstream table id of the rows. */
+    private final Map<String, String> sinkTableIds = new HashMap<>();
+
+    /** The table full name of a single table sink, resolved on the first row. */
+    private String singleSinkTableId;
+
     public SinkFlowLifeCycle(
             SinkAction<T, StateT, CommitInfoT, AggregatedCommitInfoT> sinkAction,
             TaskLocation taskLocation,
@@ -140,7 +146,12 @@ public class SinkFlowLifeCycle<T, CommitInfoT extends Serializable, AggregatedCo
             }
         }
         this.taskMetricsCalcContext =
-                new TaskMetricsCalcContext(metricsContext, PluginType.SINK, isMulti, sinkTables);
+                new TaskMetricsCalcContext(
+                        metricsContext,
+                        PluginType.SINK,
+                        isMulti,
+                        sinkTables,
+                        runningTask.getMetricsBytesSampleInterval());
     }
 
     @Override
@@ -264,43 +275,77 @@ public class SinkFlowLifeCycle<T, CommitInfoT extends Serializable, AggregatedCo
                 if (prepareClose) {
                     return;
                 }
-                String tableId = "";
                 writer.write((T) record.getData());
-                if (record.getData() instanceof SeaTunnelRow) {
-                    if (this.sinkAction.getSink() instanceof MultiTableSink) {
-                        if (((SeaTunnelRow) record.getData()).getTableId() == null
-                                || ((SeaTunnelRow) record.getData()).getTableId().isEmpty()) {
-                            tableId = ((SeaTunnelRow) record.getData()).getTableId();
-                        } else {
-
-                            TablePath tablePath =
-                                    tablesMaps.get(
-                                            TablePath.of(
-                                                    ((SeaTunnelRow) record.getData())
-                                                            .getTableId()));
-                            tableId =
-                                    tablePath != null
-                                            ? tablePath.getFullName()
-                                            : TablePath.DEFAULT.getFullName();
-                        }
-
-                    } else {
-                        Optional<CatalogTable> writeCatalogTable =
-                                this.sinkAction.getSink().getWriteCatalogTable();
-                        tableId =
-                                writeCatalogTable
-                                        .map(
-                                                catalogTable ->
-                                                        catalogTable.getTablePath().getFullName())
-                                        .orElseGet(TablePath.DEFAULT::getFullName);
-                    }
+                updateMetrics(record.getData());
+            }
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
 
-                    taskMetricsCalcContext.updateMetrics(record.getData(), tableId);
-                }
+    @Override
+    public void receivedBatch(List<Record<?>> records) {
+        List<T> rows = new ArrayList<>(records.size());
+        for (Record<?> record : records) {
+            if (record.getData() instanceof Barrier
+                    || record.getData() instanceof SchemaChangeEvent) {
+                // rows before a barrier must be written before the barrier snapshots the writer
+                writeRows(rows);
+                rows = new ArrayList<>();
+                received(record);
+            } else if (!prepareClose) {
+                rows.add((T) record.getData());
             }
+        }
+        writeRows(rows);
+    }
+
+    private void writeRows(List<T> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        try {
+            writer.writeBatch(rows);
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
+        for (T row : rows) {
+            updateMetrics(row);
+        }
+    }
+
+    private void updateMetrics(Object data) {
+        String rowTableId;
+        if (data instanceof SeaTunnelRow) {
+            rowTableId = ((SeaTunnelRow) data).getTableId();
+        } else {
+            return;
+        }
+        String tableId;
+        if (this.sinkAction.getSink() instanceof MultiTableSink) {
+            if (rowTableId == null || rowTableId.isEmpty()) {
+                tableId = rowTableId;
+            } else {
+                tableId = sinkTableIds.computeIfAbsent(rowTableId, this::resolveSinkTableId);
+            }
+        } else {
+            if (singleSinkTableId == null) {
+                Optional<CatalogTable> writeCatalogTable =
+                        this.sinkAction.getSink().getWriteCatalogTable();
+                singleSinkTableId =
+                        writeCatalogTable
+                                .map(catalogTable -> catalogTable.getTablePath().getFullName())
+                                .orElseGet(TablePath.DEFAULT::getFullName);
+            }
+            tableId = singleSinkTableId;
+        }
+
+        taskMetricsCalcContext.updateMetrics(data, tableId);
+    }
+
+    private String resolveSinkTableId(String rowTableId) {
+        TablePath tablePath = tablesMaps.get(TablePath.of(rowTableId));
+        return tablePath != null ? tablePath.getFullName() : TablePath.DEFAULT.getFullName();
     }
 
     @Override
@@ -129,6 +129,56 @@ public class TransformFlowLifeCycle<T> extends ActionFlowLifeCycle
         }
     }
 
+    @Override
+    public void receivedBatch(List<Record<?>> records) {
+        List<T> rows = new ArrayList<>(records.size());
+        for (Record<?> record : records) {
+            if (record.getData() instanceof Barrier
+                    || record.getData() instanceof SchemaChangeEvent) {
+                // keep the order between rows and barriers or schema change events
+                emitRows(rows);
+                rows = new ArrayList<>();
+                received(record);
+            } else if (!prepareClose) {
+                rows.add((T) record.getData());
+            }
+        }
+        emitRows(rows);
+    }
+
+    private void emitRows(List<T> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        List<T> outputDataList = transformBatch(rows);
+        if (outputDataList.isEmpty()) {
+            return;
+        }
+        List<Record<?>> outputRecords = new ArrayList<>(outputDataList.size());
+        for (T outputData : outputDataList) {
+            outputRecords.add(new Record<>(outputData));
+        }
+        collector.collectBatch(outputRecords);
+    }
+
+    public List<T> transformBatch(List<T> inputDataList) {
+        List<T> dataList = inputDataList;
+        for (SeaTunnelTransform<T> transformer : transform) {
+            if (dataList.isEmpty()) {
+                break;
+            }
+            if (transformer instanceof SeaTunnelFlatMapTransform) {
+                dataList = ((SeaTunnelFlatMapTransform<T>) transformer).flatMapBatch(dataList);
+            } else if (transformer instanceof SeaTunnelMapTransform) {
+                dataList = ((SeaTunnelMapTransform<T>) transformer).mapBatch(dataList);
+            } else {
+                dataList = Collections.emptyList();
+            }
+            log.debug("Transform[{}] output {} rows in batch", transformer, dataList.size());
+        }
+        return dataList;
+    }
+
     public List<T> transform(T inputData) {
         if (transform.isEmpty()) {
             return Collections.singletonList(inputData);
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.group;
+
+import org.apache.seatunnel.engine.server.execution.Task;
+import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
+import org.apache.seatunnel.engine.server.execution.TaskGroupType;
+import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
+import org.apache.seatunnel.engine.server.task.group.queue.AbstractIntermediateQueue;
+import org.apache.seatunnel.engine.server.task.group.queue.IntermediateRingBufferQueue;
+import org.apache.seatunnel.engine.server.task.group.queue.ringbuffer.SpscRingBuffer;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class TaskGroupWithIntermediateRingBuffer extends AbstractTaskGroupWithIntermediateQueue {
+
+    /** Number of slots, a slot holds a single record or a batch of rows. */
+    public static final int RING_BUFFER_SIZE = 1024;
+
+    public TaskGroupWithIntermediateRingBuffer(
+            TaskGroupLocation taskGroupLocation, String taskGroupName, Collection<Task> tasks) {
+        super(taskGroupLocation, taskGroupName, tasks);
+    }
+
+    private Map<Long, SpscRingBuffer<Object>> ringBufferCache = null;
+
+    @Override
+    public void init() {
+        ringBufferCache = new ConcurrentHashMap<>();
+        getTasks().stream()
+                .filter(SeaTunnelTask.class::isInstance)
+                .map(s -> (SeaTunnelTask) s)
+                .forEach(s -> s.setTaskGroup(this));
+    }
+
+    @Override
+    public AbstractIntermediateQueue<?> getQueueCache(long id) {
+        return new IntermediateRingBufferQueue(
+                ringBufferCache.computeIfAbsent(id, i -> new SpscRingBuffer<>(RING_BUFFER_SIZE)));
+    }
+
+    @Override
+    public TaskGroupType getTaskGroupType() {
+        return TaskGroupType.INTERMEDIATE_RING_BUFFER_QUEUE;
+    }
+}
@@ -24,11 +24,20 @@ import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
 import org.apache.seatunnel.engine.server.task.record.Barrier;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.TimeUnit;
 
 public class IntermediateBlockingQueue extends AbstractIntermediateQueue<BlockingQueue<Record<?>>> {
 
+    /** The max number of records handed to the downstream collector in one batch. */
+    private static final int MAX_COLLECT_BATCH_SIZE = 1024;
+
+    private final List<Record<?>> collectBuffer = new ArrayList<>();
+
+    private final List<Record<?>> rowBatch = new ArrayList<>();
+
     public IntermediateBlockingQueue(BlockingQueue<Record<?>> queue) {
         super(queue);
     }
@@ -47,13 +56,49 @@ public class IntermediateBlockingQueue extends AbstractIntermediateQueue<Blockin
         while (true) {
             Record<?> record = getIntermediateQueue().poll(100, TimeUnit.MILLISECONDS);
             if (record != null) {
-                handleRecord(record, collector::collect);
+                collectBuffer.add(record);
+                getIntermediateQueue().drainTo(collectBuffer, MAX_COLLECT_BATCH_SIZE - 1);
+                try {
+                    collectBatch(collectBuffer, collector);
+                } finally {
+                    collectBuffer.clear();
+                }
             } else {
                 break;
             }
         }
     }
 
+    /** Hand over consecutive rows as one batch, barriers are still handled one by one. */
+    private void collectBatch(List<Record<?>> records, Collector<Record<?>> collector)
+            throws Exception {
+        try {
+            for (Record<?> record : records) {
+                if (record.getData() instanceof Barrier) {
+                    flushRowBatch(collector);
+                    handleRecord(record, collector::collect);
+                } else if (!getIntermediateQueueFlowLifeCycle().getPrepareClose()) {
+                    rowBatch.add(record);
+                }
+            }
+            flushRowBatch(collector);
+        } finally {
+            rowBatch.clear();
+        }
+    }
+
+    private void flushRowBatch(Collector<Record<?>> collector) {
+        if (rowBatch.isEmpty()) {
+            return;
+        }
+        if (rowBatch.size() == 1) {
+            collector.collect(rowBatch.get(0));
+        } else {
+            collector.collectBatch(new ArrayList<>(rowBatch));
+        }
+        rowBatch.clear();
+    }
+
     @Override
     public void close() throws IOException {
         getIntermediateQueue().clear();
@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.group.queue;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.transform.Collector;
+import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
+import org.apache.seatunnel.engine.server.task.group.queue.ringbuffer.SpscRingBuffer;
+import org.apache.seatunnel.engine.server.task.record.Barrier;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Intermediate queue backed by a {@link SpscRingBuffer}. A slot holds either a single {@link
+ * Record} or a batch of row records, so a batch crosses the queue with one handover. Barriers
+ * always take their own slot, which keeps them in order with the rows around them.
+ */
+public class IntermediateRingBufferQueue extends AbstractIntermediateQueue<SpscRingBuffer<Object>> {
+
+    /**
+     * The producer and the consumer task each hold their own instance over the same ring, this is
+     * set on the consumer side, which is the only side allowed to take elements out of the ring.
+     */
+    private volatile boolean consumerSide;
+
+    public IntermediateRingBufferQueue(SpscRingBuffer<Object> queue) {
+        super(queue);
+    }
+
+    @Override
+    public void received(Record<?> record) {
+        try {
+            if (record.getData() instanceof Barrier) {
+                handleBarrier(record);
+            } else if (getIntermediateQueueFlowLifeCycle().getPrepareClose()) {
+                return;
+            }
+            getIntermediateQueue().put(record);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void receivedBatch(List<Record<?>> records) {
+        List<Record<?>> rows = new ArrayList<>(records.size());
+        for (Record<?> record : records) {
+            if (record.getData() instanceof Barrier) {
+                putRows(rows);
+                rows = new ArrayList<>();
+                received(record);
+            } else if (!getIntermediateQueueFlowLifeCycle().getPrepareClose()) {
+                rows.add(record);
+            }
+        }
+        putRows(rows);
+    }
+
+    private void putRows(List<Record<?>> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        try {
+            getIntermediateQueue().put(rows.size() == 1 ? rows.get(0) : rows);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void collect(Collector<Record<?>> collector) throws Exception {
+        consumerSide = true;
+        while (true) {
+            Object slot = getIntermediateQueue().poll(100, TimeUnit.MILLISECONDS);
+            if (slot == null) {
+                break;
+            }
+            if (slot instanceof List) {
+                if (!getIntermediateQueueFlowLifeCycle().getPrepareClose()) {
+                    collector.collectBatch((List<Record<?>>) slot);
+                }
+                continue;
+            }
+            Record<?> record = (Record<?>) slot;
+            if (record.getData() instanceof Barrier) {
+                handleBarrier(record);
+                collector.collect(record);
+            } else if (!getIntermediateQueueFlowLifeCycle().getPrepareClose()) {
+                collector.collect(record);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        // clearing drains the ring, which would race the consumer if done by the producer
+        if (consumerSide) {
+            getIntermediateQueue().clear();
+        }
+    }
+
+    private void handleBarrier(Record<?> record) {
+        CheckpointBarrier barrier = (CheckpointBarrier) record.getData();
+        getRunningTask().ack(barrier);
+        if (barrier.prepareClose(this.getRunningTask().getTaskLocation())) {
+            getIntermediateQueueFlowLifeCycle().setPrepareClose(true);
+        }
+    }
+}
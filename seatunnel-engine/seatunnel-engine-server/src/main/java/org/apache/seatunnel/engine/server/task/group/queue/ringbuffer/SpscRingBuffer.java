@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.group.queue.ringbuffer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A bounded lock-free ring buffer for exactly one producer thread and one consumer thread.
+ *
+ * <p>The producer and consumer indexes are padded to live on different cache lines, and each side
+ * caches the index of the other side so it only reads the shared volatile when the cached value
+ * says the buffer is full or empty. Blocking {@link #put(Object)} and {@link #poll(long, TimeUnit)}
+ * spin first, then yield, then park with an exponential back-off.
+ */
+@SuppressWarnings("unused")
+public class SpscRingBuffer<E> {
+
+    private static final AtomicLongFieldUpdater<SpscRingBuffer> PRODUCER_INDEX =
+            AtomicLongFieldUpdater.newUpdater(SpscRingBuffer.class, "producerIndex");
+
+    private static final AtomicLongFieldUpdater<SpscRingBuffer> CONSUMER_INDEX =
+            AtomicLongFieldUpdater.newUpdater(SpscRingBuffer.class, "consumerIndex");
+
+    private static final int SPIN_TRIES = 128;
+    private static final int YIELD_TRIES = 16;
+    private static final long MIN_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(10);
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    // HotSpot lays out long fields in declaration order, the padding keeps the hot indexes of
+    // the producer and the consumer on different cache lines
+    private long p00, p01, p02, p03, p04, p05, p06, p07;
+
+    /** Written by the producer only. */
+    private volatile long producerIndex;
+
+    /** Producer local copy of {@link #consumerIndex}. */
+    private long consumerIndexCache;
+
+    private long p10, p11, p12, p13, p14, p15, p16, p17;
+
+    /** Written by the consumer only. */
+    private volatile long consumerIndex;
+
+    /** Consumer local copy of {@link #producerIndex}. */
+    private long producerIndexCache;
+
+    private long p20, p21, p22, p23, p24, p25, p26, p27;
+
+    private final Object[] buffer;
+
+    private final int mask;
+
+    private final int capacity;
+
+    /** @param capacity the buffer capacity, rounded up to the next power of two */
+    public SpscRingBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive, but is " + capacity);
+        }
+        int actualCapacity = 1;
+        while (actualCapacity < capacity) {
+            actualCapacity <<= 1;
+        }
+        this.capacity = actualCapacity;
+        this.mask = actualCapacity - 1;
+        this.buffer = new Object[actualCapacity];
+    }
+
+    /** Producer only. Returns false if the buffer is full. */
+    public boolean offer(E element) {
+        if (element == null) {
+            throw new NullPointerException("element must not be null");
+        }
+        long index = producerIndex;
+        if (index - consumerIndexCache >= capacity) {
+            consumerIndexCache = consumerIndex;
+            if (index - consumerIndexCache >= capacity) {
+                return false;
+            }
+        }
+        buffer[(int) index & mask] = element;
+        // the ordered write publishes the element to the consumer
+        PRODUCER_INDEX.lazySet(this, index + 1);
+        return true;
+    }
+
+    /** Producer only. Waits until there is space in the buffer. */
+    public void put(E element) throws InterruptedException {
+        int idleRounds = 0;
+        while (!offer(element)) {
+            idle(idleRounds++);
+        }
+    }
+
+    /** Consumer only. Returns null if the buffer is empty. */
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        long index = consumerIndex;
+        if (index >= producerIndexCache) {
+            producerIndexCache = producerIndex;
+            if (index >= producerIndexCache) {
+                return null;
+            }
+        }
+        int offset = (int) index & mask;
+        E element = (E) buffer[offset];
+        buffer[offset] = null;
+        CONSUMER_INDEX.lazySet(this, index + 1);
+        return element;
+    }
+
+    /** Consumer only. Waits up to the timeout for an element, returns null if none arrived. */
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        E element = poll();
+        if (element != null) {
+            return element;
+        }
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        int idleRounds = 0;
+        while ((element = poll()) == null) {
+            if (System.nanoTime() - deadline >= 0) {
+                return null;
+            }
+            idle(idleRounds++);
+        }
+        return element;
+    }
+
+    public int size() {
+        // read the consumer first, so the result is never negative
+        long consumer = consumerIndex;
+        long producer = producerIndex;
+        return (int) Math.min(producer - consumer, capacity);
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /** Consumer only. Drops all elements in the buffer. */
+    public void clear() {
+        while (poll() != null) {
+            // drop
+        }
+    }
+
+    private static void idle(int idleRounds) throws InterruptedException {
+        // busy spin first, the other side is usually only a few hundred nanoseconds behind
+        if (idleRounds >= SPIN_TRIES + YIELD_TRIES) {
+            int parks = idleRounds - SPIN_TRIES - YIELD_TRIES;
+            LockSupport.parkNanos(
+                    parks >= 7
+                            ? MAX_PARK_NANOS
+                            : Math.min(MIN_PARK_NANOS << parks, MAX_PARK_NANOS));
+        } else if (idleRounds >= SPIN_TRIES) {
+            Thread.yield();
+        }
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+    }
+}
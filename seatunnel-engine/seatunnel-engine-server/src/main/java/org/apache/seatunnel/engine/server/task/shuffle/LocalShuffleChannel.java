@@ -0,0 +1,309 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.shuffle;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Buffer of the reader side of a shuffle channel, registered on the member of the reader.
+ *
+ * <p>When the shuffle writer is deployed on the same member it writes to this channel directly and
+ * records are handed over without serialization. Rows are copied on the way in, including their
+ * nested arrays, maps and rows, so that neither side sees the other mutating a row. The writer has
+ * to acquire one credit per record before it is enqueued, and the reader returns the credits once
+ * the records are drained, so at most {@code capacity} records are buffered at any time.
+ *
+ * <p>A writer on another member is attached as a {@link RemoteWriter} instead. It is granted the
+ * free credits of the channel and every credit the reader returns afterwards, and only sends as
+ * many records as it holds credits for.
+ */
+public class LocalShuffleChannel implements ShuffleInputChannel, ShuffleOutputChannel {
+    private final String name;
+    private final int capacity;
+    private final Semaphore credits;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final ArrayDeque<Record<?>> buffer = new ArrayDeque<>();
+    // guarded by lock
+    private RemoteWriter remoteWriter;
+
+    /** Writer of the channel on another member. */
+    public interface RemoteWriter {
+        /** Called without holding the channel lock. */
+        void grant(int credits);
+
+        void close();
+    }
+
+    public LocalShuffleChannel(String name, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive, but is " + capacity);
+        }
+        this.name = name;
+        this.capacity = capacity;
+        this.credits = new Semaphore(capacity);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /** Hands the free credits and all credits returned from now on to a remote writer. */
+    public void attachRemoteWriter(RemoteWriter writer) {
+        int granted;
+        lock.lock();
+        try {
+            if (remoteWriter != null) {
+                throw new IllegalStateException(
+                        "Shuffle channel " + name + " already has a remote writer");
+            }
+            remoteWriter = writer;
+            granted = credits.drainPermits();
+        } finally {
+            lock.unlock();
+        }
+        if (granted > 0) {
+            writer.grant(granted);
+        }
+    }
+
+    public void detachRemoteWriter(RemoteWriter writer) {
+        lock.lock();
+        try {
+            if (remoteWriter == writer) {
+                remoteWriter = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Enqueue records a remote writer held credits for. They were just deserialized, so they are
+     * not copied.
+     */
+    public void putGranted(Collection<Record<?>> records) {
+        lock.lock();
+        try {
+            buffer.addAll(records);
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void put(Record<?> record) throws InterruptedException {
+        Record<?> copy = copyRecord(record);
+        credits.acquire();
+        lock.lock();
+        try {
+            buffer.add(copy);
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void putAll(Collection<Record<?>> records) throws InterruptedException {
+        Iterator<Record<?>> iterator = records.iterator();
+        int remaining = records.size();
+        while (remaining > 0) {
+            int granted = Math.min(remaining, capacity);
+            credits.acquire(granted);
+            lock.lock();
+            try {
+                for (int i = 0; i < granted; i++) {
+                    buffer.add(copyRecord(iterator.next()));
+                }
+                notEmpty.signal();
+            } finally {
+                lock.unlock();
+            }
+            remaining -= granted;
+        }
+    }
+
+    @Override
+    public Record<?> take() throws InterruptedException {
+        Record<?> record;
+        RemoteWriter writer;
+        lock.lockInterruptibly();
+        try {
+            while (buffer.isEmpty()) {
+                notEmpty.await();
+            }
+            record = buffer.poll();
+            writer = returnCredits(1);
+        } finally {
+            lock.unlock();
+        }
+        if (writer != null) {
+            writer.grant(1);
+        }
+        return record;
+    }
+
+    @Override
+    public Record<?> poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        Record<?> record;
+        RemoteWriter writer;
+        lock.lockInterruptibly();
+        try {
+            while (buffer.isEmpty()) {
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            record = buffer.poll();
+            writer = returnCredits(1);
+        } finally {
+            lock.unlock();
+        }
+        if (writer != null) {
+            writer.grant(1);
+        }
+        return record;
+    }
+
+    @Override
+    public int drainTo(Collection<Record<?>> target, int maxElements) {
+        int drained = 0;
+        RemoteWriter writer = null;
+        lock.lock();
+        try {
+            while (drained < maxElements && !buffer.isEmpty()) {
+                target.add(buffer.poll());
+                drained++;
+            }
+            if (drained > 0) {
+                writer = returnCredits(drained);
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (writer != null) {
+            writer.grant(drained);
+        }
+        return drained;
+    }
+
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return buffer.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        RemoteWriter writer;
+        lock.lock();
+        try {
+            // wake up a local writer that is still waiting for credits
+            writer = returnCredits(buffer.size());
+            buffer.clear();
+            remoteWriter = null;
+        } finally {
+            lock.unlock();
+        }
+        if (writer != null) {
+            writer.close();
+        }
+    }
+
+    /** The writer side is released by the reader, see {@link #destroy()}. */
+    @Override
+    public void close() {}
+
+    /**
+     * Must be called with the lock held, so that the credits cannot be released to the semaphore
+     * while they are handed to a remote writer.
+     *
+     * @return the remote writer to grant the credits to, or null if they were released locally
+     */
+    private RemoteWriter returnCredits(int returned) {
+        if (remoteWriter == null) {
+            credits.release(returned);
+        }
+        return remoteWriter;
+    }
+
+    private static Record<?> copyRecord(Record<?> record) {
+        if (record.getData() instanceof SeaTunnelRow) {
+            return new Record<>(copyRow((SeaTunnelRow) record.getData()));
+        }
+        return record;
+    }
+
+    private static SeaTunnelRow copyRow(SeaTunnelRow row) {
+        SeaTunnelRow copy = row.copy();
+        Object[] fields = copy.getFields();
+        for (int i = 0; i < fields.length; i++) {
+            fields[i] = copyValue(fields[i]);
+        }
+        return copy;
+    }
+
+    /** Copies the mutable containers of a row value, all other values are immutable. */
+    private static Object copyValue(Object value) {
+        if (value instanceof SeaTunnelRow) {
+            return copyRow((SeaTunnelRow) value);
+        }
+        if (value instanceof byte[]) {
+            return ((byte[]) value).clone();
+        }
+        if (value instanceof Object[]) {
+            Object[] elements = ((Object[]) value).clone();
+            for (int i = 0; i < elements.length; i++) {
+                elements[i] = copyValue(elements[i]);
+            }
+            return elements;
+        }
+        if (value instanceof Map) {
+            Map<Object, Object> entries = new LinkedHashMap<>();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                entries.put(copyValue(entry.getKey()), copyValue(entry.getValue()));
+            }
+            return entries;
+        }
+        return value;
+    }
+}
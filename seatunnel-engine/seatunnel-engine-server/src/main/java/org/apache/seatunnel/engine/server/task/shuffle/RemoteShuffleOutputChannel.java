@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.shuffle;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.engine.server.serializable.RecordBatchCodec;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writer side of a shuffle channel whose reader is deployed on another member. Records are encoded
+ * into {@link RecordBatchCodec} frames and sent to the {@link ShuffleDataServer} of the reader, at
+ * most as many as the reader granted credits for.
+ */
+@Slf4j
+public class RemoteShuffleOutputChannel implements ShuffleOutputChannel {
+    private static final int CONNECT_TIMEOUT_MS = 10_000;
+    // interval to check for interruption while waiting for credits
+    private static final int CREDIT_WAIT_MS = 1_000;
+
+    private final String name;
+    private final Socket socket;
+    private final InputStream in;
+    private final DataOutputStream out;
+    private final RecordBatchCodec codec;
+    private final ByteArrayOutputStream frame = new ByteArrayOutputStream();
+    private final DataOutputStream frameOut = new DataOutputStream(frame);
+    private final byte[] creditFrame = new byte[4];
+    private int creditFrameRead;
+    private int credits;
+
+    public RemoteShuffleOutputChannel(
+            String name, InetSocketAddress address, Map<String, SeaTunnelRowType> rowTypes)
+            throws IOException {
+        this.name = name;
+        this.codec = new RecordBatchCodec(rowTypes);
+        this.socket = new Socket();
+        try {
+            socket.setTcpNoDelay(true);
+            socket.connect(address, CONNECT_TIMEOUT_MS);
+            socket.setSoTimeout(CONNECT_TIMEOUT_MS);
+            this.in = socket.getInputStream();
+            this.out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            out.writeInt(ShuffleDataServer.MAGIC);
+            out.writeByte(ShuffleDataServer.PROTOCOL_VERSION);
+            out.writeUTF(name);
+            out.flush();
+            int status = in.read();
+            if (status != ShuffleDataServer.STATUS_OK) {
+                throw new IOException(
+                        String.format(
+                                "Shuffle reader of channel [%s] at %s refused the connection with status %s",
+                                name, address, status));
+            }
+            socket.setSoTimeout(CREDIT_WAIT_MS);
+        } catch (IOException e) {
+            socket.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public void put(Record<?> record) throws IOException, InterruptedException {
+        putAll(Collections.singletonList(record));
+    }
+
+    @Override
+    public void putAll(Collection<Record<?>> records) throws IOException, InterruptedException {
+        Iterator<Record<?>> iterator = records.iterator();
+        int remaining = records.size();
+        while (remaining > 0) {
+            awaitCredits();
+            int granted = Math.min(remaining, credits);
+            List<Record<?>> batch = new ArrayList<>(granted);
+            for (int i = 0; i < granted; i++) {
+                batch.add(iterator.next());
+            }
+            frame.reset();
+            codec.write(frameOut, batch);
+            out.writeInt(frame.size());
+            frame.writeTo(out);
+            out.flush();
+            credits -= granted;
+            remaining -= granted;
+        }
+    }
+
+    private void awaitCredits() throws IOException, InterruptedException {
+        while (in.available() > 0) {
+            readCreditFrame();
+        }
+        while (credits == 0) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            readCreditFrame();
+        }
+    }
+
+    /** Keeps a partially read frame when the read times out, so it can be resumed. */
+    private void readCreditFrame() throws IOException {
+        try {
+            while (creditFrameRead < creditFrame.length) {
+                int read =
+                        in.read(creditFrame, creditFrameRead, creditFrame.length - creditFrameRead);
+                if (read < 0) {
+                    throw new EOFException(
+                            "Shuffle reader of channel [" + name + "] closed the connection");
+                }
+                creditFrameRead += read;
+            }
+        } catch (SocketTimeoutException e) {
+            return;
+        }
+        creditFrameRead = 0;
+        credits +=
+                ((creditFrame[0] & 0xFF) << 24)
+                        | ((creditFrame[1] & 0xFF) << 16)
+                        | ((creditFrame[2] & 0xFF) << 8)
+                        | (creditFrame[3] & 0xFF);
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            out.writeInt(ShuffleDataServer.END_OF_STREAM);
+            out.flush();
+        } finally {
+            socket.close();
+        }
+    }
+}
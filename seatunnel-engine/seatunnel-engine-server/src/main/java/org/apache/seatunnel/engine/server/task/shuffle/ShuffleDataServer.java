@@ -0,0 +1,225 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.shuffle;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.engine.server.serializable.RecordBatchCodec;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Receives the records of shuffle writers on other members over plain TCP connections, one per
+ * channel.
+ *
+ * <p>A writer opens the connection with {@link #MAGIC}, {@link #PROTOCOL_VERSION} and the channel
+ * name, and the server answers with a status byte. After that the writer sends frames of an int
+ * length followed by a {@link RecordBatchCodec} batch, and {@link #END_OF_STREAM} instead of a
+ * length when it is done. The server sends an int credit frame whenever the reader consumed
+ * records, and the writer never sends more records than it was granted credits for, so the reader
+ * buffers at most the capacity of its channel and the connection thread never blocks on a full
+ * buffer.
+ */
+@Slf4j
+public class ShuffleDataServer implements Closeable {
+    static final int MAGIC = 0x53545348;
+    static final byte PROTOCOL_VERSION = 1;
+    static final byte STATUS_OK = 0;
+    static final byte STATUS_UNKNOWN_CHANNEL = 1;
+    static final byte STATUS_UNSUPPORTED_VERSION = 2;
+    static final int END_OF_STREAM = -1;
+
+    private final ServerSocket serverSocket;
+    private final Function<String, LocalShuffleChannel> channels;
+    private final Function<String, Map<String, SeaTunnelRowType>> rowTypes;
+    private final Set<Connection> connections = ConcurrentHashMap.newKeySet();
+    private volatile boolean running = true;
+
+    public ShuffleDataServer(
+            String host,
+            Function<String, LocalShuffleChannel> channels,
+            Function<String, Map<String, SeaTunnelRowType>> rowTypes)
+            throws IOException {
+        this.channels = channels;
+        this.rowTypes = rowTypes;
+        this.serverSocket = new ServerSocket();
+        serverSocket.bind(new InetSocketAddress(host, 0));
+        Thread acceptor = new Thread(this::accept, "shuffle-data-server-" + getPort());
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    public String getHost() {
+        return serverSocket.getInetAddress().getHostAddress();
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    private void accept() {
+        while (running) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                Connection connection = new Connection(socket);
+                connections.add(connection);
+                Thread thread = new Thread(connection, "shuffle-data-connection-" + getPort());
+                thread.setDaemon(true);
+                thread.start();
+            } catch (IOException e) {
+                if (running) {
+                    log.warn("Failed to accept shuffle data connection", e);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        running = false;
+        serverSocket.close();
+        for (Connection connection : connections) {
+            connection.close();
+        }
+    }
+
+    private class Connection implements Runnable, LocalShuffleChannel.RemoteWriter {
+        private final Socket socket;
+        private final DataOutputStream out;
+        private LocalShuffleChannel channel;
+        // credits returned by the reader, but not sent to the writer yet
+        private int pendingCredits;
+        private int grantThreshold = 1;
+        private volatile boolean closed;
+
+        Connection(Socket socket) throws IOException {
+            this.socket = socket;
+            this.out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+        }
+
+        @Override
+        public void run() {
+            try {
+                DataInputStream in =
+                        new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+                if (!handshake(in)) {
+                    return;
+                }
+                RecordBatchCodec codec = new RecordBatchCodec(rowTypes.apply(channel.getName()));
+                int length;
+                while ((length = in.readInt()) != END_OF_STREAM) {
+                    byte[] frame = new byte[length];
+                    in.readFully(frame);
+                    List<Record<?>> records =
+                            codec.read(new DataInputStream(new ByteArrayInputStream(frame)));
+                    channel.putGranted(records);
+                }
+            } catch (IOException e) {
+                if (!closed) {
+                    log.warn(
+                            "Shuffle data connection of channel [{}] failed",
+                            channel == null ? null : channel.getName(),
+                            e);
+                }
+            } finally {
+                if (channel != null) {
+                    channel.detachRemoteWriter(this);
+                }
+                close();
+            }
+        }
+
+        private boolean handshake(DataInputStream in) throws IOException {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a shuffle data connection: " + socket);
+            }
+            if (in.readByte() != PROTOCOL_VERSION) {
+                sendStatus(STATUS_UNSUPPORTED_VERSION);
+                return false;
+            }
+            String channelName = in.readUTF();
+            LocalShuffleChannel localChannel = channels.apply(channelName);
+            if (localChannel == null) {
+                sendStatus(STATUS_UNKNOWN_CHANNEL);
+                return false;
+            }
+            sendStatus(STATUS_OK);
+            grantThreshold = Math.max(1, localChannel.getCapacity() / 4);
+            channel = localChannel;
+            localChannel.attachRemoteWriter(this);
+            return true;
+        }
+
+        private synchronized void sendStatus(byte status) throws IOException {
+            out.writeByte(status);
+            out.flush();
+        }
+
+        /**
+         * Credits are sent in chunks of at least a quarter of the capacity. This cannot stall the
+         * writer: it only runs out of credits when all credits it was granted are buffered or
+         * returned, and the reader keeps returning them until they add up to the threshold.
+         */
+        @Override
+        public synchronized void grant(int credits) {
+            if (closed) {
+                return;
+            }
+            pendingCredits += credits;
+            if (pendingCredits < grantThreshold) {
+                return;
+            }
+            try {
+                out.writeInt(pendingCredits);
+                out.flush();
+                pendingCredits = 0;
+            } catch (IOException e) {
+                log.warn("Failed to grant shuffle credits to {}", socket, e);
+                close();
+            }
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            connections.remove(this);
+            try {
+                socket.close();
+            } catch (IOException e) {
+                log.debug("Failed to close shuffle data connection", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.shuffle;
+
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleMultipleRowStrategy;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleStrategy;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Node level registry of shuffle channels. Shuffle readers register a {@link LocalShuffleChannel}
+ * for each channel they consume when their task is initialized, and publish the address of the
+ * {@link ShuffleDataServer} of this member in the endpoint map shared by the cluster. Shuffle
+ * writers resolve their channels once the pipeline has started, which guarantees that every reader
+ * of the pipeline has been registered: if the reader lives on the same member the records are
+ * passed by reference through the {@link LocalShuffleChannel}, otherwise they are streamed to the
+ * reader by a {@link RemoteShuffleOutputChannel}. The endpoint map is the only data the cluster
+ * membership service sees, the records never go through Hazelcast.
+ */
+@Slf4j
+public class ShuffleService {
+    private final String host;
+    private final Map<String, String> endpoints;
+    private final ConcurrentMap<String, LocalShuffleChannel> localChannels =
+            new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Map<String, SeaTunnelRowType>> channelRowTypes =
+            new ConcurrentHashMap<>();
+    private ShuffleDataServer dataServer;
+    private String endpoint;
+
+    /**
+     * @param host the address the data server of this member binds to
+     * @param endpoints the data server address of every registered channel, shared by the cluster
+     */
+    public ShuffleService(String host, Map<String, String> endpoints) {
+        this.host = host;
+        this.endpoints = endpoints;
+    }
+
+    public ShuffleInputChannel createInputChannel(
+            String name, int capacity, Map<String, SeaTunnelRowType> rowTypes) {
+        LocalShuffleChannel localChannel = new LocalShuffleChannel(name, capacity);
+        channelRowTypes.put(name, rowTypes);
+        LocalShuffleChannel previous = localChannels.put(name, localChannel);
+        if (previous != null) {
+            // clear old data when job restore
+            previous.destroy();
+        }
+        endpoints.put(name, getEndpoint());
+        return new RegisteredInputChannel(localChannel);
+    }
+
+    public ShuffleOutputChannel createOutputChannel(
+            String name, Map<String, SeaTunnelRowType> rowTypes) throws IOException {
+        LocalShuffleChannel localChannel = localChannels.get(name);
+        if (localChannel != null) {
+            log.info("shuffle channel [{}] uses local channel", name);
+            return localChannel;
+        }
+        String endpoint = endpoints.get(name);
+        if (endpoint == null) {
+            throw new IllegalStateException("No shuffle reader registered for channel " + name);
+        }
+        int separator = endpoint.lastIndexOf(':');
+        InetSocketAddress address =
+                new InetSocketAddress(
+                        endpoint.substring(0, separator),
+                        Integer.parseInt(endpoint.substring(separator + 1)));
+        log.info("shuffle channel [{}] streams to {}", name, address);
+        return new RemoteShuffleOutputChannel(name, address, rowTypes);
+    }
+
+    public int getLocalChannelCount() {
+        return localChannels.size();
+    }
+
+    public synchronized void shutdown() {
+        if (dataServer != null) {
+            try {
+                dataServer.close();
+            } catch (IOException e) {
+                log.warn("Failed to close shuffle data server", e);
+            }
+            dataServer = null;
+        }
+    }
+
+    /** The row types of the tables a shuffle carries, used to encode the rows by schema. */
+    public static Map<String, SeaTunnelRowType> getRowTypes(ShuffleStrategy shuffleStrategy) {
+        if (!(shuffleStrategy instanceof ShuffleMultipleRowStrategy)) {
+            return Collections.emptyMap();
+        }
+        Map<String, SeaTunnelRowType> rowTypes = new HashMap<>();
+        for (CatalogTable catalogTable :
+                ((ShuffleMultipleRowStrategy) shuffleStrategy).getCatalogTables()) {
+            rowTypes.put(
+                    catalogTable.getTableId().toTablePath().toString(),
+                    catalogTable.getSeaTunnelRowType());
+        }
+        return rowTypes;
+    }
+
+    /** The data server is only started once this member reads a shuffle. */
+    private synchronized String getEndpoint() {
+        if (dataServer == null) {
+            try {
+                dataServer = new ShuffleDataServer(host, localChannels::get, channelRowTypes::get);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to start shuffle data server", e);
+            }
+            endpoint = host + ":" + dataServer.getPort();
+            log.info("shuffle data server listens on {}", endpoint);
+        }
+        return endpoint;
+    }
+
+    private void releaseInputChannel(LocalShuffleChannel localChannel) {
+        String name = localChannel.getName();
+        if (localChannels.remove(name, localChannel)) {
+            channelRowTypes.remove(name);
+            endpoints.remove(name, endpoint);
+        }
+        localChannel.destroy();
+    }
+
+    /** Unregisters the channel when the reader destroys it. */
+    private class RegisteredInputChannel implements ShuffleInputChannel {
+        private final LocalShuffleChannel localChannel;
+
+        RegisteredInputChannel(LocalShuffleChannel localChannel) {
+            this.localChannel = localChannel;
+        }
+
+        @Override
+        public String getName() {
+            return localChannel.getName();
+        }
+
+        @Override
+        public Record<?> take() throws InterruptedException {
+            return localChannel.take();
+        }
+
+        @Override
+        public Record<?> poll(long timeout, TimeUnit unit) throws InterruptedException {
+            return localChannel.poll(timeout, unit);
+        }
+
+        @Override
+        public int drainTo(Collection<Record<?>> target, int maxElements) {
+            return localChannel.drainTo(target, maxElements);
+        }
+
+        @Override
+        public int size() {
+            return localChannel.size();
+        }
+
+        @Override
+        public void destroy() {
+            releaseInputChannel(localChannel);
+        }
+    }
+}
@@ -0,0 +1,265 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.checkpoint;
+
+import org.apache.seatunnel.engine.checkpoint.storage.api.CheckpointStorage;
+import org.apache.seatunnel.engine.checkpoint.storage.exception.CheckpointStorageException;
+import org.apache.seatunnel.engine.checkpoint.storage.localfile.LocalFileStorage;
+import org.apache.seatunnel.engine.core.checkpoint.CheckpointType;
+import org.apache.seatunnel.engine.serializer.api.Serializer;
+import org.apache.seatunnel.engine.serializer.protobuf.ProtoStuffSerializer;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.apache.seatunnel.engine.checkpoint.storage.constants.StorageConstants.STORAGE_NAME_SPACE;
+
+public class SharedStateRegistryTest {
+
+    private static final long JOB_ID = 1L;
+
+    private static final ActionStateKey STATE_KEY = new ActionStateKey("source");
+
+    private final Serializer serializer = new ProtoStuffSerializer();
+
+    @Test
+    public void testUnchangedStateIsStoredOnce(@TempDir Path namespace) throws Exception {
+        CheckpointStorage storage = createStorage(namespace);
+        SharedStateRegistry registry =
+                new SharedStateRegistry(storage, serializer, JOB_ID, 1, true);
+        File sharedDirectory = new File(namespace.toFile(), JOB_ID + File.separator + "shared");
+
+        byte[] unchanged = bytes(SharedStateRegistry.MIN_SHARED_STATE_BYTES, 1);
+        CompletedCheckpoint persisted =
+                registry.register(
+                                checkpoint(
+                                        1,
+                                        unchanged,
+                                        bytes(SharedStateRegistry.MIN_SHARED_STATE_BYTES, 2)))
+                        .join();
+        Assertions.assertEquals(2, sharedDirectory.list().length);
+        ActionState persistedState = persisted.getTaskStates().get(STATE_KEY);
+        Assertions.assertNull(persistedState.getSubtaskStates().get(0).getState());
+        Assertions.assertNotNull(persistedState.getSubtaskStates().get(0).getSharedStateHandle());
+        // small states stay inline
+        Assertions.assertNull(persistedState.getCoordinatorState().getSharedStateHandle());
+
+        registry.register(
+                        checkpoint(
+                                2, unchanged, bytes(SharedStateRegistry.MIN_SHARED_STATE_BYTES, 3)))
+                .join();
+        Assertions.assertEquals(3, sharedDirectory.list().length);
+
+        // the state only referenced by the first checkpoint is deleted with it
+        registry.discard(Collections.singletonList("1"));
+        Assertions.assertEquals(2, sharedDirectory.list().length);
+        registry.discard(Collections.singletonList("2"));
+        Assertions.assertEquals(0, sharedDirectory.list().length);
+    }
+
+    @Test
+    public void testRestoreResolvesSharedStates(@TempDir Path namespace) throws Exception {
+        CheckpointStorage storage = createStorage(namespace);
+        SharedStateRegistry registry =
+                new SharedStateRegistry(storage, serializer, JOB_ID, 1, true);
+        byte[] first = bytes(SharedStateRegistry.MIN_SHARED_STATE_BYTES, 1);
+        byte[] second = bytes(SharedStateRegistry.MIN_SHARED_STATE_BYTES, 2);
+        byte[] stored =
+                serializer.serialize(registry.register(checkpoint(1, first, second)).join());
+
+        CompletedCheckpoint restored = serializer.deserialize(stored, CompletedCheckpoint.class);
+        new SharedStateRegistry(storage, serializer, JOB_ID, 1, true).restore(restored);
+        ActionState actionState = restored.getTaskStates().get(STATE_KEY);
+        Assertions.assertArrayEquals(
+                first, actionState.getSubtaskStates().get(0).getState().get(0));
+        Assertions.assertArrayEquals(
+                second, actionState.getSubtaskStates().get(1).getState().get(0));
+        Assertions.assertArrayEquals(
+                new byte[] {0}, actionState.getCoordinatorState().getState().get(0));
+    }
+
+    @Test
+    public void testRestoreRetainsAllRetainedCheckpoints(@TempDir Path namespace) throws Exception {
+        CheckpointStorage storage = createStorage(namespace);
+        File sharedDirectory = new File(namespace.toFile(), JOB_ID + File.separator + "shared");
+        byte[] unchanged = bytes(SharedStateRegistry.MIN_SHARED_STATE_BYTES, 1);
+        SharedStateRegistry previous =
+                new SharedStateRegistry(storage, serializer, JOB_ID, 1, true);
+        byte[] first =
+                serializer.serialize(
+                        previous.register(
+                                        checkpoint(
+                                                1,
+                                                unchanged,
+                                                bytes(
+                                                        SharedStateRegistry.MIN_SHARED_STATE_BYTES,
+                                                        2)))
+                                .join());
+        byte[] second =
+                serializer.serialize(
+                        previous.register(
+                                        checkpoint(
+                                                2,
+                                                unchanged,
+                                                bytes(
+                                                        SharedStateRegistry.MIN_SHARED_STATE_BYTES,
+                                                        3)))
+                                .join());
+        Assertions.assertEquals(3, sharedDirectory.list().length);
+
+        SharedStateRegistry registry =
+                new SharedStateRegistry(storage, serializer, JOB_ID, 1, true);
+        registry.restore(serializer.deserialize(second, CompletedCheckpoint.class));
+        registry.retain(serializer.deserialize(first, CompletedCheckpoint.class));
+        registry.register(
+                        checkpoint(
+                                3, unchanged, bytes(SharedStateRegistry.MIN_SHARED_STATE_BYTES, 4)))
+                .join();
+        Assertions.assertEquals(4, sharedDirectory.list().length);
+
+        // every retained checkpoint keeps its states until the rotation discards it
+        registry.discard(Collections.singletonList("1"));
+        Assertions.assertEquals(3, sharedDirectory.list().length);
+        registry.discard(Collections.singletonList("2"));
+        Assertions.assertEquals(2, sharedDirectory.list().length);
+        registry.discard(Collections.singletonList("3"));
+        Assertions.assertEquals(0, sharedDirectory.list().length);
+    }
+
+    @Test
+    public void testUnchangedStateIsAcknowledgedByReference(@TempDir Path namespace)
+            throws Exception {
+        CheckpointStorage storage = createStorage(namespace);
+        SharedStateRegistry registry =
+                new SharedStateRegistry(storage, serializer, JOB_ID, 1, true);
+        SharedStateTracker tracker = new SharedStateTracker(1);
+        List<ActionSubtaskState> states =
+                Collections.singletonList(
+                        new ActionSubtaskState(
+                                STATE_KEY,
+                                0,
+                                Collections.singletonList(
+                                        bytes(SharedStateRegistry.MIN_SHARED_STATE_BYTES, 1))));
+
+        List<ActionSubtaskState> firstAck = tracker.track(barrier(1), states);
+        Assertions.assertNotNull(firstAck.get(0).getState());
+        String handle = firstAck.get(0).getSharedStateHandle();
+        Assertions.assertNotNull(handle);
+        registry.register(checkpoint(1, firstAck)).join();
+
+        // not referenced before the checkpoint completed
+        Assertions.assertNotNull(tracker.track(barrier(2), states).get(0).getState());
+        tracker.notifyCheckpointAborted(2);
+
+        tracker.notifyCheckpointComplete(1);
+        List<ActionSubtaskState> secondAck = tracker.track(barrier(3), states);
+        Assertions.assertNull(secondAck.get(0).getState());
+        Assertions.assertEquals(handle, secondAck.get(0).getSharedStateHandle());
+        CompletedCheckpoint persisted = registry.register(checkpoint(3, secondAck)).join();
+        Assertions.assertEquals(
+                handle,
+                persisted
+                        .getTaskStates()
+                        .get(STATE_KEY)
+                        .getSubtaskStates()
+                        .get(0)
+                        .getSharedStateHandle());
+
+        // a reference to a state no retained checkpoint holds fails the checkpoint
+        Assertions.assertThrows(
+                CheckpointStorageException.class,
+                () ->
+                        new SharedStateRegistry(storage, serializer, JOB_ID, 1, true)
+                                .register(checkpoint(4, secondAck)));
+    }
+
+    @Test
+    public void testDisabled(@TempDir Path namespace) throws Exception {
+        SharedStateRegistry registry =
+                new SharedStateRegistry(createStorage(namespace), serializer, JOB_ID, 1, false);
+        CompletedCheckpoint checkpoint =
+                checkpoint(1, bytes(SharedStateRegistry.MIN_SHARED_STATE_BYTES, 1), new byte[0]);
+        Assertions.assertSame(checkpoint, registry.register(checkpoint).join());
+    }
+
+    private CheckpointStorage createStorage(Path namespace) {
+        Map<String, String> config = new HashMap<>();
+        config.put(STORAGE_NAME_SPACE, namespace.toString());
+        return new LocalFileStorage(config);
+    }
+
+    private static CompletedCheckpoint checkpoint(long checkpointId, byte[]... subtaskStates) {
+        ActionState actionState = new ActionState(STATE_KEY, subtaskStates.length);
+        actionState.reportState(
+                -1,
+                new ActionSubtaskState(STATE_KEY, -1, Collections.singletonList(new byte[] {0})));
+        for (int i = 0; i < subtaskStates.length; i++) {
+            actionState.reportState(
+                    i,
+                    new ActionSubtaskState(
+                            STATE_KEY, i, Collections.singletonList(subtaskStates[i])));
+        }
+        Map<ActionStateKey, ActionState> taskStates = new HashMap<>();
+        taskStates.put(STATE_KEY, actionState);
+        return new CompletedCheckpoint(
+                JOB_ID,
+                1,
+                checkpointId,
+                0L,
+                CheckpointType.CHECKPOINT_TYPE,
+                0L,
+                taskStates,
+                new HashMap<>());
+    }
+
+    private static CompletedCheckpoint checkpoint(
+            long checkpointId, List<ActionSubtaskState> subtaskStates) {
+        ActionState actionState = new ActionState(STATE_KEY, subtaskStates.size());
+        subtaskStates.forEach(state -> actionState.reportState(state.getIndex(), state));
+        Map<ActionStateKey, ActionState> taskStates = new HashMap<>();
+        taskStates.put(STATE_KEY, actionState);
+        return new CompletedCheckpoint(
+                JOB_ID,
+                1,
+                checkpointId,
+                0L,
+                CheckpointType.CHECKPOINT_TYPE,
+                0L,
+                taskStates,
+                new HashMap<>());
+    }
+
+    private static CheckpointBarrier barrier(long checkpointId) {
+        return new CheckpointBarrier(checkpointId, 0L, CheckpointType.CHECKPOINT_TYPE);
+    }
+
+    private static byte[] bytes(int length, int value) {
+        byte[] bytes = new byte[length];
+        Arrays.fill(bytes, (byte) value);
+        return bytes;
+    }
+}
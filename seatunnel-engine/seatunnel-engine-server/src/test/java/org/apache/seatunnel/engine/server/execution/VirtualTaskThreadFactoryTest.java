@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.execution;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.await;
+
+public class VirtualTaskThreadFactoryTest {
+
+    @Test
+    public void testUnsupportedJvm() {
+        Assumptions.assumeFalse(VirtualTaskThreadFactory.isSupported());
+        Assertions.assertThrows(
+                UnsupportedOperationException.class,
+                () -> new VirtualTaskThreadFactory("virtual-%d"));
+    }
+
+    @Test
+    public void testPinningFreeFromJava24() {
+        Assertions.assertEquals(8, VirtualTaskThreadFactory.javaFeatureVersion("1.8"));
+        Assertions.assertEquals(21, VirtualTaskThreadFactory.javaFeatureVersion("21"));
+        Assertions.assertEquals(
+                VirtualTaskThreadFactory.MIN_PINNING_FREE_JAVA_VERSION,
+                VirtualTaskThreadFactory.javaFeatureVersion("24"));
+    }
+
+    @Test
+    public void testOnlyStartedThreadsAreTracked() throws InterruptedException {
+        Assumptions.assumeTrue(VirtualTaskThreadFactory.isSupported());
+        VirtualTaskThreadFactory factory = new VirtualTaskThreadFactory("virtual-%d");
+        CountDownLatch release = new CountDownLatch(1);
+        Runnable task =
+                () -> {
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                };
+        Thread unstarted = factory.newThread(task);
+        Thread thread = factory.newThread(task);
+        Assertions.assertEquals("virtual-1", thread.getName());
+        Assertions.assertTrue(factory.getLiveThreads().isEmpty());
+
+        thread.start();
+        await().atMost(10, TimeUnit.SECONDS).until(() -> factory.getLiveThreads().contains(thread));
+        Assertions.assertFalse(factory.getLiveThreads().contains(unstarted));
+        release.countDown();
+        thread.join(TimeUnit.SECONDS.toMillis(10));
+        Assertions.assertTrue(factory.getLiveThreads().isEmpty());
+    }
+
+    @Test
+    public void testThreadPerTaskExecutor() throws Exception {
+        Assumptions.assumeTrue(VirtualTaskThreadFactory.isSupported());
+        VirtualTaskThreadFactory factory = new VirtualTaskThreadFactory("virtual-%d");
+        ExecutorService executor = factory.newThreadPerTaskExecutor();
+        try {
+            Future<Thread> first = executor.submit(Thread::currentThread);
+            Future<Thread> second = executor.submit(Thread::currentThread);
+            // every task gets a new thread instead of reusing a pooled one
+            Assertions.assertNotSame(
+                    first.get(10, TimeUnit.SECONDS), second.get(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.execution;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class WorkStealingTaskSchedulerTest {
+
+    @Test
+    public void testAllTasksRunUntilDone() throws InterruptedException {
+        int taskCount = 64;
+        int callsPerTask = 100;
+        CountDownLatch done = new CountDownLatch(taskCount);
+        Map<TaskTracker, AtomicInteger> calls = new ConcurrentHashMap<>();
+        Set<Thread> workerThreads = ConcurrentHashMap.newKeySet();
+        WorkStealingTaskScheduler scheduler =
+                new WorkStealingTaskScheduler(
+                        4,
+                        1000,
+                        3,
+                        new WorkStealingTaskScheduler.TaskCallHandler() {
+                            @Override
+                            public boolean call(TaskTracker taskTracker, Thread worker) {
+                                workerThreads.add(worker);
+                                if (calls.computeIfAbsent(taskTracker, t -> new AtomicInteger())
+                                                .incrementAndGet()
+                                        < callsPerTask) {
+                                    return true;
+                                }
+                                done.countDown();
+                                return false;
+                            }
+
+                            @Override
+                            public void demote(TaskTracker taskTracker) {
+                                Assertions.fail("No task should be demoted");
+                            }
+                        },
+                        Thread::new);
+        scheduler.start();
+        try {
+            for (int i = 0; i < taskCount; i++) {
+                scheduler.submit(new TaskTracker(new TestTask(new AtomicBoolean(), 0, true), null));
+            }
+            Assertions.assertTrue(done.await(30, TimeUnit.SECONDS));
+            Assertions.assertEquals(taskCount, calls.size());
+            calls.values().forEach(c -> Assertions.assertEquals(callsPerTask, c.get()));
+            Assertions.assertEquals((long) taskCount * callsPerTask, scheduler.getTaskCallCount());
+            Assertions.assertEquals(0, scheduler.getScheduledTaskCount());
+            Assertions.assertTrue(workerThreads.size() > 1);
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    public void testBlockingTaskIsDemoted() throws InterruptedException {
+        CountDownLatch demoted = new CountDownLatch(1);
+        AtomicInteger quickCalls = new AtomicInteger();
+        TaskTracker blocking = new TaskTracker(new TestTask(new AtomicBoolean(), 0, true), null);
+        TaskTracker quick = new TaskTracker(new TestTask(new AtomicBoolean(), 0, true), null);
+        WorkStealingTaskScheduler scheduler =
+                new WorkStealingTaskScheduler(
+                        2,
+                        10,
+                        3,
+                        new WorkStealingTaskScheduler.TaskCallHandler() {
+                            @Override
+                            public boolean call(TaskTracker taskTracker, Thread worker) {
+                                if (taskTracker == blocking) {
+                                    try {
+                                        Thread.sleep(20);
+                                    } catch (InterruptedException e) {
+                                        Thread.currentThread().interrupt();
+                                    }
+                                } else {
+                                    quickCalls.incrementAndGet();
+                                }
+                                return true;
+                            }
+
+                            @Override
+                            public void demote(TaskTracker taskTracker) {
+                                Assertions.assertSame(blocking, taskTracker);
+                                demoted.countDown();
+                            }
+                        },
+                        Thread::new);
+        scheduler.start();
+        try {
+            scheduler.submit(blocking);
+            scheduler.submit(quick);
+            Assertions.assertTrue(demoted.await(30, TimeUnit.SECONDS));
+            Assertions.assertEquals(1, scheduler.getDemotedTaskCount());
+            Assertions.assertEquals(1, scheduler.getScheduledTaskCount());
+            Assertions.assertTrue(quickCalls.get() > 0);
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+}
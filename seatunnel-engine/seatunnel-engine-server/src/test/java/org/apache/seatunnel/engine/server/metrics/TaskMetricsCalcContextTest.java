@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.metrics;
+
+import org.apache.seatunnel.api.common.metrics.MetricsContext;
+import org.apache.seatunnel.api.table.catalog.TablePath;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowSizeEstimator;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.common.constants.PluginType;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.apache.seatunnel.api.common.metrics.MetricNames.SINK_WRITE_BYTES;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.SINK_WRITE_COUNT;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.SOURCE_RECEIVED_BYTES;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.SOURCE_RECEIVED_COUNT;
+
+public class TaskMetricsCalcContextTest {
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"id", "name"},
+                    new SeaTunnelDataType<?>[] {BasicType.LONG_TYPE, BasicType.STRING_TYPE});
+
+    @Test
+    public void testPerTableMetrics() {
+        MetricsContext metricsContext = new SeaTunnelMetricsContext();
+        TaskMetricsCalcContext context =
+                new TaskMetricsCalcContext(
+                        metricsContext,
+                        PluginType.SINK,
+                        true,
+                        Arrays.asList(TablePath.of("db.t1"), TablePath.of("db.t2")));
+
+        context.updateMetrics(row("db.t1", "abc"), "db.t1");
+        context.updateMetrics(row("db.t1", "abcd"), "db.t1");
+        context.updateMetrics(row("db.t2", "a"), "db.t2");
+        context.updateMetrics(row("db.t3", "ab"), "db.t3");
+
+        Assertions.assertEquals(4, metricsContext.counter(SINK_WRITE_COUNT).getCount());
+        Assertions.assertEquals(42, metricsContext.counter(SINK_WRITE_BYTES).getCount());
+        Assertions.assertEquals(2, metricsContext.counter(SINK_WRITE_COUNT + "#db.t1").getCount());
+        Assertions.assertEquals(23, metricsContext.counter(SINK_WRITE_BYTES + "#db.t1").getCount());
+        Assertions.assertEquals(1, metricsContext.counter(SINK_WRITE_COUNT + "#db.t2").getCount());
+        Assertions.assertEquals(10, metricsContext.counter(SINK_WRITE_BYTES + "#db.t3").getCount());
+    }
+
+    @Test
+    public void testBytesSampling() {
+        MetricsContext metricsContext = new SeaTunnelMetricsContext();
+        TaskMetricsCalcContext context =
+                new TaskMetricsCalcContext(
+                        metricsContext, PluginType.SOURCE, false, Collections.emptyList(), 3);
+        SeaTunnelRowSizeEstimator estimator = SeaTunnelRowSizeEstimator.of(ROW_TYPE);
+
+        String[] names = {"a", "abcdef", "abcdef", "abc", "abcdef", "abcdef", "abcdef"};
+        long bytes = 0;
+        for (String name : names) {
+            int size = context.getBytesSize(row("db.t1", name), estimator);
+            bytes += size;
+            context.updateRowMetrics("", size);
+        }
+
+        // only the 1st, 4th and 7th rows are measured
+        Assertions.assertEquals(3 * 9 + 3 * 11 + 14, bytes);
+        Assertions.assertEquals(7, metricsContext.counter(SOURCE_RECEIVED_COUNT).getCount());
+        Assertions.assertEquals(bytes, metricsContext.counter(SOURCE_RECEIVED_BYTES).getCount());
+    }
+
+    private static SeaTunnelRow row(String tableId, String name) {
+        SeaTunnelRow row = new SeaTunnelRow(new Object[] {1L, name});
+        row.setTableId(tableId);
+        return row;
+    }
+}
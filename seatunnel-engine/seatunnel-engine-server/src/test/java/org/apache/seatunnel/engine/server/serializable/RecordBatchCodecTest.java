@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.serializable;
+
+import org.apache.seatunnel.api.table.catalog.TableIdentifier;
+import org.apache.seatunnel.api.table.catalog.TablePath;
+import org.apache.seatunnel.api.table.schema.event.AlterTableDropColumnEvent;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.engine.core.checkpoint.CheckpointType;
+import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class RecordBatchCodecTest {
+    private static final String TABLE = "db.table";
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"id", "name"},
+                    new SeaTunnelDataType<?>[] {BasicType.LONG_TYPE, BasicType.STRING_TYPE});
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        RecordBatchCodec writer = new RecordBatchCodec(Collections.singletonMap(TABLE, ROW_TYPE));
+        RecordBatchCodec reader = new RecordBatchCodec(Collections.singletonMap(TABLE, ROW_TYPE));
+        List<Record<?>> first =
+                Arrays.asList(
+                        new Record<>(row(TABLE, 1L, "a")),
+                        new Record<>(row("db.unknown", 2L, null)),
+                        new Record<>(new CheckpointBarrier(1, 1, CheckpointType.CHECKPOINT_TYPE)));
+        List<Record<?>> second = Collections.singletonList(new Record<>(row(TABLE, 3L, "c")));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        writer.write(out, first);
+        int firstSize = bytes.size();
+        writer.write(out, second);
+        int secondSize = bytes.size() - firstSize;
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        assertRecords(first, reader.read(in));
+        assertRecords(second, reader.read(in));
+        // version, count, kind, table index, row kind, null bitmap, long and one char string
+        Assertions.assertEquals(1 + 1 + 1 + 1 + 1 + 1 + 8 + 2, secondSize);
+    }
+
+    @Test
+    public void testSchemaChangeFallsBackToTaggedRows() throws IOException {
+        RecordBatchCodec writer = new RecordBatchCodec(Collections.singletonMap(TABLE, ROW_TYPE));
+        RecordBatchCodec reader = new RecordBatchCodec(Collections.singletonMap(TABLE, ROW_TYPE));
+        AlterTableDropColumnEvent event =
+                new AlterTableDropColumnEvent(TableIdentifier.of("", TablePath.of(TABLE)), "name");
+        SeaTunnelRow evolved = new SeaTunnelRow(new Object[] {4});
+        evolved.setTableId(TABLE);
+        List<Record<?>> records = new ArrayList<>();
+        records.add(new Record<>(row(TABLE, 1L, "a")));
+        records.add(new Record<>(event));
+        records.add(new Record<>(evolved));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        writer.write(new DataOutputStream(bytes), records);
+        List<Record<?>> result =
+                reader.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        Assertions.assertEquals(records.get(0).getData(), result.get(0).getData());
+        Assertions.assertEquals(evolved, result.get(2).getData());
+    }
+
+    @Test
+    public void testRejectsOtherFormatVersion() {
+        byte[] bytes = new byte[] {RecordBatchCodec.FORMAT_VERSION + 1, 0};
+        Assertions.assertThrows(
+                UnsupportedEncodingException.class,
+                () ->
+                        new RecordBatchCodec()
+                                .read(new DataInputStream(new ByteArrayInputStream(bytes))));
+    }
+
+    private static void assertRecords(List<Record<?>> expected, List<Record<?>> actual) {
+        Assertions.assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Object data = expected.get(i).getData();
+            if (data instanceof CheckpointBarrier) {
+                Assertions.assertEquals(
+                        ((CheckpointBarrier) data).getId(),
+                        ((CheckpointBarrier) actual.get(i).getData()).getId());
+            } else {
+                Assertions.assertEquals(data, actual.get(i).getData());
+            }
+        }
+    }
+
+    private static SeaTunnelRow row(String tableId, long id, String name) {
+        SeaTunnelRow row = new SeaTunnelRow(new Object[] {id, name});
+        row.setTableId(tableId);
+        return row;
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.serializable;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.hazelcast.internal.nio.BufferObjectDataOutput;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the former per-field {@code writeObject} row encoding with the tagged encoding used by
+ * {@link RecordSerializer} and the per-channel {@link RecordBatchCodec}, which writes the table id
+ * through a dictionary and the row with the schema driven {@link SeaTunnelRowCodec}.
+ *
+ * <p>Run it from the IDE or with {@code java -cp <test classpath>
+ * org.apache.seatunnel.engine.server.serializable.RecordSerializerBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RecordSerializerBenchmark {
+
+    @Param({"16", "64", "256"})
+    private int columns;
+
+    private InternalSerializationService serializationService;
+    private BufferObjectDataOutput out;
+    private RecordSerializer recordSerializer;
+    private RecordBatchCodec batchCodec;
+    private SeaTunnelRow row;
+    private Record<?> record;
+
+    @Setup
+    public void setup() {
+        serializationService = new DefaultSerializationServiceBuilder().build();
+        out = serializationService.createObjectDataOutput(64 * 1024);
+        recordSerializer = new RecordSerializer();
+
+        String[] fieldNames = new String[columns];
+        SeaTunnelDataType<?>[] fieldTypes = new SeaTunnelDataType<?>[columns];
+        Object[] fields = new Object[columns];
+        for (int i = 0; i < columns; i++) {
+            fieldNames[i] = "f" + i;
+            switch (i % 6) {
+                case 0:
+                    fieldTypes[i] = BasicType.INT_TYPE;
+                    fields[i] = i;
+                    break;
+                case 1:
+                    fieldTypes[i] = BasicType.LONG_TYPE;
+                    fields[i] = (long) i * 1000;
+                    break;
+                case 2:
+                    fieldTypes[i] = BasicType.STRING_TYPE;
+                    fields[i] = "value_of_column_" + i;
+                    break;
+                case 3:
+                    fieldTypes[i] = BasicType.DOUBLE_TYPE;
+                    fields[i] = i * 1.5d;
+                    break;
+                case 4:
+                    fieldTypes[i] = new DecimalType(20, 4);
+                    fields[i] = new BigDecimal("123456.7890");
+                    break;
+                default:
+                    fieldTypes[i] = LocalTimeType.LOCAL_DATE_TIME_TYPE;
+                    fields[i] = LocalDateTime.of(2024, 1, 1, 0, 0).plusSeconds(i);
+            }
+        }
+        row = new SeaTunnelRow(fields);
+        row.setTableId("test_database.test_schema.test_table");
+        record = new Record<>(row);
+        batchCodec =
+                new RecordBatchCodec(
+                        Collections.singletonMap(
+                                row.getTableId(), new SeaTunnelRowType(fieldNames, fieldTypes)));
+    }
+
+    @Benchmark
+    public int perFieldWriteObject() throws IOException {
+        out.clear();
+        out.writeString(row.getTableId());
+        out.writeByte(row.getRowKind().toByteValue());
+        out.writeInt(row.getArity());
+        for (Object field : row.getFields()) {
+            out.writeObject(field);
+        }
+        return out.position();
+    }
+
+    @Benchmark
+    public int recordSerializer() throws IOException {
+        out.clear();
+        recordSerializer.write(out, record);
+        return out.position();
+    }
+
+    @Benchmark
+    public int batchCodec() throws IOException {
+        out.clear();
+        batchCodec.write(out, Collections.singletonList(record));
+        return out.position();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options =
+                new OptionsBuilder()
+                        .include(RecordSerializerBenchmark.class.getSimpleName())
+                        .build();
+        new Runner(options).run();
+    }
+}
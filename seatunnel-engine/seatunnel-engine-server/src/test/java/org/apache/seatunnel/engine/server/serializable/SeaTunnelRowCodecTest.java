@@ -0,0 +1,229 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.serializable;
+
+import org.apache.seatunnel.api.table.type.ArrayType;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.MapType;
+import org.apache.seatunnel.api.table.type.PrimitiveByteArrayType;
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.hazelcast.internal.nio.BufferObjectDataInput;
+import com.hazelcast.internal.nio.BufferObjectDataOutput;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+
+public class SeaTunnelRowCodecTest {
+
+    private static final SeaTunnelRowType NESTED_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"a", "b"},
+                    new SeaTunnelDataType<?>[] {BasicType.INT_TYPE, BasicType.STRING_TYPE});
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {
+                        "bool",
+                        "byte",
+                        "short",
+                        "int",
+                        "long",
+                        "float",
+                        "double",
+                        "string",
+                        "bytes",
+                        "decimal",
+                        "date",
+                        "time",
+                        "timestamp",
+                        "timestamp_tz",
+                        "array",
+                        "map",
+                        "row",
+                        "null_value"
+                    },
+                    new SeaTunnelDataType<?>[] {
+                        BasicType.BOOLEAN_TYPE,
+                        BasicType.BYTE_TYPE,
+                        BasicType.SHORT_TYPE,
+                        BasicType.INT_TYPE,
+                        BasicType.LONG_TYPE,
+                        BasicType.FLOAT_TYPE,
+                        BasicType.DOUBLE_TYPE,
+                        BasicType.STRING_TYPE,
+                        PrimitiveByteArrayType.INSTANCE,
+                        new DecimalType(10, 2),
+                        LocalTimeType.LOCAL_DATE_TYPE,
+                        LocalTimeType.LOCAL_TIME_TYPE,
+                        LocalTimeType.LOCAL_DATE_TIME_TYPE,
+                        LocalTimeType.OFFSET_DATE_TIME_TYPE,
+                        ArrayType.STRING_ARRAY_TYPE,
+                        new MapType<>(BasicType.STRING_TYPE, BasicType.LONG_TYPE),
+                        NESTED_TYPE,
+                        BasicType.STRING_TYPE
+                    });
+
+    @Test
+    public void testSchemaCodecRoundTrip() throws IOException {
+        SeaTunnelRow row = createRow();
+        SeaTunnelRowCodec codec = new SeaTunnelRowCodec(ROW_TYPE);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        codec.write(new DataOutputStream(bytes), row);
+        SeaTunnelRow result =
+                codec.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        Assertions.assertEquals(row, result);
+        Assertions.assertEquals(RowKind.UPDATE_AFTER, result.getRowKind());
+    }
+
+    @Test
+    public void testTaggedRowRoundTrip() throws IOException {
+        SeaTunnelRow row = createRow();
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        SeaTunnelRowCodec.writeTaggedRow(new DataOutputStream(bytes), row);
+        SeaTunnelRow result =
+                SeaTunnelRowCodec.readTaggedRow(
+                        new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        Assertions.assertEquals(row, result);
+        Assertions.assertEquals(RowKind.UPDATE_AFTER, result.getRowKind());
+    }
+
+    @Test
+    public void testNullFieldsOnlyTakeBitmapSpace() throws IOException {
+        SeaTunnelRow row = new SeaTunnelRow(16);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        SeaTunnelRowCodec.writeTaggedRow(new DataOutputStream(bytes), row);
+        // row kind, arity and two bitmap bytes
+        Assertions.assertEquals(4, bytes.size());
+    }
+
+    @Test
+    public void testTableIdDictionary() throws IOException {
+        TableIdDictionary writer = new TableIdDictionary();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        writer.write(out, "db.table1");
+        int firstSize = bytes.size();
+        writer.write(out, "db.table2");
+        writer.write(out, "db.table1");
+        Assertions.assertEquals(firstSize + firstSize + 1, bytes.size());
+        writer.write(out, null);
+
+        TableIdDictionary reader = new TableIdDictionary();
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        Assertions.assertEquals("db.table1", reader.read(in));
+        Assertions.assertEquals("db.table2", reader.read(in));
+        Assertions.assertEquals("db.table1", reader.read(in));
+        Assertions.assertNull(reader.read(in));
+    }
+
+    @Test
+    public void testRecordSerializerRoundTrip() throws IOException {
+        SeaTunnelRow row = createRow();
+        row.setTableId("db.table");
+        // arity above Byte.MAX_VALUE
+        SeaTunnelRow wideRow = new SeaTunnelRow(200);
+        for (int i = 0; i < wideRow.getArity(); i++) {
+            wideRow.setField(i, i % 3 == 0 ? null : (Object) ("value" + i));
+        }
+
+        InternalSerializationService serializationService =
+                new DefaultSerializationServiceBuilder().build();
+        RecordSerializer serializer = new RecordSerializer();
+        for (SeaTunnelRow expected : new SeaTunnelRow[] {row, wideRow}) {
+            BufferObjectDataOutput out = serializationService.createObjectDataOutput(1024);
+            serializer.write(out, new Record<>(expected));
+            BufferObjectDataInput in =
+                    serializationService.createObjectDataInput(out.toByteArray());
+            Assertions.assertEquals(expected, serializer.read(in).getData());
+        }
+    }
+
+    @Test
+    public void testRecordSerializerRejectsOtherFormatVersion() throws IOException {
+        InternalSerializationService serializationService =
+                new DefaultSerializationServiceBuilder().build();
+        BufferObjectDataOutput out = serializationService.createObjectDataOutput(1024);
+        // an engine without format version starts with the data type ordinal
+        out.writeByte(RecordSerializer.RecordDataType.SEATUNNEL_ROW.ordinal());
+        out.writeString("db.table");
+        BufferObjectDataInput in = serializationService.createObjectDataInput(out.toByteArray());
+
+        Assertions.assertThrows(
+                UnsupportedEncodingException.class, () -> new RecordSerializer().read(in));
+    }
+
+    private static SeaTunnelRow createRow() {
+        Map<String, Long> map = new HashMap<>();
+        map.put("k", 1L);
+        map.put("n", null);
+        SeaTunnelRow nested = new SeaTunnelRow(new Object[] {1, "nested"});
+        nested.setTableId("db.nested");
+        SeaTunnelRow row =
+                new SeaTunnelRow(
+                        new Object[] {
+                            true,
+                            (byte) 1,
+                            (short) 2,
+                            3,
+                            4L,
+                            5.5f,
+                            6.6d,
+                            "中文 string",
+                            new byte[] {1, 2, 3},
+                            new BigDecimal("12345678.90"),
+                            LocalDate.of(2024, 1, 2),
+                            LocalTime.of(12, 30, 15, 123456789),
+                            LocalDateTime.of(2024, 1, 2, 12, 30, 15, 123456789),
+                            OffsetDateTime.of(2024, 1, 2, 12, 30, 15, 0, ZoneOffset.ofHours(8)),
+                            new String[] {"a", null, "c"},
+                            map,
+                            nested,
+                            null
+                        });
+        row.setRowKind(RowKind.UPDATE_AFTER);
+        return row;
+    }
+}
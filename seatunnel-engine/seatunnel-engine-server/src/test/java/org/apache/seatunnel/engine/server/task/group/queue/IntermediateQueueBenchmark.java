@@ -0,0 +1,223 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.group.queue;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.transform.Collector;
+import org.apache.seatunnel.engine.common.config.server.QueueType;
+import org.apache.seatunnel.engine.common.utils.concurrent.CompletableFuture;
+import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
+import org.apache.seatunnel.engine.server.task.flow.IntermediateQueueFlowLifeCycle;
+import org.apache.seatunnel.engine.server.task.group.TaskGroupWithIntermediateBlockingQueue;
+import org.apache.seatunnel.engine.server.task.group.TaskGroupWithIntermediateDisruptor;
+import org.apache.seatunnel.engine.server.task.group.TaskGroupWithIntermediateRingBuffer;
+import org.apache.seatunnel.engine.server.task.group.queue.disruptor.RecordEventFactory;
+import org.apache.seatunnel.engine.server.task.group.queue.ringbuffer.SpscRingBuffer;
+
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.lmax.disruptor.YieldingWaitStrategy;
+import com.lmax.disruptor.dsl.Disruptor;
+import com.lmax.disruptor.dsl.ProducerType;
+import com.lmax.disruptor.util.DaemonThreadFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Moves rows from a producer thread to a consumer thread through each intermediate queue type, the
+ * same way a source task hands rows to a transform task in one task group. The score is the time to
+ * transfer {@link #ROWS_PER_OPERATION} rows, the consumer reads every field of every row.
+ *
+ * <p>Run it from the IDE or with {@code java -cp <test classpath>
+ * org.apache.seatunnel.engine.server.task.group.queue.IntermediateQueueBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IntermediateQueueBenchmark {
+
+    private static final int ROWS_PER_OPERATION = 16384;
+
+    @Param({"BLOCKINGQUEUE", "DISRUPTOR", "RINGBUFFER"})
+    private QueueType queueType;
+
+    @Param({"4", "32", "128"})
+    private int columns;
+
+    /** Rows handed to the queue per call, 1 means row by row. */
+    @Param({"1", "256"})
+    private int batchSize;
+
+    private AbstractIntermediateQueue<?> queue;
+    private Object[] fields;
+    private Thread consumer;
+    private volatile boolean running;
+    private volatile long consumed;
+    private long produced;
+    private long checksum;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        fields = new Object[columns];
+        for (int i = 0; i < columns; i++) {
+            fields[i] = i % 2 == 0 ? (Object) ("value-" + i) : (Object) (long) i;
+        }
+        switch (queueType) {
+            case BLOCKINGQUEUE:
+                queue =
+                        new IntermediateBlockingQueue(
+                                new ArrayBlockingQueue<>(
+                                        TaskGroupWithIntermediateBlockingQueue.QUEUE_SIZE));
+                break;
+            case DISRUPTOR:
+                queue =
+                        new IntermediateDisruptor(
+                                new Disruptor<>(
+                                        new RecordEventFactory(),
+                                        TaskGroupWithIntermediateDisruptor.RING_BUFFER_SIZE,
+                                        DaemonThreadFactory.INSTANCE,
+                                        ProducerType.SINGLE,
+                                        new YieldingWaitStrategy()));
+                break;
+            case RINGBUFFER:
+                queue =
+                        new IntermediateRingBufferQueue(
+                                new SpscRingBuffer<>(
+                                        TaskGroupWithIntermediateRingBuffer.RING_BUFFER_SIZE));
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported queue type " + queueType);
+        }
+        new IntermediateQueueFlowLifeCycle<>(
+                Mockito.mock(SeaTunnelTask.class), new CompletableFuture<>(), queue);
+
+        Collector<Record<?>> collector =
+                new Collector<Record<?>>() {
+                    @Override
+                    public void collect(Record<?> record) {
+                        consume(record);
+                        consumed = consumed + 1;
+                    }
+
+                    @Override
+                    public void collectBatch(List<Record<?>> records) {
+                        for (Record<?> record : records) {
+                            consume(record);
+                        }
+                        consumed = consumed + records.size();
+                    }
+
+                    @Override
+                    public void close() {}
+                };
+        running = true;
+        if (queueType == QueueType.DISRUPTOR) {
+            // the disruptor runs the handler on its own thread
+            queue.collect(collector);
+        } else {
+            consumer =
+                    new Thread(
+                            () -> {
+                                try {
+                                    while (running) {
+                                        queue.collect(collector);
+                                    }
+                                } catch (Exception e) {
+                                    throw new RuntimeException(e);
+                                }
+                            },
+                            "queue-benchmark-consumer");
+            consumer.start();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        running = false;
+        if (consumer != null) {
+            consumer.join();
+        }
+        queue.close();
+    }
+
+    @Benchmark
+    public long transfer() {
+        List<Record<?>> batch = new ArrayList<>(batchSize);
+        for (int i = 0; i < ROWS_PER_OPERATION; i++) {
+            Record<?> record = new Record<>(new SeaTunnelRow(fields.clone()));
+            if (batchSize == 1) {
+                queue.received(record);
+            } else {
+                batch.add(record);
+                if (batch.size() == batchSize) {
+                    queue.receivedBatch(batch);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            queue.receivedBatch(batch);
+        }
+        produced += ROWS_PER_OPERATION;
+        while (consumed < produced) {
+            Thread.yield();
+        }
+        return checksum;
+    }
+
+    private void consume(Record<?> record) {
+        SeaTunnelRow row = (SeaTunnelRow) record.getData();
+        long hash = 0;
+        for (int i = 0; i < row.getArity(); i++) {
+            hash += row.getField(i).hashCode();
+        }
+        checksum += hash;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options =
+                new OptionsBuilder()
+                        .include(IntermediateQueueBenchmark.class.getSimpleName())
+                        .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.group.queue;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.transform.Collector;
+import org.apache.seatunnel.engine.core.checkpoint.CheckpointType;
+import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
+import org.apache.seatunnel.engine.server.execution.TaskLocation;
+import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
+import org.apache.seatunnel.engine.server.task.flow.IntermediateQueueFlowLifeCycle;
+import org.apache.seatunnel.engine.server.task.group.queue.ringbuffer.SpscRingBuffer;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class IntermediateRingBufferQueueTest {
+
+    @Test
+    public void testCollectRowsInBatchesBetweenBarriers() throws Exception {
+        SeaTunnelTask task = Mockito.mock(SeaTunnelTask.class);
+        Mockito.when(task.getTaskLocation()).thenReturn(new TaskLocation());
+        IntermediateQueueFlowLifeCycle<?> flowLifeCycle =
+                Mockito.mock(IntermediateQueueFlowLifeCycle.class);
+        Mockito.when(flowLifeCycle.getPrepareClose()).thenReturn(false);
+
+        IntermediateRingBufferQueue queue =
+                new IntermediateRingBufferQueue(new SpscRingBuffer<>(16));
+        queue.setRunningTask(task);
+        queue.setIntermediateQueueFlowLifeCycle(flowLifeCycle);
+
+        Record<?> row1 = new Record<>(new SeaTunnelRow(new Object[] {1}));
+        Record<?> row2 = new Record<>(new SeaTunnelRow(new Object[] {2}));
+        Record<?> barrier =
+                new Record<>(new CheckpointBarrier(1, 0, CheckpointType.CHECKPOINT_TYPE));
+        Record<?> row3 = new Record<>(new SeaTunnelRow(new Object[] {3}));
+        queue.receivedBatch(Arrays.asList(row1, row2, barrier, row3));
+
+        List<Object> calls = new ArrayList<>();
+        queue.collect(
+                new Collector<Record<?>>() {
+                    @Override
+                    public void collect(Record<?> record) {
+                        calls.add(record);
+                    }
+
+                    @Override
+                    public void collectBatch(List<Record<?>> records) {
+                        calls.add(new ArrayList<>(records));
+                    }
+
+                    @Override
+                    public void close() {}
+                });
+
+        Assertions.assertEquals(Arrays.asList(Arrays.asList(row1, row2), barrier, row3), calls);
+        // the barrier is acked when it is put into and when it is taken from the queue
+        Mockito.verify(task, Mockito.times(2)).ack(Mockito.any());
+    }
+
+    @Test
+    public void testOnlyConsumerClearsTheRing() throws Exception {
+        IntermediateQueueFlowLifeCycle<?> flowLifeCycle =
+                Mockito.mock(IntermediateQueueFlowLifeCycle.class);
+        Mockito.when(flowLifeCycle.getPrepareClose()).thenReturn(false);
+        SpscRingBuffer<Object> ringBuffer = new SpscRingBuffer<>(16);
+
+        IntermediateRingBufferQueue producer = new IntermediateRingBufferQueue(ringBuffer);
+        producer.setIntermediateQueueFlowLifeCycle(flowLifeCycle);
+        IntermediateRingBufferQueue consumer = new IntermediateRingBufferQueue(ringBuffer);
+        consumer.setIntermediateQueueFlowLifeCycle(flowLifeCycle);
+
+        producer.received(new Record<>(new SeaTunnelRow(new Object[] {1})));
+        producer.close();
+        Assertions.assertEquals(1, ringBuffer.size());
+
+        List<Record<?>> rows = new ArrayList<>();
+        consumer.collect(
+                new Collector<Record<?>>() {
+                    @Override
+                    public void collect(Record<?> record) {
+                        rows.add(record);
+                    }
+
+                    @Override
+                    public void close() {}
+                });
+        Assertions.assertEquals(1, rows.size());
+        Assertions.assertEquals(0, ringBuffer.size());
+
+        producer.received(new Record<>(new SeaTunnelRow(new Object[] {3})));
+        consumer.close();
+        Assertions.assertTrue(ringBuffer.isEmpty());
+    }
+}
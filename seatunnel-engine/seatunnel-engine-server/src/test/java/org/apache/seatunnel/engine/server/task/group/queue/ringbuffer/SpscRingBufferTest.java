@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.group.queue.ringbuffer;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class SpscRingBufferTest {
+
+    @Test
+    public void testOfferAndPoll() {
+        SpscRingBuffer<Integer> ringBuffer = new SpscRingBuffer<>(3);
+        Assertions.assertEquals(4, ringBuffer.capacity());
+        Assertions.assertNull(ringBuffer.poll());
+        for (int i = 0; i < 4; i++) {
+            Assertions.assertTrue(ringBuffer.offer(i));
+        }
+        Assertions.assertFalse(ringBuffer.offer(4));
+        Assertions.assertEquals(4, ringBuffer.size());
+        Assertions.assertEquals(0, ringBuffer.poll());
+        Assertions.assertTrue(ringBuffer.offer(4));
+        for (int i = 1; i <= 4; i++) {
+            Assertions.assertEquals(i, ringBuffer.poll());
+        }
+        Assertions.assertTrue(ringBuffer.isEmpty());
+    }
+
+    @Test
+    public void testPollTimeout() throws InterruptedException {
+        SpscRingBuffer<Integer> ringBuffer = new SpscRingBuffer<>(4);
+        long start = System.nanoTime();
+        Assertions.assertNull(ringBuffer.poll(20, TimeUnit.MILLISECONDS));
+        Assertions.assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(20));
+    }
+
+    @Test
+    public void testConcurrentTransferKeepsOrder() throws Exception {
+        int count = 1_000_000;
+        SpscRingBuffer<Integer> ringBuffer = new SpscRingBuffer<>(64);
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        Thread producer =
+                new Thread(
+                        () -> {
+                            try {
+                                for (int i = 0; i < count; i++) {
+                                    ringBuffer.put(i);
+                                }
+                            } catch (Throwable e) {
+                                error.set(e);
+                            }
+                        });
+        producer.start();
+        for (int i = 0; i < count; i++) {
+            Integer value = ringBuffer.poll(10, TimeUnit.SECONDS);
+            Assertions.assertEquals(i, value);
+        }
+        producer.join();
+        Assertions.assertNull(error.get());
+        Assertions.assertTrue(ringBuffer.isEmpty());
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.shuffle;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.engine.common.utils.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.await;
+
+public class LocalShuffleChannelTest {
+
+    @Test
+    public void testOrderAndDrain() throws InterruptedException {
+        LocalShuffleChannel channel = new LocalShuffleChannel("test", 8);
+        channel.putAll(Arrays.asList(record(1), record(2), record(3)));
+        channel.put(record(4));
+        Assertions.assertEquals(4, channel.size());
+
+        List<Record<?>> drained = new ArrayList<>();
+        Assertions.assertEquals(2, channel.drainTo(drained, 2));
+        Assertions.assertEquals(1, value(drained.get(0)));
+        Assertions.assertEquals(2, value(drained.get(1)));
+        Assertions.assertEquals(3, value(channel.take()));
+        Assertions.assertEquals(1, channel.size());
+
+        channel.destroy();
+        Assertions.assertEquals(0, channel.size());
+    }
+
+    @Test
+    public void testWriterBlocksWithoutCredits() throws Exception {
+        LocalShuffleChannel channel = new LocalShuffleChannel("test", 2);
+        List<Record<?>> batch = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            batch.add(record(i));
+        }
+        CompletableFuture<Void> writer =
+                CompletableFuture.runAsync(
+                        () -> {
+                            try {
+                                channel.putAll(batch);
+                            } catch (InterruptedException e) {
+                                throw new RuntimeException(e);
+                            }
+                        });
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> channel.size() == 2);
+        Thread.sleep(200);
+        Assertions.assertFalse(writer.isDone());
+        Assertions.assertEquals(2, channel.size());
+
+        List<Record<?>> drained = new ArrayList<>();
+        await().atMost(5, TimeUnit.SECONDS)
+                .until(
+                        () -> {
+                            channel.drainTo(drained, Integer.MAX_VALUE);
+                            return drained.size() == batch.size();
+                        });
+        writer.get(5, TimeUnit.SECONDS);
+        for (int i = 0; i < batch.size(); i++) {
+            Assertions.assertEquals(i, value(drained.get(i)));
+        }
+    }
+
+    @Test
+    public void testRowsAreCopiedOnHandoff() throws InterruptedException {
+        LocalShuffleChannel channel = new LocalShuffleChannel("test", 8);
+        SeaTunnelRow nested = new SeaTunnelRow(new Object[] {1});
+        Map<String, Integer> map = new HashMap<>();
+        map.put("k", 1);
+        SeaTunnelRow row = new SeaTunnelRow(new Object[] {nested, new String[] {"a"}, map});
+        channel.put(new Record<>(row));
+
+        nested.setField(0, 2);
+        ((String[]) row.getField(1))[0] = "b";
+        map.put("k", 2);
+        row.setField(0, null);
+
+        SeaTunnelRow received = (SeaTunnelRow) channel.take().getData();
+        Assertions.assertNotSame(row, received);
+        Assertions.assertEquals(1, ((SeaTunnelRow) received.getField(0)).getField(0));
+        Assertions.assertArrayEquals(new String[] {"a"}, (String[]) received.getField(1));
+        Assertions.assertEquals(Collections.singletonMap("k", 1), received.getField(2));
+    }
+
+    private static Record<?> record(int value) {
+        return new Record<>(new SeaTunnelRow(new Object[] {value}));
+    }
+
+    private static Object value(Record<?> record) {
+        return ((SeaTunnelRow) record.getData()).getField(0);
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.shuffle;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.engine.common.utils.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.await;
+
+public class ShuffleServiceTest {
+    private static final String TABLE = "db.table";
+    private static final Map<String, SeaTunnelRowType> ROW_TYPES =
+            Collections.singletonMap(
+                    TABLE,
+                    new SeaTunnelRowType(
+                            new String[] {"id"}, new SeaTunnelDataType<?>[] {BasicType.INT_TYPE}));
+
+    private final Map<String, String> endpoints = new ConcurrentHashMap<>();
+    private ShuffleService readerService;
+    private ShuffleService writerService;
+
+    @BeforeEach
+    public void setUp() {
+        readerService = new ShuffleService("127.0.0.1", endpoints);
+        writerService = new ShuffleService("127.0.0.1", endpoints);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        readerService.shutdown();
+        writerService.shutdown();
+    }
+
+    @Test
+    public void testCoLocatedWriterUsesLocalChannel() throws IOException {
+        ShuffleInputChannel input = readerService.createInputChannel("test", 8, ROW_TYPES);
+        Assertions.assertTrue(
+                readerService.createOutputChannel("test", ROW_TYPES)
+                        instanceof LocalShuffleChannel);
+        input.destroy();
+        Assertions.assertEquals(0, readerService.getLocalChannelCount());
+        Assertions.assertTrue(endpoints.isEmpty());
+    }
+
+    @Test
+    public void testRemoteWriterIsBoundByCredits() throws Exception {
+        ShuffleInputChannel input = readerService.createInputChannel("test", 4, ROW_TYPES);
+        ShuffleOutputChannel output = writerService.createOutputChannel("test", ROW_TYPES);
+        Assertions.assertTrue(output instanceof RemoteShuffleOutputChannel);
+
+        List<Record<?>> batch = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            batch.add(record(i));
+        }
+        CompletableFuture<Void> writer = putAllAsync(output, batch);
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> input.size() == 4);
+        Thread.sleep(200);
+        Assertions.assertFalse(writer.isDone());
+        Assertions.assertEquals(4, input.size());
+
+        for (int i = 0; i < batch.size(); i++) {
+            SeaTunnelRow row = (SeaTunnelRow) input.take().getData();
+            Assertions.assertEquals(i, row.getField(0));
+            Assertions.assertEquals(TABLE, row.getTableId());
+        }
+        writer.get(5, TimeUnit.SECONDS);
+        output.close();
+        input.destroy();
+        Assertions.assertTrue(endpoints.isEmpty());
+    }
+
+    @Test
+    public void testDestroyDisconnectsRemoteWriter() throws Exception {
+        ShuffleInputChannel input = readerService.createInputChannel("test", 1, ROW_TYPES);
+        ShuffleOutputChannel output = writerService.createOutputChannel("test", ROW_TYPES);
+        CompletableFuture<Void> writer =
+                putAllAsync(output, Arrays.asList(record(1), record(2), record(3)));
+        await().atMost(5, TimeUnit.SECONDS).until(() -> input.size() == 1);
+
+        input.destroy();
+        ExecutionException e =
+                Assertions.assertThrows(
+                        ExecutionException.class, () -> writer.get(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(e.getCause().getCause() instanceof IOException);
+    }
+
+    @Test
+    public void testUnknownChannelIsRefused() {
+        readerService.createInputChannel("test", 1, ROW_TYPES);
+        Assertions.assertThrows(
+                IllegalStateException.class,
+                () -> writerService.createOutputChannel("missing", ROW_TYPES));
+
+        // the reader of the channel is gone, but its endpoint is still published
+        endpoints.put("missing", endpoints.get("test"));
+        Assertions.assertThrows(
+                IOException.class, () -> writerService.createOutputChannel("missing", ROW_TYPES));
+    }
+
+    private static CompletableFuture<Void> putAllAsync(
+            ShuffleOutputChannel output, List<Record<?>> records) {
+        return CompletableFuture.runAsync(
+                () -> {
+                    try {
+                        output.putAll(records);
+                    } catch (IOException | InterruptedException e) {
+                        throw new RuntimeException(e);
+                    }
+                });
+    }
+
+    private static Record<?> record(int value) {
+        SeaTunnelRow row = new SeaTunnelRow(new Object[] {value});
+        row.setTableId(TABLE);
+        return new Record<>(row);
+    }
+}
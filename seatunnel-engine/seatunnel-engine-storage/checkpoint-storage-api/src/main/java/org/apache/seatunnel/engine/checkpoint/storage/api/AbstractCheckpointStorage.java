@@ -35,8 +35,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -70,6 +72,11 @@ public abstract class AbstractCheckpointStorage implements CheckpointStorage {
 
     public static final String FILE_FORMAT = "ser";
 
+    /** sub directory of the job directory holding the state files shared by checkpoints */
+    public static final String SHARED_STATE_DIRECTORY = "shared";
+
+    public static final String SHARED_STATE_FILE_FORMAT = "state";
+
     private volatile ExecutorService executorService;
 
     private static final int DEFAULT_THREAD_POOL_MIN_SIZE =
@@ -205,6 +212,38 @@ public abstract class AbstractCheckpointStorage implements CheckpointStorage {
                 });
     }
 
+    @Override
+    public CompletableFuture<Void> asyncStoreSharedState(
+            String jobId, String stateName, byte[] data) {
+        initExecutor();
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        Runnable task =
+                () -> {
+                    try {
+                        storeSharedState(jobId, stateName, data);
+                        future.complete(null);
+                    } catch (Throwable e) {
+                        future.completeExceptionally(e);
+                    }
+                };
+        try {
+            this.executorService.execute(task);
+        } catch (RejectedExecutionException e) {
+            // never write on the caller thread, it must not block on the storage
+            future.completeExceptionally(
+                    new CheckpointStorageException(
+                            String.format(
+                                    "Failed to schedule storing shared state %s of job %s, the storage pool is saturated",
+                                    stateName, jobId),
+                            e));
+        }
+        return future;
+    }
+
+    public String getSharedStateName(String stateName) {
+        return stateName + "." + SHARED_STATE_FILE_FORMAT;
+    }
+
     private void initExecutor() {
         if (null == this.executorService || this.executorService.isShutdown()) {
             synchronized (this) {
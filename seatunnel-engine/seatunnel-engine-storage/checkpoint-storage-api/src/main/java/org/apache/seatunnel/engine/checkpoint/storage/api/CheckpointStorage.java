@@ -24,6 +24,7 @@ import org.apache.seatunnel.engine.checkpoint.storage.PipelineState;
 import org.apache.seatunnel.engine.checkpoint.storage.exception.CheckpointStorageException;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public interface CheckpointStorage {
 
@@ -118,4 +119,46 @@ public interface CheckpointStorage {
 
     void deleteCheckpoint(String jobId, String pipelineId, List<String> checkpointIdList)
             throws CheckpointStorageException;
+
+    /**
+     * save a state file that can be referenced by several checkpoints of the job. The name is
+     * derived from the content by the caller, so an existing file with the same name is kept.
+     *
+     * @param jobId job id
+     * @param stateName shared state name
+     * @param data state data
+     * @throws CheckpointStorageException if save shared state failed
+     */
+    void storeSharedState(String jobId, String stateName, byte[] data)
+            throws CheckpointStorageException;
+
+    /**
+     * async save a shared state file, see {@link #storeSharedState(String, String, byte[])}
+     *
+     * @param jobId job id
+     * @param stateName shared state name
+     * @param data state data
+     * @return future completed once the state is durable, it fails instead of writing on the
+     *     calling thread if the write can not be scheduled
+     */
+    CompletableFuture<Void> asyncStoreSharedState(String jobId, String stateName, byte[] data);
+
+    /**
+     * get shared state data
+     *
+     * @param jobId job id
+     * @param stateName shared state name
+     * @return state data
+     * @throws CheckpointStorageException if the shared state can not be read
+     */
+    byte[] getSharedState(String jobId, String stateName) throws CheckpointStorageException;
+
+    /**
+     * Delete the shared state file, a missing file is ignored.
+     *
+     * @param jobId job id
+     * @param stateName shared state name
+     * @throws CheckpointStorageException if delete shared state failed
+     */
+    void deleteSharedState(String jobId, String stateName) throws CheckpointStorageException;
 }
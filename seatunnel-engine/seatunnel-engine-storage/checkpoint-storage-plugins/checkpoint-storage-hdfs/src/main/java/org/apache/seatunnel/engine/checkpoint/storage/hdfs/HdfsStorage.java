@@ -43,6 +43,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 
 import static org.apache.seatunnel.engine.checkpoint.storage.constants.StorageConstants.STORAGE_NAME_SPACE;
 
@@ -331,6 +332,78 @@ public class HdfsStorage extends AbstractCheckpointStorage {
                 });
     }
 
+    @Override
+    public void storeSharedState(String jobId, String stateName, byte[] data)
+            throws CheckpointStorageException {
+        Path filePath = getSharedStatePath(jobId, stateName);
+        Path tmpFilePath =
+                new Path(
+                        filePath.getParent(),
+                        filePath.getName()
+                                + "."
+                                + ThreadLocalRandom.current().nextLong()
+                                + STORAGE_TMP_SUFFIX);
+        try {
+            if (fs.exists(filePath)) {
+                return;
+            }
+            try (FSDataOutputStream out = fs.create(tmpFilePath, false)) {
+                out.write(data);
+            }
+            // another checkpoint may have stored the same content meanwhile, both are identical
+            if (!fs.rename(tmpFilePath, filePath) && !fs.exists(filePath)) {
+                throw new CheckpointStorageException(
+                        "Failed to rename tmp file to shared state file " + filePath);
+            }
+        } catch (IOException e) {
+            throw new CheckpointStorageException(
+                    String.format("Failed to write shared state, file: %s", filePath), e);
+        } finally {
+            try {
+                if (fs.exists(tmpFilePath)) {
+                    fs.delete(tmpFilePath, false);
+                }
+            } catch (IOException ioe) {
+                log.error("Failed to delete tmp file", ioe);
+            }
+        }
+    }
+
+    @Override
+    public byte[] getSharedState(String jobId, String stateName) throws CheckpointStorageException {
+        Path filePath = getSharedStatePath(jobId, stateName);
+        try (FSDataInputStream in = fs.open(filePath);
+                ByteArrayOutputStream stream = new ByteArrayOutputStream()) {
+            IOUtils.copyBytes(in, stream, 1024);
+            return stream.toByteArray();
+        } catch (IOException e) {
+            throw new CheckpointStorageException(
+                    String.format("Failed to read shared state, file: %s", filePath), e);
+        }
+    }
+
+    @Override
+    public void deleteSharedState(String jobId, String stateName)
+            throws CheckpointStorageException {
+        Path filePath = getSharedStatePath(jobId, stateName);
+        try {
+            fs.delete(filePath, false);
+        } catch (IOException e) {
+            throw new CheckpointStorageException(
+                    String.format("Failed to delete shared state, file: %s", filePath), e);
+        }
+    }
+
+    private Path getSharedStatePath(String jobId, String stateName) {
+        return new Path(
+                getStorageParentDirectory()
+                        + jobId
+                        + DEFAULT_CHECKPOINT_FILE_PATH_SPLIT
+                        + SHARED_STATE_DIRECTORY
+                        + DEFAULT_CHECKPOINT_FILE_PATH_SPLIT
+                        + getSharedStateName(stateName));
+    }
+
     private List<String> getFileNames(String path) throws CheckpointStorageException {
         try {
             Path parentPath = new Path(path);
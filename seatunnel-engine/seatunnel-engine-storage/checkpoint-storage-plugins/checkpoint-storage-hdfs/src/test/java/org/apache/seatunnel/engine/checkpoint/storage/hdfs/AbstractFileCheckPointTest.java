@@ -59,6 +59,22 @@ public abstract class AbstractFileCheckPointTest {
         Assertions.assertEquals(2, state.size());
     }
 
+    @Test
+    public void testSharedState() throws CheckpointStorageException {
+        byte[] data = new byte[] {1, 2, 3};
+        STORAGE.storeSharedState(JOB_ID, "1-shared", data);
+        // storing the same name again keeps the existing file
+        STORAGE.asyncStoreSharedState(JOB_ID, "1-shared", new byte[] {4}).join();
+        Assertions.assertArrayEquals(data, STORAGE.getSharedState(JOB_ID, "1-shared"));
+        // shared state files are not listed as checkpoints
+        Assertions.assertEquals(3, STORAGE.getAllCheckpoints(JOB_ID).size());
+
+        STORAGE.deleteSharedState(JOB_ID, "1-shared");
+        STORAGE.deleteSharedState(JOB_ID, "1-shared");
+        Assertions.assertThrows(
+                CheckpointStorageException.class, () -> STORAGE.getSharedState(JOB_ID, "1-shared"));
+    }
+
     @AfterAll
     public static void teardown() {
         STORAGE.deleteCheckpoint(JOB_ID);
@@ -33,12 +33,15 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -389,4 +392,64 @@ public class LocalFileStorage extends AbstractCheckpointStorage {
                     }
                 });
     }
+
+    @Override
+    public void storeSharedState(String jobId, String stateName, byte[] data)
+            throws CheckpointStorageException {
+        File file = getSharedStateFile(jobId, stateName);
+        if (file.exists()) {
+            return;
+        }
+        // write to a temporary file first so that a crash never leaves a truncated state behind
+        // the final name, which would otherwise be reused by later checkpoints
+        File tmpFile =
+                new File(
+                        file.getParentFile(),
+                        file.getName() + "." + ThreadLocalRandom.current().nextLong() + ".tmp");
+        try {
+            FileUtils.writeByteArrayToFile(tmpFile, data);
+            Files.move(
+                    tmpFile.toPath(),
+                    file.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            FileUtils.deleteQuietly(tmpFile);
+            throw new CheckpointStorageException(
+                    "Failed to write shared state to file " + file.getAbsolutePath(), e);
+        }
+    }
+
+    @Override
+    public byte[] getSharedState(String jobId, String stateName) throws CheckpointStorageException {
+        File file = getSharedStateFile(jobId, stateName);
+        try {
+            return FileUtils.readFileToByteArray(file);
+        } catch (IOException e) {
+            throw new CheckpointStorageException(
+                    "Failed to read shared state from file " + file.getAbsolutePath(), e);
+        }
+    }
+
+    @Override
+    public void deleteSharedState(String jobId, String stateName)
+            throws CheckpointStorageException {
+        File file = getSharedStateFile(jobId, stateName);
+        try {
+            Files.deleteIfExists(file.toPath());
+        } catch (IOException e) {
+            throw new CheckpointStorageException(
+                    "Failed to delete shared state file " + file.getAbsolutePath(), e);
+        }
+    }
+
+    private File getSharedStateFile(String jobId, String stateName) {
+        return new File(
+                getStorageParentDirectory()
+                        + jobId
+                        + File.separator
+                        + SHARED_STATE_DIRECTORY
+                        + File.separator
+                        + getSharedStateName(stateName));
+    }
 }
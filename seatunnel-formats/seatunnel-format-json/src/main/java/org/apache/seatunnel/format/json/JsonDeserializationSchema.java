@@ -18,7 +18,9 @@
 
 package org.apache.seatunnel.format.json;
 
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonParser;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonProcessingException;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonToken;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.core.json.JsonReadFeature;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.DeserializationFeature;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
@@ -40,6 +42,9 @@ import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
 import org.apache.seatunnel.format.json.exception.SeaTunnelJsonFormatException;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import static org.apache.seatunnel.shade.com.google.common.base.Preconditions.checkNotNull;
@@ -63,6 +68,12 @@ public class JsonDeserializationSchema implements DeserializationSchema<SeaTunne
      */
     private JsonToRowConverters.JsonToObjectConverter runtimeConverter;
 
+    /**
+     * Runtime converter that reads {@link SeaTunnelRow}s straight from the tokens of a {@link
+     * JsonParser}, messages it can not read are handed over to {@link #runtimeConverter}.
+     */
+    private final JsonParserToRowConverters.JsonParserToObjectConverter parserConverter;
+
     /** Object mapper for parsing the JSON. */
     private final ObjectMapper objectMapper = new ObjectMapper();
 
@@ -81,6 +92,10 @@ public class JsonDeserializationSchema implements DeserializationSchema<SeaTunne
         this.runtimeConverter =
                 new JsonToRowConverters(failOnMissingField, ignoreParseErrors)
                         .createRowConverter(checkNotNull(rowType));
+        this.parserConverter =
+                new JsonParserToRowConverters(
+                                failOnMissingField, ignoreParseErrors, hasDecimalType(rowType))
+                        .createRowConverter(rowType);
 
         if (hasDecimalType(rowType)) {
             objectMapper.enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
@@ -102,6 +117,10 @@ public class JsonDeserializationSchema implements DeserializationSchema<SeaTunne
         this.runtimeConverter =
                 new JsonToRowConverters(failOnMissingField, ignoreParseErrors)
                         .createRowConverter(checkNotNull(rowType));
+        this.parserConverter =
+                new JsonParserToRowConverters(
+                                failOnMissingField, ignoreParseErrors, hasDecimalType(rowType))
+                        .createRowConverter(rowType);
 
         if (hasDecimalType(rowType)) {
             objectMapper.enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
@@ -129,17 +148,39 @@ public class JsonDeserializationSchema implements DeserializationSchema<SeaTunne
         if (message == null) {
             return null;
         }
-        return convertJsonNode(convertBytes(message));
+        try (JsonParser parser = objectMapper.createParser(message)) {
+            return parseRow(parser);
+        } catch (IOException | RuntimeException e) {
+            return convertJsonNode(convertBytes(message));
+        }
     }
 
     public SeaTunnelRow deserialize(String message) throws IOException {
         if (message == null) {
             return null;
         }
-        return convertJsonNode(convert(message));
+        try (JsonParser parser = objectMapper.createParser(message)) {
+            return parseRow(parser);
+        } catch (IOException | RuntimeException e) {
+            return convertJsonNode(convert(message));
+        }
     }
 
     public void collect(byte[] message, Collector<SeaTunnelRow> out) throws IOException {
+        List<SeaTunnelRow> rows;
+        try (JsonParser parser = objectMapper.createParser(message)) {
+            rows = parseRows(parser);
+        } catch (IOException | RuntimeException e) {
+            collectJsonNode(message, out);
+            return;
+        }
+        for (SeaTunnelRow row : rows) {
+            setCollectorTablePath(row, catalogTable);
+            out.collect(row);
+        }
+    }
+
+    private void collectJsonNode(byte[] message, Collector<SeaTunnelRow> out) {
         JsonNode jsonNode = convertBytes(message);
         if (jsonNode.isArray()) {
             ArrayNode arrayNode = (ArrayNode) jsonNode;
@@ -163,6 +204,42 @@ public class JsonDeserializationSchema implements DeserializationSchema<SeaTunne
         }
     }
 
+    /**
+     * Reads the row of a message from the parser. Failures are not handled here, the caller reads
+     * the message again through the {@link JsonNode} tree, so that invalid messages are reported or
+     * ignored exactly as before.
+     */
+    private SeaTunnelRow parseRow(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == null || token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return (SeaTunnelRow) parserConverter.convert(parser);
+    }
+
+    /** Reads the rows of a message, a JSON array holds one row per element. */
+    private List<SeaTunnelRow> parseRows(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_ARRAY) {
+            SeaTunnelRow row =
+                    parser.currentToken() == null || parser.currentToken() == JsonToken.VALUE_NULL
+                            ? null
+                            : (SeaTunnelRow) parserConverter.convert(parser);
+            return Collections.singletonList(row);
+        }
+        List<SeaTunnelRow> rows = new ArrayList<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == null) {
+                throw new IOException("Unexpected end of JSON array");
+            }
+            rows.add(
+                    token == JsonToken.VALUE_NULL
+                            ? null
+                            : (SeaTunnelRow) parserConverter.convert(parser));
+        }
+        return rows;
+    }
+
     private SeaTunnelRow convertJsonNode(JsonNode jsonNode) {
         if (jsonNode.isNull()) {
             return null;
@@ -0,0 +1,548 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.format.json;
+
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.Base64Variants;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonFactory;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonGenerator;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonParser;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonToken;
+
+import org.apache.seatunnel.api.table.type.ArrayType;
+import org.apache.seatunnel.api.table.type.MapType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.api.table.type.SqlType;
+import org.apache.seatunnel.common.exception.CommonError;
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.common.utils.DateTimeUtils;
+import org.apache.seatunnel.common.utils.DateUtils;
+import org.apache.seatunnel.format.json.exception.SeaTunnelJsonFormatException;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.io.StringWriter;
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQueries;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tool class used to read {@link SeaTunnelRow}s straight from the tokens of a streaming {@link
+ * JsonParser}, without building a {@code JsonNode} tree first.
+ *
+ * <p>The converters are compiled once from the {@link SeaTunnelRowType}: object fields are looked
+ * up by name and written into their slot, unknown fields are skipped without being materialised.
+ * Values are converted with the same rules as {@link JsonToRowConverters}, so both produce the same
+ * rows for the same message. Every converter expects the parser to be positioned on the first token
+ * of its value and leaves it on the last token of that value.
+ */
+public class JsonParserToRowConverters implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    public static final String FORMAT = "Common";
+
+    /** Flag indicating whether to fail if a field is missing. */
+    private final boolean failOnMissingField;
+
+    /** Flag indicating whether to ignore invalid fields/rows (default: throw an exception). */
+    private final boolean ignoreParseErrors;
+
+    /**
+     * Whether floats are read as {@link BigDecimal}, as the tree path does once the row type
+     * contains a decimal.
+     */
+    private final boolean useBigDecimalForFloats;
+
+    private final Map<String, DateTimeFormatter> fieldFormatterMap = new HashMap<>();
+
+    public JsonParserToRowConverters(
+            boolean failOnMissingField, boolean ignoreParseErrors, boolean useBigDecimalForFloats) {
+        this.failOnMissingField = failOnMissingField;
+        this.ignoreParseErrors = ignoreParseErrors;
+        this.useBigDecimalForFloats = useBigDecimalForFloats;
+    }
+
+    /** Creates the converter of a top level row, a JSON array is read by field position. */
+    public JsonParserToObjectConverter createRowConverter(SeaTunnelRowType rowType) {
+        return createRowConverter(rowType, null);
+    }
+
+    /** Creates a runtime converter which is null safe. */
+    private JsonParserToObjectConverter createConverter(
+            SeaTunnelDataType<?> type, String fieldName) {
+        SqlType sqlType = type.getSqlType();
+        boolean nested =
+                sqlType == SqlType.ARRAY || sqlType == SqlType.MAP || sqlType == SqlType.ROW;
+        return wrapIntoNullableConverter(createNotNullConverter(type, fieldName), !nested);
+    }
+
+    /** Creates a runtime converter which assuming input value is not null. */
+    private JsonParserToObjectConverter createNotNullConverter(
+            SeaTunnelDataType<?> type, String fieldName) {
+        SqlType sqlType = type.getSqlType();
+        switch (sqlType) {
+            case NULL:
+                return new JsonParserToObjectConverter() {
+                    @Override
+                    public Object convert(JsonParser parser) throws IOException {
+                        parser.skipChildren();
+                        return null;
+                    }
+                };
+            case BOOLEAN:
+                return new JsonParserToObjectConverter() {
+                    @Override
+                    public Object convert(JsonParser parser) throws IOException {
+                        return convertToBoolean(parser);
+                    }
+                };
+            case TINYINT:
+                return new JsonParserToObjectConverter() {
+                    @Override
+                    public Object convert(JsonParser parser) throws IOException {
+                        return Byte.parseByte(asText(parser).trim());
+                    }
+                };
+            case SMALLINT:
+                return new JsonParserToObjectConverter() {
+                    @Override
+                    public Object convert(JsonParser parser) throws IOException {
+                        return Short.parseShort(asText(parser).trim());
+                    }
+                };
+            case INT:
+                return new JsonParserToObjectConverter() {
+                    @Override
+                    public Object convert(JsonParser parser) throws IOException {
+                        return convertToInt(parser);
+                    }
+                };
+            case BIGINT:
+                return new JsonParserToObjectConverter() {
+                    @Override
+                    public Object convert(JsonParser parser) throws IOException {
+                        return convertToLong(parser);
+                    }
+                };
+            case DATE:
+                return new JsonParserToObjectConverter() {
+                    @Override
+                    public Object convert(JsonParser parser) throws IOException {
+                        return convertToLocalDate(asText(parser), fieldName);
+                    }
+                };
+            case TIME:
+                return new JsonParserToObjectConverter() {
+                    @Override
+                    public Object convert(JsonParser parser) throws IOException {
+                        TemporalAccessor parsedTime =
+                                JsonToRowConverters.TIME_FORMAT.parse(asText(parser));
+                        return parsedTime.query(TemporalQueries.localTime());
+                    }
+                };
+            case TIMESTAMP:
+                return new JsonParserToObjectConverter() {
+                    @Override
+                    public Object convert(JsonParser parser) throws IOException {
+                        return convertToLocalDateTime(asText(parser), fieldName);
+                    }
+                };
+            case FLOAT:
+                return new JsonParserToObjectConverter() {
+                    @Override
+                    public Object convert(JsonParser parser) throws IOException {
+                        if (isDoubleNode(parser)) {
+                            return (float) parser.getDoubleValue();
+                        }
+                        return Float.parseFloat(asText(parser).trim());
+                    }
+                };
+            case DOUBLE:
+                return new JsonParserToObjectConverter() {
+                    @Override
+                    public Object convert(JsonParser parser) throws IOException {
+                        if (isDoubleNode(parser)) {
+                            return parser.getDoubleValue();
+                        }
+                        return Double.parseDouble(asText(parser).trim());
+                    }
+                };
+            case STRING:
+                return new JsonParserToObjectConverter() {
+                    @Override
+                    public Object convert(JsonParser parser) throws IOException {
+                        return convertToString(parser);
+                    }
+                };
+            case BYTES:
+                return new JsonParserToObjectConverter() {
+                    @Override
+                    public Object convert(JsonParser parser) throws IOException {
+                        return convertToBytes(parser);
+                    }
+                };
+            case DECIMAL:
+                return new JsonParserToObjectConverter() {
+                    @Override
+                    public Object convert(JsonParser parser) throws IOException {
+                        if (parser.currentToken() == JsonToken.VALUE_NUMBER_FLOAT
+                                && useBigDecimalForFloats) {
+                            return decimalValue(parser);
+                        }
+                        return new BigDecimal(asText(parser));
+                    }
+                };
+            case ARRAY:
+                return createArrayConverter((ArrayType<?, ?>) type, fieldName);
+            case MAP:
+                return createMapConverter((MapType<?, ?>) type, fieldName);
+            case ROW:
+                return createRowConverter((SeaTunnelRowType) type, fieldName);
+            default:
+                throw new SeaTunnelJsonFormatException(
+                        CommonErrorCodeDeprecated.UNSUPPORTED_DATA_TYPE,
+                        "Unsupported type: " + type);
+        }
+    }
+
+    private JsonParserToObjectConverter createRowConverter(
+            SeaTunnelRowType rowType, String rowFieldName) {
+        final String[] fieldNames = rowType.getFieldNames();
+        final int arity = fieldNames.length;
+        final String[] qualifiedNames = new String[arity];
+        final JsonParserToObjectConverter[] fieldConverters =
+                new JsonParserToObjectConverter[arity];
+        final Map<String, Integer> fieldIndexes = new HashMap<>(arity * 2);
+        for (int i = 0; i < arity; i++) {
+            qualifiedNames[i] =
+                    rowFieldName == null || rowFieldName.trim().isEmpty()
+                            ? fieldNames[i]
+                            : rowFieldName + "." + fieldNames[i];
+            fieldConverters[i] = createConverter(rowType.getFieldType(i), qualifiedNames[i]);
+            // the tree keeps the last value of a duplicated schema field name
+            fieldIndexes.put(fieldNames[i], i);
+        }
+
+        return new JsonParserToObjectConverter() {
+            @Override
+            public SeaTunnelRow convert(JsonParser parser) throws IOException {
+                SeaTunnelRow row = new SeaTunnelRow(arity);
+                boolean[] found = failOnMissingField ? new boolean[arity] : null;
+                JsonToken token = parser.currentToken();
+                if (token == JsonToken.START_OBJECT) {
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        Integer index = fieldIndexes.get(parser.currentName());
+                        parser.nextToken();
+                        if (index == null) {
+                            parser.skipChildren();
+                            continue;
+                        }
+                        row.setField(index, convertField(index, parser));
+                        if (found != null) {
+                            found[index] = true;
+                        }
+                    }
+                } else if (token == JsonToken.START_ARRAY) {
+                    int index = 0;
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        if (index < arity) {
+                            row.setField(index, convertField(index, parser));
+                            if (found != null) {
+                                found[index] = true;
+                            }
+                        } else {
+                            parser.skipChildren();
+                        }
+                        index++;
+                    }
+                }
+                if (found != null) {
+                    for (int i = 0; i < arity; i++) {
+                        if (!found[i]) {
+                            throw CommonError.jsonOperationError(
+                                    FORMAT,
+                                    String.format("Field $.%s", qualifiedNames[i]),
+                                    new IllegalArgumentException(
+                                            String.format(
+                                                    "Could not find field with name %s .",
+                                                    qualifiedNames[i])));
+                        }
+                    }
+                }
+                return row;
+            }
+
+            private Object convertField(int index, JsonParser parser) throws IOException {
+                try {
+                    return fieldConverters[index].convert(parser);
+                } catch (RuntimeException e) {
+                    throw CommonError.jsonOperationError(
+                            FORMAT, String.format("Field $.%s", qualifiedNames[index]), e);
+                }
+            }
+        };
+    }
+
+    private JsonParserToObjectConverter createArrayConverter(
+            ArrayType<?, ?> type, String fieldName) {
+        JsonParserToObjectConverter valueConverter =
+                createConverter(type.getElementType(), fieldName);
+        Class<?> elementClass = type.getElementType().getTypeClass();
+        return new JsonParserToObjectConverter() {
+            @Override
+            public Object convert(JsonParser parser) throws IOException {
+                List<Object> values = new ArrayList<>();
+                JsonToken token = parser.currentToken();
+                if (token == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        values.add(valueConverter.convert(parser));
+                    }
+                } else if (token == JsonToken.START_OBJECT) {
+                    // an object read as array has one null element per field
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        parser.nextToken();
+                        parser.skipChildren();
+                        values.add(null);
+                    }
+                }
+                Object arr = Array.newInstance(elementClass, values.size());
+                for (int i = 0; i < values.size(); i++) {
+                    Array.set(arr, i, values.get(i));
+                }
+                return arr;
+            }
+        };
+    }
+
+    private JsonParserToObjectConverter createMapConverter(MapType<?, ?> type, String fieldName) {
+        // keys are converted from the field name token, like a JSON string value
+        JsonParserToObjectConverter keyConverter =
+                createConverter(type.getKeyType(), fieldName + ".key");
+        JsonParserToObjectConverter valueConverter =
+                createConverter(type.getValueType(), fieldName + ".value");
+        return new JsonParserToObjectConverter() {
+            @Override
+            public Object convert(JsonParser parser) throws IOException {
+                Map<Object, Object> value = new HashMap<>();
+                if (parser.currentToken() != JsonToken.START_OBJECT) {
+                    parser.skipChildren();
+                    return value;
+                }
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    Object key = keyConverter.convert(parser);
+                    parser.nextToken();
+                    value.put(key, valueConverter.convert(parser));
+                }
+                return value;
+            }
+        };
+    }
+
+    private JsonParserToObjectConverter wrapIntoNullableConverter(
+            JsonParserToObjectConverter converter, boolean scalar) {
+        return new JsonParserToObjectConverter() {
+            @Override
+            public Object convert(JsonParser parser) throws IOException {
+                if (parser.currentToken() == JsonToken.VALUE_NULL) {
+                    return null;
+                }
+                try {
+                    return converter.convert(parser);
+                } catch (RuntimeException e) {
+                    // a failed nested value leaves the parser inside of it, so only a scalar
+                    // value, which is a single token, can be dropped and the parsing go on
+                    if (!ignoreParseErrors || !scalar) {
+                        throw e;
+                    }
+                    return null;
+                }
+            }
+        };
+    }
+
+    private boolean convertToBoolean(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_TRUE || token == JsonToken.VALUE_FALSE) {
+            // avoid redundant toString and parseBoolean, for better performance
+            return token == JsonToken.VALUE_TRUE;
+        }
+        return Boolean.parseBoolean(asText(parser).trim());
+    }
+
+    private int convertToInt(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT
+                && parser.getNumberType() == JsonParser.NumberType.INT) {
+            return parser.getIntValue();
+        }
+        if (token == JsonToken.VALUE_NUMBER_FLOAT) {
+            // floats in the int range are truncated, like JsonNode#asInt
+            if (useBigDecimalForFloats) {
+                BigDecimal value = decimalValue(parser);
+                if (value.compareTo(BigDecimal.valueOf(Integer.MIN_VALUE)) >= 0
+                        && value.compareTo(BigDecimal.valueOf(Integer.MAX_VALUE)) <= 0) {
+                    return value.intValue();
+                }
+            } else {
+                double value = parser.getDoubleValue();
+                if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+                    return (int) value;
+                }
+            }
+        }
+        return Integer.parseInt(asText(parser).trim());
+    }
+
+    private long convertToLong(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT
+                && parser.getNumberType() != JsonParser.NumberType.BIG_INTEGER) {
+            return parser.getLongValue();
+        }
+        if (token == JsonToken.VALUE_NUMBER_FLOAT) {
+            if (useBigDecimalForFloats) {
+                BigDecimal value = decimalValue(parser);
+                if (value.compareTo(BigDecimal.valueOf(Long.MIN_VALUE)) >= 0
+                        && value.compareTo(BigDecimal.valueOf(Long.MAX_VALUE)) <= 0) {
+                    return value.longValue();
+                }
+            } else {
+                double value = parser.getDoubleValue();
+                if (value >= Long.MIN_VALUE && value <= Long.MAX_VALUE) {
+                    return (long) value;
+                }
+            }
+        }
+        return Long.parseLong(asText(parser).trim());
+    }
+
+    private LocalDate convertToLocalDate(String dateStr, String fieldName) {
+        DateTimeFormatter dateFormatter = fieldFormatterMap.get(fieldName);
+        if (dateFormatter == null) {
+            dateFormatter = DateUtils.matchDateFormatter(dateStr);
+            fieldFormatterMap.put(fieldName, dateFormatter);
+        }
+        if (dateFormatter == null) {
+            throw CommonError.formatDateError(dateStr, fieldName);
+        }
+
+        return dateFormatter.parse(dateStr).query(TemporalQueries.localDate());
+    }
+
+    private LocalDateTime convertToLocalDateTime(String datetimeStr, String fieldName) {
+        DateTimeFormatter dateTimeFormatter = fieldFormatterMap.get(fieldName);
+        if (dateTimeFormatter == null) {
+            dateTimeFormatter = DateTimeUtils.matchDateTimeFormatter(datetimeStr);
+            fieldFormatterMap.put(fieldName, dateTimeFormatter);
+        }
+        if (dateTimeFormatter == null) {
+            throw CommonError.formatDateTimeError(datetimeStr, fieldName);
+        }
+
+        TemporalAccessor parsedTimestamp = dateTimeFormatter.parse(datetimeStr);
+        LocalTime localTime = parsedTimestamp.query(TemporalQueries.localTime());
+        LocalDate localDate = parsedTimestamp.query(TemporalQueries.localDate());
+        return LocalDateTime.of(localDate, localTime);
+    }
+
+    private String convertToString(JsonParser parser) throws IOException {
+        if (!parser.currentToken().isStructStart()) {
+            return asText(parser);
+        }
+        // nested values are kept as their JSON text
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(writer)) {
+            int depth = 0;
+            do {
+                JsonToken token = parser.currentToken();
+                if (token == JsonToken.VALUE_NUMBER_FLOAT && useBigDecimalForFloats) {
+                    generator.writeNumber(decimalValue(parser));
+                } else {
+                    generator.copyCurrentEvent(parser);
+                }
+                if (token.isStructStart()) {
+                    depth++;
+                } else if (token.isStructEnd()) {
+                    depth--;
+                }
+            } while (depth > 0 && parser.nextToken() != null);
+        }
+        return writer.toString();
+    }
+
+    private byte[] convertToBytes(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_STRING || token == JsonToken.FIELD_NAME) {
+            return Base64Variants.getDefaultVariant().decode(parser.getText());
+        }
+        // only JSON strings carry binary data
+        parser.skipChildren();
+        return null;
+    }
+
+    /** Returns the text of the current value the way {@code JsonNode#asText} does. */
+    private String asText(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        switch (token) {
+            case START_OBJECT:
+            case START_ARRAY:
+                parser.skipChildren();
+                return "";
+            case VALUE_NUMBER_INT:
+                return parser.getNumberValue().toString();
+            case VALUE_NUMBER_FLOAT:
+                return useBigDecimalForFloats
+                        ? decimalValue(parser).toString()
+                        : String.valueOf(parser.getDoubleValue());
+            default:
+                return parser.getText();
+        }
+    }
+
+    /** Whether the tree path would have read the current value as a double node. */
+    private boolean isDoubleNode(JsonParser parser) {
+        return parser.currentToken() == JsonToken.VALUE_NUMBER_FLOAT && !useBigDecimalForFloats;
+    }
+
+    /** Reads a float as decimal, normalized the same way the tree path stores decimal nodes. */
+    private static BigDecimal decimalValue(JsonParser parser) throws IOException {
+        BigDecimal value = parser.getDecimalValue();
+        if (value.signum() == 0) {
+            return BigDecimal.ZERO;
+        }
+        return value.stripTrailingZeros();
+    }
+
+    /** Runtime converter that reads the current value of a {@link JsonParser} into an object. */
+    public interface JsonParserToObjectConverter extends Serializable {
+        Object convert(JsonParser parser) throws IOException;
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.format.json;
+
+import org.apache.seatunnel.api.table.type.ArrayType;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading JSON messages through a {@code JsonNode} tree with reading them straight from
+ * the parser tokens, on a narrow and a wide schema of long, double, string, timestamp, array and
+ * nested row columns. Every message also carries a nested field which is not part of the schema.
+ * Each invocation deserializes {@code MESSAGES} messages.
+ *
+ * <p>Run it from the IDE or with {@code java -cp <test classpath>
+ * org.apache.seatunnel.format.json.JsonDeserializationBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonDeserializationBenchmark {
+
+    private static final int MESSAGES = 1024;
+
+    private static final SeaTunnelRowType NESTED_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"id", "name"},
+                    new SeaTunnelDataType[] {BasicType.INT_TYPE, BasicType.STRING_TYPE});
+
+    @Param({"8", "64"})
+    private int columns;
+
+    @Param({"tree", "parser"})
+    private String path;
+
+    private JsonDeserializationSchema schema;
+    private byte[][] messages;
+
+    @Setup
+    public void setup() {
+        String[] fieldNames = new String[columns];
+        SeaTunnelDataType<?>[] fieldTypes = new SeaTunnelDataType<?>[columns];
+        for (int i = 0; i < columns; i++) {
+            fieldNames[i] = "c" + i;
+            fieldTypes[i] = fieldType(i);
+        }
+        schema =
+                new JsonDeserializationSchema(
+                        false, false, new SeaTunnelRowType(fieldNames, fieldTypes));
+
+        messages = new byte[MESSAGES][];
+        for (int row = 0; row < MESSAGES; row++) {
+            StringBuilder message = new StringBuilder("{");
+            for (int i = 0; i < columns; i++) {
+                message.append('"').append(fieldNames[i]).append("\":");
+                message.append(value(row, i)).append(',');
+            }
+            message.append("\"unknown\":{\"tags\":[\"a\",\"b\",\"c\"],\"score\":")
+                    .append(row * 0.5)
+                    .append("}}");
+            messages[row] = message.toString().getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    @Benchmark
+    public int deserialize() throws IOException {
+        int fields = 0;
+        for (byte[] message : messages) {
+            SeaTunnelRow row =
+                    "tree".equals(path)
+                            ? schema.convertToRowData(schema.deserializeToJsonNode(message))
+                            : schema.deserialize(message);
+            fields += row.getArity();
+        }
+        return fields;
+    }
+
+    private static SeaTunnelDataType<?> fieldType(int column) {
+        switch (column % 6) {
+            case 0:
+                return BasicType.LONG_TYPE;
+            case 1:
+                return BasicType.DOUBLE_TYPE;
+            case 2:
+                return LocalTimeType.LOCAL_DATE_TIME_TYPE;
+            case 3:
+                return ArrayType.INT_ARRAY_TYPE;
+            case 4:
+                return NESTED_TYPE;
+            default:
+                return BasicType.STRING_TYPE;
+        }
+    }
+
+    private static String value(int row, int column) {
+        switch (column % 6) {
+            case 0:
+                return String.valueOf((long) row * column);
+            case 1:
+                return String.valueOf(row / (column + 1d));
+            case 2:
+                return "\"2024-01-01 00:00:" + String.format("%02d", row % 60) + "\"";
+            case 3:
+                return "[" + row + "," + column + "," + (row + column) + "]";
+            case 4:
+                return "{\"id\":" + row + ",\"name\":\"name" + row + "\"}";
+            default:
+                return "\"value" + (row % 1000) + "\"";
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options =
+                new OptionsBuilder()
+                        .include(JsonDeserializationBenchmark.class.getSimpleName())
+                        .build();
+        new Runner(options).run();
+    }
+}
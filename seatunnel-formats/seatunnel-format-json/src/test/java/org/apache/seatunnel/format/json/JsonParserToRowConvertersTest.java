@@ -0,0 +1,234 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.format.json;
+
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonParser;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.DeserializationFeature;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.table.type.ArrayType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.MapType;
+import org.apache.seatunnel.api.table.type.PrimitiveByteArrayType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.apache.seatunnel.api.table.type.ArrayType.INT_ARRAY_TYPE;
+import static org.apache.seatunnel.api.table.type.ArrayType.STRING_ARRAY_TYPE;
+import static org.apache.seatunnel.api.table.type.BasicType.BOOLEAN_TYPE;
+import static org.apache.seatunnel.api.table.type.BasicType.BYTE_TYPE;
+import static org.apache.seatunnel.api.table.type.BasicType.DOUBLE_TYPE;
+import static org.apache.seatunnel.api.table.type.BasicType.FLOAT_TYPE;
+import static org.apache.seatunnel.api.table.type.BasicType.INT_TYPE;
+import static org.apache.seatunnel.api.table.type.BasicType.LONG_TYPE;
+import static org.apache.seatunnel.api.table.type.BasicType.SHORT_TYPE;
+import static org.apache.seatunnel.api.table.type.BasicType.STRING_TYPE;
+
+public class JsonParserToRowConvertersTest {
+
+    private static final SeaTunnelRowType NESTED_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"a", "b"}, new SeaTunnelDataType[] {INT_TYPE, STRING_ARRAY_TYPE});
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {
+                        "flag", "tiny", "small", "i", "id", "f", "d", "name", "json", "bin", "date",
+                        "ts", "time", "arr", "map", "nested", "rows"
+                    },
+                    new SeaTunnelDataType[] {
+                        BOOLEAN_TYPE,
+                        BYTE_TYPE,
+                        SHORT_TYPE,
+                        INT_TYPE,
+                        LONG_TYPE,
+                        FLOAT_TYPE,
+                        DOUBLE_TYPE,
+                        STRING_TYPE,
+                        STRING_TYPE,
+                        PrimitiveByteArrayType.INSTANCE,
+                        LocalTimeType.LOCAL_DATE_TYPE,
+                        LocalTimeType.LOCAL_DATE_TIME_TYPE,
+                        LocalTimeType.LOCAL_TIME_TYPE,
+                        INT_ARRAY_TYPE,
+                        new MapType<>(INT_TYPE, DOUBLE_TYPE),
+                        NESTED_TYPE,
+                        new ArrayType<>(SeaTunnelRow[].class, NESTED_TYPE)
+                    });
+
+    private static final String[] MESSAGES = {
+        "{\"flag\":true,\"tiny\":1,\"small\":2,\"i\":3,\"id\":4,\"f\":1.5,\"d\":2.25,"
+                + "\"name\":\"seatunnel\",\"json\":{\"k\":[1,2.50,\"v\",null,false]},"
+                + "\"bin\":\"AQID\",\"date\":\"2024-01-02\",\"ts\":\"2024-01-02 03:04:05\","
+                + "\"time\":\"12:34:56\",\"arr\":[1,null,3],\"map\":{\"1\":1.0,\"2\":null},"
+                + "\"nested\":{\"a\":1,\"b\":[\"x\",\"y\"],\"unknown\":{\"z\":[1,{}]}},"
+                + "\"rows\":[{\"a\":2},[3,[\"z\"],\"extra\"],null]}",
+        "{\"unknown\":[{\"id\":9}],\"flag\":\"TRUE \",\"tiny\":\" 7\",\"small\":\"8\","
+                + "\"i\":\" 9 \",\"id\":\"10\",\"f\":\"1.25\",\"d\":\"-0.5\",\"name\":12,"
+                + "\"json\":[1,{\"a\":null}],\"arr\":{\"a\":1,\"b\":2},\"map\":[],\"nested\":5}",
+        "{\"i\":1.9,\"id\":-2.5,\"name\":1.0E10,\"json\":-0,\"flag\":1,\"d\":3,\"f\":-0,"
+                + "\"arr\":\"abc\",\"nested\":[4],\"rows\":{}}",
+        "{\"name\":true,\"json\":\"plain\",\"bin\":1,\"date\":null,\"i\":null}",
+        "[true,1,2,3,4,5.5,6.5,\"seven\"]",
+        "{}",
+        "42",
+        "\"text\""
+    };
+
+    @Test
+    public void testSameRowsAsTree() throws IOException {
+        assertSameRows(ROW_TYPE, false, false, MESSAGES);
+        assertSameRows(ROW_TYPE, false, true, MESSAGES);
+    }
+
+    @Test
+    public void testSameDecimalsAsTree() throws IOException {
+        SeaTunnelRowType rowType =
+                new SeaTunnelRowType(
+                        new String[] {"dec", "i", "id", "d", "name", "json"},
+                        new SeaTunnelDataType[] {
+                            new DecimalType(10, 2),
+                            INT_TYPE,
+                            LONG_TYPE,
+                            DOUBLE_TYPE,
+                            STRING_TYPE,
+                            STRING_TYPE
+                        });
+        assertSameRows(
+                rowType,
+                false,
+                false,
+                "{\"dec\":12.50,\"i\":7.90,\"id\":-1.0,\"d\":0.000,\"name\":1.50,"
+                        + "\"json\":{\"a\":[1.10,0.0]}}",
+                "{\"dec\":\"12.5\",\"i\":\"7\",\"id\":8,\"d\":\"1e2\",\"name\":100}",
+                "{\"dec\":3,\"d\":2.5E3,\"name\":1.0E+2}");
+    }
+
+    @Test
+    public void testIgnoreParseErrors() throws IOException {
+        String message =
+                "{\"i\":\"abc\",\"id\":{\"a\":1},\"flag\":[1],\"date\":\"not a date\","
+                        + "\"bin\":\"%%\",\"nested\":{\"a\":{\"b\":1}},\"name\":\"kept\"}";
+        assertSameRows(ROW_TYPE, false, true, message);
+        SeaTunnelRow row = convert(ROW_TYPE, false, true, message);
+        Assertions.assertNull(row.getField(3));
+        Assertions.assertNull(row.getField(4));
+        Assertions.assertEquals("kept", row.getField(7));
+    }
+
+    @Test
+    public void testParseErrors() {
+        Assertions.assertThrows(
+                RuntimeException.class, () -> convert(ROW_TYPE, false, false, "{\"i\":\"abc\"}"));
+        Assertions.assertThrows(
+                RuntimeException.class, () -> convert(ROW_TYPE, true, false, "{\"i\":1}"));
+    }
+
+    @Test
+    public void testDeserializationSchema() throws IOException {
+        JsonDeserializationSchema schema = new JsonDeserializationSchema(false, false, ROW_TYPE);
+        for (String message : MESSAGES) {
+            Assertions.assertEquals(
+                    tree(ROW_TYPE, false, false, message), schema.deserialize(message));
+        }
+        SimpleCollector collector = new SimpleCollector();
+        schema.collect(("[" + MESSAGES[0] + ",null," + MESSAGES[1] + "]").getBytes(), collector);
+        Assertions.assertEquals(
+                Arrays.asList(
+                        tree(ROW_TYPE, false, false, MESSAGES[0]),
+                        null,
+                        tree(ROW_TYPE, false, false, MESSAGES[1])),
+                collector.list);
+    }
+
+    private static void assertSameRows(
+            SeaTunnelRowType rowType,
+            boolean failOnMissingField,
+            boolean ignoreParseErrors,
+            String... messages)
+            throws IOException {
+        for (String message : messages) {
+            Assertions.assertEquals(
+                    tree(rowType, failOnMissingField, ignoreParseErrors, message),
+                    convert(rowType, failOnMissingField, ignoreParseErrors, message),
+                    message);
+        }
+    }
+
+    private static SeaTunnelRow convert(
+            SeaTunnelRowType rowType,
+            boolean failOnMissingField,
+            boolean ignoreParseErrors,
+            String message)
+            throws IOException {
+        JsonParserToRowConverters.JsonParserToObjectConverter converter =
+                new JsonParserToRowConverters(
+                                failOnMissingField, ignoreParseErrors, hasDecimal(rowType))
+                        .createRowConverter(rowType);
+        try (JsonParser parser = new ObjectMapper().createParser(message)) {
+            parser.nextToken();
+            return (SeaTunnelRow) converter.convert(parser);
+        }
+    }
+
+    private static SeaTunnelRow tree(
+            SeaTunnelRowType rowType,
+            boolean failOnMissingField,
+            boolean ignoreParseErrors,
+            String message)
+            throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        if (hasDecimal(rowType)) {
+            objectMapper.enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+        }
+        return (SeaTunnelRow)
+                new JsonToRowConverters(failOnMissingField, ignoreParseErrors)
+                        .createRowConverter(rowType)
+                        .convert(objectMapper.readTree(message), null);
+    }
+
+    private static boolean hasDecimal(SeaTunnelRowType rowType) {
+        return Arrays.stream(rowType.getFieldTypes()).anyMatch(t -> t instanceof DecimalType);
+    }
+
+    private static class SimpleCollector implements Collector<SeaTunnelRow> {
+
+        private final List<SeaTunnelRow> list = new ArrayList<>();
+
+        @Override
+        public void collect(SeaTunnelRow record) {
+            list.add(record);
+        }
+
+        @Override
+        public Object getCheckpointLock() {
+            return null;
+        }
+    }
+}